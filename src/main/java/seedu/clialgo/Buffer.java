@@ -1,6 +1,9 @@
 package seedu.clialgo;
 
 import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.profile.FileIoEvent;
+import seedu.clialgo.profile.MetricsRegistry;
+import seedu.clialgo.profile.StartupProfile;
 
 import java.awt.Desktop;
 import java.io.File;
@@ -10,6 +13,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Collection;
 
 /**
  * The <code>Buffer</code> contains the <code>CS2040CFiles</code> that are returned after <code>FilterCommand</code>
@@ -23,25 +27,51 @@ public class Buffer {
     private final File pathToBuffer;
     private final Ui ui;
 
+    //@@author heejet
+    /** Lock held while any <code>Buffer</code> writes to <code>.\\export</code>, which all of them share. */
+    private static final Object EXPORT_LOCK = new Object();
+
+    /** True if <code>.\\export</code> is emptied whenever the stored CS2040CFiles are replaced. */
+    private final boolean isClearedOnUpdate;
+
     //@@author lohjooh
     /**
      * This is a private constructor for a Singleton-type object as only one <code>Buffer</code> would be instantiated.
      */
     private Buffer() {
+        this(true);
+    }
+
+    //@@author heejet
+    private Buffer(boolean isClearedOnUpdate) {
         this.files = new ArrayList<>();
         this.ui = new Ui();
         String path = "export";
         this.pathToBuffer = new File(CURRENT_DIRECTORY_PATH + path);
+        this.isClearedOnUpdate = isClearedOnUpdate;
         createFolder();
     }
 
+    /**
+     * Creates a <code>Buffer</code> for a single client of a <code>CLIAlgoServer</code>, so the CS2040CFiles it
+     * filters are not replaced by those of other clients. Replacing its CS2040CFiles leaves
+     * <code>.\\export</code> alone, since it may hold the export of another client, and exports of different
+     * clients are made one at a time.
+     *
+     * @return A new <code>Buffer</code> that is not the Singleton <code>Buffer</code>.
+     */
+    public static Buffer createClientBuffer() {
+        return new Buffer(false);
+    }
+
+    //@@author lohjooh
     /**
      * This static function returns the same <code>Buffer</code> object whenever there is an attempt to instantiate
      * a <code>Buffer</code> object.
      *
      * @return The Singleton <code>Buffer</code> object.
      */
-    public static Buffer getInstance() {
+    public static synchronized Buffer getInstance() {
         if (buffer == null) {
             buffer = new Buffer();
         }
@@ -53,6 +83,8 @@ public class Buffer {
      */
     private void createFolder() {
         try {
+            StartupProfile.countStatCalls(1);
+            MetricsRegistry.countIoOperations(1);
             Files.createDirectories(pathToBuffer.toPath());
         } catch (IOException e) {
             ui.printFolderCreateError();
@@ -63,7 +95,7 @@ public class Buffer {
 
     //@@author heejet
     /** Checks if the buffer is empty */
-    public boolean isEmpty() {
+    public synchronized boolean isEmpty() {
         return this.files.isEmpty();
     }
 
@@ -73,10 +105,12 @@ public class Buffer {
      */
     public void deleteFiles() {
         try {
+            MetricsRegistry.countIoOperations(1);
             File[] files = pathToBuffer.listFiles();
             if (files != null) {
                 for (File file : files) {
                     assert file.exists() : "This should be non-null";
+                    MetricsRegistry.countIoOperations(1);
                     if (!file.delete()) {
                         ui.printFileDeleteFail();
                     }
@@ -92,11 +126,16 @@ public class Buffer {
      * is executed. The <code>CS2040CFiles</code> objects that are returned in those <code>Commands</code> replaces the
      * <code>CS2040CFiles</code> objects previously stored in this object.
      *
-     * @param filteredFiles The new <code>CS2040CFiles</code> objects to be stored in this object.
+     * @param filteredFiles The new <code>CS2040CFiles</code> objects to be stored in this object. They are copied, so
+     *     a read-only view may be given.
      */
-    public void updateBuffer(ArrayList<CS2040CFile> filteredFiles) {
+    public synchronized void updateBuffer(Collection<CS2040CFile> filteredFiles) {
         this.files.clear();
-        deleteFiles();
+        if (isClearedOnUpdate) {
+            synchronized (EXPORT_LOCK) {
+                deleteFiles();
+            }
+        }
         this.files.addAll(filteredFiles);
     }
 
@@ -104,16 +143,21 @@ public class Buffer {
      * Copies the <code>CS2040CFiles</code> objects to the <code>.\\export</code> folder. Prints an error message
      * if the copy fails.
      */
-    public void addFilesToBuffer() {
+    public synchronized void addFilesToBuffer() {
         String fileDivider = "/";
         for (CS2040CFile file: this.files) {
             Path source = Paths.get(CURRENT_DIRECTORY_PATH + file.getPath());
             Path target = Paths.get(this.pathToBuffer + fileDivider + file.getPath());
+            FileIoEvent event = FileIoEvent.start("Buffer.copy", target.toFile());
             try {
+                MetricsRegistry.countIoOperations(1);
                 Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+                event.finish(event.isEnabled() ? Files.size(target) : 0, true);
             } catch (IOException e) {
+                event.finish(0, false);
                 ui.printFileMissing();
             } catch (SecurityException e) {
+                event.finish(0, false);
                 ui.printSecurityDenied();
             }
         }
@@ -124,9 +168,11 @@ public class Buffer {
      * <code>CS2040CFiles</code> objects stored in this object into <code>.\\export</code>. <code>.\\export</code>
      * is then opened if a file explorer application is available to use.
      */
-    public void exportBuffer() {
-        deleteFiles();
-        addFilesToBuffer();
+    public synchronized void exportBuffer() {
+        synchronized (EXPORT_LOCK) {
+            deleteFiles();
+            addFilesToBuffer();
+        }
         Desktop desktop = Desktop.getDesktop();
         try {
             desktop.open(this.pathToBuffer);
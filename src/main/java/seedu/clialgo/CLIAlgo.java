@@ -1,13 +1,23 @@
 package seedu.clialgo;
 
 import seedu.clialgo.command.Command;
+import seedu.clialgo.logic.Topic;
 import seedu.clialgo.logic.TopicManager;
-import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.profile.MetricsRegistry;
+import seedu.clialgo.profile.StartupPhase;
+import seedu.clialgo.profile.StartupProfile;
+import seedu.clialgo.server.CLIAlgoClient;
+import seedu.clialgo.server.CLIAlgoServer;
+import seedu.clialgo.storage.MeteredStorage;
+import seedu.clialgo.storage.Storage;
+import seedu.clialgo.storage.StorageType;
+
+import java.util.HashMap;
 
 //@@author heejet
 /**
  * A <code>CLIAlgo</code> object is used to run the entire CLIAlgo application.
- * It contains a <code>Ui</code> object, a <code>TopicManager</code> object, a <code>FileManager</code>, a
+ * It contains a <code>Ui</code> object, a <code>TopicManager</code> object, a <code>Storage</code>, a
  * <code>Parser</code> and a <code>Buffer</code> object to execute various commands from the user.
  */
 public class CLIAlgo {
@@ -21,7 +31,7 @@ public class CLIAlgo {
     private final TopicManager topicManager;
 
     /** An object to handle saving and loading of data stored within CLIAlgo. */
-    private final FileManager fileManager;
+    private final Storage storage;
 
     /** An object to make sense of the commands keyed in by the user */
     private final Parser parser;
@@ -30,31 +40,119 @@ public class CLIAlgo {
     private final Buffer buffer;
 
     public CLIAlgo() {
-        ui = new Ui();
+        this(new Ui());
+    }
+
+    /**
+     * Constructor for a <code>CLIAlgo</code> object that uses the given <code>Ui</code> for its output.
+     *
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     */
+    public CLIAlgo(Ui ui) {
+        this(ui, StorageType.FILES);
+    }
+
+    /**
+     * Constructor for a <code>CLIAlgo</code> object that uses the given <code>Ui</code> for its output.
+     *
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @param storageType The way the CS2040CFiles are saved, chosen with the <code>--storage</code> launch option.
+     */
+    public CLIAlgo(Ui ui, StorageType storageType) {
+        this(ui, storageType.createStorage(DATA_PATH, new TopicManager().getTopicNames()));
+    }
+
+    /**
+     * Constructor for a <code>CLIAlgo</code> object that saves its CS2040CFiles with the given <code>Storage</code>.
+     * Calls to the <code>Storage</code> are counted as I/O operations of the command that makes them.
+     *
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
+     */
+    public CLIAlgo(Ui ui, Storage storage) {
+        this.ui = ui;
         topicManager = new TopicManager();
-        fileManager = new FileManager(DATA_PATH, topicManager.getTopicNames());
+        this.storage = new MeteredStorage(storage);
         parser = new Parser();
+        StartupPhase phase = StartupProfile.startPhase("Buffer.getInstance");
         buffer = Buffer.getInstance();
+        phase.finish();
         ui.printWelcomeMessage();
     }
 
     private void initialize() {
-        fileManager.initialize();
-        topicManager.initialize(fileManager.decodeAll());
+        StartupPhase phase = StartupProfile.startPhase("Storage.initialize");
+        storage.initialize();
+        phase.finish();
+
+        phase = StartupProfile.startPhase("Storage.decodeAll");
+        HashMap<String, Topic> topics = storage.decodeAll();
+        phase.finish();
+
+        phase = StartupProfile.startPhase("TopicManager.initialize");
+        topicManager.initialize(topics);
+        phase.finish();
     }
 
-    /** Continuously reads in the user input until the exit command is executed */
+    /**
+     * Continuously reads in the user input until the exit command is executed. Every command is measured by the
+     * <code>MetricsRegistry</code>.
+     */
     private void run() {
         while (true) {
             String fullCommand = ui.getUserInput();
             Command command = parser.parse(fullCommand, topicManager);
-            command.execute(topicManager, ui, fileManager, buffer);
+            MetricsRegistry.getInstance().measure(command.getClass().getSimpleName(),
+                    () -> command.execute(topicManager, ui, storage, buffer));
         }
     }
 
+    /**
+     * Serves the commands of clients connecting over localhost, using the CS2040CFiles loaded by
+     * <code>initialize</code>.
+     *
+     * @param options The launch options holding the port and output mode of the server.
+     */
+    private void serve(LaunchOptions options) {
+        CLIAlgoServer server = new CLIAlgoServer(topicManager, storage, parser, options.isJsonMode());
+        server.serve(options.getPort(), ui);
+    }
+
+    /**
+     * Creates the <code>Ui</code> selected by the launch options.
+     *
+     * @param options The launch options of CLIAlgo.
+     * @return A <code>JsonUi</code> if <code>--json</code> is given, a text <code>Ui</code> otherwise.
+     */
+    static Ui createUi(LaunchOptions options) {
+        if (options.isJsonMode()) {
+            return new JsonUi();
+        }
+        return new Ui();
+    }
+
     public static void main(String[] args) {
-        CLIAlgo cliAlgo = new CLIAlgo();
+        LaunchOptions options = LaunchOptions.parse(args);
+        if (options.isClient()) {
+            new CLIAlgoClient(options.getPort()).run(new Ui());
+            return;
+        }
+        if (options.isProfile()) {
+            StartupProfile.enable();
+        }
+        StartupPhase phase = StartupProfile.startPhase("CLIAlgo startup");
+        CLIAlgo cliAlgo = new CLIAlgo(createUi(options), options.getStorageType());
         cliAlgo.initialize();
-        cliAlgo.run();
+        phase.finish();
+        StartupProfile.endStartup();
+        if (options.isProfile()) {
+            cliAlgo.ui.printStartupProfile(StartupProfile.getPhases());
+            StartupProfile.disable();
+        }
+        if (options.isServer()) {
+            cliAlgo.serve(options);
+        } else {
+            cliAlgo.run();
+        }
     }
 }
@@ -0,0 +1,226 @@
+package seedu.clialgo;
+
+import java.util.Arrays;
+
+//@@author heejet
+/**
+ * A <code>CommandTokenizer</code> scans a line keyed in by the user once. It records where the command word and its
+ * description are, and where the first occurrence of each marker such as <code>n/</code> or <code>t/</code> lies in
+ * the description. <code>Parser</code> then takes the fields it needs as offset slices of the line, so a field is only
+ * copied into a <code>String</code> once a <code>Command</code> needs it, and invalid input is reported by the return
+ * value instead of an exception.
+ */
+public class CommandTokenizer {
+    /** The offset returned for a marker that is absent. */
+    public static final int ABSENT = -1;
+
+    private static final char MARKER_SUFFIX = '/';
+    private static final int MARKER_LENGTH = 2;
+    private static final char WHITE_SPACE = ' ';
+
+    private final String input;
+    private final int commandStart;
+    private final int commandEnd;
+    private final int descriptionStart;
+    private final int descriptionEnd;
+
+    /** The offset of the first marker of each lowercase letter in the description, or <code>ABSENT</code>. */
+    private final int[] markerOffsets;
+
+    /**
+     * Scans a line keyed in by the user.
+     *
+     * @param input The full user input, which may be null.
+     */
+    public CommandTokenizer(String input) {
+        this(input == null ? "" : input, 0, input == null ? 0 : input.length(), false);
+    }
+
+    /**
+     * Scans the part of a line between two offsets, such as one stage of a pipeline. Whitespace before the command
+     * word is skipped.
+     *
+     * @param input The full user input.
+     * @param start The offset the part starts at.
+     * @param end The offset the part ends before.
+     */
+    public CommandTokenizer(String input, int start, int end) {
+        this(input, start, end, true);
+    }
+
+    private CommandTokenizer(String input, int start, int end, boolean isLeadingSpaceSkipped) {
+        this.input = input;
+        this.markerOffsets = new int['z' - 'a' + 1];
+        Arrays.fill(markerOffsets, ABSENT);
+        this.commandStart = isLeadingSpaceSkipped ? trimStart(start, end) : start;
+        int spaceIndex = nextSpace(commandStart, end);
+        this.commandEnd = spaceIndex;
+        this.descriptionStart = trimStart(Math.min(spaceIndex + 1, end), end);
+        this.descriptionEnd = trimEnd(descriptionStart, end);
+        for (int i = descriptionStart; i + 1 < descriptionEnd; i++) {
+            char letter = this.input.charAt(i);
+            if (this.input.charAt(i + 1) == MARKER_SUFFIX && letter >= 'a' && letter <= 'z'
+                    && markerOffsets[letter - 'a'] == ABSENT) {
+                markerOffsets[letter - 'a'] = i;
+            }
+        }
+    }
+
+    /**
+     * Gets the command word, which is everything before the first space of the input.
+     *
+     * @return The command word without surrounding whitespace, or null if there is none.
+     */
+    public String getCommand() {
+        return slice(commandStart, commandEnd);
+    }
+
+    /** Checks if any non-whitespace character follows the command word. */
+    public boolean hasDescription() {
+        return descriptionStart < descriptionEnd;
+    }
+
+    /** Gets the offset of the first character of the description. */
+    public int getDescriptionStart() {
+        return descriptionStart;
+    }
+
+    /** Gets the offset after the last non-whitespace character of the description. */
+    public int getDescriptionEnd() {
+        return descriptionEnd;
+    }
+
+    /**
+     * Gets where the first occurrence of a marker in the description lies, if the whole marker lies before
+     * <code>end</code>.
+     *
+     * @param marker A marker of a lowercase letter followed by <code>/</code>, e.g. <code>t/</code>.
+     * @param end The offset that the marker must end by.
+     * @return The offset of the marker, or <code>ABSENT</code> if the description has no such marker before
+     *     <code>end</code>.
+     */
+    public int getMarkerOffset(String marker, int end) {
+        assert marker.length() == MARKER_LENGTH && marker.charAt(1) == MARKER_SUFFIX;
+        int offset = markerOffsets[marker.charAt(0) - 'a'];
+        return offset != ABSENT && offset + MARKER_LENGTH <= end ? offset : ABSENT;
+    }
+
+    /**
+     * Checks if the input between two offsets starts with <code>prefix</code>.
+     *
+     * @param prefix The prefix to look for, e.g. a marker.
+     * @param start The offset the slice starts at.
+     * @param end The offset the slice ends before.
+     * @return True if the slice starts with the prefix, false otherwise.
+     */
+    public boolean startsWith(String prefix, int start, int end) {
+        return start + prefix.length() <= end && input.startsWith(prefix, start);
+    }
+
+    /**
+     * Checks if the input between two offsets is exactly <code>word</code>.
+     *
+     * @param word The word to compare against.
+     * @param start The offset the slice starts at.
+     * @param end The offset the slice ends before.
+     * @return True if the slice is <code>word</code>, false otherwise.
+     */
+    public boolean isWord(String word, int start, int end) {
+        return end - start == word.length() && input.startsWith(word, start);
+    }
+
+    /**
+     * Gets the input between two offsets without surrounding whitespace.
+     *
+     * @param start The offset the slice starts at.
+     * @param end The offset the slice ends before.
+     * @return The slice, or null if it is empty or only holds whitespace.
+     */
+    public String slice(int start, int end) {
+        int sliceStart = trimStart(start, end);
+        int sliceEnd = trimEnd(sliceStart, end);
+        if (sliceStart >= sliceEnd) {
+            return null;
+        }
+        return input.substring(sliceStart, sliceEnd);
+    }
+
+    /**
+     * Skips the whitespace at the start of a slice, like <code>String.trim</code> does.
+     *
+     * @return The offset of the first non-whitespace character, or <code>end</code> if there is none.
+     */
+    public int trimStart(int start, int end) {
+        while (start < end && input.charAt(start) <= WHITE_SPACE) {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Skips the whitespace at the end of a slice, like <code>String.trim</code> does.
+     *
+     * @return The offset after the last non-whitespace character, or <code>start</code> if there is none.
+     */
+    public int trimEnd(int start, int end) {
+        while (end > start && input.charAt(end - 1) <= WHITE_SPACE) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Finds the last space before an offset, stopping at the start of the description.
+     *
+     * @param end The offset to search before.
+     * @return The offset of the space, or <code>ABSENT</code> if the description has no space before
+     *     <code>end</code>.
+     */
+    public int lastSpaceBefore(int end) {
+        int index = input.lastIndexOf(WHITE_SPACE, end - 1);
+        return index >= descriptionStart ? index : ABSENT;
+    }
+
+    /**
+     * Finds the next space from an offset.
+     *
+     * @param start The offset to search from.
+     * @param end The offset to search before.
+     * @return The offset of the space, or <code>end</code> if there is no space before it.
+     */
+    public int nextSpace(int start, int end) {
+        int index = input.indexOf(WHITE_SPACE, start);
+        return index < 0 || index > end ? end : index;
+    }
+
+    /**
+     * Parses the input between two offsets as a positive integer, accepting the same input as
+     * <code>Integer.parseInt</code> without throwing an exception.
+     *
+     * @param start The offset the integer starts at.
+     * @param end The offset the integer ends before.
+     * @return The positive integer, or -1 if the slice is not an integer from 1 to <code>Integer.MAX_VALUE</code>.
+     */
+    public int parsePositiveInteger(int start, int end) {
+        boolean isNegative = false;
+        if (start < end && (input.charAt(start) == '+' || input.charAt(start) == '-')) {
+            isNegative = input.charAt(start) == '-';
+            start++;
+        }
+        if (start >= end) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = Character.digit(input.charAt(i), 10);
+            if (digit < 0) {
+                return -1;
+            }
+            value = value * 10 + digit;
+            if (value > Integer.MAX_VALUE) {
+                return -1;
+            }
+        }
+        return isNegative || value == 0 ? -1 : (int) value;
+    }
+}
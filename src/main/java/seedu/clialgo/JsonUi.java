@@ -0,0 +1,167 @@
+package seedu.clialgo;
+
+import seedu.clialgo.file.CS2040CFile;
+
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+//@@author heejet
+/**
+ * A <code>JsonUi</code> prints every result of CLIAlgo as newline-delimited JSON (NDJSON) records instead of
+ * divider-boxed text. Each CS2040CFile in a listing is printed as its own <code>entry</code> record, a count is printed
+ * as a <code>count</code> record, and every other message is printed as a <code>message</code> record holding its
+ * lines. Records are written to the output stream field by field, so no string is built for a whole record.
+ */
+public class JsonUi extends Ui {
+    private static final String NOTE_TYPE = "NOTE";
+    private static final String CODE_TYPE = "CODE";
+    private static final String HEX_DIGITS = "0123456789abcdef";
+
+    /** True if a <code>message</code> record has been started but not yet closed by a divider. */
+    private boolean isMessageOpen;
+
+    public JsonUi() {
+        super();
+        this.isMessageOpen = false;
+    }
+
+    /**
+     * Constructor for a <code>JsonUi</code> that reads from and prints to the given streams instead of the console.
+     *
+     * @param input The stream the user input is read from.
+     * @param output The stream the records are printed to.
+     */
+    public JsonUi(InputStream input, PrintStream output) {
+        super(input, output);
+        this.isMessageOpen = false;
+    }
+
+    /** Closes the <code>message</code> record that is being printed, if any. */
+    @Override
+    public void printDivider() {
+        if (!isMessageOpen) {
+            return;
+        }
+        PrintStream out = getOutputStream();
+        out.print("]}");
+        out.println();
+        isMessageOpen = false;
+    }
+
+    /**
+     * Adds a line of text to the <code>message</code> record that is being printed, starting a new record if needed.
+     *
+     * @param line The line of text to be printed.
+     */
+    @Override
+    protected void println(String line) {
+        PrintStream out = getOutputStream();
+        if (isMessageOpen) {
+            out.print(',');
+        } else {
+            out.print("{\"record\":\"message\",\"lines\":[");
+            isMessageOpen = true;
+        }
+        writeString(out, line);
+    }
+
+    /** Topic names are already part of each <code>entry</code> record, so no record is printed for them. */
+    @Override
+    public void printWithBox(String topicName) {
+    }
+
+    @Override
+    public void printCS2040CFile(int serialNumber, CS2040CFile cs2040cFile) {
+        printDivider();
+        writeEntry(getOutputStream(), serialNumber, cs2040cFile);
+    }
+
+    @Override
+    public void printAllFilesWithImportance(List<CS2040CFile> cs2040cFiles, int firstSerialNumber) {
+        printDivider();
+        PrintStream out = getOutputStream();
+        int serialNumber = firstSerialNumber;
+        for (CS2040CFile cs2040cFile : cs2040cFiles) {
+            writeEntry(out, serialNumber, cs2040cFile);
+            ++serialNumber;
+        }
+    }
+
+    @Override
+    public void printCS2040CFileCount(int count) {
+        printDivider();
+        PrintStream out = getOutputStream();
+        out.print("{\"record\":\"count\",\"count\":");
+        out.print(count);
+        out.print('}');
+        out.println();
+    }
+
+    /**
+     * Writes a single <code>entry</code> record describing a CS2040CFile.
+     *
+     * @param out The stream the record is written to.
+     * @param serialNumber The serial number of the CS2040CFile in the listing.
+     * @param cs2040cFile The CS2040CFile to be written.
+     */
+    private void writeEntry(PrintStream out, int serialNumber, CS2040CFile cs2040cFile) {
+        out.print("{\"record\":\"entry\",\"serial\":");
+        out.print(serialNumber);
+        out.print(",\"name\":");
+        writeString(out, cs2040cFile.getName());
+        out.print(",\"topic\":");
+        writeString(out, cs2040cFile.getTopic());
+        out.print(",\"importance\":");
+        out.print(cs2040cFile.getImportance());
+        out.print(",\"path\":");
+        writeString(out, cs2040cFile.getPath());
+        out.print(",\"type\":");
+        writeString(out, cs2040cFile.isCode() ? CODE_TYPE : NOTE_TYPE);
+        out.print('}');
+        out.println();
+    }
+
+    /**
+     * Writes a JSON string literal, escaping each character as it is written.
+     *
+     * @param out The stream the string is written to.
+     * @param value The string to be written, or null.
+     */
+    static void writeString(PrintStream out, String value) {
+        if (value == null) {
+            out.print("null");
+            return;
+        }
+        out.print('"');
+        for (int i = 0; i < value.length(); ++i) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '"':
+                out.print("\\\"");
+                break;
+            case '\\':
+                out.print("\\\\");
+                break;
+            case '\n':
+                out.print("\\n");
+                break;
+            case '\r':
+                out.print("\\r");
+                break;
+            case '\t':
+                out.print("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    out.print("\\u00");
+                    out.print(HEX_DIGITS.charAt(c >> 4));
+                    out.print(HEX_DIGITS.charAt(c & 0xf));
+                } else {
+                    out.print(c);
+                }
+            }
+        }
+        out.print('"');
+    }
+}
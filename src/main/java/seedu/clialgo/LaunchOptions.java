@@ -0,0 +1,136 @@
+package seedu.clialgo;
+
+import seedu.clialgo.storage.StorageType;
+
+//@@author heejet
+/**
+ * A <code>LaunchOptions</code> object holds the options given to CLIAlgo on the command line when it is launched.
+ * Unknown arguments are ignored so that CLIAlgo can always start.
+ */
+public class LaunchOptions {
+    /** The localhost port used by the server and the client when no port is given. */
+    public static final int DEFAULT_PORT = 4040;
+
+    private static final String JSON_MODE_FLAG = "--json";
+    private static final String SERVER_FLAG = "--server";
+    private static final String CLIENT_FLAG = "--client";
+    private static final String PORT_FLAG = "--port";
+    private static final String SINGLE_FILE_FLAG = "--single-file";
+    private static final String STORAGE_FLAG = "--storage";
+    private static final String PROFILE_FLAG = "--profile";
+    private static final int MAX_PORT = 65535;
+
+    private boolean isJsonMode;
+    private boolean isServer;
+    private boolean isClient;
+    private StorageType storageType;
+    private boolean isProfile;
+    private int port;
+
+    private LaunchOptions() {
+        this.isJsonMode = false;
+        this.isServer = false;
+        this.isClient = false;
+        this.storageType = StorageType.FILES;
+        this.isProfile = false;
+        this.port = DEFAULT_PORT;
+    }
+
+    /**
+     * Reads the launch arguments of CLIAlgo.
+     *
+     * @param args The launch arguments of CLIAlgo.
+     * @return A <code>LaunchOptions</code> object holding the options that were given.
+     */
+    public static LaunchOptions parse(String[] args) {
+        LaunchOptions options = new LaunchOptions();
+        for (int i = 0; i < args.length; ++i) {
+            switch (args[i]) {
+            case JSON_MODE_FLAG:
+                options.isJsonMode = true;
+                break;
+            case SERVER_FLAG:
+                options.isServer = true;
+                break;
+            case CLIENT_FLAG:
+                options.isClient = true;
+                break;
+            case SINGLE_FILE_FLAG:
+                options.storageType = StorageType.SINGLE_FILE;
+                break;
+            case STORAGE_FLAG:
+                if (i + 1 < args.length) {
+                    options.storageType = parseStorageType(args[++i]);
+                }
+                break;
+            case PROFILE_FLAG:
+                options.isProfile = true;
+                break;
+            case PORT_FLAG:
+                if (i + 1 < args.length) {
+                    options.port = parsePort(args[++i]);
+                }
+                break;
+            default:
+                break;
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Converts a port argument to a port number.
+     *
+     * @param portArgument The argument given after <code>--port</code>.
+     * @return The port number, or <code>DEFAULT_PORT</code> if the argument is not a valid port.
+     */
+    private static int parsePort(String portArgument) {
+        try {
+            int port = Integer.parseInt(portArgument);
+            if (port < 1 || port > MAX_PORT) {
+                return DEFAULT_PORT;
+            }
+            return port;
+        } catch (NumberFormatException e) {
+            return DEFAULT_PORT;
+        }
+    }
+
+    /**
+     * Converts a storage argument to a <code>StorageType</code>.
+     *
+     * @param storageArgument The argument given after <code>--storage</code>.
+     * @return The <code>StorageType</code>, or <code>StorageType.FILES</code> if the argument names no storage.
+     */
+    private static StorageType parseStorageType(String storageArgument) {
+        StorageType storageType = StorageType.fromOptionName(storageArgument);
+        if (storageType == null) {
+            return StorageType.FILES;
+        }
+        return storageType;
+    }
+
+    public boolean isJsonMode() {
+        return isJsonMode;
+    }
+
+    public boolean isServer() {
+        return isServer;
+    }
+
+    public boolean isClient() {
+        return isClient;
+    }
+
+    public StorageType getStorageType() {
+        return storageType;
+    }
+
+    public boolean isProfile() {
+        return isProfile;
+    }
+
+    public int getPort() {
+        return port;
+    }
+}
@@ -6,18 +6,27 @@ import seedu.clialgo.command.ExitCommand;
 import seedu.clialgo.command.ExitTestModeCommand;
 import seedu.clialgo.command.ExportCommand;
 import seedu.clialgo.command.FilterCommand;
+import seedu.clialgo.command.FindCommand;
 import seedu.clialgo.command.HelpCommand;
 import seedu.clialgo.command.InvalidCommand;
 import seedu.clialgo.command.InvalidTopicCommand;
 import seedu.clialgo.command.InvalidImportanceCommand;
 import seedu.clialgo.command.InvalidFilterCommand;
+import seedu.clialgo.command.InvalidQueryCommand;
 import seedu.clialgo.command.ListCommand;
+import seedu.clialgo.command.Paging;
+import seedu.clialgo.command.PipelineCommand;
+import seedu.clialgo.command.PipelineStage;
+import seedu.clialgo.command.RedoCommand;
 import seedu.clialgo.command.RemoveCommand;
+import seedu.clialgo.command.StatsCommand;
 import seedu.clialgo.command.TestModeCommand;
 import seedu.clialgo.command.TopoCommand;
-import seedu.clialgo.exceptions.parser.EmptyFieldException;
-import seedu.clialgo.exceptions.parser.NullInputException;
+import seedu.clialgo.command.UndoCommand;
+import seedu.clialgo.exceptions.parser.InvalidQueryException;
+import seedu.clialgo.file.CS2040CFile;
 import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.logic.query.QueryParser;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,17 +43,24 @@ public class Parser implements StringManipulation {
     public static final String TOPIC_MARKER = "t/";
     public static final String KEYWORD_MARKER = "k/";
     public static final String IMPORTANCE_MARKER = "i/";
+    public static final String PAGE_MARKER = "p/";
+    public static final String SIZE_MARKER = "s/";
+    public static final String FILE_MARKER = "f/";
+    public static final String COUNT_KEYWORD = "count";
+    public static final String EXPLAIN_KEYWORD = "explain";
+    public static final String IMPORTANCE_KEYWORD = "importance";
     public static final String WHITE_SPACE = " ";
+    public static final char PIPE = '|';
 
     /** List of valid commands */
     private static final ArrayList<String> COMMANDS = new ArrayList<>(
             Arrays.asList("help", "add", "remove", "filter", "exit", "list", "start-test-mode", "exit-test-mode",
-                    "export", "topo")
+                    "export", "topo", "undo", "redo", "stats", "find")
     );
 
     /** List of valid keywords */
     private static final ArrayList<String> KEYWORDS = new ArrayList<>(
-            Arrays.asList("topic", "importance")
+            Arrays.asList("topic", "importance", "type")
     );
 
     /**
@@ -71,15 +87,13 @@ public class Parser implements StringManipulation {
 
     //@@author nikkiDEEE
     /**
-     * Checks if the input string is in the valid importance range (1-10).
+     * Checks if the importance is in the valid importance range (1-10).
      *
-     * @param keyWord The input string.
-     * @return True if the input string is in the valid importance range, False otherwise.
+     * @param importance The importance keyed in by the user, or -1 if it is not a positive integer.
+     * @return True if the importance is in the valid importance range, False otherwise.
      */
-    private boolean isValidImportance(String keyWord) throws NumberFormatException {
-        assert keyWord != null;
-        int importance = Integer.parseInt(keyWord);
-        return importance >= 1 && importance <= 10;
+    private boolean isValidImportance(int importance) {
+        return importance >= CS2040CFile.MIN_IMPORTANCE && importance <= CS2040CFile.MAX_IMPORTANCE;
     }
 
     //@@author heejet
@@ -96,31 +110,120 @@ public class Parser implements StringManipulation {
         return markerPresent.equals(correctMarker);
     }
 
+    /**
+     * Checks if a word is one of the paging options <code>p/PAGE</code>, <code>s/SIZE</code> or <code>count</code>.
+     *
+     * @param tokens The tokenized user input.
+     * @param wordStart The offset of the first character of the word.
+     * @param wordEnd The offset after the last character of the word.
+     * @return True if the word is a paging option, false otherwise.
+     */
+    private boolean isPagingOption(CommandTokenizer tokens, int wordStart, int wordEnd) {
+        return tokens.isWord(COUNT_KEYWORD, wordStart, wordEnd) || tokens.startsWith(PAGE_MARKER, wordStart, wordEnd)
+                || tokens.startsWith(SIZE_MARKER, wordStart, wordEnd);
+    }
+
+    /**
+     * Finds where the paging options at the end of a description begin. The paging options are the words at the end
+     * of the description that are either <code>p/PAGE</code>, <code>s/SIZE</code> or <code>count</code>.
+     *
+     * @param tokens The tokenized user input.
+     * @return The offset where the paging options begin, or the end of the description if there are none.
+     */
+    private int findPagingOptions(CommandTokenizer tokens) {
+        int descriptionStart = tokens.getDescriptionStart();
+        int optionsStart = tokens.getDescriptionEnd();
+        while (optionsStart > descriptionStart) {
+            int wordStart = Math.max(tokens.lastSpaceBefore(optionsStart) + 1, descriptionStart);
+            if (wordStart < optionsStart && !isPagingOption(tokens, wordStart, optionsStart)) {
+                break;
+            }
+            optionsStart = Math.max(wordStart - 1, descriptionStart);
+        }
+        return optionsStart;
+    }
+
+    /**
+     * Returns a <code>Paging</code> object that selects the part of a listing to be printed.
+     * Returns null when the paging options do not follow the input format in the user guide.
+     *
+     * @param tokens The tokenized user input.
+     * @param optionsStart The offset where the paging options begin.
+     * @param optionsEnd The offset where the paging options end.
+     * @return A <code>Paging</code> object representing the paging options, or null if they are invalid.
+     */
+    private Paging preparePaging(CommandTokenizer tokens, int optionsStart, int optionsEnd) {
+        int page = 0;
+        int size = 0;
+        boolean isCountOnly = false;
+        int wordStart = tokens.trimStart(optionsStart, optionsEnd);
+        optionsEnd = tokens.trimEnd(wordStart, optionsEnd);
+        if (wordStart == optionsEnd) {
+            return Paging.ALL;
+        }
+        while (wordStart < optionsEnd) {
+            int wordEnd = tokens.nextSpace(wordStart, optionsEnd);
+            if (wordStart == wordEnd) {
+                wordStart++;
+                continue;
+            }
+            if (tokens.isWord(COUNT_KEYWORD, wordStart, wordEnd) && !isCountOnly) {
+                isCountOnly = true;
+            } else if (tokens.startsWith(PAGE_MARKER, wordStart, wordEnd) && page == 0) {
+                page = tokens.parsePositiveInteger(wordStart + PAGE_MARKER.length(), wordEnd);
+            } else if (tokens.startsWith(SIZE_MARKER, wordStart, wordEnd) && size == 0) {
+                size = tokens.parsePositiveInteger(wordStart + SIZE_MARKER.length(), wordEnd);
+            } else {
+                return null;
+            }
+            if (page < 0 || size < 0) {
+                return null;
+            }
+            wordStart = wordEnd + 1;
+        }
+        if (isCountOnly) {
+            return (page == 0 && size == 0) ? Paging.COUNT : null;
+        }
+        page = page == 0 ? 1 : page;
+        size = size == 0 ? Paging.DEFAULT_PAGE_SIZE : size;
+        if ((long) page * size > Integer.MAX_VALUE) {
+            return null;
+        }
+        return new Paging(page, size);
+    }
+
+    /**
+     * Gets the field that follows a marker at the start of the description.
+     *
+     * @param tokens The tokenized user input.
+     * @param marker The marker the description must start with.
+     * @param end The offset where the field ends.
+     * @return The field without surrounding whitespace, or null if the description does not start with the marker
+     *     or the field is empty.
+     */
+    private String getMarkedField(CommandTokenizer tokens, String marker, int end) {
+        int start = tokens.getDescriptionStart();
+        if (tokens.getMarkerOffset(marker, end) != start) {
+            return null;
+        }
+        return tokens.slice(start + marker.length(), end);
+    }
+
     /**
      * Returns a <code>HelpCommand</code> object that teaches the user how to use CLIAlgo when executed.
      * Returns a <code>HelpCommand</code> using the default constructor if description is empty.
      * Returns <code>InvalidCommand</code> when the user does not follow the input format in the user guide.
      *
-     * @param description A string indicating the command the user need help with.
+     * @param tokens The tokenized user input.
      * @return A Command object that teaches the user how to use CLIAlgo when executed.
      */
-    private Command prepareHelpCommand(String description) {
+    private Command prepareHelpCommand(CommandTokenizer tokens) {
         // No description provided, show generic help message.
-        if (description == null) {
+        if (!tokens.hasDescription()) {
             return new HelpCommand();
         }
-        String command;
-        try {
-            if (!isCorrectMarker(description, COMMAND_MARKER)) {
-                return new InvalidCommand();
-            }
-
-            command = StringManipulation.removeMarker(description, COMMAND_MARKER);
-
-            if (!isValidCommand(command)) {
-                return new InvalidCommand();
-            }
-        } catch (IndexOutOfBoundsException | EmptyFieldException | NullInputException e) {
+        String command = getMarkedField(tokens, COMMAND_MARKER, tokens.getDescriptionEnd());
+        if (command == null || !isValidCommand(command)) {
             return new InvalidCommand();
         }
         assert command.length() > 0;
@@ -131,47 +234,45 @@ public class Parser implements StringManipulation {
      * Returns a <code>AddCommand</code> object that adds a CS2040CFile to CLIAlgo when executed.
      * Returns <code>InvalidCommand</code> when the user does not follow the input format in the user guide.
      *
-     * @param description String containing the information on the CS2040CFile to be added.
+     * @param tokens The tokenized user input.
      * @param topics The topic manager class containing all topics in CLIAlgo.
      * @return a Command object that adds a CS2040CFile to CLIAlgo when executed.
      */
-    private Command prepareAddCommand(String description, TopicManager topics) {
-        if (description == null) {
+    private Command prepareAddCommand(CommandTokenizer tokens, TopicManager topics) {
+        if (!tokens.hasDescription()) {
+            return new InvalidCommand();
+        }
+        int descriptionEnd = tokens.getDescriptionEnd();
+        int importanceStart = tokens.getMarkerOffset(IMPORTANCE_MARKER, descriptionEnd);
+        int nameAndTopicEnd = importanceStart == CommandTokenizer.ABSENT ? descriptionEnd : importanceStart;
+        int topicStart = tokens.getMarkerOffset(TOPIC_MARKER, nameAndTopicEnd);
+        if (topicStart == CommandTokenizer.ABSENT) {
+            return new InvalidCommand();
+        }
+        String topicName = tokens.slice(topicStart + TOPIC_MARKER.length(), nameAndTopicEnd);
+        if (topicName == null || tokens.getMarkerOffset(NAME_MARKER, topicStart) != tokens.getDescriptionStart()) {
             return new InvalidCommand();
         }
-        String cs2040cFileName;
-        String topicName;
-        String importanceField = "";
-        int importance;
-        try {
-            String cs2040cFileNameAndTopicName = StringManipulation.getFirstWord(description, IMPORTANCE_MARKER);
-            importanceField = StringManipulation.removeFirstWord(description, IMPORTANCE_MARKER);
-            String cs2040cFileNameWithNameMarker = StringManipulation.getFirstWord(cs2040cFileNameAndTopicName,
-                    TOPIC_MARKER);
-            topicName = StringManipulation.removeFirstWord(cs2040cFileNameAndTopicName, TOPIC_MARKER);
-
-            if (topicName == null || !isCorrectMarker(cs2040cFileNameWithNameMarker, NAME_MARKER)) {
-                return new InvalidCommand();
-            }
-
-            if (!topics.isValidTopic(topicName)) {
-                return new InvalidTopicCommand(topicName);
-            }
-
-            cs2040cFileName = StringManipulation.removeMarker(cs2040cFileNameWithNameMarker, NAME_MARKER);
-
-            if (importanceField != null && !isValidImportance(importanceField)) {
-                return new InvalidImportanceCommand(importanceField);
-            }
 
-            if (importanceField == null) {
-                return new AddCommand(cs2040cFileName, topicName);
-            }
+        if (!topics.isValidTopic(topicName)) {
+            return new InvalidTopicCommand(topicName);
+        }
 
-            importance = Integer.parseInt(importanceField);
-        } catch (NullInputException | EmptyFieldException | IndexOutOfBoundsException e) {
+        String cs2040cFileName = tokens.slice(tokens.getDescriptionStart() + NAME_MARKER.length(), topicStart);
+        if (cs2040cFileName == null) {
             return new InvalidCommand();
-        } catch (NumberFormatException e) {
+        }
+
+        if (importanceStart == CommandTokenizer.ABSENT) {
+            return new AddCommand(cs2040cFileName, topicName);
+        }
+        String importanceField = tokens.slice(importanceStart + IMPORTANCE_MARKER.length(), descriptionEnd);
+        if (importanceField == null) {
+            return new AddCommand(cs2040cFileName, topicName);
+        }
+        int importanceFieldStart = tokens.trimStart(importanceStart + IMPORTANCE_MARKER.length(), descriptionEnd);
+        int importance = tokens.parsePositiveInteger(importanceFieldStart, descriptionEnd);
+        if (!isValidImportance(importance)) {
             return new InvalidImportanceCommand(importanceField);
         }
 
@@ -186,22 +287,12 @@ public class Parser implements StringManipulation {
      * Returns <code>NameNotFoundCommand</code> when the user does not key in an existing CS2040CFile name.
      * Returns <code>InvalidCommand</code> when the user does not follow the input format in the user guide.
      *
-     * @param description String containing the information on the CS2040CFile to be removed.
+     * @param tokens The tokenized user input.
      * @return a Command object that deletes a CS2040CFile from CLIAlgo when executed.
      */
-    private Command prepareRemoveCommand(String description) {
-        if (description == null) {
-            return new InvalidCommand();
-        }
-        String cs2040cFileName;
-        try {
-            if (!isCorrectMarker(description, NAME_MARKER)) {
-                return new InvalidCommand();
-            }
-
-            cs2040cFileName = StringManipulation.removeMarker(description, NAME_MARKER);
-
-        } catch (NullInputException | EmptyFieldException e) {
+    private Command prepareRemoveCommand(CommandTokenizer tokens) {
+        String cs2040cFileName = getMarkedField(tokens, NAME_MARKER, tokens.getDescriptionEnd());
+        if (cs2040cFileName == null) {
             return new InvalidCommand();
         }
         assert cs2040cFileName.length() > 0;
@@ -212,52 +303,161 @@ public class Parser implements StringManipulation {
      * Returns a <code>FilterCommand</code> object that lists CS2040CFiles according a certain criteria.
      * Returns <code>InvalidCommand</code> when the user does not follow the input format in the user guide.
      *
-     * @param description String containing criteria to filter the CS2040CFiles by.
+     * @param tokens The tokenized user input.
      * @param topics The topic manager class containing all topics in CLIAlgo.
      * @return a Command object that lists CS2040CFiles according a certain criteria.
      */
-    private Command prepareFilterCommand(String description, TopicManager topics) {
-        if (description == null) {
+    private Command prepareFilterCommand(CommandTokenizer tokens, TopicManager topics) {
+        if (!tokens.hasDescription()) {
             return new InvalidCommand();
         }
-        String keyWord;
-        String topicName;
-        try {
-            String fullKeyWord = StringManipulation.getFirstWord(description, TOPIC_MARKER);
-            topicName = StringManipulation.removeFirstWord(description, TOPIC_MARKER);
-            if (fullKeyWord.equals("") || !isCorrectMarker(fullKeyWord, KEYWORD_MARKER)) {
-                return new InvalidCommand();
-            }
-            if (topicName!= null && !topics.isValidTopic(topicName)) {
-                return new InvalidTopicCommand(topicName);
-            }
+        int criteriaStart = tokens.getDescriptionStart();
+        int optionsStart = findPagingOptions(tokens);
+        Paging paging = preparePaging(tokens, optionsStart, tokens.getDescriptionEnd());
+        int criteriaEnd = tokens.trimEnd(criteriaStart, optionsStart);
+        if (paging == null || criteriaStart == criteriaEnd) {
+            return new InvalidCommand();
+        }
+        int topicStart = tokens.getMarkerOffset(TOPIC_MARKER, criteriaEnd);
+        int importanceStart = tokens.getMarkerOffset(IMPORTANCE_MARKER, criteriaEnd);
+        int keyWordEnd = getFieldEnd(criteriaStart, criteriaEnd, topicStart, importanceStart);
+        String topicName = topicStart == CommandTokenizer.ABSENT ? null
+                : tokens.slice(topicStart + TOPIC_MARKER.length(),
+                        getFieldEnd(topicStart, criteriaEnd, importanceStart));
+        if (tokens.getMarkerOffset(KEYWORD_MARKER, keyWordEnd) != criteriaStart) {
+            return new InvalidCommand();
+        }
+        if (topicName != null && !topics.isValidTopic(topicName)) {
+            return new InvalidTopicCommand(topicName);
+        }
 
-            keyWord = StringManipulation.removeMarker(fullKeyWord, KEYWORD_MARKER);
+        String keyWord = tokens.slice(criteriaStart + KEYWORD_MARKER.length(), keyWordEnd);
+        if (keyWord == null) {
+            return new InvalidCommand();
+        }
+        if (!isValidKeyword(keyWord)) {
+            return new InvalidFilterCommand();
+        }
+        if (importanceStart == CommandTokenizer.ABSENT) {
+            return new FilterCommand(keyWord, topicName, paging);
+        }
+        if (!keyWord.equals(IMPORTANCE_KEYWORD)) {
+            return new InvalidCommand();
+        }
+        return prepareImportanceRange(tokens, importanceStart + IMPORTANCE_MARKER.length(),
+                getFieldEnd(importanceStart, criteriaEnd, topicStart), topicName, paging);
+    }
 
-            if (!isValidKeyword(keyWord)) {
-                return new InvalidFilterCommand();
+    /**
+     * Finds where the field starting at <code>fieldStart</code> ends, which is at the next marker after it or at
+     * <code>end</code> if no other marker follows it.
+     *
+     * @param fieldStart The offset the field starts at.
+     * @param end The offset all fields end by.
+     * @param otherMarkerOffsets The offsets of the other markers, or <code>ABSENT</code> for missing markers.
+     * @return The offset the field ends before.
+     */
+    private int getFieldEnd(int fieldStart, int end, int... otherMarkerOffsets) {
+        int fieldEnd = end;
+        for (int markerOffset : otherMarkerOffsets) {
+            if (markerOffset > fieldStart && markerOffset < fieldEnd) {
+                fieldEnd = markerOffset;
             }
-        } catch (NullInputException | EmptyFieldException e) {
+        }
+        return fieldEnd;
+    }
+
+    /**
+     * Returns a <code>FilterCommand</code> object that filters CS2040CFiles in a range of importance written as
+     * <code>LOW-HIGH</code>, or as a single importance.
+     * Returns <code>InvalidImportanceCommand</code> when the range is not within 1-10 or is empty.
+     *
+     * @param tokens The tokenized user input.
+     * @param start The offset the range starts at.
+     * @param end The offset the range ends before.
+     * @param topicName The topic to filter, or null to filter all topics.
+     * @param paging The part of the filtered listing to be printed.
+     * @return a Command object that filters CS2040CFiles in the range of importance.
+     */
+    private Command prepareImportanceRange(CommandTokenizer tokens, int start, int end, String topicName,
+            Paging paging) {
+        String importanceField = tokens.slice(start, end);
+        if (importanceField == null) {
+            return new InvalidCommand();
+        }
+        int rangeStart = tokens.trimStart(start, end);
+        int rangeEnd = rangeStart + importanceField.length();
+        int dashIndex = importanceField.indexOf('-', 1);
+        int minImportance = tokens.parsePositiveInteger(rangeStart,
+                dashIndex < 0 ? rangeEnd : rangeStart + dashIndex);
+        int maxImportance = dashIndex < 0 ? minImportance
+                : tokens.parsePositiveInteger(rangeStart + dashIndex + 1, rangeEnd);
+        if (!isValidImportance(minImportance) || !isValidImportance(maxImportance) || minImportance > maxImportance) {
+            return new InvalidImportanceCommand(importanceField);
+        }
+        return new FilterCommand(IMPORTANCE_KEYWORD, topicName, minImportance, maxImportance, paging);
+    }
+
+    //@@author heejet
+    /**
+     * Returns a <code>FindCommand</code> object that finds the CS2040CFiles matching a query.
+     * Returns <code>InvalidQueryCommand</code> when the query does not follow the query language, and
+     * <code>InvalidCommand</code> when the user does not follow the input format in the user guide.
+     *
+     * @param tokens The tokenized user input.
+     * @param topics The topic manager class containing all topics in CLIAlgo.
+     * @return a Command object that finds the CS2040CFiles matching a query.
+     */
+    private Command prepareFindCommand(CommandTokenizer tokens, TopicManager topics) {
+        if (!tokens.hasDescription()) {
+            return new InvalidCommand();
+        }
+        int optionsStart = findPagingOptions(tokens);
+        Paging paging = preparePaging(tokens, optionsStart, tokens.getDescriptionEnd());
+        if (paging == null) {
+            return new InvalidCommand();
+        }
+
+        int queryStart = tokens.getDescriptionStart();
+        boolean isExplain = tokens.isWord(EXPLAIN_KEYWORD, queryStart, tokens.nextSpace(queryStart, optionsStart));
+        if (isExplain) {
+            queryStart += EXPLAIN_KEYWORD.length();
+        }
+        String query = tokens.slice(queryStart, optionsStart);
+        if (query == null) {
             return new InvalidCommand();
         }
-        return new FilterCommand(keyWord, topicName);
+        try {
+            return new FindCommand(QueryParser.parse(query, topics), paging, isExplain);
+        } catch (InvalidQueryException e) {
+            return new InvalidQueryCommand(e.getMessage());
+        }
     }
 
+    //@@author
     /**
+     * Returns a <code>ListCommand</code> object that lists out the CS2040CFiles stored in CLIAlgo.
+     * Returns <code>InvalidCommand</code> when the description contains anything other than paging options.
+     *
+     * @param tokens The tokenized user input.
      * @return A <code>Command</code> object that list out the CS2040CFiles stored in CLIAlgo.
      */
-    private Command prepareListCommand(String description) {
-        if (description != null) {
+    private Command prepareListCommand(CommandTokenizer tokens) {
+        if (!tokens.hasDescription()) {
+            return new ListCommand();
+        }
+        Paging paging = preparePaging(tokens, tokens.getDescriptionStart(), tokens.getDescriptionEnd());
+        if (findPagingOptions(tokens) != tokens.getDescriptionStart() || paging == null) {
             return new InvalidCommand();
         }
-        return new ListCommand();
+        return new ListCommand(paging);
     }
 
     /**
      * @return A <code>Command</code> object that exits CLIAlgo.
      */
-    private Command prepareExitCommand(String description) {
-        if (description != null) {
+    private Command prepareExitCommand(CommandTokenizer tokens) {
+        if (tokens.hasDescription()) {
             return new InvalidCommand();
         }
         return new ExitCommand();
@@ -280,69 +480,219 @@ public class Parser implements StringManipulation {
     /**
      * @return A <code>Command</code> object that exports all CS2040CFiles stored in the buffer.
      */
-    private Command prepareExport(String description) {
-        if (description != null) {
+    private Command prepareExport(CommandTokenizer tokens) {
+        if (tokens.hasDescription()) {
             return new InvalidCommand();
         }
         return new ExportCommand();
     }
 
+    //@@author heejet
+    /**
+     * @return A <code>Command</code> object that undoes the last change, or <code>InvalidCommand</code> if the user
+     *     typed anything after <code>undo</code>.
+     */
+    private Command prepareUndoCommand(CommandTokenizer tokens) {
+        if (tokens.hasDescription()) {
+            return new InvalidCommand();
+        }
+        return new UndoCommand();
+    }
+
+    /**
+     * @return A <code>Command</code> object that redoes the last undone change, or <code>InvalidCommand</code> if the
+     *     user typed anything after <code>redo</code>.
+     */
+    private Command prepareRedoCommand(CommandTokenizer tokens) {
+        if (tokens.hasDescription()) {
+            return new InvalidCommand();
+        }
+        return new RedoCommand();
+    }
+
+    /**
+     * Returns a <code>StatsCommand</code> object that prints the metrics of the commands executed so far.
+     * Returns <code>InvalidCommand</code> when the user does not follow the input format in the user guide.
+     *
+     * @param tokens The tokenized user input, which may hold the path of the file the metrics are written to when
+     *     CLIAlgo exits.
+     * @return A Command object that prints the metrics of the commands executed so far.
+     */
+    private Command prepareStatsCommand(CommandTokenizer tokens) {
+        if (!tokens.hasDescription()) {
+            return new StatsCommand();
+        }
+        String dumpPath = getMarkedField(tokens, FILE_MARKER, tokens.getDescriptionEnd());
+        if (dumpPath == null) {
+            return new InvalidCommand();
+        }
+        return new StatsCommand(dumpPath);
+    }
+
+    //@@author
     /**
      * Returns a <code>TopoCommand</code> object that lists notes according a topological sort order.
      * Returns <code>InvalidCommand</code> when the user does not follow the input format in the user guide.
      *
-     * @param description String containing criteria to filter the notes by.
+     * @param tokens The tokenized user input.
      * @return a Command object that lists notes according a certain criteria.
      */
-    private Command prepareTopoCommand(String description) {
-        if (description == null) {
+    private Command prepareTopoCommand(CommandTokenizer tokens) {
+        return prepareTopoCommand(tokens, false);
+    }
+
+    /**
+     * Returns a <code>TopoCommand</code> object that lists notes according a topological sort order.
+     * Returns <code>InvalidCommand</code> when the user does not follow the input format in the user guide.
+     *
+     * @param tokens The tokenized user input.
+     * @param isNameOptional True if the <code>n/</code> field may be left out, as in a later stage of a pipeline.
+     * @return a Command object that lists notes according a certain criteria.
+     */
+    private Command prepareTopoCommand(CommandTokenizer tokens, boolean isNameOptional) {
+        if (!tokens.hasDescription()) {
+            return isNameOptional ? new TopoCommand(null) : new InvalidCommand();
+        }
+
+        int optionsStart = findPagingOptions(tokens);
+        Paging paging = preparePaging(tokens, optionsStart, tokens.getDescriptionEnd());
+        if (paging == null) {
             return new InvalidCommand();
         }
+        if (isNameOptional && optionsStart == tokens.getDescriptionStart()) {
+            return new TopoCommand(null, paging);
+        }
 
-        String noteName;
-        try {
-            if (description.equals("") || !isCorrectMarker(description, NAME_MARKER)) {
-                return new InvalidCommand();
-            }
-            noteName = StringManipulation.removeMarker(description, NAME_MARKER);
-        } catch (NullInputException | EmptyFieldException e) {
+        String noteName = getMarkedField(tokens, NAME_MARKER, optionsStart);
+        if (noteName == null) {
+            return new InvalidCommand();
+        }
+        return new TopoCommand(noteName, paging);
+    }
+
+
+    //@@author heejet
+    /**
+     * Returns the <code>Command</code> object of one stage of a pipeline. Only the last stage may hold paging options
+     * or be an <code>export</code>, and only the first stage must name the note of a <code>topo</code>.
+     *
+     * @param tokens The tokenized stage.
+     * @param isFirst True if this is the first stage of the pipeline.
+     * @param isLast True if this is the last stage of the pipeline.
+     * @param topics The topic manager class containing all topics in CLIAlgo.
+     * @return A <code>PipelineStage</code> command, or the command explaining why the stage is invalid.
+     */
+    private Command preparePipelineStage(CommandTokenizer tokens, boolean isFirst, boolean isLast,
+            TopicManager topics) {
+        String command = tokens.getCommand();
+        if (command == null) {
+            return new InvalidCommand();
+        }
+        if (!isLast && findPagingOptions(tokens) != tokens.getDescriptionEnd()) {
+            return new InvalidCommand();
+        }
+        switch (command) {
+        case "filter":
+            return prepareFilterCommand(tokens, topics);
+        case "topo":
+            return prepareTopoCommand(tokens, !isFirst);
+        case "export":
+            return isFirst || !isLast ? new InvalidCommand() : prepareExport(tokens);
+        default:
             return new InvalidCommand();
         }
-        return new TopoCommand(noteName);
     }
 
+    /**
+     * Finds the next <code>|</code> that separates two stages of a pipeline. Only a <code>|</code> with whitespace or
+     * the end of the input on both sides separates stages, so a name such as <code>a|b</code> stays one field.
+     *
+     * @param fullCommand The full user input.
+     * @param start The offset to search from.
+     * @return The offset of the separator, or -1 if there is none.
+     */
+    private static int findPipeSeparator(String fullCommand, int start) {
+        int index = fullCommand.indexOf(PIPE, start);
+        while (index >= 0) {
+            boolean isSpaceBefore = index == 0 || Character.isWhitespace(fullCommand.charAt(index - 1));
+            boolean isSpaceAfter = index + 1 == fullCommand.length()
+                    || Character.isWhitespace(fullCommand.charAt(index + 1));
+            if (isSpaceBefore && isSpaceAfter) {
+                return index;
+            }
+            index = fullCommand.indexOf(PIPE, index + 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a <code>PipelineCommand</code> object that chains the stages separated by a standalone <code>|</code>.
+     * Returns the command of the first invalid stage when any stage does not follow the input format in the user
+     * guide.
+     *
+     * @param fullCommand The full user input.
+     * @param topics The topic manager class containing all topics in CLIAlgo.
+     * @return A Command object that runs every stage of the pipeline.
+     */
+    private Command preparePipelineCommand(String fullCommand, TopicManager topics) {
+        ArrayList<PipelineStage> stages = new ArrayList<>();
+        int stageStart = 0;
+        boolean isLast = false;
+        while (!isLast) {
+            int pipeIndex = findPipeSeparator(fullCommand, stageStart);
+            isLast = pipeIndex < 0;
+            int stageEnd = isLast ? fullCommand.length() : pipeIndex;
+            CommandTokenizer tokens = new CommandTokenizer(fullCommand, stageStart, stageEnd);
+            Command stage = preparePipelineStage(tokens, stages.isEmpty(), isLast, topics);
+            if (!(stage instanceof PipelineStage)) {
+                return stage;
+            }
+            stages.add((PipelineStage) stage);
+            stageStart = stageEnd + 1;
+        }
+        return new PipelineCommand(stages);
+    }
 
+    //@@author
     /**
      * This function takes in the command keyword and description and executes the specified command.
      *
      * @param command The command keyword indicating the type of command to execute.
-     * @param description The string specifying the details of the command.
+     * @param tokens The tokenized user input.
      * @param topics The topic manager class containing all topics in CLIAlgo.
      * @return A Command object that executes the command corresponding to the command keyword keyed in by the user.
      */
-    private Command prepareCommand(String command, String description, TopicManager topics) {
+    private Command prepareCommand(String command, CommandTokenizer tokens, TopicManager topics) {
         assert command != null;
         switch (command) {
         case "help":
-            return prepareHelpCommand(description);
+            return prepareHelpCommand(tokens);
         case "add":
-            return prepareAddCommand(description, topics);
+            return prepareAddCommand(tokens, topics);
         case "remove":
-            return prepareRemoveCommand(description);
+            return prepareRemoveCommand(tokens);
         case "filter":
-            return prepareFilterCommand(description, topics);
+            return prepareFilterCommand(tokens, topics);
         case "list":
-            return prepareListCommand(description);
+            return prepareListCommand(tokens);
         case "start-test-mode":
             return prepareTestModeCommand();
         case "exit-test-mode":
             return prepareExitTestModeCommand();
         case "export":
-            return prepareExport(description);
+            return prepareExport(tokens);
         case "topo":
-            return prepareTopoCommand(description);
+            return prepareTopoCommand(tokens);
+        case "undo":
+            return prepareUndoCommand(tokens);
+        case "redo":
+            return prepareRedoCommand(tokens);
+        case "stats":
+            return prepareStatsCommand(tokens);
+        case "find":
+            return prepareFindCommand(tokens, topics);
         default:
-            return prepareExitCommand(description);
+            return prepareExitCommand(tokens);
         }
     }
 
@@ -354,18 +704,15 @@ public class Parser implements StringManipulation {
      * @return A Command objects that suits the user input.
      */
     public Command parse(String fullCommand, TopicManager topics) {
-        String command;
-        String description;
-        try {
-            command = StringManipulation.getFirstWord(fullCommand, WHITE_SPACE);
-            if (!isValidCommand(command)) {
-                return new InvalidCommand();
-            }
-            description = StringManipulation.removeFirstWord(fullCommand, WHITE_SPACE);
-        } catch (NullInputException e) {
+        CommandTokenizer tokens = new CommandTokenizer(fullCommand);
+        String command = tokens.getCommand();
+        if (command == null || !isValidCommand(command)) {
             return new InvalidCommand();
         }
         assert command.length() > 0;
-        return prepareCommand(command, description, topics);
+        if ((command.equals("filter") || command.equals("topo")) && findPipeSeparator(fullCommand, 0) >= 0) {
+            return preparePipelineCommand(fullCommand, topics);
+        }
+        return prepareCommand(command, tokens, topics);
     }
 }
@@ -1,9 +1,14 @@
 package seedu.clialgo;
 
 import seedu.clialgo.file.CS2040CFile;
-import seedu.clialgo.file.Code;
+import seedu.clialgo.profile.CommandStats;
+import seedu.clialgo.profile.LatencyHistogram;
+import seedu.clialgo.profile.StartupPhase;
 
+import java.io.InputStream;
+import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Scanner;
 
@@ -13,14 +18,28 @@ public class Ui {
 
     private static final String DIVIDER = "======================================================";
     private static final String EXIT_COMMAND = "exit";
-    private static final String NOTE_LABEL = "[NOTE] ";
-    private static final String CODE_LABEL = "[CODE] ";
     private static final int SERIAL_NUMBER_START = 1;
     private final Scanner in;
 
+    /** The stream the output is printed to, or null if the output goes to the current <code>System.out</code>. */
+    private final PrintStream out;
+
     /** Ui constructor */
     public Ui() {
         in = new Scanner(System.in);
+        out = null;
+    }
+
+    /**
+     * Constructor for a <code>Ui</code> that reads from and prints to the given streams instead of the console.
+     *
+     * @param input The stream the user input is read from.
+     * @param output The stream the output is printed to.
+     */
+    public Ui(InputStream input, PrintStream output) {
+        assert output != null;
+        in = new Scanner(input);
+        out = output;
     }
 
     /**
@@ -43,28 +62,55 @@ public class Ui {
      * Prints a divider.
      */
     public void printDivider() {
-        System.out.println(DIVIDER);
+        println(DIVIDER);
+    }
+
+    /**
+     * Prints a single line of text. Every message of the <code>Ui</code> is printed through this method so that
+     * subclasses can change how the output is written.
+     *
+     * @param line The line of text to be printed.
+     */
+    protected void println(String line) {
+        getOutputStream().println(line);
+    }
+
+    /** Prints an empty line. */
+    protected void println() {
+        println("");
+    }
+
+    /**
+     * Gets the stream the output of this <code>Ui</code> is printed to.
+     *
+     * @return The stream given to the constructor, or the current <code>System.out</code> if there is none.
+     */
+    protected PrintStream getOutputStream() {
+        if (out == null) {
+            return System.out;
+        }
+        return out;
     }
 
     /** Prints the intro message when application starts. */
     public void printWelcomeMessage() {
         printDivider();
-        System.out.println("Hello! Welcome to CLIAlgo Notes!");
+        println("Hello! Welcome to CLIAlgo Notes!");
         printDivider();
     }
 
     /** Prints the outro message when the application is closed. */
     public void printExitMessage() {
         printDivider();
-        System.out.println("Thank you for using CLIAlgo! Study hard!");
+        println("Thank you for using CLIAlgo! Study hard!");
         printDivider();
     }
 
     /** Prints message informing the user that there is an error reading in the input */
     public void printReadFail() {
         printDivider();
-        System.out.println("It seems that there is an error reading in your input.");
-        System.out.println("Please restart the application.");
+        println("It seems that there is an error reading in your input.");
+        println("Please restart the application.");
         printDivider();
     }
 
@@ -74,17 +120,21 @@ public class Ui {
      */
     public void printHelpPage() {
         printDivider();
-        System.out.println("The available COMMAND_TYPE(s) are:");
-        System.out.println();
-        System.out.println("[add]: add CS2040CFile");
-        System.out.println("[remove]: remove CS2040CFile");
-        System.out.println("[list]: displays all CS2040CFiles");
-        System.out.println("[filter]: filters CS2040CFiles by topic");
-        System.out.println("[topo]: displays all CS2040CFiles before the selected topic");
-        System.out.println("[export]: places CS2040CFiles sorted by filter/topo in a file");
-        System.out.println("[exit]: close the application");
-        System.out.println();
-        System.out.println("For more help on a specific command, type `help c/COMMAND_TYPE`.");
+        println("The available COMMAND_TYPE(s) are:");
+        println();
+        println("[add]: add CS2040CFile");
+        println("[remove]: remove CS2040CFile");
+        println("[list]: displays all CS2040CFiles");
+        println("[filter]: filters CS2040CFiles by topic");
+        println("[find]: finds CS2040CFiles matching a query");
+        println("[topo]: displays all CS2040CFiles before the selected topic");
+        println("[export]: places CS2040CFiles sorted by filter/topo in a file");
+        println("[undo]: reverts the last add or remove");
+        println("[redo]: reapplies the last undone add or remove");
+        println("[stats]: shows how long each command took to execute");
+        println("[exit]: close the application");
+        println();
+        println("For more help on a specific command, type `help c/COMMAND_TYPE`.");
         printDivider();
     }
 
@@ -98,7 +148,7 @@ public class Ui {
         assert name != null;
         assert topic != null;
         printDivider();
-        System.out.println("Successfully added " + name + " into " + topic + ".");
+        println("Successfully added " + name + " into " + topic + ".");
         printDivider();
     }
 
@@ -110,8 +160,8 @@ public class Ui {
     public void printAddFail(String topic) {
         assert topic != null;
         printDivider();
-        System.out.println("Unsuccessful! " + topic + " is not a topic in CS2040C.");
-        System.out.println("Type 'help c/add' for assistance.");
+        println("Unsuccessful! " + topic + " is not a topic in CS2040C.");
+        println("Type 'help c/add' for assistance.");
         printDivider();
     }
 
@@ -120,23 +170,23 @@ public class Ui {
      */
     public void printCS2040CFileExists() {
         printDivider();
-        System.out.println("Unsuccessful! A CS2040CFile with that name already exists.");
-        System.out.println("Type 'list' to view the list of CS2040CFiles.");
+        println("Unsuccessful! A CS2040CFile with that name already exists.");
+        println("Type 'list' to view the list of CS2040CFiles.");
         printDivider();
     }
 
     /** Prints the list of CS2040CFiles saved by the user. */
     public void printListSuccess() {
         printDivider();
-        System.out.println("Here are all your CS2040CFiles:");
+        println("Here are all your CS2040CFiles:");
         printDivider();
     }
 
     /** Prints an error message if user has no saved CS2040CFiles. */
     public void printListFail() {
         printDivider();
-        System.out.println("You have no CS2040CFiles!");
-        System.out.println("Type 'help c/add' for assistance on how to add a CS2040CFile.");
+        println("You have no CS2040CFiles!");
+        println("Type 'help c/add' for assistance on how to add a CS2040CFile.");
         printDivider();
     }
 
@@ -148,48 +198,48 @@ public class Ui {
     public void printRemoveSuccess(String name) {
         assert name != null;
         printDivider();
-        System.out.println("Successfully removed " + name + ".");
+        println("Successfully removed " + name + ".");
         printDivider();
     }
 
     /** Prints an error message if user has not used appropriate flags/no CS2040CFiles exist of the specific name. */
     public void printRemoveFail() {
         printDivider();
-        System.out.println("Unsuccessful!");
-        System.out.println("Type 'help c/remove' for assistance on how to remove a CS2040CFile.");
+        println("Unsuccessful!");
+        println("Type 'help c/remove' for assistance on how to remove a CS2040CFile.");
         printDivider();
     }
 
     /** Prints a filtered set of CS2040CFiles user-specified by keyword and topic name. */
     public void printFilterSuccess() {
         printDivider();
-        System.out.println("Here are the filtered CS2040CFiles:");
+        println("Here are the filtered CS2040CFiles:");
         printDivider();
     }
 
     /** Prints a filtered set of CS2040CFiles user-specified by keyword and topic name. */
     public void printFilterFail() {
         printDivider();
-        System.out.println("Unsuccessful!");
-        System.out.println("Type 'help c/filter' for assistance.");
+        println("Unsuccessful!");
+        println("Type 'help c/filter' for assistance.");
         printDivider();
     }
 
     /** Prints feedback to user that there are no notes to be filtered. */
     public void printFilterTopicEmpty() {
         printDivider();
-        System.out.println("There are no files in this topic!");
-        System.out.println("You can add a file to this topic using the add command.");
-        System.out.println("Type 'help c/add' for more information on how to add a CS2040CFile.");
+        println("There are no files in this topic!");
+        println("You can add a file to this topic using the add command.");
+        println("Type 'help c/add' for more information on how to add a CS2040CFile.");
         printDivider();
     }
 
     /** Prints feedback to user that there are no notes to be filtered. */
     public void printFilterAllTopicsEmpty() {
         printDivider();
-        System.out.println("You have no files!");
-        System.out.println("You can add a file to a specific topic using the add command.");
-        System.out.println("Type 'help c/add' for more information on how to add a CS2040CFile.");
+        println("You have no files!");
+        println("You can add a file to a specific topic using the add command.");
+        println("Type 'help c/add' for more information on how to add a CS2040CFile.");
         printDivider();
     }
 
@@ -199,17 +249,17 @@ public class Ui {
      */
     public void printHelpAdd() {
         printDivider();
-        System.out.println("Add a CS2040CFile to a topic using:");
-        System.out.println();
-        System.out.println("    `add n/NAME t/TOPIC [i/IMPORTANCE]`");
-        System.out.println();
-        System.out.println("NAME: String name of the CS2040CFile file.");
-        System.out.println("TOPIC: String topic that NAME will be tagged to.");
-        System.out.println("IMPORTANCE: int level of importance on a scale of 1-10 (optional field).");
-        System.out.println();
-        System.out.println("Valid TOPIC's are 'SORTING', 'LINKED_LIST', 'GRAPH_STRUCTURES',");
-        System.out.println("'BINARY_HEAP', 'HASH_TABLE', 'GRAPH_TRAVERSAL', 'BINARY_SEARCH_TREE',");
-        System.out.println("'SS_SHORTEST_PATH', 'UNION_FIND_DS' and 'MINIMUM_SPANNING_TREE'.");
+        println("Add a CS2040CFile to a topic using:");
+        println();
+        println("    `add n/NAME t/TOPIC [i/IMPORTANCE]`");
+        println();
+        println("NAME: String name of the CS2040CFile file.");
+        println("TOPIC: String topic that NAME will be tagged to.");
+        println("IMPORTANCE: int level of importance on a scale of 1-10 (optional field).");
+        println();
+        println("Valid TOPIC's are 'SORTING', 'LINKED_LIST', 'GRAPH_STRUCTURES',");
+        println("'BINARY_HEAP', 'HASH_TABLE', 'GRAPH_TRAVERSAL', 'BINARY_SEARCH_TREE',");
+        println("'SS_SHORTEST_PATH', 'UNION_FIND_DS' and 'MINIMUM_SPANNING_TREE'.");
         printDivider();
     }
 
@@ -219,11 +269,11 @@ public class Ui {
      */
     public void printHelpRemove() {
         printDivider();
-        System.out.println("Remove a CS2040CFile using:");
-        System.out.println();
-        System.out.println("    `remove n/NAME`");
-        System.out.println();
-        System.out.println("NAME: String name of the CS2040CFile file.");
+        println("Remove a CS2040CFile using:");
+        println();
+        println("    `remove n/NAME`");
+        println();
+        println("NAME: String name of the CS2040CFile file.");
         printDivider();
     }
 
@@ -233,11 +283,14 @@ public class Ui {
      */
     public void printHelpList() {
         printDivider();
-        System.out.println("List all stored CS2040CFiles using:");
-        System.out.println();
-        System.out.println("    `list`");
-        System.out.println();
-        System.out.println("Command should only contain one word (i.e. no extensions).");
+        println("List all stored CS2040CFiles using:");
+        println();
+        println("    `list [p/PAGE] [s/SIZE]`");
+        println("    `list count`");
+        println();
+        println("PAGE: int page to display, starting from 1 (optional field).");
+        println("SIZE: int number of CS2040CFiles per page (optional field).");
+        println("`count` only displays the number of CS2040CFiles.");
         printDivider();
     }
 
@@ -247,11 +300,14 @@ public class Ui {
      */
     public void printHelpTopoSort() {
         printDivider();
-        System.out.println("Print all files before the user-defined filename using:");
-        System.out.println();
-        System.out.println("    `topo n/NAME`");
-        System.out.println();
-        System.out.println("NAME: String name of the CS2040CFile file.");
+        println("Print all files before the user-defined filename using:");
+        println();
+        println("    `topo n/NAME [p/PAGE] [s/SIZE]`");
+        println("    `topo n/NAME count`");
+        println();
+        println("NAME: String name of the CS2040CFile file.");
+        println("PAGE: int page to display, starting from 1 (optional field).");
+        println("SIZE: int number of CS2040CFiles per page (optional field).");
         printDivider();
     }
 
@@ -261,16 +317,20 @@ public class Ui {
      */
     public void printHelpFilter() {
         printDivider();
-        System.out.println("Filter by topic/importance and topic name using:");
-        System.out.println();
-        System.out.println("    `filter k/KEYWORD [t/TOPIC]`");
-        System.out.println();
-        System.out.println("KEYWORD: String keyword has to be either `topic` or `importance`.");
-        System.out.println("TOPIC: String topic chosen from list below (optional field).");
-        System.out.println();
-        System.out.println("Valid TOPIC's are 'SORTING', 'LINKED_LIST', 'GRAPH_STRUCTURES',");
-        System.out.println("'BINARY_HEAP', 'HASH_TABLE', 'GRAPH_TRAVERSAL', 'BINARY_SEARCH_TREE',");
-        System.out.println("'SS_SHORTEST_PATH', 'UNION_FIND_DS' and 'MINIMUM_SPANNING_TREE'.");
+        println("Filter by topic/importance and topic name using:");
+        println();
+        println("    `filter k/KEYWORD [t/TOPIC] [i/LOW-HIGH] [p/PAGE] [s/SIZE]`");
+        println("    `filter k/KEYWORD [t/TOPIC] [i/LOW-HIGH] count`");
+        println();
+        println("KEYWORD: String keyword has to be `topic`, `importance` or `type`.");
+        println("TOPIC: String topic chosen from list below (optional field).");
+        println("LOW-HIGH: int range of importance, e.g. 7-10, only for `importance` (optional field).");
+        println("PAGE: int page to display, starting from 1 (optional field).");
+        println("SIZE: int number of CS2040CFiles per page (optional field).");
+        println();
+        println("Valid TOPIC's are 'SORTING', 'LINKED_LIST', 'GRAPH_STRUCTURES',");
+        println("'BINARY_HEAP', 'HASH_TABLE', 'GRAPH_TRAVERSAL', 'BINARY_SEARCH_TREE',");
+        println("'SS_SHORTEST_PATH', 'UNION_FIND_DS' and 'MINIMUM_SPANNING_TREE'.");
         printDivider();
     }
 
@@ -280,11 +340,15 @@ public class Ui {
      */
     public void printHelpExport() {
         printDivider();
-        System.out.println("Export your filter/topo sorted files using:");
-        System.out.println();
-        System.out.println("    `export`");
-        System.out.println();
-        System.out.println("Command should only contain one word (i.e. no extensions).");
+        println("Export your filter/topo sorted files using:");
+        println();
+        println("    `export`");
+        println();
+        println("Command should only contain one word (i.e. no extensions).");
+        println();
+        println("Chain filter and topo into export without printing using:");
+        println();
+        println("    `filter k/KEYWORD [t/TOPIC] | topo [n/NAME] | export`");
         printDivider();
     }
 
@@ -294,19 +358,127 @@ public class Ui {
      */
     public void printHelpExit() {
         printDivider();
-        System.out.println("Exits CLIAlgo using:");
-        System.out.println();
-        System.out.println("    `exit`");
-        System.out.println();
-        System.out.println("Command should only contain one word (i.e. no extensions).");
+        println("Exits CLIAlgo using:");
+        println();
+        println("    `exit`");
+        println();
+        println("Command should only contain one word (i.e. no extensions).");
+        printDivider();
+    }
+
+    //@@author heejet
+    /**
+     * Prints the requirements for using the 'undo' command.
+     * To be called when userInput.equals("help c/undo").
+     */
+    public void printHelpUndo() {
+        printDivider();
+        println("Revert the last add or remove using:");
+        println();
+        println("    `undo`");
+        println();
+        println("Command should only contain one word (i.e. no extensions).");
+        println("Changes made before starting or exiting test mode cannot be undone.");
+        printDivider();
+    }
+
+    /**
+     * Prints the requirements for using the 'redo' command.
+     * To be called when userInput.equals("help c/redo").
+     */
+    public void printHelpRedo() {
+        printDivider();
+        println("Reapply the last undone add or remove using:");
+        println();
+        println("    `redo`");
+        println();
+        println("Command should only contain one word (i.e. no extensions).");
+        println("Undone changes cannot be redone after a new add or remove.");
+        printDivider();
+    }
+
+    /**
+     * Prints the requirements for using the 'stats' command.
+     * To be called when userInput.equals("help c/stats").
+     */
+    public void printHelpStats() {
+        printDivider();
+        println("Show the latency, allocated memory and file operations of each command using:");
+        println();
+        println("    `stats`");
+        println();
+        println("Write them to a file when CLIAlgo exits using:");
+        println();
+        println("    `stats f/FILE_PATH`");
+        println();
+        println("Latencies are accurate to within 1/16 of their value.");
+        printDivider();
+    }
+
+    /**
+     * Prints the help message for the `find` command.
+     * To be called when userInput.equals("help c/find").
+     */
+    public void printHelpFind() {
+        printDivider();
+        println("Find CS2040CFiles matching a query using:");
+        println();
+        println("    `find QUERY [p/PAGE] [s/SIZE]`");
+        println();
+        println("QUERY is made of topic=TOPIC, importance=LOW-HIGH, type=note|code, name=PATTERN and path=PATTERN,");
+        println("combined with `not`, `and`, `or` and brackets. `*` in a PATTERN matches any characters.");
+        println("e.g. `find (topic=SORTING or topic=LINKED_LIST) and importance=7-10 and not type=code`");
+        println();
+        println("Show how CLIAlgo finds the CS2040CFiles without finding them using:");
+        println();
+        println("    `find explain QUERY`");
+        printDivider();
+    }
+
+    /**
+     * Prints a message indicating that a change has been undone.
+     *
+     * @param name The name of the CS2040CFile that was added or removed.
+     * @param isAdd True if the undone change was an addition, false if it was a removal.
+     */
+    public void printUndoSuccess(String name, boolean isAdd) {
+        printDivider();
+        println("Undid " + (isAdd ? "adding " : "removing ") + name + ".");
         printDivider();
     }
 
+    /**
+     * Prints a message indicating that an undone change has been applied again.
+     *
+     * @param name The name of the CS2040CFile that was added or removed.
+     * @param isAdd True if the redone change was an addition, false if it was a removal.
+     */
+    public void printRedoSuccess(String name, boolean isAdd) {
+        printDivider();
+        println("Redid " + (isAdd ? "adding " : "removing ") + name + ".");
+        printDivider();
+    }
+
+    /** Prints an error message indicating that there is no change to undo. */
+    public void printNothingToUndo() {
+        printDivider();
+        println("There is nothing to undo.");
+        printDivider();
+    }
+
+    /** Prints an error message indicating that there is no change to redo. */
+    public void printNothingToRedo() {
+        printDivider();
+        println("There is nothing to redo.");
+        printDivider();
+    }
+
+    //@@author
     /** Prints an error message indicating invalid user-input. */
     public void printInvalidCommand() {
         printDivider();
-        System.out.println("This is an invalid command, please ensure all your fields are correct.");
-        System.out.println("Type 'help' for additional assistance.");
+        println("This is an invalid command, please ensure all your fields are correct.");
+        println("Type 'help' for additional assistance.");
         printDivider();
     }
 
@@ -318,151 +490,214 @@ public class Ui {
     /** Prints an error message when the user tries to remove a file whose name does not exist. */
     public void printNameNotFoundCommand() {
         printDivider();
-        System.out.println("Unsuccessful! A CS2040CFile of that name does not exist.");
-        System.out.println("Only CS2040CFiles in your list can be removed.");
-        System.out.println("Type 'list' to see CS2040CFiles you can remove.");
+        println("Unsuccessful! A CS2040CFile of that name does not exist.");
+        println("Only CS2040CFiles in your list can be removed.");
+        println("Type 'list' to see CS2040CFiles you can remove.");
         printDivider();
     }
 
     /** Prints an error message when saving data is unsuccessful. */
     public void printSaveFail() {
         printDivider();
-        System.out.println("Saving data was unsuccessful. Please try again.");
+        println("Saving data was unsuccessful. Please try again.");
         printDivider();
     }
 
     /** Prints a message indicating the start of test mode. */
     public void printTestModeStart() {
         printDivider();
-        System.out.println("Starting test mode.");
+        println("Starting test mode.");
         printDivider();
     }
 
     /** Prints a message indicating the end of test mode. */
     public void printTestModeEnd() {
         printDivider();
-        System.out.println("Ending test mode.");
+        println("Ending test mode.");
         printDivider();
     }
 
     /** Prints an error message when test mode exit failed. */
     public void printTestModeEndFail() {
         printDivider();
-        System.out.println("Unsuccessful, test mode has not been started.");
+        println("Unsuccessful, test mode has not been started.");
         printDivider();
     }
 
     /** Prints an error message indicating failure to write to file. */
     public void printFileWriteError() {
         printDivider();
-        System.out.println("File not found.");
+        println("File not found.");
         printDivider();
     }
 
     /** Prints an error message indicating failure to create folder. */
     public void printFolderCreateError() {
         printDivider();
-        System.out.println("Folder not created.");
+        println("Folder not created.");
         printDivider();
     }
 
     /** Prints an error message indicating file delete success. */
     public void printFileDeleteSuccess() {
         printDivider();
-        System.out.println("Successfully deleted file.");
+        println("Successfully deleted file.");
         printDivider();
     }
 
     /** Prints an error message indicating failure to delete the file. */
     public void printFileDeleteFail() {
         printDivider();
-        System.out.println("Unsuccessful! Delete failed.");
+        println("Unsuccessful! Delete failed.");
         printDivider();
     }
 
     /** Prints an error message indicating that CS2040CFile is invalid. */
     public void printInvalidCS2040CFile() {
         printDivider();
-        System.out.println("Invalid CS2040CFile.");
-        System.out.println("Type 'help c/add' for how to add a CS2040CFile.");
+        println("Invalid CS2040CFile.");
+        println("Type 'help c/add' for how to add a CS2040CFile.");
         printDivider();
     }
 
     /** Prints an error message to inform the user that the file does not exist. */
     public void printFileDoesNotExist() {
         printDivider();
-        System.out.println("This file does not exist.");
-        System.out.println("Please add the file into the folder and try again.");
+        println("This file does not exist.");
+        println("Please add the file into the folder and try again.");
         printDivider();
     }
 
     /** Prints the header statement when toposort is successful. */
     public void printTopoSortSuccess() {
         printDivider();
-        System.out.println("Here are the topologically sorted CS2040CFiles:");
+        println("Here are the topologically sorted CS2040CFiles:");
+        printDivider();
+    }
+
+    /** Prints a message indicating that the CS2040CFiles found by a query are printed below. */
+    public void printFindSuccess() {
+        printDivider();
+        println("Here are the CS2040CFiles matching your query:");
+        printDivider();
+    }
+
+    /** Prints a message indicating that no CS2040CFiles have an importance in the range to be filtered. */
+    public void printFilterImportanceRangeEmpty() {
+        printDivider();
+        println("There are no CS2040CFiles in this range of importance.");
+        printDivider();
+    }
+
+    /** Prints a message indicating that no CS2040CFiles match a query. */
+    public void printFindEmpty() {
+        printDivider();
+        println("No CS2040CFiles match your query.");
+        printDivider();
+    }
+
+    /**
+     * Prints the plan used to find the CS2040CFiles matching a query.
+     *
+     * @param query The query, as parsed by CLIAlgo.
+     * @param planLines The steps of the plan, each indented below the step that reads from it.
+     * @param total The number of CS2040CFiles stored in CLIAlgo.
+     */
+    public void printQueryPlan(String query, ArrayList<String> planLines, int total) {
+        printDivider();
+        println("Query: " + query);
+        println("Plan over " + total + " stored CS2040CFile(s):");
+        for (String line : planLines) {
+            println("    " + line);
+        }
+        printDivider();
+    }
+
+    /**
+     * Prints a message indicating that a query does not follow the query language.
+     *
+     * @param reason What is wrong with the query.
+     */
+    public void printInvalidQuery(String reason) {
+        printDivider();
+        println("Invalid query! " + reason);
+        println("Type `help c/find` for more information.");
+        printDivider();
+    }
+
+    /** Prints a message indicating that no CS2040CFiles are left at the end of a pipeline. */
+    public void printPipelineEmpty() {
+        printDivider();
+        println("No CS2040CFiles are left at the end of the pipeline.");
         printDivider();
     }
 
     /** Prints an error message indicating that no CS2040CFiles are in CLIAlgo. */
     public void printNoCS2040CFilesSaved() {
         printDivider();
-        System.out.println("You have no CS2040CFiles at the moment.");
+        println("You have no CS2040CFiles at the moment.");
         printDivider();
     }
 
     /** Prints a message informing the user that the file is missing from the root directory. */
     public void printFileMissing() {
         printDivider();
-        System.out.println("File missing from root directory.");
+        println("File missing from root directory.");
         printDivider();
     }
 
     /** Prints a message informing the user that the Buffer is empty. */
     public void printBufferEmpty() {
         printDivider();
-        System.out.println("You have no CS2040CFiles in the buffer.");
+        println("You have no CS2040CFiles in the buffer.");
         printDivider();
     }
 
     /** Prints a message informing the user that the export operation was successful. */
     public void printExportSuccess() {
         printDivider();
-        System.out.println("Successfully exported file(s).");
+        println("Successfully exported file(s).");
         printDivider();
     }
 
     /** Prints an error message indicating the input in the importance field is in the invalid range. */
     public void printInvalidImportance(String importance) {
         printDivider();
-        System.out.println(importance + " is not in the valid 1-10 range for importance.");
+        println(importance + " is not in the valid 1-10 range for importance.");
         printDivider();
     }
 
     /** Prints a message to the user if the keyword entered after the `k/` field is neither topic nor importance. */
     public void printInvalidFilterKeyword() {
         printDivider();
-        System.out.println("Invalid keyword! Only `topic` and `importance` are supported keywords.");
-        System.out.println("Type `help c/filter for more information.");
+        println("Invalid keyword! Only `topic`, `importance` and `type` are supported keywords.");
+        println("Type `help c/filter for more information.");
         printDivider();
     }
 
     /** Prints a message to the user if the keyword entered after the `c/` field is not a valid help extension. */
     public void printHelpPrompt() {
         printDivider();
-        System.out.println("The extension entered after `c/` is not supported.");
-        System.out.println("Type `help` for a list of supported help extensions.");
+        println("The extension entered after `c/` is not supported.");
+        println("Type `help` for a list of supported help extensions.");
         printDivider();
     }
 
     public void printAllFilesWithImportance(ArrayList<CS2040CFile> cs2040cFiles) {
-        int serialNumber = SERIAL_NUMBER_START;
+        printAllFilesWithImportance(cs2040cFiles, SERIAL_NUMBER_START);
+    }
+
+    /**
+     * Prints the CS2040CFiles from a provided List together with their importance, with the index starting from a
+     * given serial number.
+     *
+     * @param cs2040cFiles A List containing the CS2040CFiles to be printed.
+     * @param firstSerialNumber The serial number of the first CS2040CFile printed.
+     */
+    public void printAllFilesWithImportance(List<CS2040CFile> cs2040cFiles, int firstSerialNumber) {
+        int serialNumber = firstSerialNumber;
         for (CS2040CFile cs2040cFile : cs2040cFiles) {
-            String cs2040cFileType = NOTE_LABEL;
-            if (cs2040cFile instanceof Code) {
-                cs2040cFileType = CODE_LABEL;
-            }
-            System.out.println(serialNumber + ". " + cs2040cFileType + cs2040cFile.getName()
-                    + " [" + cs2040cFile.getImportance() + "]");
+            println(serialNumber + ". " + cs2040cFile.getLabel() + " [" + cs2040cFile.getImportance() + "]");
             ++serialNumber;
         }
         printDivider();
@@ -479,14 +714,48 @@ public class Ui {
         assert !cs2040cFiles.isEmpty();
         int serialNumber = SERIAL_NUMBER_START;
         for (String cs2040cFile : cs2040cFiles) {
-            System.out.println(serialNumber + ". " + cs2040cFile);
+            println(serialNumber + ". " + cs2040cFile);
             serialNumber++;
         }
     }
 
+    /**
+     * Prints a single CS2040CFile with its label and serial number.
+     *
+     * @param serialNumber The serial number of the CS2040CFile in the listing.
+     * @param cs2040cFile The CS2040CFile to be printed.
+     */
+    public void printCS2040CFile(int serialNumber, CS2040CFile cs2040cFile) {
+        assert serialNumber >= SERIAL_NUMBER_START;
+        println(serialNumber + ". " + cs2040cFile.getLabel());
+    }
+
+    /**
+     * Prints the number of CS2040CFiles in a listing.
+     *
+     * @param count The number of CS2040CFiles.
+     */
+    public void printCS2040CFileCount(int count) {
+        printDivider();
+        if (count == 1) {
+            println("There is " + count + " CS2040CFile.");
+        } else {
+            println("There are " + count + " CS2040CFiles.");
+        }
+        printDivider();
+    }
+
+    /** Prints an error message when the selected page does not contain any CS2040CFiles. */
+    public void printPageOutOfRange() {
+        printDivider();
+        println("There are no CS2040CFiles on this page.");
+        println("Type `<command> count` to see how many CS2040CFiles there are.");
+        printDivider();
+    }
+
     /** Prints the topic name enclosed with brackets. */
     public void printWithBox(String topicName) {
-        System.out.println("[" + topicName + "]");
+        println("[" + topicName + "]");
     }
 
     //@@author ong-ck
@@ -502,7 +771,7 @@ public class Ui {
         assert currentSerialNumber >= SERIAL_NUMBER_START;
         int serialNumber = currentSerialNumber;
         for (String cs2040cFile : cs2040cFiles) {
-            System.out.println(serialNumber + ". " + cs2040cFile);
+            println(serialNumber + ". " + cs2040cFile);
             serialNumber++;
         }
         return serialNumber;
@@ -511,30 +780,174 @@ public class Ui {
 
     public void printOpenFolderNotSupported () {
         printDivider();
-        System.out.println("Your OS does not support `export`.");
-        System.out.println("Try opening the folder manually.");
+        println("Your OS does not support `export`.");
+        println("Try opening the folder manually.");
         printDivider();
     }
 
     public void printFolderMissing () {
         printDivider();
-        System.out.println("The export folder seems to be missing.");
-        System.out.println("The export folder has been recreated.");
-        System.out.println("Try the `export` command again.");
+        println("The export folder seems to be missing.");
+        println("The export folder has been recreated.");
+        println("Try the `export` command again.");
         printDivider();
     }
 
     public void printCorruptedFileDiscarded(int corruptCount, String name) {
         printDivider();
         if (corruptCount == 1) {
-            System.out.println(corruptCount + " corrupted save entry detected in " + name + ".txt.");
+            println(corruptCount + " corrupted save entry detected in " + name + ".txt.");
+        } else {
+            println(corruptCount + " corrupted entries detected in " + name + ".txt.");
+        }
+        println("Note that the corrupted entries are discarded!");
+        printDivider();
+    }
+
+    //@@author heejet
+    /**
+     * Prints a warning that corrupted entries were found in a .txt file and moved to a quarantine file.
+     *
+     * @param corruptCount The number of corrupted entries.
+     * @param fileName The name of the data file which held the corrupted entries.
+     * @param quarantineFileName The name of the file that the corrupted entries were moved to.
+     */
+    public void printCorruptedEntriesQuarantined(int corruptCount, String fileName, String quarantineFileName) {
+        printDivider();
+        if (corruptCount == 1) {
+            println(corruptCount + " corrupted save entry detected in " + fileName + ".");
         } else {
-            System.out.println(corruptCount + " corrupted entries detected in " + name + ".txt.");
+            println(corruptCount + " corrupted entries detected in " + fileName + ".");
+        }
+        println("The corrupted entries are moved to " + quarantineFileName + ".");
+        printDivider();
+    }
+
+    /**
+     * Prints a warning that a data file does not match its checksum, which happens when CLIAlgo stopped while the
+     * file was being written.
+     *
+     * @param fileName The name of the data file which does not match its checksum.
+     */
+    public void printChecksumMismatch(String fileName) {
+        printDivider();
+        println(fileName + " was not completely saved the last time CLIAlgo was used.");
+        println("Only the entries that could be read are kept.");
+        printDivider();
+    }
+
+    /**
+     * Prints the time taken by each phase of the startup of CLIAlgo, with the records, bytes and file stat calls it
+     * processed. Phases started within another phase are indented below it.
+     *
+     * @param phases The phases of the startup in the order they were started.
+     */
+    public void printStartupProfile(List<StartupPhase> phases) {
+        printDivider();
+        println("Startup profile:");
+        for (StartupPhase phase : phases) {
+            String name = "  ".repeat(phase.getDepth()) + phase.getName();
+            println(String.format("%-48s %9.3f ms %6d records %9d bytes %5d stat calls", name,
+                    phase.getDurationNanos() / 1e6, phase.getRecords(), phase.getBytes(), phase.getStatCalls()));
+        }
+        printDivider();
+    }
+
+    /**
+     * Prints the latency percentiles, mean allocated bytes and I/O operations of each kind of command executed.
+     *
+     * @param allStats The metrics of each kind of command, sorted by name.
+     */
+    public void printCommandStats(List<CommandStats> allStats) {
+        printDivider();
+        if (allStats.isEmpty()) {
+            println("No commands have been executed yet.");
+            printDivider();
+            return;
+        }
+        println(String.format("%-26s %6s %10s %10s %10s %10s %12s %6s", "Command", "Count", "p50 ms", "p90 ms",
+                "p99 ms", "Max ms", "Alloc bytes", "I/O"));
+        for (CommandStats commandStats : allStats) {
+            LatencyHistogram latencies = commandStats.getLatencies();
+            long allocatedBytes = commandStats.getMeanAllocatedBytes();
+            println(String.format("%-26s %6d %10.3f %10.3f %10.3f %10.3f %12s %6d", commandStats.getCommandName(),
+                    latencies.getTotalCount(), latencies.getPercentile(50) / 1e6, latencies.getPercentile(90) / 1e6,
+                    latencies.getPercentile(99) / 1e6, latencies.getMaxValue() / 1e6,
+                    allocatedBytes < 0 ? "-" : String.valueOf(allocatedBytes), commandStats.getIoOperations()));
         }
-        System.out.println("Note that the corrupted entries are discarded!");
         printDivider();
     }
 
+    /**
+     * Prints a message informing the user that the command metrics will be written to a file when CLIAlgo exits.
+     *
+     * @param filePath The path of the file.
+     */
+    public void printStatsDumpSet(String filePath) {
+        printDivider();
+        println("The command stats will be written to " + filePath + " when CLIAlgo exits.");
+        printDivider();
+    }
+
+    /**
+     * Prints a message informing the user that the command metrics could not be written to a file.
+     *
+     * @param filePath The path of the file.
+     */
+    public void printStatsDumpFail(String filePath) {
+        printDivider();
+        println("The command stats could not be written to " + filePath + ".");
+        printDivider();
+    }
+
+    /**
+     * Prints a message informing the user that CLIAlgo is serving commands from clients.
+     *
+     * @param port The localhost port that the server listens on.
+     */
+    public void printServerStarted(int port) {
+        printDivider();
+        println("CLIAlgo is now serving commands on localhost port " + port + ".");
+        println("Connect to it using `java -jar clialgo.jar --client --port " + port + "`.");
+        printDivider();
+    }
+
+    /**
+     * Prints an error message when the server cannot listen on the given port.
+     *
+     * @param port The localhost port that the server tried to listen on.
+     */
+    public void printServerStartFail(int port) {
+        printDivider();
+        println("Unable to serve commands on localhost port " + port + ".");
+        println("Check that no other program is using the port and try again.");
+        printDivider();
+    }
+
+    /**
+     * Prints an error message when a client of a CLIAlgo server tries to start or exit test mode, which would change
+     * whether the changes of every client are saved.
+     */
+    public void printTestModeNotServed() {
+        printDivider();
+        println("Test mode cannot be started or exited while CLIAlgo is serving commands.");
+        println("It would stop or start saving the changes of every connected client.");
+        printDivider();
+    }
+
+    /**
+     * Prints an error message when the client cannot reach a CLIAlgo server.
+     *
+     * @param port The localhost port that the client tried to connect to.
+     */
+    public void printServerNotFound(int port) {
+        printDivider();
+        println("Unable to connect to CLIAlgo on localhost port " + port + ".");
+        println("Start the server using `java -jar clialgo.jar --server --port " + port + "` first.");
+        printDivider();
+    }
+    //@@author
+
     public static void printDeleteSuccess() {
         System.out.println("Delete successful.");
     }
@@ -545,8 +958,8 @@ public class Ui {
 
     public void printSecurityDenied() {
         printDivider();
-        System.out.println("Permissions denied by security manager!");
-        System.out.println("Check your security manager!");
+        println("Permissions denied by security manager!");
+        println("Check your security manager!");
         printDivider();
     }
 
@@ -4,7 +4,8 @@ import seedu.clialgo.Buffer;
 import seedu.clialgo.logic.TopicManager;
 import seedu.clialgo.Ui;
 import seedu.clialgo.file.Code;
-import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.storage.JournalEntry;
+import seedu.clialgo.storage.Storage;
 
 import java.util.Objects;
 
@@ -27,15 +28,15 @@ public class AddCodeCommand extends AddCommand {
      *
      * @param topicManager The <code>TopicManager</code> object which handles all files stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
-     * @param fileManager The <code>FileManager</code> object responsible for saving information in CLIAlgo.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
      * @param buffer The object responsible to export filtered files.
      */
     @Override
-    public void execute(TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+    public void execute(TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
         String codePath = name + CODE_FILE_EXTENSION;
-        fileManager.recreateAll();
+        storage.recreateAll();
         Code newCode = new Code(name, codePath, topic, importance);
-        boolean isAddedToFile = fileManager.addEntry(name, newCode);
+        boolean isAddedToFile = storage.addEntry(name, newCode);
 
         if (!isAddedToFile) {
             return;
@@ -44,8 +45,10 @@ public class AddCodeCommand extends AddCommand {
         boolean isAdded = topicManager.addCS2040CFile(name, topic, newCode);
 
         if (!isAdded) {
-            new InvalidCommand().execute(topicManager, ui, fileManager, buffer);
+            new InvalidCommand().execute(topicManager, ui, storage, buffer);
+            return;
         }
+        storage.getJournal().record(JournalEntry.ofAdd(name, newCode));
     }
 
     /**
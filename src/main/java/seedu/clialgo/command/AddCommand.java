@@ -6,7 +6,7 @@ import java.io.File;
 import seedu.clialgo.Buffer;
 import seedu.clialgo.FileType;
 import seedu.clialgo.logic.TopicManager;
-import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.storage.Storage;
 import seedu.clialgo.Ui;
 
 //@@author ong-ck
@@ -85,11 +85,11 @@ public class AddCommand extends Command {
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
-     * @param fileManager The <code>FileManager</code> object responsible for saving information in CLIAlgo.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
      * @param buffer The object responsible to export filtered files.
      */
     @Override
-    public void execute(TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+    public void execute(TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
         boolean isTestModeOn = topicManager.getIsTestModeOn();
 
         // Check if the file exists
@@ -99,7 +99,7 @@ public class AddCommand extends Command {
         }
         // Check if topicName is valid
         if (!topicManager.isValidTopic(topic)) {
-            new InvalidTopicCommand(topic).execute(topicManager, ui, fileManager, buffer);
+            new InvalidTopicCommand(topic).execute(topicManager, ui, storage, buffer);
             return;
         }
         // Check if the note is repeated
@@ -110,11 +110,11 @@ public class AddCommand extends Command {
         }
 
         if (checkFileType() == FileType.TXT) {
-            new AddNoteCommand(name, topic, importance).execute(topicManager, ui, fileManager, buffer);
+            new AddNoteCommand(name, topic, importance).execute(topicManager, ui, storage, buffer);
         } else if (checkFileType() == FileType.CPP) {
-            new AddCodeCommand(name, topic, importance).execute(topicManager, ui, fileManager, buffer);
+            new AddCodeCommand(name, topic, importance).execute(topicManager, ui, storage, buffer);
         } else if (checkFileType() == FileType.DOESNOTEXIST && isTestModeOn) {
-            new AddNoteCommand(name, topic, importance).execute(topicManager, ui, fileManager, buffer);
+            new AddNoteCommand(name, topic, importance).execute(topicManager, ui, storage, buffer);
         }
 
         assert this.topic != null;
@@ -3,7 +3,8 @@ package seedu.clialgo.command;
 import seedu.clialgo.Buffer;
 import seedu.clialgo.logic.TopicManager;
 import seedu.clialgo.Ui;
-import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.storage.JournalEntry;
+import seedu.clialgo.storage.Storage;
 import seedu.clialgo.file.Note;
 
 import java.util.Objects;
@@ -26,15 +27,15 @@ public class AddNoteCommand extends AddCommand {
      *
      * @param topicManager The <code>TopicManager</code> object which handles all files stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
-     * @param fileManager The <code>FileManager</code> object responsible for saving information in CLIAlgo.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
      * @param buffer The object responsible to export filtered files.
      */
     @Override
-    public void execute(TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+    public void execute(TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
         String notePath = name + NOTE_FILE_EXTENSION;
-        fileManager.recreateAll();
+        storage.recreateAll();
         Note newNote = new Note(name, notePath, topic, importance);
-        boolean isAddedToFile = fileManager.addEntry(name, newNote);
+        boolean isAddedToFile = storage.addEntry(name, newNote);
 
         //  Check if note is successfully added to data file
         if (!isAddedToFile) {
@@ -45,8 +46,10 @@ public class AddNoteCommand extends AddCommand {
 
         // Check if added -> execute invalid command if note is not added
         if (!isAdded) {
-            new InvalidCommand().execute(topicManager, ui, fileManager, buffer);
+            new InvalidCommand().execute(topicManager, ui, storage, buffer);
+            return;
         }
+        storage.getJournal().record(JournalEntry.ofAdd(name, newNote));
     }
 
     /**
@@ -2,7 +2,7 @@ package seedu.clialgo.command;
 
 import seedu.clialgo.Buffer;
 import seedu.clialgo.logic.TopicManager;
-import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.storage.Storage;
 import seedu.clialgo.Ui;
 
 /**
@@ -17,10 +17,10 @@ public abstract class Command {
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
-     * @param fileManager The <code>FileManager</code> object responsible for saving information in CLIAlgo.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
      * @param buffer The object responsible to export filtered files.
      */
-    public abstract void execute(TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer);
+    public abstract void execute(TopicManager topicManager, Ui ui, Storage storage, Buffer buffer);
 
     /**
      * A method to be overridden by the subclasses to check for equality of the instantiated objects.
@@ -29,4 +29,15 @@ public abstract class Command {
      * @return A boolean value to determine whether the commands are equal.
      */
     public abstract boolean equals(Command otherCommand);
+
+    //@@author heejet
+    /**
+     * Checks if this command leaves the CS2040CFiles and the saved data of CLIAlgo unchanged. Such commands only read
+     * from the <code>TopicManager</code>, so they may be executed while other commands are running.
+     *
+     * @return True if this command does not change any CS2040CFile, false otherwise.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
 }
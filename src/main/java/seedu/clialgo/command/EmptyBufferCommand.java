@@ -3,7 +3,7 @@ package seedu.clialgo.command;
 import seedu.clialgo.Buffer;
 import seedu.clialgo.logic.TopicManager;
 import seedu.clialgo.Ui;
-import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.storage.Storage;
 
 public class EmptyBufferCommand extends Command {
     /**
@@ -11,11 +11,11 @@ public class EmptyBufferCommand extends Command {
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
-     * @param fileManager The <code>FileManager</code> object responsible for saving information in CLIAlgo.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
      * @param buffer The <code>Buffer</code> object responsible to export filtered files.
      */
     @Override
-    public void execute(TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+    public void execute(TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
         ui.printBufferEmpty();
     }
 
@@ -2,27 +2,41 @@ package seedu.clialgo.command;
 
 import seedu.clialgo.Buffer;
 import seedu.clialgo.logic.TopicManager;
-import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.profile.MetricsRegistry;
+import seedu.clialgo.storage.Storage;
 
 import seedu.clialgo.Ui;
 
+import java.io.IOException;
+
 /**
  * Represents an executable command. A <code>ExitCommand</code> object is created whenever the
  * user decides to exit the program.
  */
 public class ExitCommand extends Command {
     /**
-     * This method closes the scanner and closes the program.
+     * This method closes the scanner and closes the program once any data file still being rewritten is saved. The
+     * command metrics are written to a file first if <code>stats f/FILE_PATH</code> asked for them.
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
-     * @param fileManager The <code>FileManager</code> object responsible for saving information in CLIAlgo.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
      * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
      */
     @Override
-    public void execute (TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+    public void execute (TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
+        try {
+            MetricsRegistry.getInstance().dumpIfRequested();
+        } catch (IOException e) {
+            ui.printStatsDumpFail(MetricsRegistry.getInstance().getDumpFile().getPath());
+        }
         ui.printExitMessage();
         ui.closeScanner();
+        try {
+            storage.awaitRewrite();
+        } catch (InterruptedException e) {
+            // The rewrite replaces each data file in a single step, so stopping early only leaves the old file.
+        }
         System.exit(0);
     }
 
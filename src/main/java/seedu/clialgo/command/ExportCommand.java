@@ -1,29 +1,68 @@
 package seedu.clialgo.command;
 
 import seedu.clialgo.Buffer;
+import seedu.clialgo.file.CS2040CFile;
 import seedu.clialgo.logic.TopicManager;
 import seedu.clialgo.Ui;
-import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.storage.Storage;
+
+import java.util.ArrayList;
+import java.util.stream.Stream;
 
 //@@author lohjooh
-public class ExportCommand extends Command {
+public class ExportCommand extends Command implements PipelineStage {
 
     /**
      * Exports the files currently stored in the buffer
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
-     * @param fileManager The <code>FileManager</code> object responsible for saving information in CLIAlgo.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
      * @param buffer The <code>Buffer</code> object responsible to export filtered files.
      */
-    public void execute (TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+    public void execute (TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
         if (buffer.isEmpty()) {
-            new EmptyBufferCommand().execute(topicManager, ui, fileManager, buffer);
+            new EmptyBufferCommand().execute(topicManager, ui, storage, buffer);
             return;
         }
         ui.printExportSuccess();
         buffer.exportBuffer();
     }
+
+    //@@author heejet
+    /**
+     * Passes the CS2040CFiles of the previous stage on unchanged, since exporting is always the last stage.
+     *
+     * @param input The CS2040CFiles from the previous stage.
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @return The same CS2040CFiles.
+     */
+    @Override
+    public Stream<CS2040CFile> pipe(Stream<CS2040CFile> input, TopicManager topicManager, Ui ui) {
+        assert input != null : "Exporting cannot be the first stage of a pipeline";
+        return input;
+    }
+
+    /**
+     * Stores the CS2040CFiles at the end of a pipeline in the <code>Buffer</code> and exports them.
+     *
+     * @param files The CS2040CFiles that reached the end of the pipeline.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
+     */
+    @Override
+    public void finish(ArrayList<CS2040CFile> files, Ui ui, Buffer buffer) {
+        buffer.updateBuffer(files);
+        if (files.isEmpty()) {
+            ui.printBufferEmpty();
+            return;
+        }
+        ui.printExportSuccess();
+        buffer.exportBuffer();
+    }
+
+    //@@author lohjooh
     /**
      * An overridden method that checks for equality of <code>ExportCommand </code> objects.
      *
@@ -5,11 +5,12 @@ import seedu.clialgo.logic.Topic;
 import seedu.clialgo.logic.TopicManager;
 import seedu.clialgo.Ui;
 import seedu.clialgo.file.CS2040CFile;
-import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.storage.Storage;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 //@@author nikkiDEEE
 /**
@@ -36,31 +37,100 @@ public class FilterByImportanceCommand extends FilterCommand {
     }
 
     /**
-     * This method prints all the CS2040CFiles stored across all non-empty topics in CLIAlgo.
+     * Constructor for command to filter CS2040CFiles by importance and print a page of the filtered listing.
+     *
+     * @param keyWord The keyword to filter by.
+     * @param topic The topic that this file is tagged to.
+     * @param paging The part of the filtered listing to be printed.
+     */
+    public FilterByImportanceCommand(String keyWord, String topic, Paging paging) {
+        super(keyWord, topic, paging);
+    }
+
+    //@@author heejet
+    /**
+     * Constructor for command to filter CS2040CFiles in a range of importance and print a page of the filtered
+     * listing.
+     *
+     * @param keyWord The keyword to filter by.
+     * @param topic The topic that this file is tagged to.
+     * @param minImportance The lowest importance of the CS2040CFiles kept.
+     * @param maxImportance The highest importance of the CS2040CFiles kept.
+     * @param paging The part of the filtered listing to be printed.
+     */
+    public FilterByImportanceCommand(String keyWord, String topic, int minImportance, int maxImportance,
+            Paging paging) {
+        super(keyWord, topic, minImportance, maxImportance, paging);
+    }
+    //@@author nikkiDEEE
+
+    /**
+     * Prints the CS2040CFiles on the selected page of a listing that is already sorted by importance.
+     *
+     * @param cs2040cFiles The sorted listing.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     */
+    private void printPage(ArrayList<CS2040CFile> cs2040cFiles, Ui ui) {
+        int firstIndex = paging.getFirstIndex();
+        int endIndex = paging.getEndIndex(cs2040cFiles.size());
+        ui.printAllFilesWithImportance(cs2040cFiles.subList(firstIndex, endIndex), firstIndex + 1);
+    }
+
+    /**
+     * This method prints all the CS2040CFiles in the range of importance stored across all non-empty topics in
+     * CLIAlgo. The CS2040CFiles are read from the importance index already in decreasing order of importance.
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @return The CS2040CFiles in the range of importance.
      */
-    public void printAllTopics(TopicManager topicManager, Ui ui) {
-        ArrayList<CS2040CFile> cs2040cFiles = topicManager.getAllFilesAsFiles();
+    public ArrayList<CS2040CFile> printAllTopics(TopicManager topicManager, Ui ui) {
+        ArrayList<CS2040CFile> cs2040cFiles = topicManager.streamByImportance(minImportance, maxImportance)
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (paging.isCountOnly()) {
+            ui.printCS2040CFileCount(cs2040cFiles.size());
+            return cs2040cFiles;
+        }
+        if (cs2040cFiles.isEmpty()) {
+            ui.printFilterImportanceRangeEmpty();
+            return cs2040cFiles;
+        }
+        if (paging.isOutOfRange(cs2040cFiles.size())) {
+            ui.printPageOutOfRange();
+            return cs2040cFiles;
+        }
         ui.printFilterSuccess();
-        cs2040cFiles.sort(importanceLevel);
-        ui.printAllFilesWithImportance(cs2040cFiles);
+        printPage(cs2040cFiles, ui);
+        return cs2040cFiles;
     }
 
     /**
-     * This method prints all the CS2040CFile stored in a single specified topic.
+     * This method prints all the CS2040CFile in the range of importance stored in a single specified topic.
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @return The CS2040CFiles of the topic in the range of importance.
      */
-    public void printSingleTopic(TopicManager topicManager, Ui ui) {
+    public ArrayList<CS2040CFile> printSingleTopic(TopicManager topicManager, Ui ui) {
         Topic selectedTopic = topicManager.getOneTopic(this.topic);
-        ArrayList<CS2040CFile> cs2040cFiles = selectedTopic.getCS2040CFilesAsArray();
+        ArrayList<CS2040CFile> cs2040cFiles = selectedTopic.streamByImportance(minImportance, maxImportance)
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (paging.isCountOnly()) {
+            ui.printCS2040CFileCount(cs2040cFiles.size());
+            return cs2040cFiles;
+        }
+        if (cs2040cFiles.isEmpty()) {
+            ui.printFilterImportanceRangeEmpty();
+            return cs2040cFiles;
+        }
+        if (paging.isOutOfRange(cs2040cFiles.size())) {
+            ui.printPageOutOfRange();
+            return cs2040cFiles;
+        }
         ui.printFilterSuccess();
         ui.printWithBox(this.topic);
-        cs2040cFiles.sort(importanceLevel);
-        ui.printAllFilesWithImportance(cs2040cFiles);
+        printPage(cs2040cFiles, ui);
+        return cs2040cFiles;
     }
 
     /**
@@ -70,11 +140,11 @@ public class FilterByImportanceCommand extends FilterCommand {
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
-     * @param fileManager The <code>FileManager</code> object responsible for saving information in CLIAlgo.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
      * @param buffer The object responsible to export filtered files.
      */
     @Override
-    public void execute(TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+    public void execute(TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
         if (topicManager.isEmpty()) {
             ui.printFilterAllTopicsEmpty();
             ArrayList<CS2040CFile> emptyBuffer = new ArrayList<>();
@@ -82,12 +152,11 @@ public class FilterByImportanceCommand extends FilterCommand {
             return;
         }
         if (this.topic == null) {
-            printAllTopics(topicManager, ui);
-            buffer.updateBuffer(topicManager.getAllFilesAsFiles());
+            buffer.updateBuffer(printAllTopics(topicManager, ui));
             return;
         }
         if (!topicManager.isValidTopic(this.topic)) {
-            new InvalidTopicCommand(this.topic).execute(topicManager, ui, fileManager, buffer);
+            new InvalidTopicCommand(this.topic).execute(topicManager, ui, storage, buffer);
             return;
         }
         if (topicManager.isTopicEmpty(this.topic)) {
@@ -95,10 +164,7 @@ public class FilterByImportanceCommand extends FilterCommand {
             buffer.updateBuffer(new ArrayList<>());
             return;
         }
-        printSingleTopic(topicManager, ui);
-        Topic topic = topicManager.getOneTopic(this.topic);
-        ArrayList<CS2040CFile> files = topic.getCS2040CFilesAsArray();
-        buffer.updateBuffer(files);
+        buffer.updateBuffer(printSingleTopic(topicManager, ui));
     }
 
     /**
@@ -112,6 +178,9 @@ public class FilterByImportanceCommand extends FilterCommand {
         FilterByImportanceCommand otherFilterByImportanceCommand = (FilterByImportanceCommand) otherCommand;
 
         return Objects.equals(this.keyWord, otherFilterByImportanceCommand.keyWord) &&
-                Objects.equals(this.topic, otherFilterByImportanceCommand.topic);
+                Objects.equals(this.topic, otherFilterByImportanceCommand.topic) &&
+                this.paging.equals(otherFilterByImportanceCommand.paging) &&
+                this.minImportance == otherFilterByImportanceCommand.minImportance &&
+                this.maxImportance == otherFilterByImportanceCommand.maxImportance;
     }
 }
@@ -5,11 +5,9 @@ import seedu.clialgo.logic.Topic;
 import seedu.clialgo.logic.TopicManager;
 import seedu.clialgo.Ui;
 import seedu.clialgo.file.CS2040CFile;
-import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.storage.Storage;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 
 //@@author heejet
@@ -22,35 +20,55 @@ public class FilterByTopicCommand extends FilterCommand {
         super(keyWord, topic);
     }
 
+    public FilterByTopicCommand(String keyWord, String topic, Paging paging) {
+        super(keyWord, topic, paging);
+    }
+
     /**
-     * This method prints all the CS2040CFiles stored across all non-empty topics in CLIAlgo.
+     * This method prints all the CS2040CFiles stored across all non-empty topics in CLIAlgo, or only those on the
+     * selected page. The CS2040CFiles are streamed from each <code>Topic</code> without building a list of labels.
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
      */
     private void printAllTopics(TopicManager topicManager, Ui ui) {
-        HashMap<String, ArrayList<String>> cs2040cFiles = topicManager.getAllCS2040CFilesGroupedByTopicToPrint();
+        if (paging.isCountOnly()) {
+            ui.printCS2040CFileCount(topicManager.size());
+            return;
+        }
+        if (paging.isOutOfRange(topicManager.size())) {
+            ui.printPageOutOfRange();
+            return;
+        }
         ui.printFilterSuccess();
-        for (Map.Entry<String, ArrayList<String>> entry : cs2040cFiles.entrySet()) {
-            ArrayList<String> currentTopicCS2040CFiles = entry.getValue();
-            String topicName = entry.getKey();
-            ui.printWithBox(topicName);
-            ui.printListOfCS2040CFiles(currentTopicCS2040CFiles);
+        PagedPrinter printer = new PagedPrinter(ui, paging);
+        for (Topic topic : topicManager.getTopicsView()) {
+            if (printer.isDone()) {
+                break;
+            }
+            printer.printTopic(topic, true, true);
         }
         ui.printDivider();
     }
 
     /**
-     * This method prints all the CS2040CFile stored in a single specified topic.
+     * This method prints all the CS2040CFile stored in a single specified topic, or only those on the selected page.
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
      */
     private void printSingleTopic(TopicManager topicManager, Ui ui) {
-        ArrayList<String> toPrintCS2040CFiles = topicManager.getCS2040CFilesByTopicToPrint(this.topic);
+        Topic selectedTopic = topicManager.getOneTopic(this.topic);
+        if (paging.isCountOnly()) {
+            ui.printCS2040CFileCount(selectedTopic.size());
+            return;
+        }
+        if (paging.isOutOfRange(selectedTopic.size())) {
+            ui.printPageOutOfRange();
+            return;
+        }
         ui.printFilterSuccess();
-        ui.printWithBox(this.topic);
-        ui.printListOfCS2040CFiles(toPrintCS2040CFiles);
+        new PagedPrinter(ui, paging).printTopic(selectedTopic, true, true);
         ui.printDivider();
     }
 
@@ -61,11 +79,11 @@ public class FilterByTopicCommand extends FilterCommand {
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
-     * @param fileManager The <code>FileManager</code> object responsible for saving information in CLIAlgo.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
      * @param buffer The object responsible to export filtered files.
      */
     @Override
-    public void execute (TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+    public void execute (TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
         if (topicManager.isEmpty()) {
             ui.printFilterAllTopicsEmpty();
             ArrayList<CS2040CFile> emptyBuffer = new ArrayList<>();
@@ -74,11 +92,11 @@ public class FilterByTopicCommand extends FilterCommand {
         }
         if (this.topic == null) {
             printAllTopics(topicManager, ui);
-            buffer.updateBuffer(topicManager.getAllFilesAsFiles());
+            buffer.updateBuffer(topicManager.getAllFiles());
             return;
         }
         if (!topicManager.isValidTopic(this.topic)) {
-            new InvalidTopicCommand(this.topic).execute(topicManager, ui, fileManager, buffer);
+            new InvalidTopicCommand(this.topic).execute(topicManager, ui, storage, buffer);
             return;
         }
         if (topicManager.isTopicEmpty(this.topic)) {
@@ -87,9 +105,7 @@ public class FilterByTopicCommand extends FilterCommand {
             return;
         }
         printSingleTopic(topicManager, ui);
-        Topic topic = topicManager.getOneTopic(this.topic);
-        ArrayList<CS2040CFile> files = topic.getCS2040CFilesAsArray();
-        buffer.updateBuffer(files);
+        buffer.updateBuffer(topicManager.getOneTopic(this.topic).getCS2040CFiles());
     }
 
     @Override
@@ -98,6 +114,7 @@ public class FilterByTopicCommand extends FilterCommand {
 
         boolean isSameKeyword = Objects.equals(this.keyWord, otherFilterCommand.keyWord);
         boolean isSameTopic = Objects.equals(this.topic, otherFilterCommand.topic);
-        return isSameKeyword && isSameTopic;
+        boolean isSamePaging = this.paging.equals(otherFilterCommand.paging);
+        return isSameKeyword && isSameTopic && isSamePaging;
     }
 }
@@ -0,0 +1,126 @@
+package seedu.clialgo.command;
+
+import seedu.clialgo.Buffer;
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.Topic;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.storage.Storage;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+//@@author heejet
+/**
+ * Represents an executable command from the user. A <code>FilterByTypeCommand</code> prints out the code files and
+ * then the notes, reading each type from the type index of the topics so that no CS2040CFile is checked for its type.
+ */
+public class FilterByTypeCommand extends FilterCommand {
+    private static final String CODE_GROUP = "CODE";
+    private static final String NOTE_GROUP = "NOTE";
+
+    public FilterByTypeCommand(String keyWord, String topic) {
+        super(keyWord, topic);
+    }
+
+    public FilterByTypeCommand(String keyWord, String topic, Paging paging) {
+        super(keyWord, topic, paging);
+    }
+
+    /**
+     * Counts the CS2040CFiles of one type in <code>topic</code>, or in all topics if no topic is given.
+     *
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param isCode True to count the code files, false to count the notes.
+     * @return The number of CS2040CFiles of the type.
+     */
+    private int countOfType(TopicManager topicManager, boolean isCode) {
+        if (topic == null) {
+            return topicManager.countByType(isCode);
+        }
+        return topicManager.getOneTopic(topic).countOfType(isCode);
+    }
+
+    /**
+     * Streams the CS2040CFiles of one type in <code>topic</code>, or in all topics if no topic is given.
+     *
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param isCode True to stream the code files, false to stream the notes.
+     * @return A lazy stream over the CS2040CFiles of the type.
+     */
+    private Stream<CS2040CFile> streamOfType(TopicManager topicManager, boolean isCode) {
+        if (topic == null) {
+            return topicManager.streamByType(isCode);
+        }
+        Topic selectedTopic = topicManager.getOneTopic(topic);
+        return selectedTopic.getCS2040CFilesOfType(isCode).stream();
+    }
+
+    /**
+     * Prints the code files and then the notes on the selected page, each type under its own box.
+     *
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     */
+    private void printTypes(TopicManager topicManager, Ui ui) {
+        int codeCount = countOfType(topicManager, true);
+        int noteCount = countOfType(topicManager, false);
+        if (paging.isCountOnly()) {
+            ui.printCS2040CFileCount(codeCount + noteCount);
+            return;
+        }
+        if (paging.isOutOfRange(codeCount + noteCount)) {
+            ui.printPageOutOfRange();
+            return;
+        }
+        ui.printFilterSuccess();
+        PagedPrinter printer = new PagedPrinter(ui, paging);
+        printer.printGroup(CODE_GROUP, codeCount, streamOfType(topicManager, true).iterator(), true, true);
+        printer.printGroup(NOTE_GROUP, noteCount, streamOfType(topicManager, false).iterator(), true, true);
+        ui.printDivider();
+    }
+
+    /**
+     * Prints the CS2040CFile stored in all topics or just a single topic grouped by type, and stores them in the
+     * <code>Buffer</code> with the code files first.
+     * If there are no CS2040CFiles stored in CLIAlgo or in the given topic, it prints a string to inform the user.
+     * If an invalid topic is given, it prints a string to inform the reader.
+     *
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
+     * @param buffer The object responsible to export filtered files.
+     */
+    @Override
+    public void execute(TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
+        if (topicManager.isEmpty()) {
+            ui.printFilterAllTopicsEmpty();
+            buffer.updateBuffer(new ArrayList<>());
+            return;
+        }
+        if (this.topic != null && !topicManager.isValidTopic(this.topic)) {
+            new InvalidTopicCommand(this.topic).execute(topicManager, ui, storage, buffer);
+            return;
+        }
+        if (this.topic != null && topicManager.isTopicEmpty(this.topic)) {
+            ui.printFilterTopicEmpty();
+            buffer.updateBuffer(new ArrayList<>());
+            return;
+        }
+        printTypes(topicManager, ui);
+        buffer.updateBuffer(Stream.concat(streamOfType(topicManager, true), streamOfType(topicManager, false))
+                .collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    @Override
+    public boolean equals(Command otherCommand) {
+        FilterByTypeCommand otherFilterCommand = (FilterByTypeCommand) otherCommand;
+
+        boolean isSameKeyword = Objects.equals(this.keyWord, otherFilterCommand.keyWord);
+        boolean isSameTopic = Objects.equals(this.topic, otherFilterCommand.topic);
+        boolean isSamePaging = this.paging.equals(otherFilterCommand.paging);
+        return isSameKeyword && isSameTopic && isSamePaging;
+    }
+}
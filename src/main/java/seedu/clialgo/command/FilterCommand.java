@@ -2,27 +2,66 @@ package seedu.clialgo.command;
 
 import seedu.clialgo.Buffer;
 import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.Topic;
 import seedu.clialgo.logic.TopicManager;
 import seedu.clialgo.Ui;
-import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.storage.Storage;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 //@@author heejet
 /**
  * Represents an executable command from the user. A <code>FilterCommand</code> prints out CS2040CFiles filtered either
  * by topics or importance.
  */
-public class FilterCommand extends Command {
+public class FilterCommand extends Command implements PipelineStage {
     private static final String TOPIC_KEYWORD = "topic";
     private static final String IMPORTANCE_KEYWORD = "importance";
+    private static final String TYPE_KEYWORD = "type";
+
+    /** Orders CS2040CFiles in decreasing order of importance, keeping the order of equally important ones. */
+    private static final Comparator<CS2040CFile> DECREASING_IMPORTANCE =
+            Comparator.comparingInt(CS2040CFile::getImportance).reversed();
+
+    /** Orders the code files before the notes, keeping the order of CS2040CFiles of the same type. */
+    private static final Comparator<CS2040CFile> CODE_FIRST =
+            Comparator.comparing(cs2040cFile -> !cs2040cFile.isCode());
     protected final String keyWord;
     protected final String topic;
 
+    /** The part of the filtered listing to be printed. */
+    protected final Paging paging;
+
+    /** The range of importance that CS2040CFiles filtered by importance must lie in. */
+    protected final int minImportance;
+    protected final int maxImportance;
+
     public FilterCommand(String keyWord, String topic) {
+        this(keyWord, topic, Paging.ALL);
+    }
+
+    public FilterCommand(String keyWord, String topic, Paging paging) {
+        this(keyWord, topic, CS2040CFile.MIN_IMPORTANCE, CS2040CFile.MAX_IMPORTANCE, paging);
+    }
+
+    /**
+     * Constructor for command to filter CS2040CFiles and print a page of the filtered listing.
+     *
+     * @param keyWord The keyword to filter by.
+     * @param topic The topic to filter in, or null for all topics.
+     * @param minImportance The lowest importance of the CS2040CFiles kept when filtering by importance.
+     * @param maxImportance The highest importance of the CS2040CFiles kept when filtering by importance.
+     * @param paging The part of the filtered listing to be printed.
+     */
+    public FilterCommand(String keyWord, String topic, int minImportance, int maxImportance, Paging paging) {
         this.keyWord = keyWord;
         this.topic = topic;
+        this.minImportance = minImportance;
+        this.maxImportance = maxImportance;
+        this.paging = paging;
     }
 
     /**
@@ -30,14 +69,15 @@ public class FilterCommand extends Command {
      * This method prints all the CS2040CFiles stored across all non-empty topics in CLIAlgo.
      * If <codde>keyWord</codde> is "topic" it executes <code>FilterByTopicCommand</code>.
      * If <codde>keyWord</codde> is "importance" it executes <code>FilterByImportanceCommand</code>.
+     * If <codde>keyWord</codde> is "type" it executes <code>FilterByTypeCommand</code>.
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
-     * @param fileManager The <code>FileManager</code> object responsible for saving information in CLIAlgo.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
      * @param buffer The object responsible to export filtered files.
      */
     @Override
-    public void execute(TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+    public void execute(TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
         if (topicManager.isEmpty()) {
             ui.printFilterAllTopicsEmpty();
             ArrayList<CS2040CFile> emptyBuffer = new ArrayList<>();
@@ -46,20 +86,112 @@ public class FilterCommand extends Command {
         }
 
         if (keyWord.equals(TOPIC_KEYWORD)) {
-            new FilterByTopicCommand(keyWord, topic).execute(topicManager, ui, fileManager, buffer);
+            new FilterByTopicCommand(keyWord, topic, paging).execute(topicManager, ui, storage, buffer);
         } else if (keyWord.equals(IMPORTANCE_KEYWORD)) {
-            new FilterByImportanceCommand(keyWord, topic).execute(topicManager, ui, fileManager, buffer);
+            new FilterByImportanceCommand(keyWord, topic, minImportance, maxImportance, paging)
+                    .execute(topicManager, ui, storage, buffer);
+        } else if (keyWord.equals(TYPE_KEYWORD)) {
+            new FilterByTypeCommand(keyWord, topic, paging).execute(topicManager, ui, storage, buffer);
         } else {
-            new InvalidFilterCommand().execute(topicManager, ui, fileManager, buffer);
+            new InvalidFilterCommand().execute(topicManager, ui, storage, buffer);
         }
     }
 
+    /**
+     * Keeps the CS2040CFiles in <code>topic</code>, or all of them if no topic is given. As the first stage of a
+     * pipeline the CS2040CFiles are streamed from the <code>TopicManager</code>. If <code>keyWord</code> is
+     * "importance", only the CS2040CFiles in the range of importance are kept, ordered by decreasing importance. As
+     * the first stage, they are read in that order from the importance index of each topic. If <code>keyWord</code>
+     * is "type", the code files are ordered before the notes, and as the first stage each type is read from the type
+     * index of each topic.
+     *
+     * @param input The CS2040CFiles from the previous stage, or null if this is the first stage.
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @return The CS2040CFiles for the next stage.
+     */
+    @Override
+    public Stream<CS2040CFile> pipe(Stream<CS2040CFile> input, TopicManager topicManager, Ui ui) {
+        boolean isByImportance = keyWord.equals(IMPORTANCE_KEYWORD);
+        if (input == null && isByImportance) {
+            return topic == null ? topicManager.streamByImportance(minImportance, maxImportance)
+                    : topicManager.getOneTopic(topic).streamByImportance(minImportance, maxImportance);
+        }
+        if (input == null && keyWord.equals(TYPE_KEYWORD)) {
+            if (topic == null) {
+                return Stream.concat(topicManager.streamByType(true), topicManager.streamByType(false));
+            }
+            Topic selectedTopic = topicManager.getOneTopic(topic);
+            return Stream.concat(selectedTopic.getCS2040CFilesOfType(true).stream(),
+                    selectedTopic.getCS2040CFilesOfType(false).stream());
+        }
+        Stream<CS2040CFile> files;
+        if (input != null) {
+            files = topic == null ? input : input.filter(cs2040cFile -> topic.equals(cs2040cFile.getTopic()));
+        } else if (topic == null) {
+            files = topicManager.streamAllFiles();
+        } else {
+            Topic selectedTopic = topicManager.getOneTopic(topic);
+            files = selectedTopic.getCS2040CFiles().stream();
+        }
+        if (keyWord.equals(TYPE_KEYWORD)) {
+            return files.sorted(CODE_FIRST);
+        }
+        if (!isByImportance) {
+            return files;
+        }
+        return files.filter(cs2040cFile -> cs2040cFile.getImportance() >= minImportance
+                && cs2040cFile.getImportance() <= maxImportance).sorted(DECREASING_IMPORTANCE);
+    }
+
+    /**
+     * Prints the selected page of the CS2040CFiles at the end of a pipeline, with their importance if
+     * <code>keyWord</code> is "importance", and stores them in the <code>Buffer</code>.
+     *
+     * @param files The CS2040CFiles that reached the end of the pipeline.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
+     */
+    @Override
+    public void finish(ArrayList<CS2040CFile> files, Ui ui, Buffer buffer) {
+        buffer.updateBuffer(files);
+        if (files.isEmpty()) {
+            ui.printPipelineEmpty();
+            return;
+        }
+        if (paging.isCountOnly()) {
+            ui.printCS2040CFileCount(files.size());
+            return;
+        }
+        if (paging.isOutOfRange(files.size())) {
+            ui.printPageOutOfRange();
+            return;
+        }
+        ui.printFilterSuccess();
+        if (keyWord.equals(IMPORTANCE_KEYWORD)) {
+            int firstIndex = paging.getFirstIndex();
+            ui.printAllFilesWithImportance(files.subList(firstIndex, paging.getEndIndex(files.size())),
+                    firstIndex + 1);
+            return;
+        }
+        new PagedPrinter(ui, paging).printFiles(files);
+        ui.printDivider();
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Command otherCommand) {
         FilterCommand otherFilterCommand = (FilterCommand) otherCommand;
 
         boolean isSameKeyword = Objects.equals(this.keyWord, otherFilterCommand.keyWord);
         boolean isSameTopic = Objects.equals(this.topic, otherFilterCommand.topic);
-        return isSameKeyword && isSameTopic;
+        boolean isSamePaging = this.paging.equals(otherFilterCommand.paging);
+        boolean isSameImportance = this.minImportance == otherFilterCommand.minImportance
+                && this.maxImportance == otherFilterCommand.maxImportance;
+        return isSameKeyword && isSameTopic && isSamePaging && isSameImportance;
     }
 }
@@ -0,0 +1,105 @@
+package seedu.clialgo.command;
+
+import seedu.clialgo.Buffer;
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.logic.query.AccessPath;
+import seedu.clialgo.logic.query.Query;
+import seedu.clialgo.storage.Storage;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+
+//@@author heejet
+/**
+ * Represents an executable command from the user. A <code>FindCommand</code> prints the CS2040CFiles satisfying a
+ * <code>Query</code>, or only the plan used to find them if the user asked to explain the query.
+ */
+public class FindCommand extends Command {
+    private final Query query;
+
+    /** The part of the found CS2040CFiles to be printed. */
+    private final Paging paging;
+
+    /** True if only the plan of the query is printed. */
+    private final boolean isExplain;
+
+    public FindCommand(Query query) {
+        this(query, Paging.ALL, false);
+    }
+
+    /**
+     * Constructor for command to find the CS2040CFiles satisfying a query.
+     *
+     * @param query The query to be satisfied.
+     * @param paging The part of the found CS2040CFiles to be printed.
+     * @param isExplain True if only the plan of the query is printed.
+     */
+    public FindCommand(Query query, Paging paging, boolean isExplain) {
+        this.query = query;
+        this.paging = paging;
+        this.isExplain = isExplain;
+    }
+
+    /**
+     * Plans the query, then either prints the plan or streams the CS2040CFiles through it. The found CS2040CFiles are
+     * printed grouped by topic and stored in the <code>Buffer</code> so that they can be exported.
+     *
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
+     * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
+     */
+    @Override
+    public void execute(TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
+        AccessPath plan = query.plan(topicManager);
+        if (isExplain) {
+            ui.printQueryPlan(query.toString(), plan.explain(), topicManager.size());
+            return;
+        }
+
+        ArrayList<String> topicNames = topicManager.getTopicNames();
+        ArrayList<CS2040CFile> files = plan.stream()
+                .sorted(Comparator.comparingInt(cs2040cFile -> topicNames.indexOf(cs2040cFile.getTopic())))
+                .collect(Collectors.toCollection(ArrayList::new));
+        buffer.updateBuffer(files);
+        if (files.isEmpty()) {
+            ui.printFindEmpty();
+            return;
+        }
+        if (paging.isCountOnly()) {
+            ui.printCS2040CFileCount(files.size());
+            return;
+        }
+        if (paging.isOutOfRange(files.size())) {
+            ui.printPageOutOfRange();
+            return;
+        }
+        ui.printFindSuccess();
+        new PagedPrinter(ui, paging).printFiles(files);
+        ui.printDivider();
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * An overridden method that checks for equality of <code>FindCommand</code> objects.
+     *
+     * @param otherCommand The other <code>FindCommand</code> object to be checked against.
+     * @return True if both commands have the same query, paging and explain option.
+     */
+    @Override
+    public boolean equals(Command otherCommand) {
+        if (!(otherCommand instanceof FindCommand)) {
+            return false;
+        }
+        FindCommand otherFindCommand = (FindCommand) otherCommand;
+        return query.toString().equals(otherFindCommand.query.toString()) && paging.equals(otherFindCommand.paging)
+                && isExplain == otherFindCommand.isExplain;
+    }
+}
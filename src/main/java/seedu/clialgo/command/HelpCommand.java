@@ -3,7 +3,7 @@ package seedu.clialgo.command;
 import seedu.clialgo.Buffer;
 import seedu.clialgo.logic.TopicManager;
 import seedu.clialgo.Ui;
-import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.storage.Storage;
 
 import java.util.Objects;
 
@@ -36,11 +36,11 @@ public class HelpCommand extends Command {
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
-     * @param fileManager The <code>FileManager</code> object responsible for saving information in CLIAlgo.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
      * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
      */
     @Override
-    public void execute(TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+    public void execute(TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
         if (command == null) {
             ui.printHelpPage();
             return;
@@ -67,11 +67,28 @@ public class HelpCommand extends Command {
         case "exit":
             ui.printHelpExit();
             return;
+        case "undo":
+            ui.printHelpUndo();
+            return;
+        case "redo":
+            ui.printHelpRedo();
+            return;
+        case "stats":
+            ui.printHelpStats();
+            return;
+        case "find":
+            ui.printHelpFind();
+            return;
         default:
             ui.printHelpPrompt();
         }
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     /**
      * An overridden method that checks for equality of <code>HelpCommand </code> objects.
      *
@@ -2,7 +2,7 @@ package seedu.clialgo.command;
 
 import seedu.clialgo.Buffer;
 import seedu.clialgo.logic.TopicManager;
-import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.storage.Storage;
 import seedu.clialgo.Ui;
 
 /**
@@ -16,10 +16,10 @@ public class InvalidCommand extends Command {
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
-     * @param fileManager The <code>FileManager</code> object responsible for saving information in CLIAlgo.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
      * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
      */
-    public void execute(TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+    public void execute(TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
         ui.printInvalidCommand();
     }
 
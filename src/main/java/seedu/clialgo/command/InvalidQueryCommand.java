@@ -0,0 +1,30 @@
+package seedu.clialgo.command;
+
+import seedu.clialgo.Buffer;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.Ui;
+import seedu.clialgo.storage.Storage;
+
+//@@author heejet
+/** Represents a <code>find</code> command whose query does not follow the query language. */
+public class InvalidQueryCommand extends InvalidCommand {
+    /** What is wrong with the query. */
+    private final String reason;
+
+    public InvalidQueryCommand(String reason) {
+        this.reason = reason;
+    }
+
+    /**
+     * Prints what is wrong with the query.
+     *
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
+     * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
+     */
+    @Override
+    public void execute(TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
+        ui.printInvalidQuery(reason);
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.clialgo.command;
+
+import seedu.clialgo.Buffer;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.storage.Storage;
+
+import java.util.ArrayList;
+
+//@@author heejet
+/**
+ * The <code>JournalCommand</code> is the parent of the commands which step through the <code>Journal</code> of
+ * additions and removals. Changes are applied to the <code>TopicManager</code> and appended to the .txt files, so no
+ * .txt file is rewritten.
+ */
+public abstract class JournalCommand extends Command {
+
+    /**
+     * Adds or removes a single CS2040CFile in the <code>TopicManager</code> and in the saved data. If the change cannot
+     * be saved, it is reverted in the <code>TopicManager</code> as well, so memory and the saved data never disagree.
+     *
+     * @param isAdd True if the CS2040CFile is added, false if it is removed.
+     * @param name The name of the CS2040CFile.
+     * @param cs2040cFile The CS2040CFile that is added or removed.
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
+     * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
+     * @return True if the change was applied and saved, false otherwise.
+     */
+    protected boolean applyChange(boolean isAdd, String name, CS2040CFile cs2040cFile, TopicManager topicManager,
+            Storage storage, Buffer buffer) {
+        String topicName = cs2040cFile.getTopic();
+        storage.recreateAll();
+        if (isAdd) {
+            if (!topicManager.addCS2040CFile(name, topicName, cs2040cFile)) {
+                return false;
+            }
+            if (!storage.addEntry(name, cs2040cFile)) {
+                topicManager.removeCS2040CFile(name, topicName);
+                return false;
+            }
+            return true;
+        }
+        CS2040CFile removedCS2040CFile = topicManager.getOneTopic(topicName).getC2040CFiles().get(name);
+        if (removedCS2040CFile == null || !topicManager.removeCS2040CFile(name, topicName)) {
+            return false;
+        }
+        buffer.updateBuffer(new ArrayList<>());
+        if (!storage.appendRemoval(name, topicName)) {
+            topicManager.addCS2040CFile(name, topicName, removedCS2040CFile);
+            return false;
+        }
+        return true;
+    }
+}
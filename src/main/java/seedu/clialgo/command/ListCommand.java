@@ -1,11 +1,10 @@
 package seedu.clialgo.command;
 
 import seedu.clialgo.Buffer;
+import seedu.clialgo.logic.Topic;
 import seedu.clialgo.logic.TopicManager;
 import seedu.clialgo.Ui;
-import seedu.clialgo.storage.FileManager;
-
-import java.util.ArrayList;
+import seedu.clialgo.storage.Storage;
 
 //@@author heejet
 /**
@@ -13,29 +12,68 @@ import java.util.ArrayList;
  * feature of CLIAlgo which prints out a list all CS2040CFileNames and labels in any order.
  */
 public class ListCommand extends Command {
+    /** The part of the listing to be printed. */
+    private final Paging paging;
+
+    /** Constructor for command to list all CS2040CFiles stored in CLIAlgo. */
+    public ListCommand() {
+        this.paging = Paging.ALL;
+    }
+
+    /**
+     * Constructor for command to list a page of the CS2040CFiles stored in CLIAlgo.
+     *
+     * @param paging The part of the listing to be printed.
+     */
+    public ListCommand(Paging paging) {
+        this.paging = paging;
+    }
+
     /**
-     * This method prints all the CS2040CFiles stored in CLIAlgo.
+     * This method prints all the CS2040CFiles stored in CLIAlgo, or only those on the selected page. The CS2040CFiles
+     * are streamed from each <code>Topic</code> without building a list of labels first.
      * If there are no CS2040CFiles stored in CLIAlgo, this method informs the user that the topicManager is empty.
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
-     * @param fileManager The <code>FileManager</code> object responsible for saving information in CLIAlgo.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
      * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
      */
     @Override
-    public void execute (TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+    public void execute (TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
         if (topicManager.isEmpty()) {
             ui.printListFail();
             return;
         }
+        if (paging.isCountOnly()) {
+            ui.printCS2040CFileCount(topicManager.size());
+            return;
+        }
+        if (paging.isOutOfRange(topicManager.size())) {
+            ui.printPageOutOfRange();
+            return;
+        }
         ui.printListSuccess();
-        ArrayList<String> printedCS2040CFiles = topicManager.getAllCS2040CFiles();
-        ui.printListOfCS2040CFiles(printedCS2040CFiles);
+        PagedPrinter printer = new PagedPrinter(ui, paging);
+        for (Topic topic : topicManager.getTopicsView()) {
+            if (printer.isDone()) {
+                break;
+            }
+            printer.printTopic(topic, false, false);
+        }
         ui.printDivider();
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Command otherCommand) {
-        return otherCommand instanceof ListCommand;
+        if (!(otherCommand instanceof ListCommand)) {
+            return false;
+        }
+        return this.paging.equals(((ListCommand) otherCommand).paging);
     }
 }
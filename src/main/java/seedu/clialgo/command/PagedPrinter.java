@@ -0,0 +1,99 @@
+package seedu.clialgo.command;
+
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.Topic;
+
+import java.util.Iterator;
+import java.util.List;
+
+//@@author heejet
+/**
+ * Streams the CS2040CFiles of one or more <code>Topic</code> objects, or of other groups such as types, to the
+ * <code>Ui</code>, printing only those on the page selected by a <code>Paging</code> object. No intermediate list of
+ * labels is built, and groups that lie completely outside the selected page are skipped without being visited.
+ */
+class PagedPrinter {
+    private final Ui ui;
+    private final Paging paging;
+
+    /** The zero-based position of the next CS2040CFile in the whole listing. */
+    private int index;
+
+    PagedPrinter(Ui ui, Paging paging) {
+        this.ui = ui;
+        this.paging = paging;
+        this.index = 0;
+    }
+
+    /** Checks if every CS2040CFile on the selected page has been printed. */
+    boolean isDone() {
+        return paging.isAfterPage(index);
+    }
+
+    /**
+     * Prints the CS2040CFiles of <code>topic</code> that are on the selected page.
+     *
+     * @param topic The <code>Topic</code> whose CS2040CFiles are printed.
+     * @param isBoxed True if the topic name should be printed before its CS2040CFiles.
+     * @param isNumberedWithinTopic True if serial numbers restart from 1 for this topic, false if they continue
+     *     from the previous topic.
+     */
+    void printTopic(Topic topic, boolean isBoxed, boolean isNumberedWithinTopic) {
+        printGroup(topic.getTopicName(), topic.size(), topic.getCS2040CFiles().iterator(), isBoxed,
+                isNumberedWithinTopic);
+    }
+
+    /**
+     * Prints the CS2040CFiles of a group, such as a topic or a type, that are on the selected page. The CS2040CFiles
+     * of a group that lies completely outside the selected page are not visited.
+     *
+     * @param groupName The name of the group.
+     * @param groupSize The number of CS2040CFiles in the group.
+     * @param cs2040cFiles The CS2040CFiles of the group, visited only as far as needed.
+     * @param isBoxed True if the group name should be printed before its CS2040CFiles.
+     * @param isNumberedWithinGroup True if serial numbers restart from 1 for this group, false if they continue
+     *     from the previous group.
+     */
+    void printGroup(String groupName, int groupSize, Iterator<CS2040CFile> cs2040cFiles, boolean isBoxed,
+            boolean isNumberedWithinGroup) {
+        if (groupSize == 0 || isDone()) {
+            return;
+        }
+        if (paging.isBeforePage(index + groupSize - 1)) {
+            index += groupSize;
+            return;
+        }
+        if (isBoxed) {
+            ui.printWithBox(groupName);
+        }
+        int groupStartIndex = index;
+        while (cs2040cFiles.hasNext() && !isDone()) {
+            CS2040CFile cs2040cFile = cs2040cFiles.next();
+            if (!paging.isBeforePage(index)) {
+                int serialNumber = isNumberedWithinGroup ? index - groupStartIndex + 1 : index + 1;
+                ui.printCS2040CFile(serialNumber, cs2040cFile);
+            }
+            index++;
+        }
+    }
+
+    /**
+     * Prints the CS2040CFiles of a listing that are on the selected page, in the order of the listing. Serial numbers
+     * continue across topics, and the topic name is printed whenever it changes.
+     *
+     * @param files The listing.
+     */
+    void printFiles(List<CS2040CFile> files) {
+        int endIndex = paging.getEndIndex(files.size());
+        String previousTopic = null;
+        for (index = paging.getFirstIndex(); index < endIndex; index++) {
+            CS2040CFile cs2040cFile = files.get(index);
+            if (!cs2040cFile.getTopic().equals(previousTopic)) {
+                previousTopic = cs2040cFile.getTopic();
+                ui.printWithBox(previousTopic);
+            }
+            ui.printCS2040CFile(index + 1, cs2040cFile);
+        }
+    }
+}
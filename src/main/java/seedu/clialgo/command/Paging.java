@@ -0,0 +1,112 @@
+package seedu.clialgo.command;
+
+//@@author heejet
+/**
+ * A <code>Paging</code> object describes which part of a listing should be printed by <code>ListCommand</code>,
+ * <code>FilterCommand</code> and <code>TopoCommand</code>. It either selects a single page of a given size, the
+ * whole listing, or only the number of CS2040CFiles in the listing.
+ */
+public class Paging {
+    /** Page size used when the user specifies a page number without a page size. */
+    public static final int DEFAULT_PAGE_SIZE = 10;
+
+    /** A <code>Paging</code> object that selects the whole listing. */
+    public static final Paging ALL = new Paging(1, 0, false);
+
+    /** A <code>Paging</code> object that only counts the CS2040CFiles in the listing. */
+    public static final Paging COUNT = new Paging(1, 0, true);
+
+    /** The page to print, starting from 1. */
+    private final int page;
+
+    /** The number of CS2040CFiles per page, 0 if the whole listing is on one page. */
+    private final int size;
+
+    private final boolean isCountOnly;
+
+    private Paging(int page, int size, boolean isCountOnly) {
+        this.page = page;
+        this.size = size;
+        this.isCountOnly = isCountOnly;
+    }
+
+    /**
+     * Constructor for a <code>Paging</code> object that selects a single page of the listing.
+     *
+     * @param page The page to print, starting from 1.
+     * @param size The number of CS2040CFiles per page.
+     */
+    public Paging(int page, int size) {
+        this(page, size, false);
+        assert page >= 1;
+        assert size >= 1;
+    }
+
+    public boolean isCountOnly() {
+        return this.isCountOnly;
+    }
+
+    /**
+     * Gets the position of the first CS2040CFile on the selected page.
+     *
+     * @return The zero-based position of the first CS2040CFile on the selected page.
+     */
+    public int getFirstIndex() {
+        return (page - 1) * size;
+    }
+
+    /**
+     * Gets the position just after the last CS2040CFile on the selected page.
+     *
+     * @param total The number of CS2040CFiles in the listing.
+     * @return The zero-based, exclusive end position of the selected page.
+     */
+    public int getEndIndex(int total) {
+        if (size == 0) {
+            return total;
+        }
+        return Math.min(total, getFirstIndex() + size);
+    }
+
+    /**
+     * Checks if the CS2040CFile at a given position in the listing comes before the selected page.
+     *
+     * @param index The zero-based position of the CS2040CFile in the listing.
+     * @return True if the CS2040CFile comes before the selected page, false otherwise.
+     */
+    public boolean isBeforePage(int index) {
+        return index < getFirstIndex();
+    }
+
+    /**
+     * Checks if the CS2040CFile at a given position in the listing comes after the selected page. Once this is true
+     * the rest of the listing does not need to be visited.
+     *
+     * @param index The zero-based position of the CS2040CFile in the listing.
+     * @return True if the CS2040CFile comes after the selected page, false otherwise.
+     */
+    public boolean isAfterPage(int index) {
+        return size > 0 && index >= getFirstIndex() + size;
+    }
+
+    /**
+     * Checks if a listing with a given number of CS2040CFiles has no CS2040CFiles on the selected page.
+     *
+     * @param total The number of CS2040CFiles in the listing.
+     * @return True if the selected page is empty, false otherwise.
+     */
+    public boolean isOutOfRange(int total) {
+        return getFirstIndex() >= total;
+    }
+
+    /**
+     * A method that checks for equality of <code>Paging</code> objects.
+     *
+     * @param otherPaging The other <code>Paging</code> object to be checked against.
+     * @return A boolean value to determine whether the <code>Paging</code> objects are equal.
+     */
+    public boolean equals(Paging otherPaging) {
+        return this.page == otherPaging.page && this.size == otherPaging.size
+                && this.isCountOnly == otherPaging.isCountOnly;
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.clialgo.command;
+
+import seedu.clialgo.Buffer;
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.storage.Storage;
+
+import java.util.ArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+//@@author heejet
+/**
+ * A <code>PipelineCommand</code> represents stages chained with <code>|</code>, such as
+ * <code>filter k/topic t/GRAPH_TRAVERSAL | topo | export</code>. The stages pass a lazy stream of CS2040CFiles to each
+ * other, so nothing is printed or stored in the <code>Buffer</code> until the last stage.
+ */
+public class PipelineCommand extends Command {
+    private final ArrayList<PipelineStage> stages;
+
+    /**
+     * Constructor for a command that runs the given stages in order.
+     *
+     * @param stages The stages of the pipeline, the first of which supplies the CS2040CFiles.
+     */
+    public PipelineCommand(ArrayList<PipelineStage> stages) {
+        assert stages.size() >= 2 : "A pipeline has at least two stages";
+        this.stages = stages;
+    }
+
+    /**
+     * Streams the CS2040CFiles through every stage and lets the last stage print or export them.
+     *
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
+     * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
+     */
+    @Override
+    public void execute(TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
+        Stream<CS2040CFile> files = null;
+        for (PipelineStage stage : stages) {
+            files = stage.pipe(files, topicManager, ui);
+            if (files == null) {
+                return;
+            }
+        }
+        ArrayList<CS2040CFile> result = files.collect(Collectors.toCollection(ArrayList::new));
+        stages.get(stages.size() - 1).finish(result, ui, buffer);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        for (PipelineStage stage : stages) {
+            if (!stage.isReadOnly()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * An overridden method that checks for equality of <code>PipelineCommand</code> objects.
+     *
+     * @param otherCommand The other <code>PipelineCommand</code> object to be checked against.
+     * @return True if both pipelines have equal stages in the same order.
+     */
+    @Override
+    public boolean equals(Command otherCommand) {
+        if (!(otherCommand instanceof PipelineCommand)) {
+            return false;
+        }
+        ArrayList<PipelineStage> otherStages = ((PipelineCommand) otherCommand).stages;
+        if (stages.size() != otherStages.size()) {
+            return false;
+        }
+        for (int i = 0; i < stages.size(); i++) {
+            PipelineStage stage = stages.get(i);
+            PipelineStage otherStage = otherStages.get(i);
+            if (stage.getClass() != otherStage.getClass() || !((Command) stage).equals((Command) otherStage)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
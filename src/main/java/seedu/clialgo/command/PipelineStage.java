@@ -0,0 +1,45 @@
+package seedu.clialgo.command;
+
+import seedu.clialgo.Buffer;
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.TopicManager;
+
+import java.util.ArrayList;
+import java.util.stream.Stream;
+
+//@@author heejet
+/**
+ * A <code>PipelineStage</code> is a <code>Command</code> that can be chained with <code>|</code> in a
+ * <code>PipelineCommand</code>. Every stage passes a lazy stream of <code>CS2040CFile</code> references on to the next
+ * stage, and only the last stage collects the stream to print or export it.
+ */
+public interface PipelineStage {
+    /**
+     * Passes the CS2040CFiles of the previous stage on to the next stage.
+     *
+     * @param input The CS2040CFiles from the previous stage, or null if this is the first stage.
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @return The CS2040CFiles for the next stage, or null if the pipeline cannot continue, in which case the reason
+     *     has been printed.
+     */
+    Stream<CS2040CFile> pipe(Stream<CS2040CFile> input, TopicManager topicManager, Ui ui);
+
+    /**
+     * Shows or exports the CS2040CFiles at the end of the pipeline. They also replace the CS2040CFiles in the
+     * <code>Buffer</code>, as if this stage was executed on its own.
+     *
+     * @param files The CS2040CFiles that reached the end of the pipeline.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
+     */
+    void finish(ArrayList<CS2040CFile> files, Ui ui, Buffer buffer);
+
+    /**
+     * Checks if this stage leaves the CS2040CFiles and the saved data of CLIAlgo unchanged.
+     *
+     * @return True if this stage does not change any CS2040CFile, false otherwise.
+     */
+    boolean isReadOnly();
+}
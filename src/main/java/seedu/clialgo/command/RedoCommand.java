@@ -0,0 +1,47 @@
+package seedu.clialgo.command;
+
+import seedu.clialgo.Buffer;
+import seedu.clialgo.Ui;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.storage.Journal;
+import seedu.clialgo.storage.JournalEntry;
+import seedu.clialgo.storage.Storage;
+
+//@@author heejet
+/**
+ * Object representing the <code>Command</code> to apply the most recently undone addition or removal of a CS2040CFile
+ * again.
+ */
+public class RedoCommand extends JournalCommand {
+
+    /**
+     * An overridden method that applies the most recently undone change in the <code>Journal</code> again. The change
+     * is only moved back to the undo history if it was applied.
+     *
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
+     * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
+     */
+    @Override
+    public void execute(TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
+        Journal journal = storage.getJournal();
+        JournalEntry entry = journal.peekRedo();
+        if (entry == null) {
+            ui.printNothingToRedo();
+            return;
+        }
+        boolean isApplied = applyChange(entry.isAdd(), entry.getName(), entry.getCS2040CFile(), topicManager,
+                storage, buffer);
+        if (!isApplied) {
+            return;
+        }
+        journal.markRedone(entry);
+        ui.printRedoSuccess(entry.getName(), entry.isAdd());
+    }
+
+    @Override
+    public boolean equals(Command otherCommand) {
+        return otherCommand instanceof RedoCommand;
+    }
+}
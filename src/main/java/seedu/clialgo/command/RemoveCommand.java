@@ -4,8 +4,10 @@ import java.util.ArrayList;
 import java.util.Objects;
 
 import seedu.clialgo.Buffer;
+import seedu.clialgo.file.CS2040CFile;
 import seedu.clialgo.logic.TopicManager;
-import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.storage.JournalEntry;
+import seedu.clialgo.storage.Storage;
 import seedu.clialgo.Ui;
 
 //@@author nicholas132000
@@ -33,22 +35,23 @@ public class RemoveCommand extends Command {
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
-     * @param fileManager The <code>FileManager</code> object responsible for saving information in CLIAlgo.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
      * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
      */
     @Override
-    public void execute(TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+    public void execute(TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
         if (topicManager.isEmpty()) {
             ui.printRemoveFail();
             return;
         }
 
         if (!topicManager.isRepeatedCS2040CFile(this.name)) {
-            new NameNotFoundCommand().execute(topicManager, ui, fileManager, buffer);
+            new NameNotFoundCommand().execute(topicManager, ui, storage, buffer);
             return;
         }
 
         String topicName = topicManager.getTopicOfCS2040CFile(this.name);
+        CS2040CFile removedCS2040CFile = topicManager.getOneTopic(topicName).getC2040CFiles().get(this.name);
 
         assert topicManager.isRepeatedCS2040CFile(this.name);
         boolean isSuccessfullyRemoved = topicManager.removeCS2040CFile(this.name, topicName);
@@ -58,12 +61,13 @@ public class RemoveCommand extends Command {
             return;
         }
 
-        fileManager.recreateAll();
-        boolean isDeletedInFile = fileManager.deleteEntry(name, topicName);
+        storage.recreateAll();
+        boolean isDeletedInFile = storage.deleteEntry(name, topicName);
 
         if (!isDeletedInFile) {
             return;
         }
+        storage.getJournal().record(JournalEntry.ofRemove(name, removedCS2040CFile));
         buffer.updateBuffer(new ArrayList<>());
         ui.printRemoveSuccess(name);
     }
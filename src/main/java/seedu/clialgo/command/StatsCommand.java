@@ -0,0 +1,74 @@
+package seedu.clialgo.command;
+
+import seedu.clialgo.Buffer;
+import seedu.clialgo.Ui;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.profile.MetricsRegistry;
+import seedu.clialgo.storage.Storage;
+
+import java.io.File;
+
+//@@author heejet
+/**
+ * A <code>StatsCommand</code> represents an executable command by the user. It prints the latency, allocated bytes
+ * and I/O operations of each kind of command executed so far, and can ask for them to be written to a file when
+ * CLIAlgo exits.
+ */
+public class StatsCommand extends Command {
+    /** The path of the file the metrics are written to when CLIAlgo exits, or null if they are only printed. */
+    private final String dumpPath;
+
+    /** Constructor for command to print the metrics of the commands executed so far. */
+    public StatsCommand() {
+        this.dumpPath = null;
+    }
+
+    /**
+     * Constructor for command to print the metrics of the commands executed so far and write them to a file when
+     * CLIAlgo exits.
+     *
+     * @param dumpPath The path of the file the metrics are written to.
+     */
+    public StatsCommand(String dumpPath) {
+        this.dumpPath = dumpPath;
+    }
+
+    /**
+     * This method prints the metrics recorded by the <code>MetricsRegistry</code>. The execution of this command is
+     * itself only recorded after it is printed.
+     *
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
+     * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
+     */
+    @Override
+    public void execute(TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        ui.printCommandStats(registry.getAllStats());
+        if (dumpPath != null) {
+            registry.setDumpFile(new File(dumpPath));
+            ui.printStatsDumpSet(dumpPath);
+        }
+    }
+
+    /**
+     * An overridden method that checks for equality of <code>StatsCommand</code> objects.
+     *
+     * @param otherCommand The other <code>StatsCommand</code> object to be checked against.
+     * @return A boolean value to determine whether the <code>StatsCommand</code> objects are equal.
+     */
+    @Override
+    public boolean equals(Command otherCommand) {
+        if (!(otherCommand instanceof StatsCommand)) {
+            return false;
+        }
+        String otherDumpPath = ((StatsCommand) otherCommand).dumpPath;
+        return dumpPath == null ? otherDumpPath == null : dumpPath.equals(otherDumpPath);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -5,45 +5,43 @@ import seedu.clialgo.logic.Topic;
 import seedu.clialgo.logic.TopicManager;
 import seedu.clialgo.Ui;
 import seedu.clialgo.file.CS2040CFile;
-import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.storage.Storage;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.Comparator;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 //@@author ong-ck
 /**
  * The <code>TopoCommand</code> object represents the user command to
  * print the topologically sorted CS2040CFiles after a specific target CS2040CFile.
  */
-public class TopoCommand extends Command {
-    /** Store the names of CS2040CFiles in topological order. */
-    private LinkedHashMap<String, ArrayList<String>> topoSortedCS2040CFiles;
-
-    /** Name of the input CS2040CFile. */
+public class TopoCommand extends Command implements PipelineStage {
+    /** Name of the input CS2040CFile, or null to keep CS2040CFiles of every topic in a pipeline. */
     private final String name;
 
+    /** The part of the topologically sorted listing to be printed. */
+    private final Paging paging;
+
     /**
      * Constructor for command to print CS2040CFiles in a topological manner.
      *
      * @param name Name of the CS2040CFile.
      */
     public TopoCommand(String name) {
-        this.topoSortedCS2040CFiles = new LinkedHashMap<>();
-        this.name = name;
+        this(name, Paging.ALL);
     }
 
     /**
-     * Constructor that initializes a <code>TopoCommand</code> object with topoSortedCS2040CFiles stored in it.
+     * Constructor for command to print a page of the CS2040CFiles in a topological manner.
      *
      * @param name Name of the CS2040CFile.
-     * @param topoSortedCS2040CFiles A LinkedHashMap of the topologically sorted CS2040CFiles.
+     * @param paging The part of the topologically sorted listing to be printed.
      */
-    public TopoCommand(String name, LinkedHashMap<String, ArrayList<String>> topoSortedCS2040CFiles) {
-        this.topoSortedCS2040CFiles = topoSortedCS2040CFiles;
+    public TopoCommand(String name, Paging paging) {
         this.name = name;
+        this.paging = paging;
     }
 
     public String getName() {
@@ -51,35 +49,22 @@ public class TopoCommand extends Command {
     }
 
     /**
-     * Prints all CS2040CFiles after a specific target CS2040CFile in a topological manner.
+     * Prints all CS2040CFiles after a specific target CS2040CFile in a topological manner. The CS2040CFiles are
+     * streamed from each <code>Topic</code> without building a list of labels first.
      *
-     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param topoSortedTopics The topics after the target CS2040CFile, in topological order.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
      */
-    private ArrayList<CS2040CFile> printTopoSortedCS2040CFiles(TopicManager topicManager, Ui ui) {
-        topoSortedCS2040CFiles = topicManager.getAllCS2040CFilesBeforeTopic(name);
+    private void printTopoSortedCS2040CFiles(ArrayList<Topic> topoSortedTopics, Ui ui) {
         ui.printTopoSortSuccess();
-        ArrayList<CS2040CFile> files = new ArrayList<>();
-        int currentSerialNumber = 1;
-        for (Map.Entry<String, ArrayList<String>> entry : topoSortedCS2040CFiles.entrySet()) {
-            String topicName = entry.getKey();
-            ArrayList<String> listOfFiles = entry.getValue();
-
-            if (listOfFiles.isEmpty()) {
-                continue;
+        PagedPrinter printer = new PagedPrinter(ui, paging);
+        for (Topic topic : topoSortedTopics) {
+            if (printer.isDone()) {
+                break;
             }
-
-            ui.printWithBox(topicName);
-
-            currentSerialNumber = ui.printListOfCS2040CFilesWithGivenIndex(listOfFiles, currentSerialNumber);
-
-            HashMap<String, Topic> topics = topicManager.getTopics();
-            Topic currentTopic = topics.get(topicName);
-            ArrayList<CS2040CFile> cs2040cFiles = currentTopic.getCS2040CFilesAsArray();
-            files.addAll(cs2040cFiles);
+            printer.printTopic(topic, true, false);
         }
         ui.printDivider();
-        return files;
     }
 
     /**
@@ -88,11 +73,11 @@ public class TopoCommand extends Command {
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
-     * @param fileManager The <code>FileManager</code> object responsible for saving information in CLIAlgo.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
      * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
      */
     @Override
-    public void execute(TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+    public void execute(TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
         if (topicManager.isEmpty()) {
             ArrayList<CS2040CFile> emptyBuffer = new ArrayList<>();
             buffer.updateBuffer(emptyBuffer);
@@ -106,10 +91,86 @@ public class TopoCommand extends Command {
             return;
         }
 
-        ArrayList<CS2040CFile> files = printTopoSortedCS2040CFiles(topicManager, ui);
+        ArrayList<Topic> topoSortedTopics = topicManager.getTopicsInTopoOrderFrom(name);
+        ArrayList<CS2040CFile> files = new ArrayList<>();
+        for (Topic topic : topoSortedTopics) {
+            files.addAll(topic.getCS2040CFiles());
+        }
+
+        if (paging.isCountOnly()) {
+            ui.printCS2040CFileCount(files.size());
+        } else if (paging.isOutOfRange(files.size())) {
+            ui.printPageOutOfRange();
+        } else {
+            printTopoSortedCS2040CFiles(topoSortedTopics, ui);
+        }
         buffer.updateBuffer(files);
     }
 
+    //@@author heejet
+    /**
+     * Orders the CS2040CFiles by the topological order of their topics, keeping only those from the topic of
+     * <code>name</code> onwards if a name is given. As the first stage of a pipeline the CS2040CFiles are streamed
+     * from the <code>TopicManager</code>, which requires a name.
+     *
+     * @param input The CS2040CFiles from the previous stage, or null if this is the first stage.
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @return The CS2040CFiles for the next stage, or null if <code>name</code> is not a saved CS2040CFile.
+     */
+    @Override
+    public Stream<CS2040CFile> pipe(Stream<CS2040CFile> input, TopicManager topicManager, Ui ui) {
+        if (name != null && !topicManager.isRepeatedCS2040CFile(name)) {
+            ui.printFileDoesNotExist();
+            return null;
+        }
+        if (input == null) {
+            assert name != null : "The first stage of a pipeline must name a CS2040CFile";
+            return topicManager.getTopicsInTopoOrderFrom(name).stream()
+                    .flatMap(topic -> topic.getCS2040CFiles().stream());
+        }
+        int firstTopoIndex = name == null
+                ? 0 : topicManager.getTopoOrderIndex(topicManager.getTopicOfCS2040CFile(name));
+        Comparator<CS2040CFile> topoOrder =
+                Comparator.comparingInt(cs2040cFile -> topicManager.getTopoOrderIndex(cs2040cFile.getTopic()));
+        return input.filter(cs2040cFile -> topicManager.getTopoOrderIndex(cs2040cFile.getTopic()) >= firstTopoIndex)
+                .sorted(topoOrder);
+    }
+
+    /**
+     * Prints the selected page of the CS2040CFiles at the end of a pipeline and stores them in the
+     * <code>Buffer</code>.
+     *
+     * @param files The CS2040CFiles that reached the end of the pipeline.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
+     */
+    @Override
+    public void finish(ArrayList<CS2040CFile> files, Ui ui, Buffer buffer) {
+        buffer.updateBuffer(files);
+        if (files.isEmpty()) {
+            ui.printPipelineEmpty();
+            return;
+        }
+        if (paging.isCountOnly()) {
+            ui.printCS2040CFileCount(files.size());
+            return;
+        }
+        if (paging.isOutOfRange(files.size())) {
+            ui.printPageOutOfRange();
+            return;
+        }
+        ui.printTopoSortSuccess();
+        new PagedPrinter(ui, paging).printFiles(files);
+        ui.printDivider();
+    }
+
+    //@@author ong-ck
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     /**
      * An overridden method that checks for equality of <code>TopoCommand</code> objects.
      *
@@ -119,34 +180,8 @@ public class TopoCommand extends Command {
     @Override
     public boolean equals(Command otherCommand) {
         TopoCommand otherTopoCommand = (TopoCommand) otherCommand;
-        LinkedHashMap<String, ArrayList<String>> otherTopoSortedCS2040CFiles = otherTopoCommand.topoSortedCS2040CFiles;
-
-        // Check name attribute is equal
-        if (!Objects.equals(otherTopoCommand.name, this.name)) {
-            return false;
-        }
-
-        // Check that all topics in otherTopoCommand are also present
-        for (String topic : otherTopoSortedCS2040CFiles.keySet()) {
-            if (!this.topoSortedCS2040CFiles.containsKey(topic)) {
-                return false;
-            }
-
-            // Check that all CS2040CFiles in specific topic of otherTopoCommand are also present
-            for (String cs2040cFile : otherTopoSortedCS2040CFiles.get(topic)) {
-                if (!this.topoSortedCS2040CFiles.get(topic).contains(cs2040cFile)) {
-                    return false;
-                }
-
-            }
-
-            // Check that number of CS2040CFiles in topic is equal -> topic is equal
-            if (otherTopoSortedCS2040CFiles.get(topic).size() != this.topoSortedCS2040CFiles.get(topic).size()) {
-                return false;
-            }
-        }
-
-        // Check that number of topics are equal -> topoSortedCS2040CFiles is equal
-        return otherTopoSortedCS2040CFiles.size() == this.topoSortedCS2040CFiles.size();
+        boolean isSameName = Objects.equals(otherTopoCommand.name, this.name);
+        boolean isSamePaging = this.paging.equals(otherTopoCommand.paging);
+        return isSameName && isSamePaging;
     }
 }
@@ -0,0 +1,47 @@
+package seedu.clialgo.command;
+
+import seedu.clialgo.Buffer;
+import seedu.clialgo.Ui;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.storage.Journal;
+import seedu.clialgo.storage.JournalEntry;
+import seedu.clialgo.storage.Storage;
+
+//@@author heejet
+/**
+ * Object representing the <code>Command</code> to revert the most recent addition or removal of a CS2040CFile that has
+ * not been undone yet.
+ */
+public class UndoCommand extends JournalCommand {
+
+    /**
+     * An overridden method that applies the inverse of the most recent change in the <code>Journal</code>. The change
+     * is only moved to the redo history if its inverse was applied.
+     *
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
+     * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
+     */
+    @Override
+    public void execute(TopicManager topicManager, Ui ui, Storage storage, Buffer buffer) {
+        Journal journal = storage.getJournal();
+        JournalEntry entry = journal.peekUndo();
+        if (entry == null) {
+            ui.printNothingToUndo();
+            return;
+        }
+        boolean isApplied = applyChange(!entry.isAdd(), entry.getName(), entry.getCS2040CFile(), topicManager,
+                storage, buffer);
+        if (!isApplied) {
+            return;
+        }
+        journal.markUndone(entry);
+        ui.printUndoSuccess(entry.getName(), entry.isAdd());
+    }
+
+    @Override
+    public boolean equals(Command otherCommand) {
+        return otherCommand instanceof UndoCommand;
+    }
+}
@@ -0,0 +1,14 @@
+package seedu.clialgo.exceptions.parser;
+
+//@@author heejet
+/**
+ * An exception to be thrown when the query of a <code>find</code> command does not follow the query language. The
+ * message describes what is wrong with the query.
+ */
+public class InvalidQueryException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    public InvalidQueryException(String message) {
+        super(message);
+    }
+}
@@ -2,11 +2,21 @@ package seedu.clialgo.file;
 
 public abstract class CS2040CFile {
     public static final int DEFAULT_IMPORTANCE = 5;
+    public static final int MIN_IMPORTANCE = 1;
+    public static final int MAX_IMPORTANCE = 10;
+    public static final String NOTE_LABEL = "[NOTE] ";
+    public static final String CODE_LABEL = "[CODE] ";
     protected String name;
-    protected String path;
     protected String topic;
     protected int importance;
 
+    /** The directory of the path, shared through the <code>StringPool</code>, and the file name after it. */
+    private String directory;
+    private String fileName;
+
+    /** The name of the file after the label of its type, built once as the name never changes. */
+    private final String label;
+
     /**
      * Constructor for <code>CS2040CFile</code> object (with user-defined importance).
      *
@@ -14,12 +24,14 @@ public abstract class CS2040CFile {
      * @param path Path to the file.
      * @param topic Topic that file should be tagged.
      * @param importance Importance of the file.
+     * @param typeLabel The label of the type of the file, e.g. <code>CODE_LABEL</code>.
      */
-    public CS2040CFile(String name, String path, String topic, int importance) {
+    protected CS2040CFile(String name, String path, String topic, int importance, String typeLabel) {
         this.name = name;
-        this.path = path;
-        this.topic = topic;
+        this.topic = StringPool.canonicalize(topic);
         this.importance = importance;
+        this.label = typeLabel + name;
+        splitPath(path);
     }
 
     /**
@@ -28,32 +40,69 @@ public abstract class CS2040CFile {
      * @param name Name of the file.
      * @param path Path to the file.
      * @param topic Topic that file should be tagged.
+     * @param typeLabel The label of the type of the file, e.g. <code>CODE_LABEL</code>.
      */
-    public CS2040CFile(String name, String path, String topic) {
-        this.name = name;
-        this.path = path;
-        this.topic = topic;
-        this.importance = DEFAULT_IMPORTANCE;
+    protected CS2040CFile(String name, String path, String topic, String typeLabel) {
+        this(name, path, topic, DEFAULT_IMPORTANCE, typeLabel);
+    }
+
+    //@@author heejet
+    /**
+     * Gets the name of the file after the label of its type, e.g. <code>[CODE] queue</code>.
+     *
+     * @return The labelled name of the file.
+     */
+    public String getLabel() {
+        return label;
     }
 
+    /**
+     * Checks if the file is a code file.
+     *
+     * @return True if the file is a code file, false if it is a note.
+     */
+    public abstract boolean isCode();
+    //@@author
+
     /** Prints the name of the file. */
     public abstract void printFileName();
 
     public abstract String getName();
 
+    //@@author heejet
     /**
      * Gets the location path of the file.
      *
      * @return The location path of the file.
      */
-    public abstract String getPath();
+    public String getPath() {
+        if (directory == null || directory.isEmpty()) {
+            return fileName;
+        }
+        return directory + fileName;
+    }
 
     /**
-     * Sets the location path of the file.
+     * Sets the location path of the file, splitting it into a directory shared through the <code>StringPool</code>
+     * and a file name.
      *
      * @param path The new location path of the file.
      */
-    public abstract void setPath(String path);
+    public void setPath(String path) {
+        splitPath(path);
+    }
+
+    private void splitPath(String path) {
+        if (path == null) {
+            directory = null;
+            fileName = null;
+            return;
+        }
+        int fileNameStart = Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\')) + 1;
+        directory = StringPool.canonicalize(path.substring(0, fileNameStart));
+        fileName = fileNameStart == 0 ? path : path.substring(fileNameStart);
+    }
+    //@@author
 
     /**
      * Gets the tag of the file.
@@ -9,11 +9,11 @@ public class Code extends CS2040CFile {
      * @param topic Topic that code file should be tagged.
      */
     public Code(String name, String path, String topic, int importance) {
-        super(name, path, topic, importance);
+        super(name, path, topic, importance, CODE_LABEL);
     }
 
     public Code(String name, String path, String topic) {
-        super(name, path, topic);
+        super(name, path, topic, CODE_LABEL);
     }
 
     /** Prints the name of the code file. */
@@ -23,30 +23,15 @@ public class Code extends CS2040CFile {
     }
 
     @Override
-    public String getName() {
-        return this.name;
-    }
-
-    /**
-     * Gets the location path of the code file.
-     *
-     * @return The location path of the code file.
-     */
-    public String getPath() {
-        return path;
+    public boolean isCode() {
+        return true;
     }
 
-    /**
-     * Sets the location path of the code file.
-     *
-     * @param path The new location path of the code file.
-     */
     @Override
-    public void setPath(String path) {
-        this.path = path;
+    public String getName() {
+        return this.name;
     }
 
-
     /**
      * Gets the tag of the code file.
      *
@@ -62,7 +47,7 @@ public class Code extends CS2040CFile {
      * @param topic The new tag for the code file.
      */
     public void setTopic(String topic) {
-        this.topic = topic;
+        this.topic = StringPool.canonicalize(topic);
     }
 
     public void setImportance(int importance) {
@@ -12,11 +12,11 @@ public class Note extends CS2040CFile {
      * @param topic Topic that note file should be tagged.
      */
     public Note(String name, String path, String topic) {
-        super(name, path, topic);
+        super(name, path, topic, NOTE_LABEL);
     }
 
     public Note(String name, String path, String topic, int importance) {
-        super(name, path, topic, importance);
+        super(name, path, topic, importance, NOTE_LABEL);
     }
 
     /** Prints the name of the note file. */
@@ -26,28 +26,13 @@ public class Note extends CS2040CFile {
     }
 
     @Override
-    public String getName() {
-        return this.name;
+    public boolean isCode() {
+        return false;
     }
 
-    /**
-     * Gets the location path of the note file.
-     *
-     * @return The location path of the note file.
-     */
     @Override
-    public String getPath() {
-        return path;
-    }
-
-    /**
-     * Sets the location path of the note file.
-     *
-     * @param path The new location path of the note file.
-     */
-    @Override
-    public void setPath(String path) {
-        this.path = path;
+    public String getName() {
+        return this.name;
     }
 
     /**
@@ -67,7 +52,7 @@ public class Note extends CS2040CFile {
      */
     @Override
     public void setTopic(String topic) {
-        this.topic = topic;
+        this.topic = StringPool.canonicalize(topic);
     }
 
     @Override
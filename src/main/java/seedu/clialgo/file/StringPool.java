@@ -0,0 +1,62 @@
+package seedu.clialgo.file;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+
+//@@author heejet
+/**
+ * A <code>StringPool</code> keeps one canonical instance of every string given to it. CS2040CFiles store their topic
+ * and the directory of their path through this pool, so the ten topic names and the few directories in use are each
+ * held once instead of once per CS2040CFile, however the CS2040CFile was created or decoded.
+ *
+ * <p>The pool is seeded with the topic names when it is loaded, so the topic of every CS2040CFile is one of these
+ * constants whichever class is loaded first. Every other string is only held weakly, and leaves the pool once no
+ * CS2040CFile uses it, so the directories of deleted CS2040CFiles do not stay in memory.
+ */
+public final class StringPool {
+    /** The names of all the topics in CLIAlgo, which are always kept in the pool. */
+    private static final String[] TOPIC_NAMES = {"SORTING", "LINKED_LIST", "GRAPH_STRUCTURES", "BINARY_HEAP",
+        "HASH_TABLE", "GRAPH_TRAVERSAL", "BINARY_SEARCH_TREE", "SS_SHORTEST_PATH", "UNION_FIND_DS",
+        "MINIMUM_SPANNING_TREE"};
+
+    /** The canonical instance of each string, referenced weakly both as the key and as the value. */
+    private static final WeakHashMap<String, WeakReference<String>> POOL = new WeakHashMap<>();
+
+    static {
+        for (String topicName : TOPIC_NAMES) {
+            canonicalize(topicName);
+        }
+    }
+
+    private StringPool() {
+    }
+
+    /**
+     * Gets the canonical instance of a string, making <code>value</code> the canonical instance if the pool has no
+     * equal string yet.
+     *
+     * @param value The string to be canonicalized.
+     * @return The canonical instance equal to <code>value</code>, or null if <code>value</code> is null.
+     */
+    public static synchronized String canonicalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        WeakReference<String> canonicalReference = POOL.get(value);
+        String canonicalValue = canonicalReference == null ? null : canonicalReference.get();
+        if (canonicalValue != null) {
+            return canonicalValue;
+        }
+        POOL.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Gets the number of distinct strings in the pool, leaving out those no longer in use.
+     *
+     * @return The number of canonical instances.
+     */
+    public static synchronized int size() {
+        return POOL.size();
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.clialgo.logic;
+
+import seedu.clialgo.file.CS2040CFile;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+//@@author heejet
+/**
+ * A read-only view of several groups of CS2040CFiles, such as the CS2040CFiles of each <code>Topic</code>, one group
+ * after another. Nothing is copied, iterating the view walks the maps of the topics themselves. The topics of a
+ * published snapshot of a <code>TopicManager</code> are never changed, so a view of them keeps showing the
+ * CS2040CFiles stored when it was created, and can be iterated, streamed or streamed in parallel while the
+ * <code>TopicManager</code> changes.
+ */
+class CS2040CFilesView extends AbstractCollection<CS2040CFile> {
+    private final ArrayList<Collection<CS2040CFile>> groups;
+    private final int size;
+
+    /**
+     * Constructor for a view of the CS2040CFiles of <code>groups</code>, which must not be changed afterwards.
+     *
+     * @param groups The groups of CS2040CFiles viewed, in the order they are visited.
+     */
+    CS2040CFilesView(ArrayList<Collection<CS2040CFile>> groups) {
+        this.groups = groups;
+        int size = 0;
+        for (Collection<CS2040CFile> group : groups) {
+            size += group.size();
+        }
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<CS2040CFile> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Creates a <code>Spliterator</code> over the viewed CS2040CFiles. It splits between groups first, and within a
+     * group once a single group is left, so a parallel stream divides the work without copying any CS2040CFile. The
+     * prefix split off always comes before the rest, so joining the results of the parts in order gives the order of
+     * a sequential traversal.
+     */
+    @Override
+    public Spliterator<CS2040CFile> spliterator() {
+        return new GroupsSpliterator(groups, 0, groups.size(), null);
+    }
+
+    /**
+     * A <code>Spliterator</code> over the CS2040CFiles of a range of groups, preceded by the rest of a group that was
+     * already started.
+     */
+    private static class GroupsSpliterator implements Spliterator<CS2040CFile> {
+        private final ArrayList<Collection<CS2040CFile>> groups;
+        private final int endGroup;
+        private int nextGroup;
+
+        /** The <code>Spliterator</code> of the group being traversed, or null if no group has been started. */
+        private Spliterator<CS2040CFile> current;
+
+        private GroupsSpliterator(ArrayList<Collection<CS2040CFile>> groups, int nextGroup, int endGroup,
+                Spliterator<CS2040CFile> current) {
+            this.groups = groups;
+            this.nextGroup = nextGroup;
+            this.endGroup = endGroup;
+            this.current = current;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super CS2040CFile> action) {
+            while (current == null || !current.tryAdvance(action)) {
+                if (nextGroup >= endGroup) {
+                    current = null;
+                    return false;
+                }
+                current = groups.get(nextGroup++).spliterator();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super CS2040CFile> action) {
+            if (current != null) {
+                current.forEachRemaining(action);
+                current = null;
+            }
+            while (nextGroup < endGroup) {
+                groups.get(nextGroup++).spliterator().forEachRemaining(action);
+            }
+        }
+
+        @Override
+        public Spliterator<CS2040CFile> trySplit() {
+            int remainingGroups = endGroup - nextGroup;
+            if (remainingGroups >= 2) {
+                int middleGroup = (nextGroup + endGroup) >>> 1;
+                Spliterator<CS2040CFile> prefix = new GroupsSpliterator(groups, nextGroup, middleGroup, current);
+                nextGroup = middleGroup;
+                current = null;
+                return prefix;
+            }
+            if (remainingGroups == 1 && current != null) {
+                Spliterator<CS2040CFile> prefix = current;
+                current = null;
+                return prefix;
+            }
+            if (remainingGroups == 1) {
+                current = groups.get(nextGroup++).spliterator();
+            }
+            return current == null ? null : current.trySplit();
+        }
+
+        @Override
+        public long estimateSize() {
+            long estimatedSize = current == null ? 0 : current.estimateSize();
+            for (int i = nextGroup; i < endGroup; i++) {
+                estimatedSize += groups.get(i).size();
+            }
+            return estimatedSize;
+        }
+
+        @Override
+        public int characteristics() {
+            int characteristics = Spliterator.IMMUTABLE | Spliterator.NONNULL;
+            if (current == null || current.hasCharacteristics(Spliterator.SIZED)) {
+                characteristics |= Spliterator.SIZED;
+            }
+            return characteristics;
+        }
+    }
+}
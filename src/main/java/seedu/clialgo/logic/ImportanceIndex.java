@@ -0,0 +1,125 @@
+package seedu.clialgo.logic;
+
+import seedu.clialgo.file.CS2040CFile;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+//@@author heejet
+/**
+ * An <code>ImportanceIndex</code> groups the CS2040CFiles of a <code>Topic</code> by importance. As importance only
+ * ranges from <code>MIN_IMPORTANCE</code> to <code>MAX_IMPORTANCE</code>, every importance has its own bucket, so the
+ * CS2040CFiles in a range of importance are found in decreasing order of importance without visiting or sorting any
+ * other CS2040CFile. A CS2040CFile whose importance lies outside the valid range, e.g. from a hand-edited data file,
+ * is grouped with the nearest valid importance so that it is still listed. Each bucket is a <code>PersistentMap</code>
+ * keyed by name, so a copy of the index is made in constant time and then changed in O(log n) time without changing
+ * the original.
+ */
+public class ImportanceIndex {
+    private final ArrayList<PersistentMap<String, CS2040CFile>> buckets;
+
+    /** Constructor that initializes an <code>ImportanceIndex</code> with no CS2040CFiles. */
+    public ImportanceIndex() {
+        buckets = new ArrayList<>(CS2040CFile.MAX_IMPORTANCE + 1);
+        for (int importance = 0; importance <= CS2040CFile.MAX_IMPORTANCE; importance++) {
+            buckets.add(PersistentMap.empty());
+        }
+    }
+
+    /**
+     * Constructor that initializes an <code>ImportanceIndex</code> with the CS2040CFiles of a map, building each
+     * bucket at once.
+     *
+     * @param cs2040cFiles The CS2040CFiles to be indexed, keyed by their names.
+     */
+    public ImportanceIndex(Map<String, CS2040CFile> cs2040cFiles) {
+        this();
+        HashMap<Integer, HashMap<String, CS2040CFile>> groups = new HashMap<>();
+        for (Map.Entry<String, CS2040CFile> entry : cs2040cFiles.entrySet()) {
+            groups.computeIfAbsent(getIndexedImportance(entry.getValue().getImportance()), i -> new HashMap<>())
+                    .put(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<Integer, HashMap<String, CS2040CFile>> group : groups.entrySet()) {
+            buckets.set(group.getKey(), PersistentMap.copyOf(group.getValue()));
+        }
+    }
+
+    private ImportanceIndex(ArrayList<PersistentMap<String, CS2040CFile>> buckets) {
+        this.buckets = new ArrayList<>(buckets);
+    }
+
+    /**
+     * Copies this index in constant time. Changing the copy does not change this index.
+     *
+     * @return A new <code>ImportanceIndex</code> with the same CS2040CFiles.
+     */
+    public ImportanceIndex copy() {
+        return new ImportanceIndex(buckets);
+    }
+
+    /**
+     * Gets the importance a CS2040CFile is grouped under.
+     *
+     * @param importance The importance of the CS2040CFile.
+     * @return The nearest importance from <code>MIN_IMPORTANCE</code> to <code>MAX_IMPORTANCE</code>.
+     */
+    public static int getIndexedImportance(int importance) {
+        return Math.max(CS2040CFile.MIN_IMPORTANCE, Math.min(CS2040CFile.MAX_IMPORTANCE, importance));
+    }
+
+    /**
+     * Adds a CS2040CFile, in O(log n) time.
+     *
+     * @param name The name the CS2040CFile is stored under.
+     * @param cs2040cFile The CS2040CFile to be added.
+     */
+    public void add(String name, CS2040CFile cs2040cFile) {
+        int importance = getIndexedImportance(cs2040cFile.getImportance());
+        buckets.set(importance, buckets.get(importance).plus(name, cs2040cFile));
+    }
+
+    /**
+     * Removes a CS2040CFile, in O(log n) time.
+     *
+     * @param name The name the CS2040CFile is stored under.
+     * @param cs2040cFile The CS2040CFile to be removed.
+     */
+    public void remove(String name, CS2040CFile cs2040cFile) {
+        int importance = getIndexedImportance(cs2040cFile.getImportance());
+        buckets.set(importance, buckets.get(importance).minus(name));
+    }
+
+    /**
+     * Streams the CS2040CFiles whose importance lies in a range, in decreasing order of importance. CS2040CFiles of
+     * the same importance are streamed in an order that only depends on their names.
+     *
+     * @param minImportance The lowest importance in the range.
+     * @param maxImportance The highest importance in the range.
+     * @return A lazy stream over the CS2040CFiles in the range.
+     */
+    public Stream<CS2040CFile> stream(int minImportance, int maxImportance) {
+        int low = Math.max(minImportance, CS2040CFile.MIN_IMPORTANCE);
+        int high = Math.min(maxImportance, CS2040CFile.MAX_IMPORTANCE);
+        return IntStream.rangeClosed(low, high).mapToObj(i -> buckets.get(high + low - i))
+                .flatMap(bucket -> bucket.values().stream());
+    }
+
+    /**
+     * Counts the CS2040CFiles whose importance lies in a range without visiting them.
+     *
+     * @param minImportance The lowest importance in the range.
+     * @param maxImportance The highest importance in the range.
+     * @return The number of CS2040CFiles in the range.
+     */
+    public int count(int minImportance, int maxImportance) {
+        int count = 0;
+        for (int importance = Math.max(minImportance, CS2040CFile.MIN_IMPORTANCE);
+                importance <= Math.min(maxImportance, CS2040CFile.MAX_IMPORTANCE); importance++) {
+            count += buckets.get(importance).size();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.clialgo.logic;
+
+import seedu.clialgo.file.CS2040CFile;
+
+import java.util.ArrayList;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+//@@author heejet
+/**
+ * A <code>ParallelFilter</code> keeps the CS2040CFiles of a <code>Spliterator</code> that satisfy a predicate, on the
+ * common fork-join pool. The <code>Spliterator</code> is split until each part holds at most
+ * <code>SEQUENTIAL_THRESHOLD</code> CS2040CFiles, and the parts are filtered in parallel. The prefix split off a
+ * <code>Spliterator</code> comes before the rest, so the results are joined in the order of a sequential traversal
+ * and do not depend on how the work was scheduled.
+ */
+class ParallelFilter extends RecursiveTask<ArrayList<CS2040CFile>> {
+    private static final long serialVersionUID = 1L;
+
+    /** The number of CS2040CFiles below which filtering them in parallel costs more than it saves. */
+    static final int SEQUENTIAL_THRESHOLD = 8192;
+
+    private final Spliterator<CS2040CFile> cs2040cFiles;
+    private final Predicate<? super CS2040CFile> predicate;
+
+    private ParallelFilter(Spliterator<CS2040CFile> cs2040cFiles, Predicate<? super CS2040CFile> predicate) {
+        this.cs2040cFiles = cs2040cFiles;
+        this.predicate = predicate;
+    }
+
+    /**
+     * Keeps the CS2040CFiles satisfying a predicate, on the calling thread if there are fewer than
+     * <code>SEQUENTIAL_THRESHOLD</code> of them and on the common fork-join pool otherwise.
+     *
+     * @param cs2040cFiles The CS2040CFiles to be filtered, which must not change while they are filtered.
+     * @param predicate The predicate to be satisfied, which may be tested on several threads at once.
+     * @return The CS2040CFiles satisfying the predicate, in the order of a sequential traversal.
+     */
+    static ArrayList<CS2040CFile> filter(Spliterator<CS2040CFile> cs2040cFiles,
+            Predicate<? super CS2040CFile> predicate) {
+        if (cs2040cFiles.estimateSize() < SEQUENTIAL_THRESHOLD) {
+            return filterSequentially(cs2040cFiles, predicate);
+        }
+        return ForkJoinPool.commonPool().invoke(new ParallelFilter(cs2040cFiles, predicate));
+    }
+
+    private static ArrayList<CS2040CFile> filterSequentially(Spliterator<CS2040CFile> cs2040cFiles,
+            Predicate<? super CS2040CFile> predicate) {
+        ArrayList<CS2040CFile> kept = new ArrayList<>();
+        cs2040cFiles.forEachRemaining(cs2040cFile -> {
+            if (predicate.test(cs2040cFile)) {
+                kept.add(cs2040cFile);
+            }
+        });
+        return kept;
+    }
+
+    @Override
+    protected ArrayList<CS2040CFile> compute() {
+        if (cs2040cFiles.estimateSize() <= SEQUENTIAL_THRESHOLD) {
+            return filterSequentially(cs2040cFiles, predicate);
+        }
+        Spliterator<CS2040CFile> prefix = cs2040cFiles.trySplit();
+        if (prefix == null) {
+            return filterSequentially(cs2040cFiles, predicate);
+        }
+        ParallelFilter prefixTask = new ParallelFilter(prefix, predicate);
+        prefixTask.fork();
+        ArrayList<CS2040CFile> restKept = compute();
+        ArrayList<CS2040CFile> kept = prefixTask.join();
+        kept.addAll(restKept);
+        return kept;
+    }
+}
@@ -0,0 +1,584 @@
+package seedu.clialgo.logic;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+//@@author heejet
+/**
+ * A <code>PersistentMap</code> is a hash map that is never changed once created. <code>plus</code> and
+ * <code>minus</code> return a new map instead, which shares all but O(log n) of its nodes with the old one, so a
+ * changed copy of a map of n entries is made in O(log n) time and memory while the old map can still be read by other
+ * threads. It is a hash array mapped trie: every level of the trie is indexed by the next 5 bits of the hash of a key,
+ * and a node only holds the slots that are in use, entries first and then the nodes of the next level. Keys whose
+ * hashes are equal end in a node holding all of them.
+ *
+ * <p>The shape of the trie only depends on the keys it holds, so two maps with the same keys iterate them in the same
+ * order, except that keys with equal hashes keep the order they were added in. Keys and values must not be null.
+ */
+final class PersistentMap<K, V> extends AbstractMap<K, V> {
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+    /** Returned by <code>find</code> when a key is not in the map, since values are never null. */
+    private static final Object NOT_FOUND = new Object();
+
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(Node.EMPTY);
+
+    private final Node root;
+
+    private PersistentMap(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Gets the map with no entries.
+     *
+     * @return The empty <code>PersistentMap</code>.
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Creates a <code>PersistentMap</code> with the entries of a map. The trie is built level by level from all the
+     * entries at once, in O(n log n) time, without creating the nodes that adding the entries one by one would throw
+     * away.
+     *
+     * @param map The map to be copied, whose keys and values must not be null.
+     * @return A <code>PersistentMap</code> with the same entries as <code>map</code>.
+     */
+    static <K, V> PersistentMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        if (map instanceof PersistentMap) {
+            @SuppressWarnings("unchecked")
+            PersistentMap<K, V> persistentMap = (PersistentMap<K, V>) map;
+            return persistentMap;
+        }
+        if (map.isEmpty()) {
+            return empty();
+        }
+        int size = map.size();
+        Object[] keys = new Object[size];
+        Object[] values = new Object[size];
+        int[] hashes = new int[size];
+        int[] order = new int[size];
+        int i = 0;
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            assert entry.getKey() != null && entry.getValue() != null;
+            keys[i] = entry.getKey();
+            values[i] = entry.getValue();
+            hashes[i] = entry.getKey().hashCode();
+            order[i] = i;
+            i++;
+        }
+        return new PersistentMap<>(build(keys, values, hashes, order, new int[size], 0, size, 0));
+    }
+
+    /**
+     * Builds the node holding the entries at positions <code>from</code> to <code>to</code> of <code>order</code>,
+     * whose hashes are equal below <code>shift</code>.
+     */
+    private static Node build(Object[] keys, Object[] values, int[] hashes, int[] order, int[] buffer, int from,
+            int to, int shift) {
+        if (shift >= Integer.SIZE) {
+            Object[] content = new Object[(to - from) * 2];
+            for (int i = from; i < to; i++) {
+                content[(i - from) * 2] = keys[order[i]];
+                content[(i - from) * 2 + 1] = values[order[i]];
+            }
+            return new Node(0, 0, content, to - from);
+        }
+        int[] counts = new int[LEVEL_MASK + 2];
+        for (int i = from; i < to; i++) {
+            counts[chunk(hashes[order[i]], shift) + 1]++;
+        }
+        int dataMap = 0;
+        int nodeMap = 0;
+        for (int chunk = 0; chunk <= LEVEL_MASK; chunk++) {
+            if (counts[chunk + 1] == 1) {
+                dataMap |= 1 << chunk;
+            } else if (counts[chunk + 1] > 1) {
+                nodeMap |= 1 << chunk;
+            }
+            counts[chunk + 1] += counts[chunk];
+        }
+        for (int i = from; i < to; i++) {
+            buffer[from + counts[chunk(hashes[order[i]], shift)]++] = order[i];
+        }
+        System.arraycopy(buffer, from, order, from, to - from);
+
+        int dataCount = Integer.bitCount(dataMap);
+        Object[] content = new Object[dataCount * 2 + Integer.bitCount(nodeMap)];
+        int dataIndex = 0;
+        int nodeIndex = dataCount * 2;
+        int start = from;
+        while (start < to) {
+            int chunk = chunk(hashes[order[start]], shift);
+            int end = start + 1;
+            while (end < to && chunk(hashes[order[end]], shift) == chunk) {
+                end++;
+            }
+            if (end - start == 1) {
+                content[dataIndex++] = keys[order[start]];
+                content[dataIndex++] = values[order[start]];
+            } else {
+                content[nodeIndex++] = build(keys, values, hashes, order, buffer, start, end, shift + BITS_PER_LEVEL);
+            }
+            start = end;
+        }
+        return new Node(dataMap, nodeMap, content, to - from);
+    }
+
+    private static int chunk(int hash, int shift) {
+        return (hash >>> shift) & LEVEL_MASK;
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << chunk(hash, shift);
+    }
+
+    private static int index(int map, int bit) {
+        return Integer.bitCount(map & (bit - 1));
+    }
+
+    @Override
+    public int size() {
+        return root.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root.size == 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        Object value = find(key);
+        return value == NOT_FOUND ? null : (V) value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key) != NOT_FOUND;
+    }
+
+    private Object find(Object key) {
+        if (key == null) {
+            return NOT_FOUND;
+        }
+        int hash = key.hashCode();
+        Node node = root;
+        for (int shift = 0; shift < Integer.SIZE; shift += BITS_PER_LEVEL) {
+            int bit = bit(hash, shift);
+            if ((node.dataMap & bit) != 0) {
+                int i = index(node.dataMap, bit) * 2;
+                return key.equals(node.content[i]) ? node.content[i + 1] : NOT_FOUND;
+            }
+            if ((node.nodeMap & bit) == 0) {
+                return NOT_FOUND;
+            }
+            node = node.getNode(bit);
+        }
+        for (int i = 0; i < node.content.length; i += 2) {
+            if (key.equals(node.content[i])) {
+                return node.content[i + 1];
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Creates a copy of this map in which <code>key</code> maps to <code>value</code>, in O(log n) time. This map is
+     * not changed.
+     *
+     * @param key The key, which must not be null.
+     * @param value The value, which must not be null.
+     * @return The changed copy, or this map if <code>key</code> already maps to <code>value</code>.
+     */
+    PersistentMap<K, V> plus(K key, V value) {
+        assert key != null && value != null;
+        Node newRoot = put(root, key, value, key.hashCode(), 0);
+        return newRoot == root ? this : new PersistentMap<>(newRoot);
+    }
+
+    /**
+     * Creates a copy of this map without <code>key</code>, in O(log n) time. This map is not changed.
+     *
+     * @param key The key to be removed.
+     * @return The changed copy, or this map if <code>key</code> is not in it.
+     */
+    PersistentMap<K, V> minus(Object key) {
+        if (key == null) {
+            return this;
+        }
+        Node newRoot = remove(root, key, key.hashCode(), 0);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot.size == 0 ? empty() : new PersistentMap<>(newRoot);
+    }
+
+    private static Node put(Node node, Object key, Object value, int hash, int shift) {
+        if (shift >= Integer.SIZE) {
+            for (int i = 0; i < node.content.length; i += 2) {
+                if (key.equals(node.content[i])) {
+                    return node.content[i + 1] == value ? node : node.withValue(i, value);
+                }
+            }
+            Object[] content = new Object[node.content.length + 2];
+            System.arraycopy(node.content, 0, content, 0, node.content.length);
+            content[node.content.length] = key;
+            content[node.content.length + 1] = value;
+            return new Node(0, 0, content, node.size + 1);
+        }
+        int bit = bit(hash, shift);
+        if ((node.dataMap & bit) != 0) {
+            int i = index(node.dataMap, bit) * 2;
+            Object existingKey = node.content[i];
+            if (key.equals(existingKey)) {
+                return node.content[i + 1] == value ? node : node.withValue(i, value);
+            }
+            Node subNode = merge(existingKey, node.content[i + 1], existingKey.hashCode(), key, value, hash,
+                    shift + BITS_PER_LEVEL);
+            return node.withDataMovedToNode(bit, subNode);
+        }
+        if ((node.nodeMap & bit) != 0) {
+            Node subNode = node.getNode(bit);
+            Node newSubNode = put(subNode, key, value, hash, shift + BITS_PER_LEVEL);
+            return newSubNode == subNode ? node : node.withNode(bit, newSubNode, node.size - subNode.size
+                    + newSubNode.size);
+        }
+        return node.withData(bit, key, value);
+    }
+
+    /** Creates the node holding two entries whose hashes are equal below <code>shift</code>. */
+    private static Node merge(Object firstKey, Object firstValue, int firstHash, Object secondKey, Object secondValue,
+            int secondHash, int shift) {
+        if (shift >= Integer.SIZE) {
+            return new Node(0, 0, new Object[] {firstKey, firstValue, secondKey, secondValue}, 2);
+        }
+        int firstChunk = chunk(firstHash, shift);
+        int secondChunk = chunk(secondHash, shift);
+        if (firstChunk == secondChunk) {
+            Node subNode = merge(firstKey, firstValue, firstHash, secondKey, secondValue, secondHash,
+                    shift + BITS_PER_LEVEL);
+            return new Node(0, 1 << firstChunk, new Object[] {subNode}, 2);
+        }
+        Object[] content = firstChunk < secondChunk
+                ? new Object[] {firstKey, firstValue, secondKey, secondValue}
+                : new Object[] {secondKey, secondValue, firstKey, firstValue};
+        return new Node((1 << firstChunk) | (1 << secondChunk), 0, content, 2);
+    }
+
+    private static Node remove(Node node, Object key, int hash, int shift) {
+        if (shift >= Integer.SIZE) {
+            for (int i = 0; i < node.content.length; i += 2) {
+                if (key.equals(node.content[i])) {
+                    Object[] content = new Object[node.content.length - 2];
+                    System.arraycopy(node.content, 0, content, 0, i);
+                    System.arraycopy(node.content, i + 2, content, i, content.length - i);
+                    return new Node(0, 0, content, node.size - 1);
+                }
+            }
+            return node;
+        }
+        int bit = bit(hash, shift);
+        if ((node.dataMap & bit) != 0) {
+            int i = index(node.dataMap, bit) * 2;
+            return key.equals(node.content[i]) ? node.withoutData(bit) : node;
+        }
+        if ((node.nodeMap & bit) == 0) {
+            return node;
+        }
+        Node subNode = node.getNode(bit);
+        Node newSubNode = remove(subNode, key, hash, shift + BITS_PER_LEVEL);
+        if (newSubNode == subNode) {
+            return node;
+        }
+        if (newSubNode.size == 1) {
+            // A node of one entry is never kept below another node, its entry moves up instead
+            return node.withNodeMovedToData(bit, newSubNode.content[0], newSubNode.content[1]);
+        }
+        return node.withNode(bit, newSubNode, node.size - 1);
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return root.size;
+            }
+
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return Spliterators.iterator(spliterator());
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public Spliterator<Map.Entry<K, V>> spliterator() {
+                return new NodeSpliterator<>(root, (key, value) -> new SimpleImmutableEntry<>((K) key, (V) value),
+                        Spliterator.DISTINCT);
+            }
+        };
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return root.size;
+            }
+
+            @Override
+            public boolean contains(Object key) {
+                return containsKey(key);
+            }
+
+            @Override
+            public Iterator<K> iterator() {
+                return Spliterators.iterator(spliterator());
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public Spliterator<K> spliterator() {
+                return new NodeSpliterator<>(root, (key, value) -> (K) key, Spliterator.DISTINCT);
+            }
+        };
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public int size() {
+                return root.size;
+            }
+
+            @Override
+            public Iterator<V> iterator() {
+                return Spliterators.iterator(spliterator());
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public Spliterator<V> spliterator() {
+                return new NodeSpliterator<>(root, (key, value) -> (V) value, 0);
+            }
+        };
+    }
+
+    /**
+     * A node of the trie. <code>content</code> holds the key and value of every entry in <code>dataMap</code>, in the
+     * order of their bits, followed by the node of every bit in <code>nodeMap</code>. A node below the last level has
+     * neither map set and holds entries whose hashes are all equal.
+     */
+    private static final class Node {
+        private static final Node EMPTY = new Node(0, 0, new Object[0], 0);
+
+        private final int dataMap;
+        private final int nodeMap;
+        private final Object[] content;
+
+        /** The number of entries held by this node and the nodes below it. */
+        private final int size;
+
+        private Node(int dataMap, int nodeMap, Object[] content, int size) {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+            this.size = size;
+        }
+
+        private int getDataCount() {
+            return dataMap == 0 && nodeMap == 0 ? content.length / 2 : Integer.bitCount(dataMap);
+        }
+
+        /** Gets the number of entries and nodes held directly by this node. */
+        private int getSlotCount() {
+            return content.length - getDataCount();
+        }
+
+        private Node getNode(int bit) {
+            return (Node) content[Integer.bitCount(dataMap) * 2 + index(nodeMap, bit)];
+        }
+
+        private Node withValue(int keyIndex, Object value) {
+            Object[] newContent = content.clone();
+            newContent[keyIndex + 1] = value;
+            return new Node(dataMap, nodeMap, newContent, size);
+        }
+
+        private Node withData(int bit, Object key, Object value) {
+            int i = index(dataMap, bit) * 2;
+            Object[] newContent = new Object[content.length + 2];
+            System.arraycopy(content, 0, newContent, 0, i);
+            newContent[i] = key;
+            newContent[i + 1] = value;
+            System.arraycopy(content, i, newContent, i + 2, content.length - i);
+            return new Node(dataMap | bit, nodeMap, newContent, size + 1);
+        }
+
+        private Node withoutData(int bit) {
+            int i = index(dataMap, bit) * 2;
+            Object[] newContent = new Object[content.length - 2];
+            System.arraycopy(content, 0, newContent, 0, i);
+            System.arraycopy(content, i + 2, newContent, i, newContent.length - i);
+            return new Node(dataMap ^ bit, nodeMap, newContent, size - 1);
+        }
+
+        private Node withNode(int bit, Node node, int newSize) {
+            Object[] newContent = content.clone();
+            newContent[Integer.bitCount(dataMap) * 2 + index(nodeMap, bit)] = node;
+            return new Node(dataMap, nodeMap, newContent, newSize);
+        }
+
+        private Node withDataMovedToNode(int bit, Node node) {
+            int dataIndex = index(dataMap, bit) * 2;
+            int nodeIndex = (Integer.bitCount(dataMap) - 1) * 2 + index(nodeMap, bit);
+            Object[] newContent = new Object[content.length - 1];
+            System.arraycopy(content, 0, newContent, 0, dataIndex);
+            System.arraycopy(content, dataIndex + 2, newContent, dataIndex, nodeIndex - dataIndex);
+            newContent[nodeIndex] = node;
+            System.arraycopy(content, nodeIndex + 2, newContent, nodeIndex + 1, content.length - nodeIndex - 2);
+            return new Node(dataMap ^ bit, nodeMap | bit, newContent, size + 1);
+        }
+
+        private Node withNodeMovedToData(int bit, Object key, Object value) {
+            int dataIndex = index(dataMap, bit) * 2;
+            int nodeIndex = Integer.bitCount(dataMap) * 2 + index(nodeMap, bit);
+            Object[] newContent = new Object[content.length + 1];
+            System.arraycopy(content, 0, newContent, 0, dataIndex);
+            newContent[dataIndex] = key;
+            newContent[dataIndex + 1] = value;
+            System.arraycopy(content, dataIndex, newContent, dataIndex + 2, nodeIndex - dataIndex);
+            System.arraycopy(content, nodeIndex + 1, newContent, nodeIndex + 2, content.length - nodeIndex - 1);
+            return new Node(dataMap | bit, nodeMap ^ bit, newContent, size - 1);
+        }
+    }
+
+    /**
+     * A <code>Spliterator</code> that walks the trie depth first, keeping the slots left in each node on the path
+     * from the node it started at. Before it descends, it splits the slots of that node in half, descending into the
+     * node when it holds a single node, so a parallel stream divides the work without copying any entry.
+     */
+    private static final class NodeSpliterator<T> implements Spliterator<T> {
+        /** The largest number of nodes on a path, one for each level and one below the last level. */
+        private static final int MAX_DEPTH = (Integer.SIZE + BITS_PER_LEVEL - 1) / BITS_PER_LEVEL + 1;
+
+        private final BiFunction<Object, Object, T> mapper;
+        private final int extraCharacteristics;
+        private final Node[] nodes;
+        private final int[] nextSlots;
+        private final int[] endSlots;
+
+        /** The position of the deepest node on the path in <code>nodes</code>, or -1 when the walk is finished. */
+        private int depth;
+
+        private NodeSpliterator(Node node, BiFunction<Object, Object, T> mapper, int extraCharacteristics) {
+            this(node, 0, node.getSlotCount(), mapper, extraCharacteristics);
+        }
+
+        private NodeSpliterator(Node node, int nextSlot, int endSlot, BiFunction<Object, Object, T> mapper,
+                int extraCharacteristics) {
+            this.mapper = mapper;
+            this.extraCharacteristics = extraCharacteristics;
+            this.nodes = new Node[MAX_DEPTH];
+            this.nextSlots = new int[MAX_DEPTH];
+            this.endSlots = new int[MAX_DEPTH];
+            this.nodes[0] = node;
+            this.nextSlots[0] = nextSlot;
+            this.endSlots[0] = endSlot;
+            this.depth = 0;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (depth >= 0) {
+                Node node = nodes[depth];
+                int slot = nextSlots[depth];
+                if (slot >= endSlots[depth]) {
+                    nodes[depth--] = null;
+                    continue;
+                }
+                nextSlots[depth]++;
+                int dataCount = node.getDataCount();
+                if (slot < dataCount) {
+                    action.accept(mapper.apply(node.content[slot * 2], node.content[slot * 2 + 1]));
+                    return true;
+                }
+                Node subNode = (Node) node.content[dataCount + slot];
+                depth++;
+                nodes[depth] = subNode;
+                nextSlots[depth] = 0;
+                endSlots[depth] = subNode.getSlotCount();
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            while (tryAdvance(action)) {
+                // Every call hands one entry to the action.
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (depth != 0) {
+                return null;
+            }
+            while (endSlots[0] - nextSlots[0] == 1) {
+                Node node = nodes[0];
+                int dataCount = node.getDataCount();
+                if (nextSlots[0] < dataCount) {
+                    return null;
+                }
+                Node subNode = (Node) node.content[dataCount + nextSlots[0]];
+                nodes[0] = subNode;
+                nextSlots[0] = 0;
+                endSlots[0] = subNode.getSlotCount();
+            }
+            int slotCount = endSlots[0] - nextSlots[0];
+            if (slotCount < 2) {
+                return null;
+            }
+            int middleSlot = nextSlots[0] + slotCount / 2;
+            Spliterator<T> prefix = new NodeSpliterator<>(nodes[0], nextSlots[0], middleSlot, mapper,
+                    extraCharacteristics);
+            nextSlots[0] = middleSlot;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            long size = 0;
+            for (int i = 0; i <= depth; i++) {
+                int dataCount = nodes[i].getDataCount();
+                for (int slot = nextSlots[i]; slot < endSlots[i]; slot++) {
+                    size += slot < dataCount ? 1 : ((Node) nodes[i].content[dataCount + slot]).size;
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE | Spliterator.NONNULL
+                    | extraCharacteristics;
+        }
+    }
+}
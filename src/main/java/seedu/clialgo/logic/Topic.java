@@ -1,20 +1,33 @@
 package seedu.clialgo.logic;
 
 import seedu.clialgo.file.CS2040CFile;
-import seedu.clialgo.file.Code;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Objects;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 
 /**
  * The <code>Topic</code> object handles the operations of the CS2040CFiles within a specific topic.
+ * <p>
+ * The CS2040CFiles are held in <code>PersistentMap</code>s, so <code>withCS2040CFile</code> and
+ * <code>withoutCS2040CFile</code> create a changed copy of a topic in O(log n) time, sharing everything else with it.
  */
 public class Topic {
     private final String topicName;
-    private final HashMap<String, CS2040CFile> cs2040cFiles;
+    private PersistentMap<String, CS2040CFile> cs2040cFiles;
+
+    /** The CS2040CFiles of this topic grouped by importance. */
+    private final ImportanceIndex importanceIndex;
+
+    /** The code files and the notes of this topic, each keyed by name. */
+    private PersistentMap<String, CS2040CFile> codeFiles;
+    private PersistentMap<String, CS2040CFile> noteFiles;
 
     /**
      * Constructor that initializes an empty <code>Topic</code> object.
@@ -23,19 +36,40 @@ public class Topic {
      */
     public Topic(String topicName) {
         this.topicName = topicName;
-        cs2040cFiles = new HashMap<>();
+        cs2040cFiles = PersistentMap.empty();
+        importanceIndex = new ImportanceIndex();
+        codeFiles = PersistentMap.empty();
+        noteFiles = PersistentMap.empty();
     }
 
     //@@author heejet
     /**
-     * Constructor that initializes a <code>Topic</code> object with CS2040CFiles stored in it.
+     * Constructor that initializes a <code>Topic</code> object with CS2040CFiles stored in it. The CS2040CFiles are
+     * copied, so later changes to <code>cs2040cFiles</code> do not change this topic.
      *
      * @param topicName The name of the topic.
-     * @param cs2040cFiles A HashMap containing the CS2040CFiles stored in the <code>Topic</code> object.
+     * @param cs2040cFiles A Map containing the CS2040CFiles stored in the <code>Topic</code> object.
      */
-    public Topic(String topicName, HashMap<String, CS2040CFile> cs2040cFiles) {
+    public Topic(String topicName, Map<String, CS2040CFile> cs2040cFiles) {
         this.topicName = topicName;
-        this.cs2040cFiles = cs2040cFiles;
+        this.cs2040cFiles = PersistentMap.copyOf(cs2040cFiles);
+        this.importanceIndex = new ImportanceIndex(cs2040cFiles);
+        HashMap<String, CS2040CFile> codeFiles = new HashMap<>();
+        HashMap<String, CS2040CFile> noteFiles = new HashMap<>();
+        for (Map.Entry<String, CS2040CFile> entry : cs2040cFiles.entrySet()) {
+            (entry.getValue().isCode() ? codeFiles : noteFiles).put(entry.getKey(), entry.getValue());
+        }
+        this.codeFiles = PersistentMap.copyOf(codeFiles);
+        this.noteFiles = PersistentMap.copyOf(noteFiles);
+    }
+
+    /** Constructor for a copy of <code>topic</code> that can be changed without changing <code>topic</code>. */
+    private Topic(Topic topic) {
+        this.topicName = topic.topicName;
+        this.cs2040cFiles = topic.cs2040cFiles;
+        this.importanceIndex = topic.importanceIndex.copy();
+        this.codeFiles = topic.codeFiles;
+        this.noteFiles = topic.noteFiles;
     }
 
     /**
@@ -61,9 +95,9 @@ public class Topic {
     /**
      * Obtains all the CS2040CFiles inside the <code>Topic</code> object.
      *
-     * @return A HashMap of all the cs2040CFiles inside this <code>Topic</code> object.
+     * @return A read-only Map of all the cs2040CFiles inside this <code>Topic</code> object.
      */
-    public HashMap<String, CS2040CFile> getC2040CFiles() {
+    public Map<String, CS2040CFile> getC2040CFiles() {
         return cs2040cFiles;
     }
 
@@ -71,6 +105,103 @@ public class Topic {
         return this.topicName;
     }
 
+    //@@author heejet
+    /**
+     * Gets the number of CS2040CFiles stored in this topic.
+     *
+     * @return The number of CS2040CFiles stored in this topic.
+     */
+    public int size() {
+        return this.cs2040cFiles.size();
+    }
+
+    /**
+     * Gets a read-only view of the CS2040CFiles stored in this topic. The view is not a copy, so it can be iterated
+     * without building a new list.
+     *
+     * @return A read-only <code>Collection</code> of all the CS2040CFiles stored in this topic.
+     */
+    public Collection<CS2040CFile> getCS2040CFiles() {
+        return this.cs2040cFiles.values();
+    }
+
+    /**
+     * Creates a <code>Spliterator</code> over the CS2040CFiles stored in this topic, without copying them. It knows
+     * its size and can be split, so the CS2040CFiles can be streamed in parallel.
+     *
+     * @return A <code>Spliterator</code> over all the CS2040CFiles stored in this topic.
+     */
+    public Spliterator<CS2040CFile> spliterator() {
+        return this.cs2040cFiles.values().spliterator();
+    }
+
+    /**
+     * Keeps the CS2040CFiles of this topic that satisfy a predicate. Once there are at least
+     * <code>ParallelFilter.SEQUENTIAL_THRESHOLD</code> of them, the work is split on the common fork-join pool.
+     *
+     * @param predicate The predicate to be satisfied, which may be tested on several threads at once.
+     * @return The CS2040CFiles satisfying the predicate, in the order of <code>getCS2040CFiles</code>.
+     */
+    public ArrayList<CS2040CFile> filter(Predicate<? super CS2040CFile> predicate) {
+        return ParallelFilter.filter(spliterator(), predicate);
+    }
+
+    /**
+     * Streams the CS2040CFiles of this topic whose importance lies in a range, in decreasing order of importance,
+     * without visiting the other CS2040CFiles.
+     *
+     * @param minImportance The lowest importance in the range.
+     * @param maxImportance The highest importance in the range.
+     * @return A lazy stream over the CS2040CFiles in the range.
+     */
+    public Stream<CS2040CFile> streamByImportance(int minImportance, int maxImportance) {
+        return importanceIndex.stream(minImportance, maxImportance);
+    }
+
+    /**
+     * Counts the CS2040CFiles of this topic whose importance lies in a range, without visiting them.
+     *
+     * @param minImportance The lowest importance in the range.
+     * @param maxImportance The highest importance in the range.
+     * @return The number of CS2040CFiles in the range.
+     */
+    public int countByImportance(int minImportance, int maxImportance) {
+        return importanceIndex.count(minImportance, maxImportance);
+    }
+
+    private PersistentMap<String, CS2040CFile> getFilesOfType(boolean isCode) {
+        return isCode ? codeFiles : noteFiles;
+    }
+
+    private void setFilesOfType(boolean isCode, PersistentMap<String, CS2040CFile> files) {
+        if (isCode) {
+            codeFiles = files;
+        } else {
+            noteFiles = files;
+        }
+    }
+
+    /**
+     * Gets a read-only view of either the code files or the notes of this topic, without visiting the other type.
+     *
+     * @param isCode True to get the code files, false to get the notes.
+     * @return A read-only <code>Collection</code> of the CS2040CFiles of the type.
+     */
+    public Collection<CS2040CFile> getCS2040CFilesOfType(boolean isCode) {
+        return getFilesOfType(isCode).values();
+    }
+
+    /**
+     * Counts either the code files or the notes of this topic without visiting them.
+     *
+     * @param isCode True to count the code files, false to count the notes.
+     * @return The number of CS2040CFiles of the type.
+     */
+    public int countOfType(boolean isCode) {
+        return getFilesOfType(isCode).size();
+    }
+    //@@author
+
     //@@author heejet
     /**
      * Gets all CS2040CFiles stored in this specific topic and stores them in an ArrayList.
@@ -78,43 +209,78 @@ public class Topic {
      * @return An ArrayList containing all the CS2040CFiles stored in this topic.
      */
     public ArrayList<String> getAllCS2040CFilesInTopicToPrint() {
-        ArrayList<String> topicCS2040CFiles = new ArrayList<>();
-        for (Map.Entry<String, CS2040CFile> entry : cs2040cFiles.entrySet()) {
-            String cs2040cFileName = entry.getValue().getName();
-            String cs2040cFileNameWithLabel;
-
-            if (cs2040cFiles.get(cs2040cFileName) instanceof Code) {
-                cs2040cFileNameWithLabel = String.format("[CODE] " + cs2040cFileName);
-            } else {
-                cs2040cFileNameWithLabel = String.format("[NOTE] " + cs2040cFileName);
-            }
-
-            topicCS2040CFiles.add(cs2040cFileNameWithLabel);
+        ArrayList<String> topicCS2040CFiles = new ArrayList<>(cs2040cFiles.size());
+        for (CS2040CFile cs2040cFile : cs2040cFiles.values()) {
+            topicCS2040CFiles.add(cs2040cFile.getLabel());
         }
         return topicCS2040CFiles;
     }
     //@@author
 
     /**
-     * Adds a CS2040CFile linked to a specific topic.
+     * Adds a CS2040CFile linked to a specific topic. Only called on a new copy, since published topics never change.
      *
      * @param name Name of the CS2040CFile.
      * @param cs2040cFile A <code>CS2040CFile</code> object representing the CS2040CFile.
      */
-    public void addCS2040CFile(String name, CS2040CFile cs2040cFile) {
-        cs2040cFiles.put(name, cs2040cFile);
+    private void addCS2040CFile(String name, CS2040CFile cs2040cFile) {
+        CS2040CFile replacedCS2040CFile = cs2040cFiles.get(name);
+        cs2040cFiles = cs2040cFiles.plus(name, cs2040cFile);
+        if (replacedCS2040CFile != null) {
+            importanceIndex.remove(name, replacedCS2040CFile);
+            setFilesOfType(replacedCS2040CFile.isCode(), getFilesOfType(replacedCS2040CFile.isCode()).minus(name));
+        }
+        importanceIndex.add(name, cs2040cFile);
+        setFilesOfType(cs2040cFile.isCode(), getFilesOfType(cs2040cFile.isCode()).plus(name, cs2040cFile));
     }
 
     /**
-     * Removes a CS2040CFile based on its name.
+     * Removes a CS2040CFile based on its name. Only called on a new copy, since published topics never change.
      *
      * @param name Name of the CS2040CFile.
      */
-    public boolean removeCS2040CFile(String name) {
-        this.cs2040cFiles.remove(name);
-        return true;
+    private void removeCS2040CFile(String name) {
+        CS2040CFile removedCS2040CFile = this.cs2040cFiles.get(name);
+        if (removedCS2040CFile != null) {
+            cs2040cFiles = cs2040cFiles.minus(name);
+            importanceIndex.remove(name, removedCS2040CFile);
+            setFilesOfType(removedCS2040CFile.isCode(), getFilesOfType(removedCS2040CFile.isCode()).minus(name));
+        }
+    }
+
+    //@@author heejet
+    /**
+     * Creates a copy of this topic with a CS2040CFile added, in O(log n) time. This topic is not changed, so it can
+     * still be read by other threads.
+     *
+     * @param name Name of the CS2040CFile.
+     * @param cs2040cFile A <code>CS2040CFile</code> object representing the CS2040CFile.
+     * @return The changed copy of this topic.
+     */
+    public Topic withCS2040CFile(String name, CS2040CFile cs2040cFile) {
+        Topic copy = new Topic(this);
+        copy.addCS2040CFile(name, cs2040cFile);
+        return copy;
     }
 
+    /**
+     * Creates a copy of this topic with a CS2040CFile removed, in O(log n) time. This topic is not changed.
+     *
+     * @param name Name of the CS2040CFile.
+     * @return The changed copy of this topic.
+     */
+    public Topic withoutCS2040CFile(String name) {
+        Topic copy = new Topic(this);
+        copy.removeCS2040CFile(name);
+        return copy;
+    }
+
+    /**
+     * Copies the CS2040CFiles stored in this topic into a new list. Only needed by callers that keep or change the
+     * list, the others should iterate the view returned by <code>getCS2040CFiles</code>.
+     *
+     * @return A new ArrayList containing all the CS2040CFiles stored in this topic.
+     */
     public ArrayList<CS2040CFile> getCS2040CFilesAsArray() {
         return new ArrayList<>(cs2040cFiles.values());
     }
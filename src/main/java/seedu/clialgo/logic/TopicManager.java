@@ -4,13 +4,24 @@ import seedu.clialgo.file.CS2040CFile;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * The <code>TopicManager</code> object handles the different
  * <code>Topic</code> objects and the CS2040CFiles within them.
+ * <p>
+ * A <code>TopicManager</code> can be shared between threads. All of its data is held in an immutable
+ * <code>Snapshot</code>. A change creates a new <code>Snapshot</code>, which is then published in a single write, so
+ * readers never wait for writers and never see a half-applied change. The new <code>Snapshot</code> shares all but
+ * O(log n) nodes of the changed <code>Topic</code> and of the names of all CS2040CFiles with the old one, so a change
+ * takes O(log n) time however many CS2040CFiles are stored. Writers are serialized among themselves.
  */
 public class TopicManager {
     /** List of valid topics */
@@ -25,18 +36,46 @@ public class TopicManager {
                     "BINARY_SEARCH_TREE", "UNION_FIND_DS", "HASH_TABLE", "BINARY_HEAP", "LINKED_LIST", "SORTING")
     );
 
-    /** General Hashmap to check for duplicate names. */
-    private HashMap<String, String> allCS2040CFiles;
+    //@@author heejet
+    /**
+     * An immutable view of all the data in a <code>TopicManager</code>. Neither the maps nor the <code>Topic</code>
+     * objects of a <code>Snapshot</code> are modified once it has been published.
+     */
+    private static class Snapshot {
+        /** General map to check for duplicate names. */
+        private final PersistentMap<String, String> allCS2040CFiles;
+
+        /** Data Structure to hold all the topics */
+        private final HashMap<String, Topic> topics;
+
+        private final boolean isTestModeOn;
+
+        private Snapshot(PersistentMap<String, String> allCS2040CFiles, HashMap<String, Topic> topics,
+                boolean isTestModeOn) {
+            this.allCS2040CFiles = allCS2040CFiles;
+            this.topics = topics;
+            this.isTestModeOn = isTestModeOn;
+        }
 
-    /** Data Structure to hold all the topics */
-    private HashMap<String, Topic> topics;
+        /** Creates a <code>Snapshot</code> with an empty <code>Topic</code> for every topic in CLIAlgo. */
+        private static Snapshot empty(boolean isTestModeOn) {
+            HashMap<String, Topic> topics = new HashMap<>();
+            for (String topicName : TOPIC_NAMES) {
+                topics.put(topicName, new Topic(topicName));
+            }
+            return new Snapshot(PersistentMap.empty(), topics, isTestModeOn);
+        }
+    }
 
-    /** A Data Structure to keep track of all the CS240CFile in CLIAlgo and the topic they are tagged to. */
-    private HashMap<String, String> allCS2040CFilesOutsideTestMode;
+    /** Initial capacity of a HashMap created with its default constructor. */
+    private static final int DEFAULT_HASH_MAP_CAPACITY = 16;
 
-    /** Test mode */
-    private HashMap<String, Topic> topicsOutsideTestMode;
-    private boolean isTestModeOn;
+    /** The latest published data. Replaced as a whole, never modified. */
+    private volatile Snapshot snapshot;
+
+    /** Test mode: the data from before test mode started, which changes in test mode never touch. */
+    private Snapshot snapshotOutsideTestMode;
+    //@@author
 
     /**
      * Constructor that initializes a <code>TopicManager</code> object that contains a HashMap of all the names of the
@@ -44,33 +83,52 @@ public class TopicManager {
      * that will be used to store the names of all CS2040CFiles that will be added.
      */
     public TopicManager() {
-        allCS2040CFiles = new HashMap<>();
-        topics = new HashMap<>();
-        for (String topicName : TOPIC_NAMES) {
-            topics.put(topicName, new Topic(topicName));
+        snapshot = Snapshot.empty(false);
+    }
+
+    //@@author heejet
+    /**
+     * Copies a HashMap so that the copy can be changed before it is published. The copy is given the capacity that a
+     * HashMap reaches when the same entries are added one by one, so both iterate over their entries in the same order.
+     *
+     * @param map The HashMap to be copied.
+     * @return A new HashMap with the same entries as <code>map</code>.
+     */
+    private static <K, V> HashMap<K, V> copyOf(HashMap<K, V> map) {
+        int capacity = DEFAULT_HASH_MAP_CAPACITY;
+        while (map.size() > capacity * 3 / 4) {
+            capacity *= 2;
         }
-        isTestModeOn = false;
+        HashMap<K, V> copy = new HashMap<>(capacity);
+        copy.putAll(map);
+        return copy;
     }
+    //@@author
 
     /** Checks if test mode is turned on. */
     public boolean getIsTestModeOn() {
-        return this.isTestModeOn;
+        return snapshot.isTestModeOn;
     }
 
     //@@ author heejet
     /** Checks if there are any CS2040CFiles stored in CLIAlgo. */
     public boolean isEmpty() {
-        return allCS2040CFiles.isEmpty();
+        return snapshot.allCS2040CFiles.isEmpty();
+    }
+
+    /** Gets the number of CS2040CFiles stored in CLIAlgo. */
+    public int size() {
+        return snapshot.allCS2040CFiles.size();
     }
 
     /** Checks if a specified topic has no CS2040CFiles stored in it. */
     public boolean isTopicEmpty(String topic) {
-        return topics.get(topic).isEmpty();
+        return snapshot.topics.get(topic).isEmpty();
     }
 
     /** Checks if a given CS2040CFile name has been used before. */
     public boolean isRepeatedCS2040CFile(String cs2040CFileName) {
-        return this.allCS2040CFiles.containsKey(cs2040CFileName.toLowerCase());
+        return snapshot.allCS2040CFiles.containsKey(cs2040CFileName.toLowerCase());
     }
     //@@author
 
@@ -80,14 +138,27 @@ public class TopicManager {
     }
 
     /**
-     * Obtains all the topics in CLIAlgo.
+     * Obtains all the topics in CLIAlgo. The returned HashMap is a copy, so changing it does not affect this
+     * <code>TopicManager</code>. The <code>Topic</code> objects inside are shared and must not be modified.
      *
      * @return A HashMap containing all the topics in CLIAlgo.
      */
     public HashMap<String, Topic> getTopics() {
-        return this.topics;
+        return copyOf(snapshot.topics);
     }
 
+    //@@author heejet
+    /**
+     * Gets a read-only view of all the topics in CLIAlgo, without copying them. The view is of the topics stored
+     * when it was created, and is not changed by later changes to this <code>TopicManager</code>.
+     *
+     * @return A read-only <code>Collection</code> of the <code>Topic</code> objects of all topics.
+     */
+    public Collection<Topic> getTopicsView() {
+        return Collections.unmodifiableCollection(snapshot.topics.values());
+    }
+    //@@author
+
     /**
      * Obtains all the names of the topics in CLIAlgo.
      *
@@ -98,9 +169,19 @@ public class TopicManager {
     }
 
     //@@author heejet
+    /**
+     * Gets the position of a topic in the topological order of all topics.
+     *
+     * @param topicName The name of the topic.
+     * @return The zero-based position of the topic, or -1 if it is not a topic in CLIAlgo.
+     */
+    public int getTopoOrderIndex(String topicName) {
+        return TOPO_ORDER.indexOf(topicName);
+    }
+
     /** returns the topic of the given CS2040CFile */
     public String getTopicOfCS2040CFile(String cs2040cFileName) {
-        return this.allCS2040CFiles.get(cs2040cFileName.toLowerCase());
+        return snapshot.allCS2040CFiles.get(cs2040cFileName.toLowerCase());
     }
 
     /**
@@ -109,11 +190,10 @@ public class TopicManager {
      * @return An ArrayList containing all the names of the CS2040CFiles stored in CLIAlgo.
      */
     public ArrayList<String> getAllCS2040CFiles() {
-        ArrayList<String> toPrintCS2040CFiles = new ArrayList<>();
-        for (Map.Entry<String, Topic> entry : topics.entrySet()) {
-            Topic currentTopic = entry.getValue();
-            ArrayList<String> currentTopicCS2040CFiles = currentTopic.getAllCS2040CFilesInTopicToPrint();
-            toPrintCS2040CFiles.addAll(currentTopicCS2040CFiles);
+        Collection<CS2040CFile> cs2040cFiles = getAllFiles();
+        ArrayList<String> toPrintCS2040CFiles = new ArrayList<>(cs2040cFiles.size());
+        for (CS2040CFile cs2040cFile : cs2040cFiles) {
+            toPrintCS2040CFiles.add(cs2040cFile.getLabel());
         }
         return toPrintCS2040CFiles;
     }
@@ -125,7 +205,7 @@ public class TopicManager {
      * @return An ArrayList containing names of all the CS2040CFiles stored in the specified topic.
      */
     public ArrayList<String> getCS2040CFilesByTopicToPrint(String topic) {
-        Topic currentTopic = topics.get(topic);
+        Topic currentTopic = snapshot.topics.get(topic);
         return currentTopic.getAllCS2040CFilesInTopicToPrint();
     }
 
@@ -136,7 +216,7 @@ public class TopicManager {
      */
     public HashMap<String, ArrayList<String>> getAllCS2040CFilesGroupedByTopicToPrint() {
         HashMap<String, ArrayList<String>> toPrintCS2040CFiles = new HashMap<>();
-        for (Map.Entry<String, Topic> entry : topics.entrySet()) {
+        for (Map.Entry<String, Topic> entry : snapshot.topics.entrySet()) {
             Topic currentTopic = entry.getValue();
             if (currentTopic.isEmpty()) {
                 continue;
@@ -148,6 +228,29 @@ public class TopicManager {
         return toPrintCS2040CFiles;
     }
 
+    //@@author heejet
+    /**
+     * Gets the topics in topological order, starting from the topic of a specific target CS2040CFile.
+     *
+     * @param cs2040cFileName The name of the CS2040CFile that is part of the target topic.
+     * @return An ArrayList of the <code>Topic</code> objects in topological order, starting from the target topic.
+     */
+    public ArrayList<Topic> getTopicsInTopoOrderFrom(String cs2040cFileName) {
+        HashMap<String, Topic> topics = snapshot.topics;
+        ArrayList<Topic> topoSortedTopics = new ArrayList<>();
+        boolean isPartOfTopoOrder = false;
+        for (String topicName : TOPO_ORDER) {
+            Topic topic = topics.get(topicName);
+            if (topic.isInsideTopic(cs2040cFileName)) {
+                isPartOfTopoOrder = true;
+            }
+            if (isPartOfTopoOrder) {
+                topoSortedTopics.add(topic);
+            }
+        }
+        return topoSortedTopics;
+    }
+
     //@@author ong-ck
     /**
      * Get a list of all topics stored in CLIAlgo that are before a specific target topic.
@@ -156,6 +259,7 @@ public class TopicManager {
      * @return A HashMap containing all cs2040cFiles before a specific target topic.
      */
     public LinkedHashMap<String, ArrayList<String>> getAllCS2040CFilesBeforeTopic(String cs2040cFileName) {
+        HashMap<String, Topic> topics = snapshot.topics;
         LinkedHashMap<String, ArrayList<String>> toPrintCS2040CFiles = new LinkedHashMap<>();
         boolean isPartOfTopoOrder = false;
 
@@ -167,7 +271,7 @@ public class TopicManager {
 
             // Start tracking subsequent CS2040CFiles when topic of target CS2040CFile is found
             if (isPartOfTopoOrder) {
-                ArrayList<String> topicCS2040CFiles = getCS2040CFilesByTopicToPrint(topicName);
+                ArrayList<String> topicCS2040CFiles = topics.get(topicName).getAllCS2040CFilesInTopicToPrint();
                 toPrintCS2040CFiles.put(topicName, topicCS2040CFiles);
             }
         }
@@ -176,16 +280,137 @@ public class TopicManager {
     //@@author
 
     //@@author nicholas132000
+    /**
+     * Copies all the CS2040CFiles stored in CLIAlgo into a new list. Only needed by callers that keep or change the
+     * list, the others should use the view returned by <code>getAllFiles</code>.
+     *
+     * @return A new ArrayList containing all the CS2040CFiles stored in CLIAlgo.
+     */
     public ArrayList<CS2040CFile> getAllFilesAsFiles() {
-        ArrayList<CS2040CFile> files = new ArrayList<>();
-        for (Topic topic: topics.values()) {
-            files.addAll(topic.getC2040CFiles().values());
-        }
-        return files;
+        return new ArrayList<>(getAllFiles());
     }
 
     public Topic getOneTopic(String topicName) {
-        return topics.get(topicName);
+        return snapshot.topics.get(topicName);
+    }
+
+    //@@author heejet
+    /**
+     * Gets a read-only view of every CS2040CFile stored in CLIAlgo, without copying them. The view knows its size,
+     * and is of the CS2040CFiles stored when it was created, so later changes to this <code>TopicManager</code> do not
+     * change it.
+     *
+     * @return A read-only <code>Collection</code> of the CS2040CFiles of all topics.
+     */
+    public Collection<CS2040CFile> getAllFiles() {
+        ArrayList<Collection<CS2040CFile>> groups = new ArrayList<>(TOPIC_NAMES.size());
+        for (Topic topic : snapshot.topics.values()) {
+            groups.add(topic.getCS2040CFiles());
+        }
+        return new CS2040CFilesView(groups);
+    }
+
+    /**
+     * Keeps the CS2040CFiles stored in CLIAlgo that satisfy a predicate. Once there are at least
+     * <code>ParallelFilter.SEQUENTIAL_THRESHOLD</code> of them, the work is split across topics and within large
+     * topics on the common fork-join pool.
+     *
+     * @param predicate The predicate to be satisfied, which may be tested on several threads at once.
+     * @return The CS2040CFiles satisfying the predicate, in the order of <code>getAllFiles</code>.
+     */
+    public ArrayList<CS2040CFile> filterFiles(Predicate<? super CS2040CFile> predicate) {
+        return ParallelFilter.filter(getAllFiles().spliterator(), predicate);
+    }
+
+    /**
+     * Streams every CS2040CFile stored in CLIAlgo without copying them into a list first. The stream knows its size
+     * and splits between topics, so it can also be made parallel.
+     *
+     * @return A lazy stream over the CS2040CFiles of all topics.
+     */
+    public Stream<CS2040CFile> streamAllFiles() {
+        return getAllFiles().stream();
+    }
+
+    /**
+     * Streams the CS2040CFiles of all topics whose importance lies in a range, in decreasing order of importance.
+     * Only the CS2040CFiles in the range are visited, so this takes time proportional to their number.
+     *
+     * @param minImportance The lowest importance in the range.
+     * @param maxImportance The highest importance in the range.
+     * @return A lazy stream over the CS2040CFiles in the range.
+     */
+    public Stream<CS2040CFile> streamByImportance(int minImportance, int maxImportance) {
+        Collection<Topic> topics = snapshot.topics.values();
+        return IntStream.rangeClosed(minImportance, maxImportance).map(i -> maxImportance + minImportance - i)
+                .boxed().flatMap(importance -> topics.stream()
+                        .flatMap(topic -> topic.streamByImportance(importance, importance)));
+    }
+
+    /**
+     * Counts the CS2040CFiles of all topics whose importance lies in a range, without visiting them.
+     *
+     * @param minImportance The lowest importance in the range.
+     * @param maxImportance The highest importance in the range.
+     * @return The number of CS2040CFiles in the range.
+     */
+    public int countByImportance(int minImportance, int maxImportance) {
+        int count = 0;
+        for (Topic topic : snapshot.topics.values()) {
+            count += topic.countByImportance(minImportance, maxImportance);
+        }
+        return count;
+    }
+
+    /**
+     * Streams either the code files or the notes of all topics. Only the CS2040CFiles of that type are visited.
+     *
+     * @param isCode True to stream the code files, false to stream the notes.
+     * @return A lazy stream over the CS2040CFiles of the type.
+     */
+    public Stream<CS2040CFile> streamByType(boolean isCode) {
+        return getFilesOfType(isCode).stream();
+    }
+
+    /**
+     * Gets a read-only view of either the code files or the notes of all topics, without copying them. Like
+     * <code>getAllFiles</code>, the view is not changed by later changes to this <code>TopicManager</code>.
+     *
+     * @param isCode True to view the code files, false to view the notes.
+     * @return A read-only <code>Collection</code> of the CS2040CFiles of the type.
+     */
+    public Collection<CS2040CFile> getFilesOfType(boolean isCode) {
+        ArrayList<Collection<CS2040CFile>> groups = new ArrayList<>(TOPIC_NAMES.size());
+        for (Topic topic : snapshot.topics.values()) {
+            groups.add(topic.getCS2040CFilesOfType(isCode));
+        }
+        return new CS2040CFilesView(groups);
+    }
+
+    /**
+     * Keeps either the code files or the notes of all topics that satisfy a predicate, in parallel once there are
+     * enough of them, like <code>filterFiles</code>.
+     *
+     * @param isCode True to filter the code files, false to filter the notes.
+     * @param predicate The predicate to be satisfied, which may be tested on several threads at once.
+     * @return The CS2040CFiles of the type satisfying the predicate, in the order of <code>getFilesOfType</code>.
+     */
+    public ArrayList<CS2040CFile> filterByType(boolean isCode, Predicate<? super CS2040CFile> predicate) {
+        return ParallelFilter.filter(getFilesOfType(isCode).spliterator(), predicate);
+    }
+
+    /**
+     * Counts either the code files or the notes of all topics without visiting them.
+     *
+     * @param isCode True to count the code files, false to count the notes.
+     * @return The number of CS2040CFiles of the type.
+     */
+    public int countByType(boolean isCode) {
+        int count = 0;
+        for (Topic topic : snapshot.topics.values()) {
+            count += topic.countOfType(isCode);
+        }
+        return count;
     }
 
     //@@author lohjooh
@@ -195,10 +420,13 @@ public class TopicManager {
      *
      * @param topics The output obtained from the <code>FileManager</code> by calling <code>decodeAll</code>.
      */
-    public void initialize(HashMap<String, Topic> topics) {
-        this.topics = topics;
+    public synchronized void initialize(HashMap<String, Topic> topics) {
+        HashMap<String, String> allCS2040CFiles = new HashMap<>(snapshot.allCS2040CFiles);
+        HashMap<String, Topic> ownTopics = new HashMap<>();
         for (Map.Entry<String, Topic> entry : topics.entrySet()) {
             Topic topic = entry.getValue();
+            // Copied so that later changes to the given topics are not seen by readers
+            ownTopics.put(entry.getKey(), new Topic(topic.getTopicName(), topic.getC2040CFiles()));
             if (topic.isEmpty()) {
                 continue;
             }
@@ -206,6 +434,7 @@ public class TopicManager {
                 allCS2040CFiles.put(fileName.getName().toLowerCase(), topic.getTopicName());
             }
         }
+        snapshot = new Snapshot(PersistentMap.copyOf(allCS2040CFiles), ownTopics, snapshot.isTestModeOn);
     }
 
     //@@author ong-ck
@@ -219,21 +448,25 @@ public class TopicManager {
      * @param cs2040cFile The <code>CS2040CFile</code> object representing the CS2040CFile.
      * @return True if file is successfully added and False otherwise.
      */
-    public boolean addCS2040CFile(String cs2040cFileName, String topicName, CS2040CFile cs2040cFile) {
+    public synchronized boolean addCS2040CFile(String cs2040cFileName, String topicName, CS2040CFile cs2040cFile) {
         // Check if CS2040CFile name has been taken
         if (isRepeatedCS2040CFile(cs2040cFileName)) {
             return false;
         }
 
-        // Adds CS2040CFile into topic hashmap
-        topics.get(topicName).addCS2040CFile(cs2040cFileName, cs2040cFile);
+        // Adds CS2040CFile into a copy of the topic
+        Topic topic = snapshot.topics.get(topicName);
+        HashMap<String, Topic> topics = copyOf(snapshot.topics);
+        topics.put(topicName, topic.withCS2040CFile(cs2040cFileName, cs2040cFile));
 
         assert topics.get(topicName).isInsideTopic(cs2040cFileName);
 
         // Keep track of name of CS2040CFile added
         String cs2040cFileNameLowerCase = cs2040cFileName.toLowerCase();
-        allCS2040CFiles.put(cs2040cFileNameLowerCase, topicName);
+        PersistentMap<String, String> allCS2040CFiles = snapshot.allCS2040CFiles.plus(cs2040cFileNameLowerCase,
+                topicName);
 
+        snapshot = new Snapshot(allCS2040CFiles, topics, snapshot.isTestModeOn);
         return true;
     }
 
@@ -245,53 +478,56 @@ public class TopicManager {
      * @param cs2040cFileName Name of the CS2040CFile.
      * @return Returns true if the name of the CS2040CFile is inside any topic, false otherwise
      */
-    public boolean removeCS2040CFile(String cs2040cFileName, String topicName) {
+    public synchronized boolean removeCS2040CFile(String cs2040cFileName, String topicName) {
         if (!isRepeatedCS2040CFile(cs2040cFileName)) {
             return false;
         }
 
-        Topic topic = topics.get(topicName);
+        Topic topic = snapshot.topics.get(topicName);
         boolean isInsideTopic = topic.isInsideTopic(cs2040cFileName);
 
         if (!isInsideTopic) {
             return false;
         }
 
-        // Removes CS2040CFile into topic hashmap
-        topics.get(topicName).removeCS2040CFile(cs2040cFileName);
+        // Removes CS2040CFile from a copy of the topic
+        HashMap<String, Topic> topics = copyOf(snapshot.topics);
+        topics.put(topicName, topic.withoutCS2040CFile(cs2040cFileName));
 
         assert !topics.get(topicName).isInsideTopic(cs2040cFileName);
 
         // Updates hashmap of CS2040CFiles present
         String cs2040cFileNameLowerCase = cs2040cFileName.toLowerCase();
-        allCS2040CFiles.remove(cs2040cFileNameLowerCase);
+        PersistentMap<String, String> allCS2040CFiles = snapshot.allCS2040CFiles.minus(cs2040cFileNameLowerCase);
+
+        snapshot = new Snapshot(allCS2040CFiles, topics, snapshot.isTestModeOn);
         return true;
     }
 
     //@@author lohjooh
     /**
-     * Resets <code>topics</code> and <code>allCS2040CFiles</code> when test mode starts. Stores the data outside of
-     * test mode separately.
+     * Starts test mode. The data outside of test mode stays visible, but every change made in test mode only goes to
+     * the published <code>Snapshot</code>, which shares all unchanged parts with the data outside of test mode. This
+     * takes constant time however many CS2040CFiles are stored.
      */
-    public void testModeStart() {
-        this.topicsOutsideTestMode = topics;
-        this.allCS2040CFilesOutsideTestMode = allCS2040CFiles;
-        allCS2040CFiles = new HashMap<>();
-        topics = new HashMap<>();
-        for (String topicName : TOPIC_NAMES) {
-            topics.put(topicName, new Topic(topicName));
+    public synchronized void testModeStart() {
+        if (snapshot.isTestModeOn) {
+            return;
         }
-        this.isTestModeOn = true;
+        this.snapshotOutsideTestMode = snapshot;
+        snapshot = new Snapshot(snapshot.allCS2040CFiles, snapshot.topics, true);
     }
 
     /**
-     * Retrieves the <code>topics</code> and <code>allCS2040CFiles</code> data from before the start of test mode when
-     * test mode ends such that the state before the start of test mode is restored.
+     * Ends test mode by publishing the data from before the start of test mode again, discarding all changes made in
+     * test mode in constant time.
      */
-    public void testModeEnd() {
-        this.allCS2040CFiles = allCS2040CFilesOutsideTestMode;
-        this.topics = topicsOutsideTestMode;
-        this.isTestModeOn = false;
+    public synchronized void testModeEnd() {
+        if (!snapshot.isTestModeOn) {
+            return;
+        }
+        snapshot = snapshotOutsideTestMode;
+        snapshotOutsideTestMode = null;
     }
 
 }
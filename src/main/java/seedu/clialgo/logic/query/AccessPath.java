@@ -0,0 +1,282 @@
+package seedu.clialgo.logic.query;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.Topic;
+import seedu.clialgo.logic.TopicManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+//@@author heejet
+/**
+ * An <code>AccessPath</code> is one step of the plan for a <code>Query</code>. It streams CS2040CFiles either from an
+ * index of the <code>TopicManager</code>, such as the CS2040CFiles of one topic, or from other steps. Every step knows
+ * an upper bound of how many CS2040CFiles it yields, which the planner uses to pick the most selective index.
+ */
+public abstract class AccessPath {
+    private static final String INDENT = "  ";
+
+    /** An upper bound of the number of CS2040CFiles this step yields. */
+    private final int estimate;
+
+    AccessPath(int estimate) {
+        this.estimate = estimate;
+    }
+
+    public int getEstimate() {
+        return estimate;
+    }
+
+    /**
+     * Streams the CS2040CFiles of this step lazily.
+     *
+     * @return The CS2040CFiles yielded by this step.
+     */
+    public abstract Stream<CS2040CFile> stream();
+
+    /**
+     * Streams the CS2040CFiles of this step that satisfy a predicate. Steps reading an index that can be split, such
+     * as all CS2040CFiles or one topic, test the predicate in parallel once they hold enough CS2040CFiles.
+     *
+     * @param predicate The predicate to be satisfied, which may be tested on several threads at once.
+     * @return The CS2040CFiles yielded by this step that satisfy the predicate, in the order of <code>stream</code>.
+     */
+    public Stream<CS2040CFile> streamMatching(Predicate<CS2040CFile> predicate) {
+        return stream().filter(predicate);
+    }
+
+    /** Gets a one-line description of this step, without the steps it reads from. */
+    abstract String describe();
+
+    /** Gets the steps this step reads from. */
+    ArrayList<AccessPath> getInputs() {
+        return new ArrayList<>();
+    }
+
+    /**
+     * Describes this step and the steps it reads from, one step per line, with every step indented below the step
+     * that reads from it.
+     *
+     * @return The lines describing the plan.
+     */
+    public ArrayList<String> explain() {
+        ArrayList<String> lines = new ArrayList<>();
+        explain(lines, "");
+        return lines;
+    }
+
+    private void explain(ArrayList<String> lines, String indent) {
+        lines.add(indent + describe() + " (at most " + estimate + ")");
+        for (AccessPath input : getInputs()) {
+            input.explain(lines, indent + INDENT);
+        }
+    }
+
+    /** Reads every CS2040CFile stored in CLIAlgo. */
+    static class FullScan extends AccessPath {
+        private final TopicManager topicManager;
+
+        FullScan(TopicManager topicManager) {
+            super(topicManager.size());
+            this.topicManager = topicManager;
+        }
+
+        @Override
+        public Stream<CS2040CFile> stream() {
+            return topicManager.streamAllFiles();
+        }
+
+        @Override
+        public Stream<CS2040CFile> streamMatching(Predicate<CS2040CFile> predicate) {
+            return topicManager.filterFiles(predicate).stream();
+        }
+
+        @Override
+        String describe() {
+            return "scan all CS2040CFiles";
+        }
+    }
+
+    /** Reads the CS2040CFiles of one topic from the topic index. */
+    static class TopicScan extends AccessPath {
+        private final Topic topic;
+
+        TopicScan(Topic topic) {
+            super(topic.size());
+            this.topic = topic;
+        }
+
+        @Override
+        public Stream<CS2040CFile> stream() {
+            return topic.getCS2040CFiles().stream();
+        }
+
+        @Override
+        public Stream<CS2040CFile> streamMatching(Predicate<CS2040CFile> predicate) {
+            return topic.filter(predicate).stream();
+        }
+
+        @Override
+        String describe() {
+            return "index scan topic=" + topic.getTopicName();
+        }
+    }
+
+    /** Reads the CS2040CFiles in a range of importance from the importance index of every topic. */
+    static class ImportanceScan extends AccessPath {
+        private final TopicManager topicManager;
+        private final int minImportance;
+        private final int maxImportance;
+
+        ImportanceScan(TopicManager topicManager, int minImportance, int maxImportance) {
+            super(topicManager.countByImportance(minImportance, maxImportance));
+            this.topicManager = topicManager;
+            this.minImportance = minImportance;
+            this.maxImportance = maxImportance;
+        }
+
+        @Override
+        public Stream<CS2040CFile> stream() {
+            return topicManager.streamByImportance(minImportance, maxImportance);
+        }
+
+        @Override
+        String describe() {
+            return "index scan importance=" + minImportance + "-" + maxImportance;
+        }
+    }
+
+    /** Reads either the code files or the notes from the type index of every topic. */
+    static class TypeScan extends AccessPath {
+        private final TopicManager topicManager;
+        private final boolean isCode;
+
+        TypeScan(TopicManager topicManager, boolean isCode) {
+            super(topicManager.countByType(isCode));
+            this.topicManager = topicManager;
+            this.isCode = isCode;
+        }
+
+        @Override
+        public Stream<CS2040CFile> stream() {
+            return topicManager.streamByType(isCode);
+        }
+
+        @Override
+        public Stream<CS2040CFile> streamMatching(Predicate<CS2040CFile> predicate) {
+            return topicManager.filterByType(isCode, predicate).stream();
+        }
+
+        @Override
+        String describe() {
+            return "index scan type=" + (isCode ? "code" : "note");
+        }
+    }
+
+    /** Looks up one CS2040CFile by its name in the name index. */
+    static class NameLookup extends AccessPath {
+        private final String name;
+        private final CS2040CFile cs2040cFile;
+
+        private NameLookup(String name, CS2040CFile cs2040cFile) {
+            super(cs2040cFile == null ? 0 : 1);
+            this.name = name;
+            this.cs2040cFile = cs2040cFile;
+        }
+
+        /**
+         * Looks up a CS2040CFile by its name, ignoring case as names in CLIAlgo do.
+         *
+         * @param topicManager The <code>TopicManager</code> whose name index is used.
+         * @param name The name to look up.
+         * @return The step yielding the CS2040CFile with the name, or nothing if there is none.
+         */
+        static NameLookup of(TopicManager topicManager, String name) {
+            String topicName = topicManager.getTopicOfCS2040CFile(name);
+            if (topicName == null) {
+                return new NameLookup(name, null);
+            }
+            for (CS2040CFile cs2040cFile : topicManager.getOneTopic(topicName).getCS2040CFiles()) {
+                if (cs2040cFile.getName().equalsIgnoreCase(name)) {
+                    return new NameLookup(name, cs2040cFile);
+                }
+            }
+            return new NameLookup(name, null);
+        }
+
+        @Override
+        public Stream<CS2040CFile> stream() {
+            return Stream.ofNullable(cs2040cFile);
+        }
+
+        @Override
+        String describe() {
+            return "index lookup name=" + name;
+        }
+    }
+
+    /** Keeps the CS2040CFiles of another step that satisfy the rest of a query. */
+    static class Filter extends AccessPath {
+        private final AccessPath input;
+        private final Query residual;
+
+        Filter(AccessPath input, Query residual) {
+            super(input.getEstimate());
+            this.input = input;
+            this.residual = residual;
+        }
+
+        @Override
+        public Stream<CS2040CFile> stream() {
+            return input.streamMatching(residual::matches);
+        }
+
+        /** Passes both the rest of the query and <code>predicate</code> down to the step this step reads from. */
+        @Override
+        public Stream<CS2040CFile> streamMatching(Predicate<CS2040CFile> predicate) {
+            return input.streamMatching(cs2040cFile -> residual.matches(cs2040cFile) && predicate.test(cs2040cFile));
+        }
+
+        @Override
+        String describe() {
+            return "filter " + residual;
+        }
+
+        @Override
+        ArrayList<AccessPath> getInputs() {
+            ArrayList<AccessPath> inputs = new ArrayList<>();
+            inputs.add(input);
+            return inputs;
+        }
+    }
+
+    /** Yields the CS2040CFiles of several steps, yielding a CS2040CFile found by more than one step only once. */
+    static class Union extends AccessPath {
+        private final ArrayList<AccessPath> inputs;
+
+        Union(ArrayList<AccessPath> inputs) {
+            super(inputs.stream().mapToInt(AccessPath::getEstimate).sum());
+            this.inputs = inputs;
+        }
+
+        @Override
+        public Stream<CS2040CFile> stream() {
+            Set<CS2040CFile> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            return inputs.stream().flatMap(AccessPath::stream).filter(seen::add);
+        }
+
+        @Override
+        String describe() {
+            return "union";
+        }
+
+        @Override
+        ArrayList<AccessPath> getInputs() {
+            return inputs;
+        }
+    }
+}
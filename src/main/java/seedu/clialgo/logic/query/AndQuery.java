@@ -0,0 +1,57 @@
+package seedu.clialgo.logic.query;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.TopicManager;
+
+import java.util.ArrayList;
+import java.util.stream.Collectors;
+
+//@@author heejet
+/** An <code>AndQuery</code> is satisfied by the CS2040CFiles that satisfy all of its queries. */
+public class AndQuery extends Query {
+    private final ArrayList<Query> queries;
+
+    public AndQuery(ArrayList<Query> queries) {
+        assert queries.size() >= 2;
+        this.queries = queries;
+    }
+
+    @Override
+    public boolean matches(CS2040CFile cs2040cFile) {
+        for (Query query : queries) {
+            if (!query.matches(cs2040cFile)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the CS2040CFiles through the most selective index among the queries, and checks the other queries on
+     * each of them.
+     */
+    @Override
+    AccessPath getIndexPath(TopicManager topicManager) {
+        AccessPath bestPath = null;
+        int bestIndex = -1;
+        for (int i = 0; i < queries.size(); i++) {
+            AccessPath path = queries.get(i).getIndexPath(topicManager);
+            if (path != null && (bestPath == null || path.getEstimate() < bestPath.getEstimate())) {
+                bestPath = path;
+                bestIndex = i;
+            }
+        }
+        if (bestPath == null) {
+            return null;
+        }
+        ArrayList<Query> residuals = new ArrayList<>(queries);
+        residuals.remove(bestIndex);
+        Query residual = residuals.size() == 1 ? residuals.get(0) : new AndQuery(residuals);
+        return new AccessPath.Filter(bestPath, residual);
+    }
+
+    @Override
+    public String toString() {
+        return queries.stream().map(Query::toString).collect(Collectors.joining(" and ", "(", ")"));
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.clialgo.logic.query;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.ImportanceIndex;
+import seedu.clialgo.logic.TopicManager;
+
+//@@author heejet
+/**
+ * An <code>ImportanceQuery</code> is satisfied by the CS2040CFiles whose importance lies in a range, e.g.
+ * <code>importance=7-10</code>, or equals a value, e.g. <code>importance=5</code>.
+ */
+public class ImportanceQuery extends Query {
+    private final int minImportance;
+    private final int maxImportance;
+
+    /**
+     * Constructor for a query on the importance of CS2040CFiles.
+     *
+     * @param minImportance The lowest importance that satisfies the query.
+     * @param maxImportance The highest importance that satisfies the query.
+     */
+    public ImportanceQuery(int minImportance, int maxImportance) {
+        assert minImportance <= maxImportance;
+        this.minImportance = minImportance;
+        this.maxImportance = maxImportance;
+    }
+
+    /** Checks the importance a CS2040CFile is indexed under, so that a plan with or without the index agrees. */
+    @Override
+    public boolean matches(CS2040CFile cs2040cFile) {
+        int importance = ImportanceIndex.getIndexedImportance(cs2040cFile.getImportance());
+        return importance >= minImportance && importance <= maxImportance;
+    }
+
+    @Override
+    AccessPath getIndexPath(TopicManager topicManager) {
+        return new AccessPath.ImportanceScan(topicManager, minImportance, maxImportance);
+    }
+
+    @Override
+    public String toString() {
+        if (minImportance == maxImportance) {
+            return "importance=" + minImportance;
+        }
+        return "importance=" + minImportance + "-" + maxImportance;
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.clialgo.logic.query;
+
+import seedu.clialgo.file.CS2040CFile;
+
+//@@author heejet
+/** A <code>NotQuery</code> is satisfied by the CS2040CFiles that do not satisfy its query. */
+public class NotQuery extends Query {
+    private final Query query;
+
+    public NotQuery(Query query) {
+        this.query = query;
+    }
+
+    @Override
+    public boolean matches(CS2040CFile cs2040cFile) {
+        return !query.matches(cs2040cFile);
+    }
+
+    @Override
+    public String toString() {
+        return "not " + query;
+    }
+}
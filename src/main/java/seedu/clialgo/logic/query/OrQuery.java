@@ -0,0 +1,50 @@
+package seedu.clialgo.logic.query;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.TopicManager;
+
+import java.util.ArrayList;
+import java.util.stream.Collectors;
+
+//@@author heejet
+/** An <code>OrQuery</code> is satisfied by the CS2040CFiles that satisfy any of its queries. */
+public class OrQuery extends Query {
+    private final ArrayList<Query> queries;
+
+    public OrQuery(ArrayList<Query> queries) {
+        assert queries.size() >= 2;
+        this.queries = queries;
+    }
+
+    @Override
+    public boolean matches(CS2040CFile cs2040cFile) {
+        for (Query query : queries) {
+            if (query.matches(cs2040cFile)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Combines the indexes of the queries if every query can use one. A single query without an index means that
+     * every CS2040CFile has to be checked anyway.
+     */
+    @Override
+    AccessPath getIndexPath(TopicManager topicManager) {
+        ArrayList<AccessPath> paths = new ArrayList<>();
+        for (Query query : queries) {
+            AccessPath path = query.getIndexPath(topicManager);
+            if (path == null) {
+                return null;
+            }
+            paths.add(path);
+        }
+        return new AccessPath.Union(paths);
+    }
+
+    @Override
+    public String toString() {
+        return queries.stream().map(Query::toString).collect(Collectors.joining(" or ", "(", ")"));
+    }
+}
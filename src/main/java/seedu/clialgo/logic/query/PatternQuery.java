@@ -0,0 +1,86 @@
+package seedu.clialgo.logic.query;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.TopicManager;
+
+import java.util.regex.Pattern;
+
+//@@author heejet
+/**
+ * A <code>PatternQuery</code> is satisfied by the CS2040CFiles whose name or path matches a pattern, in which
+ * <code>*</code> stands for any number of characters and <code>?</code> for exactly one character. Names are matched
+ * ignoring case, as names in CLIAlgo are, while paths are matched exactly.
+ */
+public class PatternQuery extends Query {
+    /** The field of a CS2040CFile that a <code>PatternQuery</code> matches. */
+    public enum Field {
+        NAME, PATH
+    }
+
+    private static final String WILDCARDS = "*?";
+
+    private final Field field;
+    private final String pattern;
+    private final Pattern regex;
+
+    /**
+     * Constructor for a query on the name or path of CS2040CFiles.
+     *
+     * @param field The field to match.
+     * @param pattern The pattern the field must match.
+     */
+    public PatternQuery(Field field, String pattern) {
+        this.field = field;
+        this.pattern = pattern;
+        this.regex = Pattern.compile(toRegex(pattern), field == Field.NAME ? Pattern.CASE_INSENSITIVE : 0);
+    }
+
+    private static String toRegex(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        int literalStart = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char character = pattern.charAt(i);
+            if (WILDCARDS.indexOf(character) < 0) {
+                continue;
+            }
+            if (literalStart < i) {
+                regex.append(Pattern.quote(pattern.substring(literalStart, i)));
+            }
+            regex.append(character == '*' ? ".*" : ".");
+            literalStart = i + 1;
+        }
+        if (literalStart < pattern.length()) {
+            regex.append(Pattern.quote(pattern.substring(literalStart)));
+        }
+        return regex.toString();
+    }
+
+    private boolean hasWildcards() {
+        for (int i = 0; i < pattern.length(); i++) {
+            if (WILDCARDS.indexOf(pattern.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean matches(CS2040CFile cs2040cFile) {
+        String value = field == Field.NAME ? cs2040cFile.getName() : cs2040cFile.getPath();
+        return value != null && regex.matcher(value).matches();
+    }
+
+    /** Looks up a name without wildcards in the name index. Other patterns have to be checked one by one. */
+    @Override
+    AccessPath getIndexPath(TopicManager topicManager) {
+        if (field != Field.NAME || hasWildcards()) {
+            return null;
+        }
+        return AccessPath.NameLookup.of(topicManager, pattern);
+    }
+
+    @Override
+    public String toString() {
+        return field.name().toLowerCase() + "=" + pattern;
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.clialgo.logic.query;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.TopicManager;
+
+//@@author heejet
+/**
+ * A <code>Query</code> is a condition on CS2040CFiles written in the query language of the <code>find</code> command.
+ * Queries are trees of predicates on single fields, combined with <code>and</code>, <code>or</code> and
+ * <code>not</code>.
+ */
+public abstract class Query {
+    /**
+     * Checks if a CS2040CFile satisfies this query.
+     *
+     * @param cs2040cFile The CS2040CFile to be checked.
+     * @return True if the CS2040CFile satisfies this query, false otherwise.
+     */
+    public abstract boolean matches(CS2040CFile cs2040cFile);
+
+    /**
+     * Plans how to find the CS2040CFiles satisfying this query through the indexes of a <code>TopicManager</code>.
+     *
+     * @param topicManager The <code>TopicManager</code> whose CS2040CFiles are queried.
+     * @return An <code>AccessPath</code> that yields exactly the CS2040CFiles satisfying this query, or null if this
+     *     query cannot use an index.
+     */
+    AccessPath getIndexPath(TopicManager topicManager) {
+        return null;
+    }
+
+    /**
+     * Plans how to find the CS2040CFiles satisfying this query. The plan uses the most selective index available, and
+     * falls back to checking every CS2040CFile only if no index can be used.
+     *
+     * @param topicManager The <code>TopicManager</code> whose CS2040CFiles are queried.
+     * @return An <code>AccessPath</code> that yields exactly the CS2040CFiles satisfying this query.
+     */
+    public AccessPath plan(TopicManager topicManager) {
+        AccessPath indexPath = getIndexPath(topicManager);
+        if (indexPath != null) {
+            return indexPath;
+        }
+        return new AccessPath.Filter(new AccessPath.FullScan(topicManager), this);
+    }
+
+    /** Gets this query in the query language, with every compound query in brackets. */
+    @Override
+    public abstract String toString();
+}
@@ -0,0 +1,186 @@
+package seedu.clialgo.logic.query;
+
+import seedu.clialgo.exceptions.parser.InvalidQueryException;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.TopicManager;
+
+import java.util.ArrayList;
+
+//@@author heejet
+/**
+ * A <code>QueryParser</code> turns the query of a <code>find</code> command into a <code>Query</code>. A query is made
+ * of conditions such as <code>topic=SORTING</code>, <code>importance=7-10</code>, <code>type=code</code>,
+ * <code>name=queue*</code> and <code>path=*.cpp</code>, combined with <code>not</code>, <code>and</code> and
+ * <code>or</code> in decreasing order of precedence. Brackets group conditions, and conditions next to each other
+ * without an operator in between are combined with <code>and</code>.
+ */
+public class QueryParser {
+    private static final String AND = "and";
+    private static final String OR = "or";
+    private static final String NOT = "not";
+    private static final String OPEN_BRACKET = "(";
+    private static final String CLOSE_BRACKET = ")";
+    private static final char EQUALS = '=';
+
+    private final ArrayList<String> tokens;
+    private final TopicManager topicManager;
+
+    /** The position of the next token to be read. */
+    private int position;
+
+    private QueryParser(ArrayList<String> tokens, TopicManager topicManager) {
+        this.tokens = tokens;
+        this.topicManager = topicManager;
+        this.position = 0;
+    }
+
+    /**
+     * Parses a query.
+     *
+     * @param text The query in the query language.
+     * @param topicManager The <code>TopicManager</code> used to check the topics in the query.
+     * @return The parsed <code>Query</code>.
+     * @throws InvalidQueryException If the query does not follow the query language.
+     */
+    public static Query parse(String text, TopicManager topicManager) throws InvalidQueryException {
+        QueryParser parser = new QueryParser(tokenize(text), topicManager);
+        if (parser.tokens.isEmpty()) {
+            throw new InvalidQueryException("The query is empty.");
+        }
+        Query query = parser.parseOr();
+        if (parser.position < parser.tokens.size()) {
+            throw new InvalidQueryException("Unexpected '" + parser.tokens.get(parser.position) + "'.");
+        }
+        return query;
+    }
+
+    /** Splits a query into words and brackets. */
+    private static ArrayList<String> tokenize(String text) {
+        ArrayList<String> tokens = new ArrayList<>();
+        int wordStart = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            char character = i < text.length() ? text.charAt(i) : ' ';
+            boolean isBracket = character == '(' || character == ')';
+            if (!Character.isWhitespace(character) && !isBracket) {
+                wordStart = wordStart < 0 ? i : wordStart;
+                continue;
+            }
+            if (wordStart >= 0) {
+                tokens.add(text.substring(wordStart, i));
+                wordStart = -1;
+            }
+            if (isBracket) {
+                tokens.add(String.valueOf(character));
+            }
+        }
+        return tokens;
+    }
+
+    private boolean isNext(String word) {
+        return position < tokens.size() && tokens.get(position).equalsIgnoreCase(word);
+    }
+
+    private Query parseOr() throws InvalidQueryException {
+        ArrayList<Query> queries = new ArrayList<>();
+        queries.add(parseAnd());
+        while (isNext(OR)) {
+            position++;
+            queries.add(parseAnd());
+        }
+        return queries.size() == 1 ? queries.get(0) : new OrQuery(queries);
+    }
+
+    private Query parseAnd() throws InvalidQueryException {
+        ArrayList<Query> queries = new ArrayList<>();
+        queries.add(parseNot());
+        while (position < tokens.size() && !isNext(OR) && !isNext(CLOSE_BRACKET)) {
+            if (isNext(AND)) {
+                position++;
+            }
+            queries.add(parseNot());
+        }
+        return queries.size() == 1 ? queries.get(0) : new AndQuery(queries);
+    }
+
+    private Query parseNot() throws InvalidQueryException {
+        if (position >= tokens.size()) {
+            throw new InvalidQueryException("Expected a condition at the end of the query.");
+        }
+        if (isNext(NOT)) {
+            position++;
+            return new NotQuery(parseNot());
+        }
+        if (isNext(OPEN_BRACKET)) {
+            position++;
+            Query query = parseOr();
+            if (!isNext(CLOSE_BRACKET)) {
+                throw new InvalidQueryException("Missing ')'.");
+            }
+            position++;
+            return query;
+        }
+        return parseCondition(tokens.get(position++));
+    }
+
+    private Query parseCondition(String token) throws InvalidQueryException {
+        int equalsIndex = token.indexOf(EQUALS);
+        if (equalsIndex <= 0) {
+            throw new InvalidQueryException("Expected a condition such as topic=SORTING, but found '" + token + "'.");
+        }
+        String field = token.substring(0, equalsIndex).toLowerCase();
+        String value = token.substring(equalsIndex + 1);
+        if (value.isEmpty()) {
+            throw new InvalidQueryException("Missing a value for " + field + ".");
+        }
+        switch (field) {
+        case "topic":
+            return parseTopic(value);
+        case "importance":
+            return parseImportance(value);
+        case "type":
+            return parseType(value);
+        case "name":
+            return new PatternQuery(PatternQuery.Field.NAME, value);
+        case "path":
+            return new PatternQuery(PatternQuery.Field.PATH, value);
+        default:
+            throw new InvalidQueryException("Unknown field '" + field
+                    + "'. Use topic, importance, type, name or path.");
+        }
+    }
+
+    private Query parseTopic(String value) throws InvalidQueryException {
+        String topic = value.toUpperCase();
+        if (!topicManager.isValidTopic(topic)) {
+            throw new InvalidQueryException("Unknown topic '" + value + "'.");
+        }
+        return new TopicQuery(topic);
+    }
+
+    private Query parseImportance(String value) throws InvalidQueryException {
+        int dashIndex = value.indexOf('-', 1);
+        try {
+            int minImportance = Integer.parseInt(dashIndex < 0 ? value : value.substring(0, dashIndex));
+            int maxImportance = dashIndex < 0 ? minImportance : Integer.parseInt(value.substring(dashIndex + 1));
+            boolean isInRange = minImportance >= CS2040CFile.MIN_IMPORTANCE
+                    && maxImportance <= CS2040CFile.MAX_IMPORTANCE;
+            if (isInRange && minImportance <= maxImportance) {
+                return new ImportanceQuery(minImportance, maxImportance);
+            }
+        } catch (NumberFormatException e) {
+            // Reported below together with importance out of range
+        }
+        throw new InvalidQueryException("Importance must be from 1 to 10, or a range such as 7-10, but found '"
+                + value + "'.");
+    }
+
+    private Query parseType(String value) throws InvalidQueryException {
+        if (value.equalsIgnoreCase("note")) {
+            return new TypeQuery(false);
+        }
+        if (value.equalsIgnoreCase("code")) {
+            return new TypeQuery(true);
+        }
+        throw new InvalidQueryException("Type must be note or code, but found '" + value + "'.");
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.clialgo.logic.query;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.TopicManager;
+
+//@@author heejet
+/** A <code>TopicQuery</code> is satisfied by the CS2040CFiles of one topic, e.g. <code>topic=SORTING</code>. */
+public class TopicQuery extends Query {
+    private final String topic;
+
+    public TopicQuery(String topic) {
+        this.topic = topic;
+    }
+
+    @Override
+    public boolean matches(CS2040CFile cs2040cFile) {
+        return topic.equals(cs2040cFile.getTopic());
+    }
+
+    @Override
+    AccessPath getIndexPath(TopicManager topicManager) {
+        return new AccessPath.TopicScan(topicManager.getOneTopic(topic));
+    }
+
+    @Override
+    public String toString() {
+        return "topic=" + topic;
+    }
+}
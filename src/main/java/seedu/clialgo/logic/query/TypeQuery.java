@@ -0,0 +1,34 @@
+package seedu.clialgo.logic.query;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.TopicManager;
+
+//@@author heejet
+/** A <code>TypeQuery</code> is satisfied by either all notes or all code files, e.g. <code>type=code</code>. */
+public class TypeQuery extends Query {
+    private final boolean isCode;
+
+    /**
+     * Constructor for a query on the type of CS2040CFiles.
+     *
+     * @param isCode True if the query is satisfied by code files, false if it is satisfied by notes.
+     */
+    public TypeQuery(boolean isCode) {
+        this.isCode = isCode;
+    }
+
+    @Override
+    public boolean matches(CS2040CFile cs2040cFile) {
+        return cs2040cFile.isCode() == isCode;
+    }
+
+    @Override
+    AccessPath getIndexPath(TopicManager topicManager) {
+        return new AccessPath.TypeScan(topicManager, isCode);
+    }
+
+    @Override
+    public String toString() {
+        return "type=" + (isCode ? "code" : "note");
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.clialgo.profile;
+
+//@@author heejet
+/**
+ * A <code>CommandStats</code> holds the metrics of every execution of one kind of <code>Command</code>: a histogram
+ * of its latencies, the bytes it allocated and the I/O operations it issued to the storage and the export folder.
+ */
+public class CommandStats {
+    private final String commandName;
+    private final LatencyHistogram latencies;
+    private long allocatedBytes;
+    private long ioOperations;
+
+    /** True if the allocated bytes of every execution could be measured. */
+    private boolean isAllocationMeasured;
+
+    CommandStats(String commandName) {
+        this.commandName = commandName;
+        this.latencies = new LatencyHistogram();
+        this.allocatedBytes = 0;
+        this.ioOperations = 0;
+        this.isAllocationMeasured = true;
+    }
+
+    private CommandStats(CommandStats other) {
+        this.commandName = other.commandName;
+        this.latencies = other.latencies.copy();
+        this.allocatedBytes = other.allocatedBytes;
+        this.ioOperations = other.ioOperations;
+        this.isAllocationMeasured = other.isAllocationMeasured;
+    }
+
+    /**
+     * Records one execution.
+     *
+     * @param latencyNanos The time the execution took.
+     * @param allocated The bytes allocated by the execution, or a negative number if they could not be measured.
+     * @param ioCount The I/O operations issued by the execution.
+     */
+    void record(long latencyNanos, long allocated, long ioCount) {
+        latencies.record(latencyNanos);
+        if (allocated < 0) {
+            isAllocationMeasured = false;
+        } else {
+            allocatedBytes += allocated;
+        }
+        ioOperations += ioCount;
+    }
+
+    CommandStats copy() {
+        return new CommandStats(this);
+    }
+
+    public String getCommandName() {
+        return commandName;
+    }
+
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    /** Gets the mean bytes allocated by an execution, or -1 if they could not be measured. */
+    public long getMeanAllocatedBytes() {
+        if (!isAllocationMeasured || latencies.getTotalCount() == 0) {
+            return -1;
+        }
+        return allocatedBytes / latencies.getTotalCount();
+    }
+
+    public long getIoOperations() {
+        return ioOperations;
+    }
+}
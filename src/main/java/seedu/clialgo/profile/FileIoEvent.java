@@ -0,0 +1,70 @@
+package seedu.clialgo.profile;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.io.File;
+
+//@@author heejet
+/**
+ * A JFR event recorded around a single file operation of CLIAlgo, such as a write to a data file, a copy into the
+ * export folder or a probe for a file. Its duration is the time the operation took. Like
+ * <code>StartupPhaseEvent</code>, it costs nothing unless a JFR recording is running, and the path is only read when
+ * one is.
+ */
+@Name("seedu.clialgo.FileIo")
+@Label("File I/O")
+@Category({"CLIAlgo", "File I/O"})
+@Description("A file operation of CLIAlgo, with the path it used and the bytes it wrote or copied")
+public final class FileIoEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Path")
+    String path;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Succeeded")
+    boolean isSuccessful;
+
+    private FileIoEvent() {
+    }
+
+    /**
+     * Starts timing a file operation.
+     *
+     * @param operation The name of the operation, e.g. <code>SingleFile.append</code>.
+     * @param file The file the operation uses.
+     * @return The event, which must be ended with <code>finish</code>.
+     */
+    public static FileIoEvent start(String operation, File file) {
+        FileIoEvent event = new FileIoEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.path = file.getPath();
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Ends the file operation and commits the event if a JFR recording is running.
+     *
+     * @param bytes The bytes written or copied by the operation, 0 if it only looked the file up.
+     * @param isSuccessful True if the operation completed, false if it failed.
+     */
+    public void finish(long bytes, boolean isSuccessful) {
+        if (shouldCommit()) {
+            this.bytes = bytes;
+            this.isSuccessful = isSuccessful;
+            commit();
+        }
+    }
+}
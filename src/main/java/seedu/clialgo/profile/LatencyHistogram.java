@@ -0,0 +1,113 @@
+package seedu.clialgo.profile;
+
+//@@author heejet
+/**
+ * A <code>LatencyHistogram</code> counts latencies in buckets whose width grows with the latency, in the style of an
+ * HDR histogram. Every power of two is split into <code>SUB_BUCKET_COUNT</code> buckets, so any recorded latency is
+ * reported within 1/16 of its value while the histogram stays a fixed array of counts, however many latencies are
+ * recorded.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 62;
+
+    private final long[] counts;
+    private long totalCount;
+    private long minValue;
+    private long maxValue;
+    private long sum;
+
+    public LatencyHistogram() {
+        this.counts = new long[(MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT];
+        this.totalCount = 0;
+        this.minValue = Long.MAX_VALUE;
+        this.maxValue = 0;
+        this.sum = 0;
+    }
+
+    private LatencyHistogram(LatencyHistogram other) {
+        this.counts = other.counts.clone();
+        this.totalCount = other.totalCount;
+        this.minValue = other.minValue;
+        this.maxValue = other.maxValue;
+        this.sum = other.sum;
+    }
+
+    /**
+     * Gets the bucket holding a value. Values below <code>SUB_BUCKET_COUNT</code> have a bucket each, and every
+     * larger power of two is split into <code>SUB_BUCKET_COUNT</code> buckets by the bits below its highest bit.
+     */
+    static int getBucket(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /** Gets the largest value held by a bucket. */
+    static long getHighestValue(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKET_COUNT;
+        long lowestValue = (1L << exponent) | (subBucket << (exponent - SUB_BUCKET_BITS));
+        return lowestValue + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos The latency in nanoseconds. Negative latencies are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[getBucket(value)]++;
+        totalCount++;
+        minValue = Math.min(minValue, value);
+        maxValue = Math.max(maxValue, value);
+        sum += value;
+    }
+
+    /**
+     * Gets the latency that <code>percentile</code> percent of the recorded latencies are at most.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The latency in nanoseconds, within 1/16 of its value, or 0 if nothing was recorded.
+     */
+    public long getPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= target) {
+                return Math.min(maxValue, Math.max(minValue, getHighestValue(bucket)));
+            }
+        }
+        return maxValue;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMaxValue() {
+        return maxValue;
+    }
+
+    /** Gets the mean of the recorded latencies in nanoseconds, or 0 if nothing was recorded. */
+    public long getMean() {
+        return totalCount == 0 ? 0 : sum / totalCount;
+    }
+
+    /** Gets a copy of this histogram which is not affected by later recordings. */
+    public LatencyHistogram copy() {
+        return new LatencyHistogram(this);
+    }
+}
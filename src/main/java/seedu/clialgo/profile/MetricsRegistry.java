@@ -0,0 +1,160 @@
+package seedu.clialgo.profile;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+//@@author heejet
+/**
+ * The <code>MetricsRegistry</code> measures every <code>Command</code> executed by CLIAlgo. It records the latency,
+ * the bytes allocated by the executing thread and the I/O operations issued to the storage and the export folder, per
+ * kind of <code>Command</code>. Only one registry exists, so that every part of CLIAlgo records into the same one.
+ */
+public class MetricsRegistry {
+    private static final String DUMP_HEADER =
+            "command,count,p50_ms,p90_ms,p99_ms,max_ms,mean_allocated_bytes,io_operations";
+
+    private static final ThreadLocal<long[]> IO_OPERATIONS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private static MetricsRegistry registry = null;
+
+    /** The metrics of each kind of <code>Command</code>, sorted by name. */
+    private final TreeMap<String, CommandStats> stats;
+
+    /** The file the metrics are written to when CLIAlgo exits, or null if they are not written. */
+    private File dumpFile;
+
+    private MetricsRegistry() {
+        this.stats = new TreeMap<>();
+        this.dumpFile = null;
+    }
+
+    /**
+     * Gets the only <code>MetricsRegistry</code>, creating it if it does not exist.
+     *
+     * @return The Singleton <code>MetricsRegistry</code> object.
+     */
+    public static synchronized MetricsRegistry getInstance() {
+        if (registry == null) {
+            registry = new MetricsRegistry();
+        }
+        return registry;
+    }
+
+    /**
+     * Counts I/O operations issued by the current thread, such as a write to the storage or a copy into the export
+     * folder. They are added to the <code>Command</code> being measured on the thread.
+     *
+     * @param count The number of I/O operations.
+     */
+    public static void countIoOperations(long count) {
+        IO_OPERATIONS.get()[0] += count;
+    }
+
+    /**
+     * Gets the bytes allocated by the current thread so far.
+     *
+     * @return The allocated bytes, or -1 if the JVM cannot measure them.
+     */
+    private static long getAllocatedBytes() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean allocationThreads = (com.sun.management.ThreadMXBean) threads;
+        if (!allocationThreads.isThreadAllocatedMemorySupported()
+                || !allocationThreads.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return allocationThreads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Runs a command and records its latency, allocated bytes and I/O operations under <code>commandName</code>.
+     * The metrics are recorded even if the command throws.
+     *
+     * @param commandName The name the metrics are recorded under.
+     * @param execution The execution of the command.
+     */
+    public void measure(String commandName, Runnable execution) {
+        long[] ioOperations = IO_OPERATIONS.get();
+        long startIoOperations = ioOperations[0];
+        long startAllocatedBytes = getAllocatedBytes();
+        long startNanos = System.nanoTime();
+        try {
+            execution.run();
+        } finally {
+            long latencyNanos = System.nanoTime() - startNanos;
+            long endAllocatedBytes = getAllocatedBytes();
+            long allocatedBytes = startAllocatedBytes < 0 || endAllocatedBytes < 0
+                    ? -1 : endAllocatedBytes - startAllocatedBytes;
+            record(commandName, latencyNanos, allocatedBytes, ioOperations[0] - startIoOperations);
+        }
+    }
+
+    private synchronized void record(String commandName, long latencyNanos, long allocatedBytes, long ioCount) {
+        stats.computeIfAbsent(commandName, CommandStats::new).record(latencyNanos, allocatedBytes, ioCount);
+    }
+
+    /**
+     * Gets a copy of the metrics of each kind of <code>Command</code>.
+     *
+     * @return The metrics sorted by the name of the <code>Command</code>.
+     */
+    public synchronized List<CommandStats> getAllStats() {
+        ArrayList<CommandStats> allStats = new ArrayList<>();
+        for (CommandStats commandStats : stats.values()) {
+            allStats.add(commandStats.copy());
+        }
+        return allStats;
+    }
+
+    /** Forgets every recorded metric. */
+    public synchronized void clear() {
+        stats.clear();
+    }
+
+    /**
+     * Sets the file that the metrics are written to when CLIAlgo exits.
+     *
+     * @param file The file, which is replaced if it exists.
+     */
+    public synchronized void setDumpFile(File file) {
+        this.dumpFile = file;
+    }
+
+    /** Gets the file that the metrics are written to when CLIAlgo exits, or null if they are not written. */
+    public synchronized File getDumpFile() {
+        return dumpFile;
+    }
+
+    /**
+     * Writes the metrics as comma-separated values to the file set by <code>setDumpFile</code>, if any.
+     *
+     * @throws IOException Thrown if the file cannot be written.
+     */
+    public void dumpIfRequested() throws IOException {
+        File file;
+        synchronized (this) {
+            file = dumpFile;
+        }
+        if (file == null) {
+            return;
+        }
+        ArrayList<String> lines = new ArrayList<>();
+        lines.add(DUMP_HEADER);
+        for (CommandStats commandStats : getAllStats()) {
+            LatencyHistogram latencies = commandStats.getLatencies();
+            lines.add(String.format("%s,%d,%.3f,%.3f,%.3f,%.3f,%d,%d", commandStats.getCommandName(),
+                    latencies.getTotalCount(), latencies.getPercentile(50) / 1e6, latencies.getPercentile(90) / 1e6,
+                    latencies.getPercentile(99) / 1e6, latencies.getMaxValue() / 1e6,
+                    commandStats.getMeanAllocatedBytes(), commandStats.getIoOperations()));
+        }
+        Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+    }
+}
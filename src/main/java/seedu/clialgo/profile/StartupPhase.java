@@ -0,0 +1,97 @@
+package seedu.clialgo.profile;
+
+//@@author heejet
+/**
+ * A <code>StartupPhase</code> times one phase of the startup of CLIAlgo, from its creation by
+ * <code>StartupProfile.startPhase</code> until <code>finish</code> is called, and counts the records, bytes and file
+ * stat calls processed in between. A phase includes every phase started within it.
+ */
+public class StartupPhase {
+    /** The phase given out once startup is over, which times and records nothing. */
+    static final StartupPhase INACTIVE = new StartupPhase();
+
+    private final String name;
+    private final int depth;
+    private final StartupPhaseEvent event;
+    private final long startNanos;
+    private final long startRecords;
+    private final long startBytes;
+    private final long startStatCalls;
+    private long durationNanos;
+    private long records;
+    private long bytes;
+    private long statCalls;
+    private boolean isFinished;
+
+    StartupPhase(String name, int depth) {
+        this.name = name;
+        this.depth = depth;
+        this.event = new StartupPhaseEvent();
+        this.startRecords = StartupProfile.getRecordCount();
+        this.startBytes = StartupProfile.getByteCount();
+        this.startStatCalls = StartupProfile.getStatCallCount();
+        this.isFinished = false;
+        event.begin();
+        this.startNanos = System.nanoTime();
+    }
+
+    /** Constructor for the inactive phase, which is finished from the start. */
+    private StartupPhase() {
+        this.name = null;
+        this.depth = 0;
+        this.event = null;
+        this.startNanos = 0;
+        this.startRecords = 0;
+        this.startBytes = 0;
+        this.startStatCalls = 0;
+        this.isFinished = true;
+    }
+
+    /**
+     * Ends the phase, recording its duration and counts and committing its JFR event. Calling it again does nothing.
+     */
+    public void finish() {
+        if (isFinished) {
+            return;
+        }
+        durationNanos = System.nanoTime() - startNanos;
+        event.end();
+        isFinished = true;
+        records = StartupProfile.getRecordCount() - startRecords;
+        bytes = StartupProfile.getByteCount() - startBytes;
+        statCalls = StartupProfile.getStatCallCount() - startStatCalls;
+        if (event.shouldCommit()) {
+            event.phase = name;
+            event.records = records;
+            event.bytes = bytes;
+            event.statCalls = statCalls;
+            event.commit();
+        }
+        StartupProfile.endPhase(this);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Gets the number of phases this phase was started within. */
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getStatCalls() {
+        return statCalls;
+    }
+}
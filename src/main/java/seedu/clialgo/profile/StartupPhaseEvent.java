@@ -0,0 +1,32 @@
+package seedu.clialgo.profile;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+//@@author heejet
+/**
+ * A JFR event recorded for every phase of the startup of CLIAlgo, whether or not <code>--profile</code> is given. It
+ * costs nothing unless a JFR recording is running, e.g. with <code>-XX:StartFlightRecording</code>.
+ */
+@Name("seedu.clialgo.StartupPhase")
+@Label("Startup Phase")
+@Category({"CLIAlgo", "Startup"})
+@Description("A phase of the startup of CLIAlgo, with the records, bytes and file stat calls it processed")
+final class StartupPhaseEvent extends Event {
+    @Label("Phase")
+    String phase;
+
+    @Label("Records")
+    long records;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Stat Calls")
+    long statCalls;
+}
@@ -0,0 +1,113 @@
+package seedu.clialgo.profile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+//@@author heejet
+/**
+ * <code>StartupProfile</code> times the phases of the startup of CLIAlgo and counts the records decoded, the bytes
+ * read and the file stat calls made, so that a slower launch can be traced to a single phase. Every phase is also
+ * recorded as a <code>StartupPhaseEvent</code> for JFR. The phases themselves are only kept, to be printed, once
+ * <code>enable</code> is called for <code>--profile</code>. Once <code>endStartup</code> is called, work done while
+ * CLIAlgo runs, such as recreating a deleted folder, is no longer timed as a phase.
+ */
+public class StartupProfile {
+    private static final AtomicLong RECORD_COUNT = new AtomicLong();
+    private static final AtomicLong BYTE_COUNT = new AtomicLong();
+    private static final AtomicLong STAT_CALL_COUNT = new AtomicLong();
+
+    /** The phases in the order they were started, or null if phases are not kept. */
+    private static ArrayList<StartupPhase> phases = null;
+
+    /** The number of phases that have been started and not yet finished. */
+    private static int openPhaseCount = 0;
+
+    /** True once the startup of CLIAlgo is over, after which no phase is timed. */
+    private static boolean isStartupOver = false;
+
+    private StartupProfile() {
+    }
+
+    /** Starts keeping every phase, so that they can be printed with <code>getPhases</code>. */
+    public static synchronized void enable() {
+        phases = new ArrayList<>();
+        isStartupOver = false;
+    }
+
+    /** Marks the end of the startup of CLIAlgo. Phases started afterwards are neither timed nor recorded. */
+    public static synchronized void endStartup() {
+        isStartupOver = true;
+    }
+
+    /** Stops keeping phases, once the startup of CLIAlgo is over. JFR events are still recorded. */
+    public static synchronized void disable() {
+        phases = null;
+    }
+
+    public static synchronized boolean isEnabled() {
+        return phases != null;
+    }
+
+    /**
+     * Starts timing a phase. The phase must be finished with <code>StartupPhase.finish</code>, in a finally block if
+     * the phase may end with an exception.
+     *
+     * @param name The name of the phase, such as the method it times.
+     * @return The started phase, or an inactive phase if startup is over.
+     */
+    public static synchronized StartupPhase startPhase(String name) {
+        if (isStartupOver) {
+            return StartupPhase.INACTIVE;
+        }
+        StartupPhase phase = new StartupPhase(name, openPhaseCount);
+        openPhaseCount++;
+        if (phases != null) {
+            phases.add(phase);
+        }
+        return phase;
+    }
+
+    static synchronized void endPhase(StartupPhase phase) {
+        openPhaseCount = Math.max(0, openPhaseCount - 1);
+    }
+
+    /**
+     * Gets the phases kept since <code>enable</code> was called.
+     *
+     * @return The phases in the order they were started, or an empty list if phases are not kept.
+     */
+    public static synchronized List<StartupPhase> getPhases() {
+        if (phases == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(phases);
+    }
+
+    /** Counts records, such as encoded CS2040CFiles, that were decoded. */
+    public static void countRecords(long count) {
+        RECORD_COUNT.addAndGet(count);
+    }
+
+    /** Counts bytes that were read from disk. */
+    public static void countBytes(long count) {
+        BYTE_COUNT.addAndGet(count);
+    }
+
+    /** Counts calls which look up a file or folder on disk, such as <code>File.isFile</code>. */
+    public static void countStatCalls(long count) {
+        STAT_CALL_COUNT.addAndGet(count);
+    }
+
+    static long getRecordCount() {
+        return RECORD_COUNT.get();
+    }
+
+    static long getByteCount() {
+        return BYTE_COUNT.get();
+    }
+
+    static long getStatCallCount() {
+        return STAT_CALL_COUNT.get();
+    }
+}
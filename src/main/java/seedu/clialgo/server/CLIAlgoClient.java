@@ -0,0 +1,78 @@
+package seedu.clialgo.server;
+
+import seedu.clialgo.Ui;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+//@@author heejet
+/**
+ * A <code>CLIAlgoClient</code> is a thin client for a running <code>CLIAlgoServer</code>. It forwards every line typed
+ * by the user to the server unchanged and prints whatever the server sends back, so no CS2040CFiles are loaded by the
+ * client itself.
+ */
+public class CLIAlgoClient {
+    private final int port;
+
+    /**
+     * Constructor for a <code>CLIAlgoClient</code> that connects to a server on this machine.
+     *
+     * @param port The localhost port that the server listens on.
+     */
+    public CLIAlgoClient(int port) {
+        this.port = port;
+    }
+
+    /**
+     * Connects to the server and forwards input and output until the server ends the connection.
+     *
+     * @param ui The <code>Ui</code> object which prints an error message if the server cannot be reached.
+     */
+    public void run(Ui ui) {
+        Socket socket;
+        try {
+            socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        } catch (IOException e) {
+            ui.printServerNotFound(port);
+            return;
+        }
+        try (socket) {
+            Thread inputForwarder = new Thread(() -> forwardInput(socket));
+            inputForwarder.setDaemon(true);
+            inputForwarder.start();
+            socket.getInputStream().transferTo(System.out);
+            System.out.flush();
+        } catch (IOException e) {
+            // The server ended the connection, so there is nothing more to print.
+        }
+    }
+
+    /**
+     * Sends every line of <code>System.in</code> to the server. When the input ends, the server is told that no more
+     * commands will be sent.
+     *
+     * @param socket The socket connected to the server.
+     */
+    private void forwardInput(Socket socket) {
+        try {
+            BufferedReader userInput = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            Writer serverInput = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+            String line = userInput.readLine();
+            while (line != null) {
+                serverInput.write(line);
+                serverInput.write('\n');
+                serverInput.flush();
+                line = userInput.readLine();
+            }
+            socket.shutdownOutput();
+        } catch (IOException e) {
+            // The server ended the connection, so no more commands can be sent.
+        }
+    }
+}
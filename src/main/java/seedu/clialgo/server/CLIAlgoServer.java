@@ -0,0 +1,197 @@
+package seedu.clialgo.server;
+
+import seedu.clialgo.Buffer;
+import seedu.clialgo.JsonUi;
+import seedu.clialgo.Parser;
+import seedu.clialgo.Ui;
+import seedu.clialgo.command.Command;
+import seedu.clialgo.command.ExitCommand;
+import seedu.clialgo.command.ExitTestModeCommand;
+import seedu.clialgo.command.TestModeCommand;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.profile.MetricsRegistry;
+import seedu.clialgo.storage.Storage;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+//@@author heejet
+/**
+ * A <code>CLIAlgoServer</code> serves commands from many clients over localhost TCP, using a single
+ * <code>TopicManager</code> that is loaded once when CLIAlgo starts. Every line sent by a client is parsed into a
+ * <code>Command</code> and executed with a <code>Ui</code> that prints back to that client, and a <code>Buffer</code>
+ * that only that client filters into and exports from. Commands that change CS2040CFiles are executed one at a time,
+ * while read-only commands run concurrently with them. Test mode is not served, since it is shared by every client.
+ */
+public class CLIAlgoServer {
+    /** The number of pending connections the operating system may queue for the server. */
+    private static final int CONNECTION_BACKLOG = 50;
+
+    private final TopicManager topicManager;
+    private final Storage storage;
+    private final Parser parser;
+    private final boolean isJsonMode;
+
+    /** Lock held while a command that changes CS2040CFiles is executed. */
+    private final Object executionLock;
+
+    /**
+     * Constructor for a <code>CLIAlgoServer</code> that serves the given, already initialized, CLIAlgo state.
+     *
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param storage The <code>Storage</code> object responsible for saving information in CLIAlgo.
+     * @param parser The <code>Parser</code> used to make sense of the commands sent by clients.
+     * @param isJsonMode True if clients should receive NDJSON records instead of text.
+     */
+    public CLIAlgoServer(TopicManager topicManager, Storage storage, Parser parser, boolean isJsonMode) {
+        this.topicManager = topicManager;
+        this.storage = storage;
+        this.parser = parser;
+        this.isJsonMode = isJsonMode;
+        this.executionLock = new Object();
+    }
+
+    /**
+     * Listens on a localhost port and serves clients until CLIAlgo is stopped.
+     *
+     * @param port The localhost port to listen on.
+     * @param ui The <code>Ui</code> object which prints the status of the server on the console.
+     */
+    public void serve(int port, Ui ui) {
+        try (ServerSocket serverSocket = new ServerSocket(port, CONNECTION_BACKLOG, InetAddress.getLoopbackAddress())) {
+            ui.printServerStarted(serverSocket.getLocalPort());
+            serve(serverSocket);
+        } catch (IOException e) {
+            ui.printServerStartFail(port);
+        }
+    }
+
+    /**
+     * Accepts clients on <code>serverSocket</code> until it is closed. Each client is handled on its own thread.
+     *
+     * @param serverSocket The bound socket to accept clients on.
+     */
+    public void serve(ServerSocket serverSocket) {
+        ExecutorService connectionExecutor = createConnectionExecutor();
+        try {
+            while (!serverSocket.isClosed()) {
+                Socket socket = serverSocket.accept();
+                connectionExecutor.execute(() -> handleConnection(socket));
+            }
+        } catch (IOException e) {
+            // The server socket was closed, so no more clients can connect.
+        } finally {
+            connectionExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Creates the executor that runs one task per client. Virtual threads are used when the running JVM has them,
+     * since clients spend nearly all their time waiting for input. Otherwise, a cached pool of platform threads is
+     * used.
+     *
+     * @return An <code>ExecutorService</code> that starts a new thread for every task.
+     */
+    static ExecutorService createConnectionExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * Reads commands from a client line by line and executes them until the client sends <code>exit</code> or
+     * disconnects.
+     *
+     * @param socket The socket connected to the client.
+     */
+    private void handleConnection(Socket socket) {
+        try (socket;
+             BufferedReader input = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintStream output = new PrintStream(
+                     new BufferedOutputStream(socket.getOutputStream()), false, StandardCharsets.UTF_8)) {
+            Ui ui = createClientUi(output);
+            Buffer buffer = Buffer.createClientBuffer();
+            ui.printWelcomeMessage();
+            output.flush();
+            String fullCommand = input.readLine();
+            while (fullCommand != null && execute(fullCommand, ui, buffer)) {
+                output.flush();
+                fullCommand = input.readLine();
+            }
+            output.flush();
+        } catch (IOException e) {
+            // The client disconnected, so nothing more can be sent to it.
+        }
+    }
+
+    /**
+     * Creates the <code>Ui</code> that prints to a single client. The client's input is read by the server itself.
+     *
+     * @param output The stream connected to the client.
+     * @return A <code>JsonUi</code> if the server is in JSON mode, a text <code>Ui</code> otherwise.
+     */
+    private Ui createClientUi(PrintStream output) {
+        if (isJsonMode) {
+            return new JsonUi(InputStream.nullInputStream(), output);
+        }
+        return new Ui(InputStream.nullInputStream(), output);
+    }
+
+    /**
+     * Parses and executes a single command sent by a client. <code>exit</code> only ends the connection of the
+     * client, the server keeps running. Read-only commands read a published snapshot of the
+     * <code>TopicManager</code>, so they are not made to wait for other clients. Starting or exiting test mode is
+     * refused, since it would change whether the changes of every client are saved.
+     *
+     * @param fullCommand The line sent by the client.
+     * @param ui The <code>Ui</code> object which prints to the client.
+     * @param buffer The <code>Buffer</code> object of the client.
+     * @return False if the client asked to end the connection, true otherwise.
+     */
+    private boolean execute(String fullCommand, Ui ui, Buffer buffer) {
+        Command command = parser.parse(fullCommand, topicManager);
+        if (command instanceof ExitCommand) {
+            ui.printExitMessage();
+            return false;
+        }
+        if (command instanceof TestModeCommand || command instanceof ExitTestModeCommand) {
+            ui.printTestModeNotServed();
+            return true;
+        }
+        if (command.isReadOnly()) {
+            measure(command, ui, buffer);
+            return true;
+        }
+        synchronized (executionLock) {
+            measure(command, ui, buffer);
+        }
+        return true;
+    }
+
+    /**
+     * Executes a command, recording its metrics in the <code>MetricsRegistry</code>.
+     *
+     * @param command The command sent by the client.
+     * @param ui The <code>Ui</code> object which prints to the client.
+     * @param buffer The <code>Buffer</code> object of the client.
+     */
+    private void measure(Command command, Ui ui, Buffer buffer) {
+        MetricsRegistry.getInstance().measure(command.getClass().getSimpleName(),
+                () -> command.execute(topicManager, ui, storage, buffer));
+    }
+}
@@ -0,0 +1,399 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.Topic;
+import seedu.clialgo.profile.StartupProfile;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+//@@author heejet
+/**
+ * A <code>CompressedFileManager</code> saves each <code>Topic</code> in a compressed topic file,
+ * <code>TOPIC_NAME.cdat</code>, instead of a .txt file. Each line leaves out the topic, which is implied by the file,
+ * and replaces the folder of the path with the number of a path prefix defined once earlier in the file. The lines are
+ * then compressed in blocks, each written as its length followed by a GZIP member, which carries its own checksum.
+ *
+ * <p>An addition or removal is appended as a block of its own, so nothing is rewritten. Each appended block costs
+ * about 20 bytes of framing more than its line, so a file is rewritten into blocks of <code>LINES_PER_BLOCK</code>
+ * lines once its appended blocks take more bytes than the blocks written by the last rewrite. A file is then never
+ * more than about twice its compacted size, and each byte appended leads to at most one byte being rewritten later.
+ * Files are read one block at a time, and every line is passed to the <code>FileDecoder</code> as it is
+ * decompressed.
+ */
+public class CompressedFileManager extends FileManager {
+    /** The extension of a compressed topic file. */
+    public static final String COMPRESSED_FILE_EXTENSION = ".cdat";
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String QUARANTINE_FILE_SUFFIX = ".corrupted";
+
+    /** The number of lines compressed together when a file is rewritten. */
+    private static final int LINES_PER_BLOCK = 256;
+
+    /** The saved <code>CS2040CFiles</code> of each topic, keyed by their names. */
+    private final HashMap<String, LinkedHashMap<String, CS2040CFile>> cs2040cFiles;
+
+    /** The path prefixes defined in the file of each topic, in the order of their numbers. */
+    private final HashMap<String, ArrayList<String>> pathPrefixes;
+
+    /** The number of bytes in the file of each topic written by its last rewrite. */
+    private final HashMap<String, Long> compactedBytes;
+
+    /** The number of bytes in the file of each topic appended since its last rewrite. */
+    private final HashMap<String, Long> appendedBytes;
+
+    /**
+     * Constructor for a <code>CompressedFileManager</code> storing every topic in <code>path</code>.
+     *
+     * @param path The folder that the compressed topic files are stored in.
+     * @param topicNames The names of all the topics in CLIAlgo.
+     */
+    public CompressedFileManager(String path, ArrayList<String> topicNames) {
+        super(path, topicNames);
+        this.cs2040cFiles = new HashMap<>();
+        this.pathPrefixes = new HashMap<>();
+        this.compactedBytes = new HashMap<>();
+        this.appendedBytes = new HashMap<>();
+        for (String topicName : topicNames) {
+            cs2040cFiles.put(topicName, new LinkedHashMap<>());
+            pathPrefixes.put(topicName, new ArrayList<>());
+            compactedBytes.put(topicName, 0L);
+            appendedBytes.put(topicName, 0L);
+        }
+    }
+
+    private File getTopicFile(String topicName) {
+        return new File(path + "/" + topicName + COMPRESSED_FILE_EXTENSION);
+    }
+
+    /**
+     * Reads the compressed file of every topic. If there are no compressed files yet but CLIAlgo saved one .txt file
+     * per topic before, the .txt files are imported, and are left in place untouched.
+     */
+    @Override
+    public synchronized void initialize() {
+        createFolder();
+        getJournal().clear();
+        boolean hasCompressedFiles = false;
+        for (String topicName : topicNames) {
+            hasCompressedFiles |= getTopicFile(topicName).isFile();
+        }
+        if (!hasCompressedFiles && hasTopicFiles()) {
+            importTopicFiles();
+            return;
+        }
+        for (String topicName : topicNames) {
+            if (!readTopicFile(topicName)) {
+                rewrite(topicName);
+            }
+        }
+    }
+
+    private void importTopicFiles() {
+        for (Topic topic : readTopicFiles().values()) {
+            for (CS2040CFile cs2040cFile : topic.getCS2040CFiles()) {
+                cs2040cFiles.get(cs2040cFile.getTopic()).put(cs2040cFile.getName(), cs2040cFile);
+            }
+        }
+        for (String topicName : topicNames) {
+            rewrite(topicName);
+        }
+    }
+
+    /**
+     * Reads the compressed file of a topic one block at a time. A block that was cut short or fails its checksum ends
+     * the file, and lines that cannot be decoded are moved to the quarantine file. A rewrite only leaves its last block
+     * with fewer than <code>LINES_PER_BLOCK</code> lines, so the blocks after the first such block were appended.
+     *
+     * @param topicName The topic whose file is read.
+     * @return True if the file was read completely, false if it has to be rewritten.
+     */
+    private boolean readTopicFile(String topicName) {
+        File file = getTopicFile(topicName);
+        cs2040cFiles.get(topicName).clear();
+        pathPrefixes.get(topicName).clear();
+        compactedBytes.put(topicName, 0L);
+        appendedBytes.put(topicName, 0L);
+        if (!file.exists()) {
+            return false;
+        }
+        ArrayList<String> corruptedLines = new ArrayList<>();
+        boolean isComplete = true;
+        boolean isCompacted = true;
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            while (true) {
+                int length;
+                try {
+                    length = input.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (length < 0 || length > file.length()) {
+                    isComplete = false;
+                    break;
+                }
+                byte[] block = new byte[length];
+                input.readFully(block);
+                StartupProfile.countBytes(Integer.BYTES + length);
+                int lineCount = readBlock(topicName, block, corruptedLines);
+                (isCompacted ? compactedBytes : appendedBytes).merge(topicName, (long) Integer.BYTES + length,
+                        Long::sum);
+                isCompacted &= lineCount >= LINES_PER_BLOCK;
+            }
+        } catch (EOFException | ZipException e) {
+            isComplete = false;
+        } catch (IOException | SecurityException e) {
+            ui.printFileWriteError();
+            return true;
+        }
+        if (!isComplete) {
+            ui.printChecksumMismatch(file.getName());
+        }
+        if (!corruptedLines.isEmpty()) {
+            quarantine(file, corruptedLines);
+        }
+        return isComplete && corruptedLines.isEmpty();
+    }
+
+    /**
+     * Decompresses a block and passes each of its lines to the <code>FileDecoder</code> as it is read.
+     *
+     * @return The number of lines in the block.
+     * @throws IOException Thrown if the block is cut short or fails its checksum.
+     */
+    private int readBlock(String topicName, byte[] block, ArrayList<String> corruptedLines) throws IOException {
+        ArrayList<String> prefixes = pathPrefixes.get(topicName);
+        LinkedHashMap<String, CS2040CFile> topicFiles = cs2040cFiles.get(topicName);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(block)), StandardCharsets.UTF_8))) {
+            int lineCount = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineCount++;
+                if (decoder.isPathPrefix(line)) {
+                    if (!decoder.decodePathPrefix(line, prefixes)) {
+                        corruptedLines.add(line);
+                    }
+                } else if (decoder.isRemoval(line)) {
+                    topicFiles.remove(decoder.decodeRemovedName(line));
+                } else {
+                    String expandedLine = decoder.expandCompactString(line, topicName, prefixes);
+                    if (expandedLine == null || decoder.decodeString(expandedLine, topicName)) {
+                        corruptedLines.add(expandedLine == null ? line : expandedLine);
+                    } else {
+                        topicFiles.put(decoder.decodedName(), decoder.processedCS2040CFile());
+                        StartupProfile.countRecords(1);
+                    }
+                }
+            }
+            return lineCount;
+        }
+    }
+
+    /** Appends corrupted lines to the quarantine file next to the compressed file. */
+    private void quarantine(File file, ArrayList<String> corruptedLines) {
+        File quarantineFile = new File(file.getPath() + QUARANTINE_FILE_SUFFIX);
+        try {
+            Files.write(quarantineFile.toPath(), corruptedLines, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+            ui.printCorruptedEntriesQuarantined(corruptedLines.size(), file.getName(), quarantineFile.getName());
+        } catch (IOException | SecurityException e) {
+            ui.printFileWriteError();
+        }
+    }
+
+    /**
+     * Encodes a <code>CS2040CFile</code> of a topic, adding the definition of its path prefix to <code>lines</code>
+     * first if the prefix is new.
+     */
+    private void encodeInto(List<String> lines, String name, CS2040CFile cs2040cFile) {
+        ArrayList<String> prefixes = pathPrefixes.get(cs2040cFile.getTopic());
+        String filePath = cs2040cFile.getPath();
+        String prefix = filePath.substring(0, Math.max(filePath.lastIndexOf('/'), filePath.lastIndexOf('\\')) + 1);
+        int prefixId = prefixes.indexOf(prefix);
+        if (prefixId < 0) {
+            prefixId = prefixes.size();
+            prefixes.add(prefix);
+            lines.add(encoder.encodePathPrefix(prefixId, prefix));
+        }
+        lines.add(encoder.encodeCompactCS2040CFile(name, cs2040cFile, prefixId, prefix.length()));
+    }
+
+    /**
+     * Compresses lines into one block, written as its length followed by a GZIP member.
+     *
+     * @return The number of bytes written.
+     */
+    private static int writeBlock(DataOutputStream output, List<String> lines) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.write('\n');
+            }
+        }
+        output.writeInt(bytes.size());
+        bytes.writeTo(output);
+        return Integer.BYTES + bytes.size();
+    }
+
+    /**
+     * Appends a block holding a change to the file of a topic, and rewrites the file once its appended blocks take
+     * more bytes than the blocks written by its last rewrite.
+     *
+     * @return True if the change was saved, false otherwise.
+     */
+    private boolean appendBlock(String topicName, List<String> lines) {
+        File file = getTopicFile(topicName);
+        int blockBytes;
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(file, true)))) {
+            blockBytes = writeBlock(output, lines);
+        } catch (IOException | SecurityException e) {
+            ui.printFileWriteError();
+            return false;
+        }
+        appendedBytes.merge(topicName, (long) blockBytes, Long::sum);
+        if (appendedBytes.get(topicName) > compactedBytes.get(topicName)) {
+            rewrite(topicName);
+        }
+        return true;
+    }
+
+    /**
+     * Rewrites the file of a topic from the entries in memory, with fresh path prefixes, into a temporary file which
+     * is synced and then moved over the file.
+     */
+    private void rewrite(String topicName) {
+        File file = getTopicFile(topicName);
+        File tempFile = new File(file.getPath() + TEMP_FILE_SUFFIX);
+        pathPrefixes.get(topicName).clear();
+        long writtenBytes = 0;
+        try {
+            try (FileOutputStream fileOutputStream = new FileOutputStream(tempFile);
+                 DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fileOutputStream))) {
+                ArrayList<String> lines = new ArrayList<>();
+                for (CS2040CFile cs2040cFile : cs2040cFiles.get(topicName).values()) {
+                    encodeInto(lines, cs2040cFile.getName(), cs2040cFile);
+                    if (lines.size() >= LINES_PER_BLOCK) {
+                        writtenBytes += writeBlock(output, lines);
+                        lines.clear();
+                    }
+                }
+                if (!lines.isEmpty()) {
+                    writtenBytes += writeBlock(output, lines);
+                }
+                output.flush();
+                fileOutputStream.getFD().sync();
+            }
+            SingleFile.replace(tempFile, file);
+        } catch (IOException | SecurityException e) {
+            tempFile.delete();
+            ui.printFileWriteError();
+            return;
+        }
+        compactedBytes.put(topicName, writtenBytes);
+        appendedBytes.put(topicName, 0L);
+    }
+
+    @Override
+    public synchronized boolean addEntry(String name, CS2040CFile cs2040cFile) {
+        if (isTestModeOn) {
+            return true;
+        }
+        String topicName = cs2040cFile.getTopic();
+        ArrayList<String> lines = new ArrayList<>();
+        int prefixCount = pathPrefixes.get(topicName).size();
+        encodeInto(lines, name, cs2040cFile);
+        CS2040CFile replacedCS2040CFile = cs2040cFiles.get(topicName).put(name, cs2040cFile);
+        if (!appendBlock(topicName, lines)) {
+            pathPrefixes.get(topicName).subList(prefixCount, pathPrefixes.get(topicName).size()).clear();
+            if (replacedCS2040CFile == null) {
+                cs2040cFiles.get(topicName).remove(name);
+            } else {
+                cs2040cFiles.get(topicName).put(name, replacedCS2040CFile);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized boolean deleteEntry(String cs2040cFileName, String topicName) {
+        return appendRemoval(cs2040cFileName, topicName);
+    }
+
+    @Override
+    public synchronized boolean appendRemoval(String cs2040cFileName, String topicName) {
+        if (isTestModeOn) {
+            return true;
+        }
+        CS2040CFile removedCS2040CFile = cs2040cFiles.get(topicName).remove(cs2040cFileName);
+        if (removedCS2040CFile == null) {
+            return true;
+        }
+        if (!appendBlock(topicName, List.of(encoder.encodeRemoval(cs2040cFileName)))) {
+            cs2040cFiles.get(topicName).put(cs2040cFileName, removedCS2040CFile);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void deleteAllEntry(String topicName) {
+        if (isTestModeOn) {
+            return;
+        }
+        cs2040cFiles.get(topicName).clear();
+        rewrite(topicName);
+    }
+
+    @Override
+    public synchronized HashMap<String, Topic> decodeAll() {
+        HashMap<String, Topic> topics = new HashMap<>();
+        for (String topicName : topicNames) {
+            topics.put(topicName, new Topic(topicName, new HashMap<>(cs2040cFiles.get(topicName))));
+        }
+        return topics;
+    }
+
+    /** Recreates the data folder and the compressed files from the entries in memory if any is missing. */
+    @Override
+    public synchronized void recreateAll() {
+        if (isTestModeOn) {
+            return;
+        }
+        if (!new File(path).exists()) {
+            createFolder();
+        }
+        for (String topicName : topicNames) {
+            if (!getTopicFile(topicName).exists()) {
+                rewrite(topicName);
+            }
+        }
+    }
+}
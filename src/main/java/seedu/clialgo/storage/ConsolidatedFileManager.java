@@ -0,0 +1,555 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.Topic;
+import seedu.clialgo.profile.StartupProfile;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+//@@author heejet
+/**
+ * A <code>ConsolidatedFileManager</code> saves the <code>CS2040CFiles</code> of every <code>Topic</code> in a single
+ * data file instead of one .txt file per topic. The data file starts with a header indexing the offset, length and
+ * checksum of the section of each topic, so one topic can be read with a single positioned read. Additions and
+ * removals are appended to a shared write-ahead region after the sections, which is folded back into the sections
+ * once it grows larger than the data it changes.
+ *
+ * <p>The layout of the data file is:
+ * <pre>
+ * CLIALGO-STORE&amp;@TOPIC_COUNT&amp;@WAL_OFFSET
+ * TOPIC_NAME&amp;@OFFSET&amp;@LENGTH&amp;@CHECKSUM     (one line per topic)
+ * encoded CS2040CFiles of each topic, in the order of the index
+ * CHECKSUM&amp;@TOPIC_NAME&amp;@ENCODED_LINE         (one line per change since the sections were written)
+ * </pre>
+ * Offsets and lengths are written with a fixed width, so the size of the header only depends on the topic names.
+ */
+public class ConsolidatedFileManager extends FileManager {
+    /** The name of the single data file. */
+    public static final String STORE_FILE_NAME = "clialgo.dat";
+
+    private static final String MAGIC = "CLIALGO-STORE";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String QUARANTINE_FILE_SUFFIX = ".corrupted";
+    private static final String OFFSET_FORMAT = "%012d";
+    private static final String CHECKSUM_FORMAT = "%08x";
+    private static final int CHECKSUM_WIDTH = 8;
+
+    /** The number of changes the write-ahead region may always hold before it is folded into the sections. */
+    private static final int MIN_CHANGES_BEFORE_COMPACTION = 256;
+
+    private final File storeFile;
+
+    /**
+     * The decoded <code>CS2040CFiles</code> of each topic, keyed by their names. They are only encoded again when the
+     * sections are written, so no encoded copy is kept.
+     */
+    private final HashMap<String, HashMap<String, CS2040CFile>> cs2040cFiles;
+
+    /** The offset and length of the section of each topic, as written by the last compaction. */
+    private final HashMap<String, long[]> sectionIndex;
+
+    /** The channel of the data file, kept open so that every change reuses the same file handle. */
+    private FileChannel storeChannel;
+
+    /** The offset of the write-ahead region, which is also the end of the last section. */
+    private long walOffset;
+
+    /** The number of changes in the write-ahead region. */
+    private int walChangeCount;
+
+    /**
+     * Constructor for a <code>ConsolidatedFileManager</code> storing every topic in <code>path</code>/clialgo.dat.
+     *
+     * @param path The folder that the data file is stored in.
+     * @param topicNames The names of all the topics in CLIAlgo.
+     */
+    public ConsolidatedFileManager(String path, ArrayList<String> topicNames) {
+        super(path, topicNames);
+        this.storeFile = new File(path + "/" + STORE_FILE_NAME);
+        this.cs2040cFiles = new HashMap<>();
+        this.sectionIndex = new HashMap<>();
+        for (String topicName : topicNames) {
+            cs2040cFiles.put(topicName, new HashMap<>());
+        }
+        this.walOffset = 0;
+        this.walChangeCount = 0;
+    }
+
+    /**
+     * Loads every topic from the data file. If there is no data file yet but CLIAlgo saved one .txt file per topic
+     * before, the .txt files are imported into a new data file, and are left in place untouched.
+     */
+    @Override
+    public synchronized void initialize() {
+        createFolder();
+        getJournal().clear();
+        if (storeFile.exists()) {
+            loadStore();
+        } else if (hasTopicFiles()) {
+            importTopicFiles();
+        }
+        if (!storeFile.exists() || walChangeCount > 0 && isCompactionDue()) {
+            compact();
+        }
+    }
+
+    /** Reads the .txt file of every topic through <code>FileManager</code> and keeps their entries. */
+    private void importTopicFiles() {
+        for (Topic topic : readTopicFiles().values()) {
+            for (CS2040CFile cs2040cFile : topic.getCS2040CFiles()) {
+                putEntry(cs2040cFile.getName(), cs2040cFile);
+            }
+        }
+    }
+
+    /**
+     * Reads the whole data file with one positioned read, decodes every section and replays the write-ahead region
+     * over them. A data file whose header cannot be read is moved aside, and CLIAlgo starts without any entries.
+     * The data file is read rather than memory-mapped, since Windows cannot replace a file that is still mapped.
+     */
+    private void loadStore() {
+        byte[] content;
+        try {
+            content = readAll();
+        } catch (IOException e) {
+            ui.printFileWriteError();
+            return;
+        }
+        StartupProfile.countBytes(content.length);
+        int headerEnd = readHeader(content);
+        if (headerEnd < 0) {
+            quarantineStore();
+            return;
+        }
+        ArrayList<String> corruptedLines = new ArrayList<>();
+        boolean isChecksumMismatched = false;
+        for (String topicName : topicNames) {
+            long[] section = sectionIndex.get(topicName);
+            if (section == null) {
+                continue;
+            }
+            String lines = new String(content, (int) section[0], (int) section[1], StandardCharsets.UTF_8);
+            CRC32 checksum = new CRC32();
+            checksum.update(content, (int) section[0], (int) section[1]);
+            isChecksumMismatched |= checksum.getValue() != section[2];
+            for (String line : (Iterable<String>) lines.lines()::iterator) {
+                if (!decodeEntry(topicName, line)) {
+                    corruptedLines.add(line);
+                }
+            }
+        }
+        String walLines = new String(content, (int) walOffset, content.length - (int) walOffset,
+                StandardCharsets.UTF_8);
+        for (String line : (Iterable<String>) walLines.lines()::iterator) {
+            walChangeCount++;
+            if (!replayChange(line)) {
+                corruptedLines.add(line);
+            }
+        }
+        boolean isLastChangeTorn = content.length > walOffset && content[content.length - 1] != '\n';
+        if (isChecksumMismatched || isLastChangeTorn) {
+            ui.printChecksumMismatch(STORE_FILE_NAME);
+        }
+        if (!corruptedLines.isEmpty()) {
+            quarantine(corruptedLines);
+        }
+        if (isChecksumMismatched || isLastChangeTorn || !corruptedLines.isEmpty()) {
+            compact();
+        }
+    }
+
+    /**
+     * Reads the header of the data file into <code>sectionIndex</code> and <code>walOffset</code>.
+     *
+     * @param content The bytes of the data file.
+     * @return The offset of the first section, or -1 if the header is not valid.
+     */
+    private int readHeader(byte[] content) {
+        String separator = encoder.separator;
+        int lineStart = 0;
+        int lineEnd = indexOfNewLine(content, lineStart);
+        if (lineEnd < 0) {
+            return -1;
+        }
+        String[] header = new String(content, 0, lineEnd, StandardCharsets.UTF_8).split(separator);
+        try {
+            if (header.length != 3 || !header[0].equals(MAGIC)) {
+                return -1;
+            }
+            int topicCount = Integer.parseInt(header[1]);
+            walOffset = Long.parseLong(header[2]);
+            for (int i = 0; i < topicCount; i++) {
+                lineStart = lineEnd + 1;
+                lineEnd = indexOfNewLine(content, lineStart);
+                if (lineEnd < 0) {
+                    return -1;
+                }
+                String[] entry = new String(content, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8)
+                        .split(separator);
+                if (entry.length != 4) {
+                    return -1;
+                }
+                long offset = Long.parseLong(entry[1]);
+                long length = Long.parseLong(entry[2]);
+                if (offset < 0 || length < 0 || offset + length > walOffset) {
+                    return -1;
+                }
+                sectionIndex.put(entry[0], new long[] {offset, length, Long.parseLong(entry[3], 16)});
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            return -1;
+        }
+        return walOffset <= content.length ? lineEnd + 1 : -1;
+    }
+
+    private static int indexOfNewLine(byte[] content, int from) {
+        for (int i = from; i < content.length; i++) {
+            if (content[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Decodes an encoded <code>CS2040CFile</code> of a topic and keeps it.
+     *
+     * @return True if the line was decoded, false if it is corrupted.
+     */
+    private boolean decodeEntry(String topicName, String line) {
+        if (!cs2040cFiles.containsKey(topicName) || decoder.decodeString(line, topicName)) {
+            return false;
+        }
+        cs2040cFiles.get(topicName).put(decoder.decodedName(), decoder.processedCS2040CFile());
+        StartupProfile.countRecords(1);
+        return true;
+    }
+
+    /**
+     * Applies a change read from the write-ahead region.
+     *
+     * @return True if the change was applied, false if it is corrupted.
+     */
+    private boolean replayChange(String line) {
+        String separator = encoder.separator;
+        if (line.length() < CHECKSUM_WIDTH + separator.length()) {
+            return false;
+        }
+        String change = line.substring(CHECKSUM_WIDTH + separator.length());
+        CRC32 checksum = new CRC32();
+        checksum.update(change.getBytes(StandardCharsets.UTF_8));
+        if (!line.startsWith(String.format(CHECKSUM_FORMAT, checksum.getValue()) + separator)) {
+            return false;
+        }
+        int topicEnd = change.indexOf(separator);
+        if (topicEnd < 0) {
+            return false;
+        }
+        String topicName = change.substring(0, topicEnd);
+        String encodedLine = change.substring(topicEnd + separator.length());
+        if (!decoder.isRemoval(encodedLine)) {
+            return decodeEntry(topicName, encodedLine);
+        }
+        if (!cs2040cFiles.containsKey(topicName)) {
+            return false;
+        }
+        String removedName = decoder.decodeRemovedName(encodedLine);
+        cs2040cFiles.get(topicName).remove(removedName);
+        return true;
+    }
+
+    private void putEntry(String name, CS2040CFile cs2040cFile) {
+        cs2040cFiles.get(cs2040cFile.getTopic()).put(name, cs2040cFile);
+    }
+
+    /** Appends corrupted lines to the quarantine file next to the data file. */
+    private void quarantine(ArrayList<String> corruptedLines) {
+        File quarantineFile = new File(storeFile.getPath() + QUARANTINE_FILE_SUFFIX);
+        try {
+            Files.write(quarantineFile.toPath(), corruptedLines, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+            ui.printCorruptedEntriesQuarantined(corruptedLines.size(), STORE_FILE_NAME, quarantineFile.getName());
+        } catch (IOException | SecurityException e) {
+            ui.printFileWriteError();
+        }
+    }
+
+    /** Moves an unreadable data file to the quarantine file, so that it is not overwritten. */
+    private void quarantineStore() {
+        File quarantineFile = new File(storeFile.getPath() + QUARANTINE_FILE_SUFFIX);
+        closeChannel();
+        try {
+            Files.move(storeFile.toPath(), quarantineFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            ui.printChecksumMismatch(STORE_FILE_NAME);
+        } catch (IOException | SecurityException e) {
+            ui.printFileWriteError();
+        }
+    }
+
+    /**
+     * Reads the whole data file through <code>storeChannel</code>.
+     *
+     * @return The bytes of the data file.
+     * @throws IOException Thrown if the data file cannot be read.
+     */
+    private byte[] readAll() throws IOException {
+        FileChannel channel = getChannel();
+        ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+        while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) >= 0) {
+            // Positioned reads may return fewer bytes than requested.
+        }
+        return buffer.array();
+    }
+
+    private FileChannel getChannel() throws IOException {
+        if (storeChannel == null || !storeChannel.isOpen()) {
+            storeChannel = FileChannel.open(storeFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        }
+        return storeChannel;
+    }
+
+    private void closeChannel() {
+        if (storeChannel == null) {
+            return;
+        }
+        try {
+            storeChannel.close();
+        } catch (IOException e) {
+            // The channel is reopened on the next change.
+        }
+        storeChannel = null;
+    }
+
+    /**
+     * Reads a single topic from the data file, with one positioned read of its section and the changes made to it
+     * since the data file was last compacted.
+     *
+     * @param topicName The name of the topic.
+     * @return The <code>Topic</code> as saved in the data file.
+     * @throws IOException Thrown if the data file cannot be read.
+     */
+    public synchronized Topic readTopic(String topicName) throws IOException {
+        HashMap<String, CS2040CFile> topicFiles = new HashMap<>();
+        long[] section = sectionIndex.get(topicName);
+        FileChannel channel = getChannel();
+        ArrayList<String> lines = new ArrayList<>();
+        if (section != null) {
+            lines.addAll(readLines(channel, section[0], section[1]));
+        }
+        String prefix = topicName + encoder.separator;
+        for (String change : readLines(channel, walOffset, channel.size() - walOffset)) {
+            String topicChange = change.substring(Math.min(change.length(), CHECKSUM_WIDTH
+                    + encoder.separator.length()));
+            if (topicChange.startsWith(prefix)) {
+                lines.add(topicChange.substring(prefix.length()));
+            }
+        }
+        for (String line : lines) {
+            if (decoder.isRemoval(line)) {
+                topicFiles.remove(decoder.decodeRemovedName(line));
+            } else if (!decoder.decodeString(line, topicName)) {
+                topicFiles.put(decoder.decodedName(), decoder.processedCS2040CFile());
+            }
+        }
+        return new Topic(topicName, topicFiles);
+    }
+
+    private static ArrayList<String> readLines(FileChannel channel, long offset, long length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) length);
+        while (buffer.hasRemaining() && channel.read(buffer, offset + buffer.position()) >= 0) {
+            // Positioned reads may return fewer bytes than requested.
+        }
+        ArrayList<String> lines = new ArrayList<>();
+        new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8).lines().forEach(lines::add);
+        return lines;
+    }
+
+    /**
+     * Appends a change to the write-ahead region, and folds the region into the sections once it holds more changes
+     * than there are entries. The change must already be applied to the entries in memory, since folding the region
+     * writes the sections from them.
+     *
+     * @param topicName The topic that is changed.
+     * @param encodedLine The encoded <code>CS2040CFile</code> or removal.
+     * @return True if the change was saved, false otherwise.
+     */
+    private boolean appendChange(String topicName, String encodedLine) {
+        String change = topicName + encoder.separator + encodedLine;
+        CRC32 checksum = new CRC32();
+        checksum.update(change.getBytes(StandardCharsets.UTF_8));
+        String line = String.format(CHECKSUM_FORMAT, checksum.getValue()) + encoder.separator + change + "\n";
+        try {
+            FileChannel channel = getChannel();
+            ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+            long position = channel.size();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+        } catch (IOException e) {
+            ui.printFileWriteError();
+            closeChannel();
+            return false;
+        }
+        walChangeCount++;
+        if (isCompactionDue()) {
+            compact();
+        }
+        return true;
+    }
+
+    private boolean isCompactionDue() {
+        int entryCount = 0;
+        for (HashMap<String, CS2040CFile> topicFiles : cs2040cFiles.values()) {
+            entryCount += topicFiles.size();
+        }
+        return walChangeCount > Math.max(MIN_CHANGES_BEFORE_COMPACTION, entryCount);
+    }
+
+    /**
+     * Writes every section and a new header to a temporary file, syncs it and moves it over the data file, leaving
+     * the write-ahead region empty.
+     */
+    private void compact() {
+        String separator = encoder.separator;
+        ArrayList<byte[]> sections = new ArrayList<>();
+        long headerLength = (MAGIC + separator + topicNames.size() + separator + String.format(OFFSET_FORMAT, 0)
+                + "\n").length();
+        for (String topicName : topicNames) {
+            StringBuilder section = new StringBuilder();
+            for (Map.Entry<String, CS2040CFile> entry : cs2040cFiles.get(topicName).entrySet()) {
+                section.append(encoder.encodeCS2040CFile(entry.getKey(), entry.getValue())).append('\n');
+            }
+            sections.add(section.toString().getBytes(StandardCharsets.UTF_8));
+            headerLength += (topicName + separator + String.format(OFFSET_FORMAT, 0) + separator
+                    + String.format(OFFSET_FORMAT, 0) + separator + String.format(CHECKSUM_FORMAT, 0) + "\n")
+                    .getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        HashMap<String, long[]> newIndex = new HashMap<>();
+        StringBuilder header = new StringBuilder();
+        long offset = headerLength;
+        for (int i = 0; i < topicNames.size(); i++) {
+            CRC32 checksum = new CRC32();
+            checksum.update(sections.get(i));
+            newIndex.put(topicNames.get(i), new long[] {offset, sections.get(i).length, checksum.getValue()});
+            header.append(topicNames.get(i)).append(separator).append(String.format(OFFSET_FORMAT, offset))
+                    .append(separator).append(String.format(OFFSET_FORMAT, sections.get(i).length))
+                    .append(separator).append(String.format(CHECKSUM_FORMAT, checksum.getValue())).append('\n');
+            offset += sections.get(i).length;
+        }
+        header.insert(0, MAGIC + separator + topicNames.size() + separator + String.format(OFFSET_FORMAT, offset)
+                + "\n");
+
+        File tempFile = new File(storeFile.getPath() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileOutputStream fileOutputStream = new FileOutputStream(tempFile);
+                 BufferedOutputStream outputStream = new BufferedOutputStream(fileOutputStream)) {
+                outputStream.write(header.toString().getBytes(StandardCharsets.UTF_8));
+                for (byte[] section : sections) {
+                    outputStream.write(section);
+                }
+                outputStream.flush();
+                fileOutputStream.getFD().sync();
+            }
+            closeChannel();
+            SingleFile.replace(tempFile, storeFile);
+        } catch (IOException | SecurityException e) {
+            tempFile.delete();
+            ui.printFileWriteError();
+            return;
+        }
+        sectionIndex.clear();
+        sectionIndex.putAll(newIndex);
+        walOffset = offset;
+        walChangeCount = 0;
+    }
+
+    @Override
+    public synchronized boolean addEntry(String name, CS2040CFile cs2040cFile) {
+        if (isTestModeOn) {
+            return true;
+        }
+        String encodedLine = encoder.encodeCS2040CFile(name, cs2040cFile);
+        HashMap<String, CS2040CFile> topicFiles = cs2040cFiles.get(cs2040cFile.getTopic());
+        CS2040CFile replacedCS2040CFile = topicFiles.put(name, cs2040cFile);
+        if (!appendChange(cs2040cFile.getTopic(), encodedLine)) {
+            if (replacedCS2040CFile == null) {
+                topicFiles.remove(name);
+            } else {
+                topicFiles.put(name, replacedCS2040CFile);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized boolean deleteEntry(String cs2040cFileName, String topicName) {
+        return appendRemoval(cs2040cFileName, topicName);
+    }
+
+    @Override
+    public synchronized boolean appendRemoval(String cs2040cFileName, String topicName) {
+        if (isTestModeOn) {
+            return true;
+        }
+        CS2040CFile removedCS2040CFile = cs2040cFiles.get(topicName).remove(cs2040cFileName);
+        if (removedCS2040CFile == null) {
+            return true;
+        }
+        if (!appendChange(topicName, encoder.encodeRemoval(cs2040cFileName))) {
+            cs2040cFiles.get(topicName).put(cs2040cFileName, removedCS2040CFile);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Removes every <code>CS2040CFile</code> of a topic, and compacts the data file at once so that the empty section
+     * is saved, since the write-ahead region has no change that removes a whole topic.
+     *
+     * @param topicName The name of the topic to be emptied.
+     */
+    @Override
+    public synchronized void deleteAllEntry(String topicName) {
+        if (isTestModeOn) {
+            return;
+        }
+        cs2040cFiles.get(topicName).clear();
+        compact();
+    }
+
+    @Override
+    public synchronized HashMap<String, Topic> decodeAll() {
+        HashMap<String, Topic> topics = new HashMap<>();
+        for (String topicName : topicNames) {
+            topics.put(topicName, new Topic(topicName, new HashMap<>(cs2040cFiles.get(topicName))));
+        }
+        return topics;
+    }
+
+    /** Recreates the data folder and the data file from the entries in memory if either is missing. */
+    @Override
+    public synchronized void recreateAll() {
+        if (isTestModeOn || storeFile.exists()) {
+            return;
+        }
+        closeChannel();
+        createFolder();
+        compact();
+    }
+}
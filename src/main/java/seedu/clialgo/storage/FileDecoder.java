@@ -4,6 +4,11 @@ import seedu.clialgo.FileType;
 import seedu.clialgo.file.Code;
 import seedu.clialgo.file.CS2040CFile;
 import seedu.clialgo.file.Note;
+import seedu.clialgo.profile.FileIoEvent;
+import seedu.clialgo.profile.StartupProfile;
+
+import java.io.File;
+import java.util.ArrayList;
 
 /**
  * Object that processes a <code>String</code> passed to it and returns a <code>CS2040CFile</code> representing the
@@ -23,6 +28,22 @@ public class FileDecoder {
         this.separator = separator;
     }
 
+    //@@author heejet
+    /**
+     * Checks if a file exists at <code>path</code>, recording the probe as a <code>FileIoEvent</code>.
+     *
+     * @param path The path of the file.
+     * @return True if the path is a normal file, false otherwise.
+     */
+    private static boolean isFile(String path) {
+        File file = new File(path);
+        FileIoEvent event = FileIoEvent.start("FileDecoder.probe", file);
+        boolean isFile = file.isFile();
+        event.finish(0, true);
+        return isFile;
+    }
+
+    //@@author
     public FileType checkFileType() {
         String currentDirectory = "./";
         String noteFileExtension = ".txt";
@@ -30,11 +51,14 @@ public class FileDecoder {
         String pathInTxt =  currentDirectory + this.currentName + noteFileExtension;
         String pathInCpp = currentDirectory + this.currentName + codeFileExtension;
 
-        if (new java.io.File(pathInTxt).isFile()) {
+        if (isFile(pathInTxt)) {
+            StartupProfile.countStatCalls(1);
             return FileType.TXT;
-        } else if (new java.io.File(pathInCpp).isFile()) {
+        } else if (isFile(pathInCpp)) {
+            StartupProfile.countStatCalls(2);
             return FileType.CPP;
         } else {
+            StartupProfile.countStatCalls(2);
             return FileType.DOESNOTEXIST;
         }
     }
@@ -74,6 +98,114 @@ public class FileDecoder {
         return false;
     }
 
+    //@@author heejet
+    /**
+     * Checks if a line of a .txt file is a removal written by <code>FileEncoder.encodeRemoval</code>.
+     *
+     * @param encodedLine A line of a .txt file.
+     * @return True if the line removes an earlier entry, false otherwise.
+     */
+    public boolean isRemoval(String encodedLine) {
+        return encodedLine.startsWith(separator + FileEncoder.REMOVAL_MARKER + separator);
+    }
+
+    /**
+     * Gets the name of the CS2040CFile removed by a line for which <code>isRemoval</code> is true.
+     *
+     * @param encodedRemoval The encoded removal.
+     * @return The name of the removed CS2040CFile.
+     */
+    public String decodeRemovedName(String encodedRemoval) {
+        assert isRemoval(encodedRemoval);
+        return encodedRemoval.substring(separator.length() * 2 + FileEncoder.REMOVAL_MARKER.length());
+    }
+
+    /**
+     * Checks if a line of a .txt file is a checksum footer written by <code>FileEncoder.encodeChecksum</code>.
+     *
+     * @param encodedLine A line of a .txt file.
+     * @return True if the line is a checksum footer, false otherwise.
+     */
+    public boolean isChecksum(String encodedLine) {
+        return encodedLine.startsWith(separator + FileEncoder.CHECKSUM_MARKER + separator);
+    }
+
+    /**
+     * Checks if a checksum footer matches the bytes above it.
+     *
+     * @param encodedChecksum The checksum footer, for which <code>isChecksum</code> is true.
+     * @param checksum The CRC-32 of the bytes above the footer.
+     * @param length The number of bytes above the footer.
+     * @return True if the footer records both <code>checksum</code> and <code>length</code>, false otherwise.
+     */
+    public boolean isMatchingChecksum(String encodedChecksum, long checksum, long length) {
+        assert isChecksum(encodedChecksum);
+        String[] fields = encodedChecksum.substring(separator.length() * 2 + FileEncoder.CHECKSUM_MARKER.length())
+                .split(separator, 2);
+        try {
+            return fields.length == 2 && Long.parseLong(fields[0], 16) == checksum
+                    && Long.parseLong(fields[1]) == length;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks if a line of a compressed topic file defines a path prefix written by
+     * <code>FileEncoder.encodePathPrefix</code>.
+     *
+     * @param encodedLine A line of a compressed topic file.
+     * @return True if the line defines a path prefix, false otherwise.
+     */
+    public boolean isPathPrefix(String encodedLine) {
+        return encodedLine.startsWith(separator + FileEncoder.PATH_PREFIX_MARKER + separator);
+    }
+
+    /**
+     * Adds the path prefix defined by a line for which <code>isPathPrefix</code> is true to <code>prefixes</code>.
+     *
+     * @param encodedPrefix The encoded path prefix.
+     * @param prefixes The path prefixes defined so far, in the order of their numbers.
+     * @return True if the line defines the next path prefix, false if it is corrupted.
+     */
+    public boolean decodePathPrefix(String encodedPrefix, ArrayList<String> prefixes) {
+        assert isPathPrefix(encodedPrefix);
+        String[] fields = encodedPrefix.substring(separator.length() * 2 + FileEncoder.PATH_PREFIX_MARKER.length())
+                .split(separator, 2);
+        try {
+            if (fields.length != 2 || Integer.parseInt(fields[0]) != prefixes.size()) {
+                return false;
+            }
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        prefixes.add(fields[1]);
+        return true;
+    }
+
+    /**
+     * Expands a line written by <code>FileEncoder.encodeCompactCS2040CFile</code> back into the line that
+     * <code>FileEncoder.encodeCS2040CFile</code> writes, so that it can be decoded by <code>decodeString</code>.
+     *
+     * @param encodedLine The line of the compressed topic file.
+     * @param topicName The topic of the compressed topic file.
+     * @param prefixes The path prefixes defined before the line.
+     * @return The expanded line, or null if the line is corrupted.
+     */
+    public String expandCompactString(String encodedLine, String topicName, ArrayList<String> prefixes) {
+        String[] fields = encodedLine.split(separator, 4);
+        try {
+            if (fields.length != 4) {
+                return null;
+            }
+            String prefix = prefixes.get(Integer.parseInt(fields[1]));
+            return fields[0] + separator + prefix + fields[2] + separator + topicName + separator + fields[3];
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+    //@@author
+
     public String decodedName () {
         return currentName;
     }
@@ -8,6 +8,14 @@ import seedu.clialgo.file.CS2040CFile;
  * written to the .txt file which the <code>CS2040CFile</code> has the <code>CS2040CFile.tag</code> of.
  */
 public class FileEncoder {
+    /** Marks a line that removes an earlier entry of the same .txt file. */
+    public static final String REMOVAL_MARKER = "REMOVED";
+
+    /** Marks the footer line holding the checksum of everything above it in a .txt file. */
+    public static final String CHECKSUM_MARKER = "CHECKSUM";
+
+    /** Marks a line defining a path prefix of a compressed topic file. */
+    public static final String PATH_PREFIX_MARKER = "PREFIX";
 
     protected final String separator;
 
@@ -31,4 +39,54 @@ public class FileEncoder {
         return name + separator + cs2040cFile.getPath() + separator + cs2040cFile.getTopic()
                 + separator + cs2040cFile.getImportance();
     }
+
+    //@@author heejet
+    /**
+     * Encodes the removal of a CS2040CFile. The line starts with the separator, which a line written by
+     * <code>encodeCS2040CFile</code> never does, so appending it removes the CS2040CFile without rewriting the file.
+     *
+     * @param name The name of the <code>CS2040CFile</code> that is removed.
+     * @return Returns the encoded removal.
+     */
+    public String encodeRemoval(String name) {
+        return separator + REMOVAL_MARKER + separator + name;
+    }
+
+    /**
+     * Encodes the checksum footer of a .txt file. Like a removal, the footer starts with the separator so that it is
+     * never mistaken for an encoded CS2040CFile.
+     *
+     * @param checksum The CRC-32 of the bytes above the footer.
+     * @param length The number of bytes above the footer.
+     * @return Returns the encoded footer.
+     */
+    public String encodeChecksum(long checksum, long length) {
+        return separator + CHECKSUM_MARKER + separator + Long.toHexString(checksum) + separator + length;
+    }
+
+    /**
+     * Encodes a CS2040CFile for a compressed topic file. The topic is left out, since it is the topic of the file, and
+     * the folder of the path is replaced by the number of a path prefix defined earlier in the file.
+     *
+     * @param name The name of the <code>CS2040CFile</code>.
+     * @param cs2040cFile The <code>CS2040CFile</code> object processed.
+     * @param prefixId The number of the path prefix of the <code>CS2040CFile</code>.
+     * @param prefixLength The length of the path prefix.
+     * @return Returns the encoded line.
+     */
+    public String encodeCompactCS2040CFile(String name, CS2040CFile cs2040cFile, int prefixId, int prefixLength) {
+        return name + separator + prefixId + separator + cs2040cFile.getPath().substring(prefixLength) + separator
+                + cs2040cFile.getImportance();
+    }
+
+    /**
+     * Encodes the definition of a path prefix of a compressed topic file.
+     *
+     * @param prefixId The number of the path prefix, which is the number of prefixes defined before it.
+     * @param prefix The path prefix.
+     * @return Returns the encoded definition.
+     */
+    public String encodePathPrefix(int prefixId, String prefix) {
+        return separator + PATH_PREFIX_MARKER + separator + prefixId + separator + prefix;
+    }
 }
@@ -3,6 +3,9 @@ package seedu.clialgo.storage;
 import seedu.clialgo.logic.Topic;
 import seedu.clialgo.Ui;
 import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.profile.StartupPhase;
+import seedu.clialgo.profile.FileIoEvent;
+import seedu.clialgo.profile.StartupProfile;
 
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -12,23 +15,31 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Map;
 
 //@@author lohjooh
 /**
  * Object containing all the raw data for the application, able to update each .txt file which stores the information
  * of the <code>CS2040CFile</code> in each <code>Topic</code>, where the .txt files are named in the convention of
- * <code>topicName</code>.txt.
+ * <code>topicName</code>.txt. Its methods are synchronized so that a single <code>FileManager</code> can be shared by
+ * several threads.
  */
-public class FileManager {
-    private final FileEncoder encoder;
-    private final FileDecoder decoder;
-    private final String initialPath;
-    private final String testModePath = "./testdata";
-    private final ArrayList<String> topicNames;
-    private final Ui ui;
-    private HashMap<String, SingleFile> topicRawData;
-    private HashMap<String, SingleFile> topicRawDataOutsideTestMode;
-    private String path;
+public class FileManager implements Storage {
+    protected final FileEncoder encoder;
+    protected final FileDecoder decoder;
+    protected final ArrayList<String> topicNames;
+    protected final Ui ui;
+    private final HashMap<String, SingleFile> topicRawData;
+    protected final String path;
+
+    /** Records additions and removals of <code>CS2040CFiles</code> so that they can be undone. */
+    private final Journal journal;
+
+    /** True if changes are kept in memory by the <code>TopicManager</code> and not written to the .txt files. */
+    protected boolean isTestModeOn;
+
+    /** The thread rewriting files which held corrupted entries, or null if no file needed it. */
+    private volatile Thread rewriter;
 
     /**
      * Constructor for class containing <code>codeDecoder</code>, <code>codeEncoder</code> and raw data from the
@@ -36,13 +47,14 @@ public class FileManager {
      */
     public FileManager(String path, ArrayList<String> topicNames) {
         this.path = path;
-        this.initialPath = path;
         this.ui = new Ui();
         String separator = "&@";
         this.topicRawData = new HashMap<>();
         this.topicNames = topicNames;
         this.encoder = new FileEncoder(separator);
         this.decoder = new FileDecoder(separator);
+        this.isTestModeOn = false;
+        this.journal = new Journal(new File(path + "/journal.txt"), separator, Journal.DEFAULT_MAX_ENTRIES_IN_MEMORY);
     }
 
     /**
@@ -56,14 +68,19 @@ public class FileManager {
         String noteFileExtension = ".txt";
         String pathToFile = path + fileDivider + name + noteFileExtension;
         File file = new File(pathToFile);
-        SingleFile newFile = new SingleFile(file, name, decoder);
+        SingleFile newFile = new SingleFile(file, name, encoder, decoder);
+        FileIoEvent event = FileIoEvent.start("FileManager.createNewFile", file);
         try {
+            StartupProfile.countStatCalls(1);
             if (file.createNewFile()) {
                 newFile.setFile(file);
             }
+            event.finish(0, true);
         } catch (IOException e) {
+            event.finish(0, false);
             e.printStackTrace();
         } catch (SecurityException e) {
+            event.finish(0, false);
             ui.printSecurityDenied();
         }
         return newFile;
@@ -72,22 +89,102 @@ public class FileManager {
     /**
      * Creates all the <code>SingleFiles</code> corresponding to each valid <code>Topic</code>. If the .txt file does
      * not exist, it creates a blank .txt file with <code>topicNames</code>.txt. For all the <code>SingleFiles</code>,
-     * reads the <code>File</code> corresponding to it.
+     * reads the <code>File</code> corresponding to it. Files which held corrupted entries are rewritten in the
+     * background, so that CLIAlgo can be used while they are saved.
      */
-    public void initialize() {
+    @Override
+    public synchronized void initialize() {
         createFolder();
+        journal.clear();
+        initializeTopicFiles();
+    }
+
+    /** Reads the .txt file of every topic, creating those which do not exist. */
+    private void initializeTopicFiles() {
         for (String string : topicNames) {
             topicRawData.put(string, createSingleFile(string));
         }
-        for (SingleFile singleFile : topicRawData.values()) {
+        ArrayList<SingleFile> filesToRewrite = new ArrayList<>();
+        for (Map.Entry<String, SingleFile> topicFile : topicRawData.entrySet()) {
+            SingleFile singleFile = topicFile.getValue();
+            StartupPhase phase = StartupProfile.startPhase("SingleFile.readFile " + topicFile.getKey());
             try {
                 singleFile.readFile();
             } catch (FileNotFoundException e) {
                 singleFile.recreateFile();
+            } finally {
+                phase.finish();
+            }
+            if (singleFile.isRewriteNeeded()) {
+                filesToRewrite.add(singleFile);
             }
         }
+        if (!filesToRewrite.isEmpty()) {
+            rewriteInBackground(filesToRewrite);
+        }
     }
 
+    //@@author heejet
+    /**
+     * Rewrites the given files on a separate thread. Each <code>SingleFile</code> is locked while it is rewritten, so
+     * entries added or removed in the meantime wait for the rewrite and are kept.
+     *
+     * @param filesToRewrite The <code>SingleFiles</code> which held corrupted entries when they were read.
+     */
+    private void rewriteInBackground(ArrayList<SingleFile> filesToRewrite) {
+        rewriter = new Thread(() -> filesToRewrite.forEach(SingleFile::rewriteIfNeeded), "data-file-rewriter");
+        rewriter.start();
+    }
+
+    /**
+     * Waits for the files which held corrupted entries to be rewritten.
+     *
+     * @throws InterruptedException Thrown if the current thread is interrupted while waiting.
+     */
+    @Override
+    public void awaitRewrite() throws InterruptedException {
+        Thread currentRewriter = rewriter;
+        if (currentRewriter != null) {
+            currentRewriter.join();
+        }
+    }
+
+    /**
+     * Checks if any topic was saved in a .txt file of its own.
+     *
+     * @return True if a .txt file of a topic exists in the data folder, false otherwise.
+     */
+    protected boolean hasTopicFiles() {
+        for (String topicName : topicNames) {
+            if (new File(path + "/" + topicName + ".txt").isFile()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the .txt file of every topic, so that another storage can import the <code>CS2040CFiles</code> saved
+     * before it was used. The .txt files are left in place.
+     *
+     * @return The <code>Topics</code> saved in the .txt files, keyed by their names.
+     */
+    protected HashMap<String, Topic> readTopicFiles() {
+        initializeTopicFiles();
+        try {
+            awaitRewrite();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        HashMap<String, Topic> topics = new HashMap<>();
+        for (String s : topicRawData.keySet()) {
+            topics.put(s, topicRawData.get(s).convertFileToTopic());
+        }
+        return topics;
+    }
+
+    //@@author lohjooh
+
     /**
      * Deletes folder at <code>pathToFolder</code> and all the files within.
      * @param pathToFolder The <code>File</code> representing the folder to delete.
@@ -116,13 +213,17 @@ public class FileManager {
      * Creates a folder at <code>path</code>.
      */
     public void createFolder() {
+        StartupPhase phase = StartupProfile.startPhase("FileManager.createFolder");
         try {
             Path directory = Paths.get(path);
+            StartupProfile.countStatCalls(1);
             Files.createDirectories(directory);
         } catch (IOException e) {
             ui.printFolderCreateError();
         } catch (SecurityException e) {
             ui.printSecurityDenied();
+        } finally {
+            phase.finish();
         }
     }
 
@@ -135,7 +236,11 @@ public class FileManager {
      * @param cs2040cFile The <code>CS2040CFile</code> being added.
      * @return true if executed successfully and false if execution failed.
      */
-    public boolean addEntry(String name, CS2040CFile cs2040cFile) {
+    @Override
+    public synchronized boolean addEntry(String name, CS2040CFile cs2040cFile) {
+        if (isTestModeOn) {
+            return true;
+        }
         SingleFile singleFile = topicRawData.get(cs2040cFile.getTopic());
         try {
             String encodedCS2040CFile = encoder.encodeCS2040CFile(name , cs2040cFile);
@@ -157,10 +262,46 @@ public class FileManager {
      * @param cs2040cFileName The name of the <code>CS2040CFile</code> being deleted.
      * @return true if executed successfully and false if execution failed.
      */
-    public boolean deleteEntry (String cs2040cFileName, String topicName) {
+    @Override
+    public synchronized boolean deleteEntry (String cs2040cFileName, String topicName) {
+        if (isTestModeOn) {
+            return true;
+        }
         SingleFile singleFile = topicRawData.get(topicName);
+        FileIoEvent event = FileIoEvent.start("FileManager.deleteEntry", singleFile.getFile());
         try {
             singleFile.deleteEntry(cs2040cFileName);
+            event.finish(0, true);
+        } catch (IOException e) {
+            event.finish(0, false);
+            ui.printFileWriteError();
+            singleFile.recreateFile();
+            return false;
+        } catch (SecurityException e) {
+            event.finish(0, false);
+            ui.printSecurityDenied();
+        }
+        return true;
+    }
+
+    //@@author heejet
+    /**
+     * Removes <code>CS2040CFile</code> with <code>cs2040cFileName</code> in <code>topicName</code>.txt by appending a
+     * removal to the .txt file instead of rewriting it. If the file cannot be written, <code>IOException</code> is
+     * caught and the file would be recreated.
+     *
+     * @param cs2040cFileName The name of the <code>CS2040CFile</code> being removed.
+     * @param topicName The topic of the <code>CS2040CFile</code> being removed.
+     * @return true if executed successfully and false if execution failed.
+     */
+    @Override
+    public synchronized boolean appendRemoval(String cs2040cFileName, String topicName) {
+        if (isTestModeOn) {
+            return true;
+        }
+        SingleFile singleFile = topicRawData.get(topicName);
+        try {
+            singleFile.appendRemoval(cs2040cFileName, encoder.encodeRemoval(cs2040cFileName));
         } catch (IOException e) {
             ui.printFileWriteError();
             singleFile.recreateFile();
@@ -171,12 +312,27 @@ public class FileManager {
         return true;
     }
 
+    /**
+     * Gets the <code>Journal</code> of the additions and removals made to the saved <code>CS2040CFiles</code>.
+     *
+     * @return The <code>Journal</code> of this object.
+     */
+    @Override
+    public Journal getJournal() {
+        return journal;
+    }
+
+    //@@author lohjooh
     /**
      * Deletes all stored raw data in <code>topicName</code>.txt.
      *
      * @param topicName The name of the .txt file being emptied.
      */
-    public void deleteAllEntry(String topicName) {
+    @Override
+    public synchronized void deleteAllEntry(String topicName) {
+        if (isTestModeOn) {
+            return;
+        }
         topicRawData.get(topicName).clearFile();
     }
 
@@ -186,7 +342,8 @@ public class FileManager {
      *
      * @return Returns the initialized <code>HashMap</code> of <code>CS2040CFiles</code>.
      */
-    public HashMap<String, Topic> decodeAll() {
+    @Override
+    public synchronized HashMap<String, Topic> decodeAll() {
         HashMap<String, Topic> topics = new HashMap<>();
         for (String s: topicRawData.keySet()) {
             topics.put(s, topicRawData.get(s).convertFileToTopic());
@@ -195,54 +352,34 @@ public class FileManager {
     }
 
     /**
-     * Changes the folder location to a new folder meant to store testdata. Remembers state of
-     * <code>topicRawData</code> before start of test mode.
+     * Starts test mode. Until test mode ends, added and removed <code>CS2040CFiles</code> are only kept in memory by
+     * the <code>TopicManager</code>, so nothing is written to the .txt files. Changes from before test mode can no
+     * longer be undone.
      */
-    public void testMode() {
-        this.path = testModePath;
-        this.topicRawDataOutsideTestMode = this.topicRawData;
-        this.topicRawData = new HashMap<>();
-        initialize();
-    }
-
-    /**
-     * Exits test mode and deletes all the files in the folder storing testdata. Retrieves and restores state of object
-     * to before test mode start.
-     */
-    public void exitTestMode() {
-        this.path = initialPath;
-        this.topicRawData = topicRawDataOutsideTestMode;
-        deleteTestData();
+    @Override
+    public synchronized void testMode() {
+        this.isTestModeOn = true;
+        journal.clear();
     }
 
     /**
-     * Deletes folder at <code>.\\testdata</code> and all the files within.
+     * Exits test mode. The .txt files were not changed in test mode, so there is nothing to restore or delete. Changes
+     * made in test mode can no longer be undone.
      */
-    public void deleteTestData() {
-        File pathToFolder = new File(testModePath);
-        try {
-            File[] files = pathToFolder.listFiles();
-            if (files != null) {
-                for (File f : files) {
-                    if (!f.delete()) {
-                        ui.printFileDeleteFail();
-                    }
-                }
-            }
-            if (!pathToFolder.delete()) {
-                ui.printFileDeleteFail();
-            } else {
-                ui.printFileDeleteSuccess();
-            }
-        } catch (SecurityException e) {
-            ui.printSecurityDenied();
-        }
+    @Override
+    public synchronized void exitTestMode() {
+        this.isTestModeOn = false;
+        journal.clear();
     }
 
     /**
      * Recreates the data folder and all the files within for those which are missing.
      */
-    public void recreateAll() {
+    @Override
+    public synchronized void recreateAll() {
+        if (isTestModeOn) {
+            return;
+        }
         if (!new File(path).exists()) {
             createFolder();
         }
@@ -0,0 +1,224 @@
+package seedu.clialgo.storage;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+//@@author heejet
+/**
+ * A <code>Journal</code> records the additions and removals of CS2040CFiles so that they can be undone and redone.
+ * Only the most recent entries are kept in memory. Older entries are appended to a spill file and read back, a batch at
+ * a time, when the entries in memory have all been undone. The spill file keeps at most
+ * <code>MAX_SPILLED_ENTRIES</code> entries, dropping the oldest half once it is full.
+ * <p>
+ * Undoing or redoing a change takes two steps: the change is first looked at with <code>peekUndo</code> or
+ * <code>peekRedo</code>, and only moved to the other history with <code>markUndone</code> or <code>markRedone</code>
+ * once it has been applied, so a change that could not be applied stays where it was.
+ */
+public class Journal {
+    /** The default number of undoable entries kept in memory. */
+    public static final int DEFAULT_MAX_ENTRIES_IN_MEMORY = 64;
+
+    /** The number of entries the spill file holds before its oldest half is dropped. */
+    public static final int MAX_SPILLED_ENTRIES = 4096;
+
+    private final File spillFile;
+    private final String separator;
+    private final int maxEntriesInMemory;
+    private final int maxSpilledEntries;
+
+    /** Entries that can be undone, with the most recent entry last. */
+    private final ArrayDeque<JournalEntry> undoEntries;
+
+    /** Entries that can be redone, with the most recently undone entry last. */
+    private final ArrayDeque<JournalEntry> redoEntries;
+
+    /** The number of entries in the spill file, all of which are older than those in <code>undoEntries</code>. */
+    private int spilledCount;
+
+    /**
+     * Constructor for a <code>Journal</code>. The spill file is only created once entries are spilled.
+     *
+     * @param spillFile The file that older entries are spilled to, or null if older entries are dropped instead.
+     * @param separator The <code>String</code> which separates each field of a spilled entry.
+     * @param maxEntriesInMemory The number of undoable entries kept in memory.
+     */
+    public Journal(File spillFile, String separator, int maxEntriesInMemory) {
+        this(spillFile, separator, maxEntriesInMemory, MAX_SPILLED_ENTRIES);
+    }
+
+    /**
+     * Constructor for a <code>Journal</code> with a given limit on the size of its spill file.
+     *
+     * @param spillFile The file that older entries are spilled to, or null if older entries are dropped instead.
+     * @param separator The <code>String</code> which separates each field of a spilled entry.
+     * @param maxEntriesInMemory The number of undoable entries kept in memory.
+     * @param maxSpilledEntries The number of entries the spill file holds before its oldest half is dropped.
+     */
+    Journal(File spillFile, String separator, int maxEntriesInMemory, int maxSpilledEntries) {
+        assert maxEntriesInMemory >= 2 && maxSpilledEntries >= 2;
+        this.spillFile = spillFile;
+        this.separator = separator;
+        this.maxEntriesInMemory = maxEntriesInMemory;
+        this.maxSpilledEntries = maxSpilledEntries;
+        this.undoEntries = new ArrayDeque<>();
+        this.redoEntries = new ArrayDeque<>();
+        this.spilledCount = 0;
+    }
+
+    /**
+     * Records a new change. Any changes that were undone can no longer be redone.
+     *
+     * @param entry The <code>JournalEntry</code> of the change.
+     */
+    public synchronized void record(JournalEntry entry) {
+        redoEntries.clear();
+        undoEntries.addLast(entry);
+        if (undoEntries.size() > maxEntriesInMemory) {
+            spillOldestEntry();
+        }
+    }
+
+    /**
+     * Gets the most recent change that has not been undone, so that its inverse can be applied. The change stays
+     * undoable until <code>markUndone</code> is called.
+     *
+     * @return The <code>JournalEntry</code> of the change, or null if there is nothing to undo.
+     */
+    public synchronized JournalEntry peekUndo() {
+        if (undoEntries.isEmpty()) {
+            reloadSpilledEntries();
+        }
+        return undoEntries.peekLast();
+    }
+
+    /**
+     * Moves the change returned by <code>peekUndo</code> to the redo history, once its inverse has been applied.
+     *
+     * @param entry The <code>JournalEntry</code> returned by <code>peekUndo</code>.
+     */
+    public synchronized void markUndone(JournalEntry entry) {
+        if (entry == null || undoEntries.peekLast() != entry) {
+            return;
+        }
+        redoEntries.addLast(undoEntries.removeLast());
+        if (redoEntries.size() > maxEntriesInMemory) {
+            // The redo history is bounded too, dropping the change furthest from the current state
+            redoEntries.removeFirst();
+        }
+    }
+
+    /**
+     * Gets the most recently undone change, so that it can be applied again. The change stays redoable until
+     * <code>markRedone</code> is called.
+     *
+     * @return The <code>JournalEntry</code> of the change, or null if there is nothing to redo.
+     */
+    public synchronized JournalEntry peekRedo() {
+        return redoEntries.peekLast();
+    }
+
+    /**
+     * Moves the change returned by <code>peekRedo</code> back to the undo history, once it has been applied again.
+     *
+     * @param entry The <code>JournalEntry</code> returned by <code>peekRedo</code>.
+     */
+    public synchronized void markRedone(JournalEntry entry) {
+        if (entry == null || redoEntries.peekLast() != entry) {
+            return;
+        }
+        undoEntries.addLast(redoEntries.removeLast());
+        if (undoEntries.size() > maxEntriesInMemory) {
+            spillOldestEntry();
+        }
+    }
+
+    /** Forgets every recorded change and deletes the spill file. */
+    public synchronized void clear() {
+        undoEntries.clear();
+        redoEntries.clear();
+        spilledCount = 0;
+        if (spillFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(spillFile.toPath());
+        } catch (IOException | SecurityException e) {
+            // A stale spill file is ignored, since spilledCount no longer refers to it.
+        }
+    }
+
+    /** Gets the number of undoable and redoable entries held in memory. */
+    public synchronized int getEntriesInMemory() {
+        return undoEntries.size() + redoEntries.size();
+    }
+
+    /**
+     * Appends the oldest entry in memory to the spill file. If there is no spill file or it cannot be written, the
+     * entry is dropped.
+     */
+    private void spillOldestEntry() {
+        JournalEntry oldestEntry = undoEntries.removeFirst();
+        if (spillFile == null) {
+            return;
+        }
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(spillFile, StandardCharsets.UTF_8, true))) {
+            writer.write(oldestEntry.encode(separator));
+            writer.newLine();
+            spilledCount++;
+        } catch (IOException | SecurityException e) {
+            // The oldest change can no longer be undone, which only shortens the history.
+        }
+        if (spilledCount > maxSpilledEntries) {
+            dropOldestSpilledEntries();
+        }
+    }
+
+    /**
+     * Rewrites the spill file with only its newest half, so that it stops growing. Dropping half at a time keeps the
+     * cost of each spill constant on average. If the spill file cannot be rewritten, the spilled entries are
+     * forgotten.
+     */
+    private void dropOldestSpilledEntries() {
+        try {
+            List<String> lines = Files.readAllLines(spillFile.toPath(), StandardCharsets.UTF_8);
+            int keptCount = Math.min(lines.size(), maxSpilledEntries / 2);
+            Files.write(spillFile.toPath(), new ArrayList<>(lines.subList(lines.size() - keptCount, lines.size())),
+                    StandardCharsets.UTF_8);
+            spilledCount = keptCount;
+        } catch (IOException | SecurityException e) {
+            spilledCount = 0;
+        }
+    }
+
+    /**
+     * Moves the newest half of the memory limit of spilled entries back into memory and removes them from the spill
+     * file. If the spill file cannot be read, the spilled entries are forgotten.
+     */
+    private void reloadSpilledEntries() {
+        if (spilledCount == 0) {
+            return;
+        }
+        try {
+            List<String> lines = Files.readAllLines(spillFile.toPath(), StandardCharsets.UTF_8);
+            int reloadCount = Math.min(lines.size(), maxEntriesInMemory / 2);
+            int keptCount = lines.size() - reloadCount;
+            for (String line : lines.subList(keptCount, lines.size())) {
+                JournalEntry entry = JournalEntry.decode(line, separator);
+                if (entry != null) {
+                    undoEntries.addLast(entry);
+                }
+            }
+            Files.write(spillFile.toPath(), new ArrayList<>(lines.subList(0, keptCount)), StandardCharsets.UTF_8);
+            spilledCount = keptCount;
+        } catch (IOException | SecurityException e) {
+            spilledCount = 0;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.file.Code;
+import seedu.clialgo.file.Note;
+
+//@@author heejet
+/**
+ * A <code>JournalEntry</code> records a single change made to the CS2040CFiles in CLIAlgo, which is either the
+ * addition or the removal of one <code>CS2040CFile</code>.
+ */
+public class JournalEntry {
+    private static final String ADD_OPERATION = "ADD";
+    private static final String REMOVE_OPERATION = "REMOVE";
+    private static final String NOTE_TYPE = "NOTE";
+    private static final String CODE_TYPE = "CODE";
+    private static final int FIELD_COUNT = 6;
+
+    private final boolean isAdd;
+    private final String name;
+    private final CS2040CFile cs2040cFile;
+
+    private JournalEntry(boolean isAdd, String name, CS2040CFile cs2040cFile) {
+        this.isAdd = isAdd;
+        this.name = name;
+        this.cs2040cFile = cs2040cFile;
+    }
+
+    /**
+     * Creates a <code>JournalEntry</code> recording that a CS2040CFile was added.
+     *
+     * @param name The name the CS2040CFile was added with.
+     * @param cs2040cFile The CS2040CFile that was added.
+     * @return The <code>JournalEntry</code> of the addition.
+     */
+    public static JournalEntry ofAdd(String name, CS2040CFile cs2040cFile) {
+        return new JournalEntry(true, name, cs2040cFile);
+    }
+
+    /**
+     * Creates a <code>JournalEntry</code> recording that a CS2040CFile was removed.
+     *
+     * @param name The name the CS2040CFile was stored under.
+     * @param cs2040cFile The CS2040CFile that was removed.
+     * @return The <code>JournalEntry</code> of the removal.
+     */
+    public static JournalEntry ofRemove(String name, CS2040CFile cs2040cFile) {
+        return new JournalEntry(false, name, cs2040cFile);
+    }
+
+    public boolean isAdd() {
+        return isAdd;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CS2040CFile getCS2040CFile() {
+        return cs2040cFile;
+    }
+
+    /**
+     * Encodes this <code>JournalEntry</code> into a single line so that it can be spilled to disk.
+     *
+     * @param separator The <code>String</code> which separates each field of the line.
+     * @return The encoded <code>JournalEntry</code>.
+     */
+    String encode(String separator) {
+        String operation = isAdd ? ADD_OPERATION : REMOVE_OPERATION;
+        String type = cs2040cFile.isCode() ? CODE_TYPE : NOTE_TYPE;
+        return operation + separator + type + separator + cs2040cFile.getPath() + separator + cs2040cFile.getTopic()
+                + separator + cs2040cFile.getImportance() + separator + name;
+    }
+
+    /**
+     * Decodes a line written by <code>encode</code>.
+     *
+     * @param line The encoded <code>JournalEntry</code>.
+     * @param separator The <code>String</code> which separates each field of the line.
+     * @return The decoded <code>JournalEntry</code>, or null if the line is corrupted.
+     */
+    static JournalEntry decode(String line, String separator) {
+        String[] fields = line.split(separator, FIELD_COUNT);
+        if (fields.length != FIELD_COUNT) {
+            return null;
+        }
+        int importance;
+        try {
+            importance = Integer.parseInt(fields[4]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        String name = fields[5];
+        CS2040CFile cs2040cFile;
+        if (fields[1].equals(CODE_TYPE)) {
+            cs2040cFile = new Code(name, fields[2], fields[3], importance);
+        } else {
+            cs2040cFile = new Note(name, fields[2], fields[3], importance);
+        }
+        return new JournalEntry(fields[0].equals(ADD_OPERATION), name, cs2040cFile);
+    }
+}
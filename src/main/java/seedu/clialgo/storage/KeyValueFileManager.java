@@ -0,0 +1,197 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.Topic;
+import seedu.clialgo.storage.kv.KeyValueSnapshot;
+import seedu.clialgo.storage.kv.KeyValueStore;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+//@@author heejet
+/**
+ * A <code>KeyValueFileManager</code> saves every <code>CS2040CFile</code> as a record of an embedded
+ * <code>KeyValueStore</code>, keyed by <code>TOPIC_NAME&amp;@NAME</code>. Adding or removing a
+ * <code>CS2040CFile</code> only appends one record to the store, and the <code>CS2040CFiles</code> of a topic are read
+ * with a prefix scan of its name from a snapshot of the store.
+ */
+public class KeyValueFileManager extends FileManager {
+    /** The name of the folder of the key-value store within the data folder. */
+    public static final String STORE_FOLDER_NAME = "kv";
+
+    private static final String QUARANTINE_FILE_SUFFIX = ".corrupted";
+
+    private final File storeFolder;
+    private KeyValueStore store;
+
+    /**
+     * Constructor for a <code>KeyValueFileManager</code> storing every topic in <code>path</code>/kv.
+     *
+     * @param path The folder that the key-value store is stored in.
+     * @param topicNames The names of all the topics in CLIAlgo.
+     */
+    public KeyValueFileManager(String path, ArrayList<String> topicNames) {
+        super(path, topicNames);
+        this.storeFolder = new File(path + "/" + STORE_FOLDER_NAME);
+    }
+
+    /**
+     * Opens the key-value store. If there is no store yet but CLIAlgo saved one .txt file per topic before, the .txt
+     * files are imported into the new store, and are left in place untouched.
+     */
+    @Override
+    public synchronized void initialize() {
+        createFolder();
+        getJournal().clear();
+        boolean isNewStore = !storeFolder.exists();
+        try {
+            closeStore();
+            store = KeyValueStore.open(storeFolder);
+            if (isNewStore && hasTopicFiles()) {
+                importTopicFiles();
+            }
+        } catch (IOException | SecurityException e) {
+            ui.printFileWriteError();
+        }
+    }
+
+    private void importTopicFiles() throws IOException {
+        for (Topic topic : readTopicFiles().values()) {
+            for (CS2040CFile cs2040cFile : topic.getCS2040CFiles()) {
+                store.put(toKey(cs2040cFile.getTopic(), cs2040cFile.getName()),
+                        encoder.encodeCS2040CFile(cs2040cFile.getName(), cs2040cFile));
+            }
+        }
+        store.flush();
+    }
+
+    private String toKey(String topicName, String cs2040cFileName) {
+        return topicName + encoder.separator + cs2040cFileName;
+    }
+
+    @Override
+    public synchronized boolean addEntry(String name, CS2040CFile cs2040cFile) {
+        if (isTestModeOn) {
+            return true;
+        }
+        try {
+            store.put(toKey(cs2040cFile.getTopic(), name), encoder.encodeCS2040CFile(name, cs2040cFile));
+        } catch (IOException | SecurityException e) {
+            ui.printFileWriteError();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized boolean deleteEntry(String cs2040cFileName, String topicName) {
+        return appendRemoval(cs2040cFileName, topicName);
+    }
+
+    @Override
+    public synchronized boolean appendRemoval(String cs2040cFileName, String topicName) {
+        if (isTestModeOn) {
+            return true;
+        }
+        try {
+            store.delete(toKey(topicName, cs2040cFileName));
+        } catch (IOException | SecurityException e) {
+            ui.printFileWriteError();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void deleteAllEntry(String topicName) {
+        if (isTestModeOn) {
+            return;
+        }
+        try {
+            for (String key : store.scan(toKey(topicName, "")).keySet()) {
+                store.delete(key);
+            }
+        } catch (IOException | SecurityException e) {
+            ui.printFileWriteError();
+        }
+    }
+
+    /**
+     * Reads every topic with a prefix scan of a single snapshot, so that the topics are read as they were at one
+     * moment. Records which cannot be decoded are moved to the quarantine file and deleted from the store.
+     */
+    @Override
+    public synchronized HashMap<String, Topic> decodeAll() {
+        HashMap<String, Topic> topics = new HashMap<>();
+        ArrayList<String> corruptedKeys = new ArrayList<>();
+        ArrayList<String> corruptedLines = new ArrayList<>();
+        try (KeyValueSnapshot snapshot = store.snapshot()) {
+            for (String topicName : topicNames) {
+                HashMap<String, CS2040CFile> cs2040cFiles = new HashMap<>();
+                for (Map.Entry<String, String> record : snapshot.scan(toKey(topicName, "")).entrySet()) {
+                    if (decoder.decodeString(record.getValue(), topicName)) {
+                        corruptedKeys.add(record.getKey());
+                        corruptedLines.add(record.getValue());
+                        continue;
+                    }
+                    cs2040cFiles.put(decoder.decodedName(), decoder.processedCS2040CFile());
+                }
+                topics.put(topicName, new Topic(topicName, cs2040cFiles));
+            }
+        } catch (IOException e) {
+            ui.printFileWriteError();
+        }
+        if (!corruptedLines.isEmpty()) {
+            quarantine(corruptedKeys, corruptedLines);
+        }
+        return topics;
+    }
+
+    /** Appends corrupted records to the quarantine file next to the store and deletes them from the store. */
+    private void quarantine(ArrayList<String> corruptedKeys, ArrayList<String> corruptedLines) {
+        File quarantineFile = new File(storeFolder.getPath() + QUARANTINE_FILE_SUFFIX);
+        try {
+            Files.write(quarantineFile.toPath(), corruptedLines, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+            for (String key : corruptedKeys) {
+                store.delete(key);
+            }
+            ui.printCorruptedEntriesQuarantined(corruptedLines.size(), STORE_FOLDER_NAME, quarantineFile.getName());
+        } catch (IOException | SecurityException e) {
+            ui.printFileWriteError();
+        }
+    }
+
+    /** Recreates the data folder and the key-value store from the open store if either is missing. */
+    @Override
+    public synchronized void recreateAll() {
+        if (isTestModeOn || storeFolder.exists()) {
+            return;
+        }
+        createFolder();
+        try {
+            store.recreateIfMissing();
+        } catch (IOException | SecurityException e) {
+            ui.printFileWriteError();
+        }
+    }
+
+    /** Closes the key-value store, so that the store can be opened again or its folder deleted. */
+    public synchronized void closeStore() {
+        if (store == null) {
+            return;
+        }
+        try {
+            store.close();
+        } catch (IOException e) {
+            // The store is opened again by the next initialize.
+        }
+        store = null;
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.Topic;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+//@@author heejet
+/**
+ * A <code>MemoryStorage</code> keeps the <code>CS2040CFiles</code> of every <code>Topic</code> in memory only. Nothing
+ * is read from or written to disk, so it isolates the cost of the logic of CLIAlgo from the cost of saving, and lets
+ * tests run without creating data files. Everything is lost when CLIAlgo exits.
+ */
+public class MemoryStorage implements Storage {
+    /** The number of undoable entries kept, since older entries have no spill file to go to. */
+    private static final int MAX_JOURNAL_ENTRIES = 1024;
+
+    private final ArrayList<String> topicNames;
+
+    /** The saved <code>CS2040CFiles</code> of each topic, keyed by their names. */
+    private final HashMap<String, HashMap<String, CS2040CFile>> cs2040cFiles;
+
+    private final Journal journal;
+    private boolean isTestModeOn;
+
+    /**
+     * Constructor for an empty <code>MemoryStorage</code>.
+     *
+     * @param topicNames The names of all the topics in CLIAlgo.
+     */
+    public MemoryStorage(ArrayList<String> topicNames) {
+        this.topicNames = topicNames;
+        this.cs2040cFiles = new HashMap<>();
+        for (String topicName : topicNames) {
+            cs2040cFiles.put(topicName, new HashMap<>());
+        }
+        this.journal = new Journal(null, "&@", MAX_JOURNAL_ENTRIES);
+        this.isTestModeOn = false;
+    }
+
+    @Override
+    public synchronized void initialize() {
+        journal.clear();
+    }
+
+    @Override
+    public synchronized boolean addEntry(String name, CS2040CFile cs2040cFile) {
+        if (!isTestModeOn) {
+            cs2040cFiles.get(cs2040cFile.getTopic()).put(name, cs2040cFile);
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized boolean deleteEntry(String cs2040cFileName, String topicName) {
+        if (!isTestModeOn) {
+            cs2040cFiles.get(topicName).remove(cs2040cFileName);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean appendRemoval(String cs2040cFileName, String topicName) {
+        return deleteEntry(cs2040cFileName, topicName);
+    }
+
+    @Override
+    public synchronized void deleteAllEntry(String topicName) {
+        if (!isTestModeOn) {
+            cs2040cFiles.get(topicName).clear();
+        }
+    }
+
+    @Override
+    public synchronized HashMap<String, Topic> decodeAll() {
+        HashMap<String, Topic> topics = new HashMap<>();
+        for (String topicName : topicNames) {
+            topics.put(topicName, new Topic(topicName, new HashMap<>(cs2040cFiles.get(topicName))));
+        }
+        return topics;
+    }
+
+    @Override
+    public synchronized void testMode() {
+        isTestModeOn = true;
+        journal.clear();
+    }
+
+    @Override
+    public synchronized void exitTestMode() {
+        isTestModeOn = false;
+        journal.clear();
+    }
+
+    /** Does nothing, since there are no files to recreate. */
+    @Override
+    public void recreateAll() {
+    }
+
+    @Override
+    public Journal getJournal() {
+        return journal;
+    }
+
+    /** Returns at once, since nothing is saved in the background. */
+    @Override
+    public void awaitRewrite() {
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.Topic;
+import seedu.clialgo.profile.MetricsRegistry;
+
+import java.util.HashMap;
+
+//@@author heejet
+/**
+ * A <code>MeteredStorage</code> passes every call on to another <code>Storage</code>, counting each call that reads
+ * or writes the saved data as an I/O operation of the <code>Command</code> being executed. This lets the
+ * <code>MetricsRegistry</code> count I/O for every kind of <code>Storage</code> without changing any of them.
+ */
+public class MeteredStorage implements Storage {
+    private final Storage storage;
+
+    public MeteredStorage(Storage storage) {
+        this.storage = storage;
+    }
+
+    @Override
+    public void initialize() {
+        MetricsRegistry.countIoOperations(1);
+        storage.initialize();
+    }
+
+    @Override
+    public boolean addEntry(String name, CS2040CFile cs2040cFile) {
+        MetricsRegistry.countIoOperations(1);
+        return storage.addEntry(name, cs2040cFile);
+    }
+
+    @Override
+    public boolean deleteEntry(String cs2040cFileName, String topicName) {
+        MetricsRegistry.countIoOperations(1);
+        return storage.deleteEntry(cs2040cFileName, topicName);
+    }
+
+    @Override
+    public boolean appendRemoval(String cs2040cFileName, String topicName) {
+        MetricsRegistry.countIoOperations(1);
+        return storage.appendRemoval(cs2040cFileName, topicName);
+    }
+
+    @Override
+    public void deleteAllEntry(String topicName) {
+        MetricsRegistry.countIoOperations(1);
+        storage.deleteAllEntry(topicName);
+    }
+
+    @Override
+    public HashMap<String, Topic> decodeAll() {
+        MetricsRegistry.countIoOperations(1);
+        return storage.decodeAll();
+    }
+
+    @Override
+    public void testMode() {
+        storage.testMode();
+    }
+
+    @Override
+    public void exitTestMode() {
+        storage.exitTestMode();
+    }
+
+    @Override
+    public void recreateAll() {
+        MetricsRegistry.countIoOperations(1);
+        storage.recreateAll();
+    }
+
+    @Override
+    public Journal getJournal() {
+        return storage.getJournal();
+    }
+
+    @Override
+    public void awaitRewrite() throws InterruptedException {
+        storage.awaitRewrite();
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.Topic;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+//@@author heejet
+/**
+ * A <code>NoOpStorage</code> accepts every change and saves nothing, not even in memory, so CLIAlgo always starts with
+ * empty topics. It measures the cost of the logic of CLIAlgo alone.
+ */
+public class NoOpStorage implements Storage {
+    /** The number of undoable entries kept, since older entries have no spill file to go to. */
+    private static final int MAX_JOURNAL_ENTRIES = 1024;
+
+    private final ArrayList<String> topicNames;
+    private final Journal journal;
+
+    /**
+     * Constructor for a <code>NoOpStorage</code>.
+     *
+     * @param topicNames The names of all the topics in CLIAlgo.
+     */
+    public NoOpStorage(ArrayList<String> topicNames) {
+        this.topicNames = topicNames;
+        this.journal = new Journal(null, "&@", MAX_JOURNAL_ENTRIES);
+    }
+
+    @Override
+    public void initialize() {
+        journal.clear();
+    }
+
+    @Override
+    public boolean addEntry(String name, CS2040CFile cs2040cFile) {
+        return true;
+    }
+
+    @Override
+    public boolean deleteEntry(String cs2040cFileName, String topicName) {
+        return true;
+    }
+
+    @Override
+    public boolean appendRemoval(String cs2040cFileName, String topicName) {
+        return true;
+    }
+
+    @Override
+    public void deleteAllEntry(String topicName) {
+    }
+
+    @Override
+    public HashMap<String, Topic> decodeAll() {
+        HashMap<String, Topic> topics = new HashMap<>();
+        for (String topicName : topicNames) {
+            topics.put(topicName, new Topic(topicName, new HashMap<>()));
+        }
+        return topics;
+    }
+
+    @Override
+    public void testMode() {
+        journal.clear();
+    }
+
+    @Override
+    public void exitTestMode() {
+        journal.clear();
+    }
+
+    @Override
+    public void recreateAll() {
+    }
+
+    @Override
+    public Journal getJournal() {
+        return journal;
+    }
+
+    @Override
+    public void awaitRewrite() {
+    }
+}
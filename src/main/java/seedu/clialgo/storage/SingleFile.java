@@ -3,68 +3,232 @@ package seedu.clialgo.storage;
 import seedu.clialgo.logic.Topic;
 import seedu.clialgo.Ui;
 import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.profile.FileIoEvent;
+import seedu.clialgo.profile.StartupProfile;
 
-import java.io.BufferedWriter;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Scanner;
+import java.util.Map;
+import java.util.zip.CRC32;
 
 public class SingleFile {
+    /** The suffix of the file that a new version of the .txt file is written to before it replaces the .txt file. */
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /** The suffix of the file that corrupted lines of the .txt file are moved to. */
+    private static final String QUARANTINE_FILE_SUFFIX = ".corrupted";
+    private static final String LINE_SEPARATOR = System.lineSeparator();
 
     private File file;
     private final String name;
     private final Ui ui;
-    private final HashMap<String, String> storedRawData;
+
+    /**
+     * The decoded <code>CS2040CFiles</code> of the .txt file, keyed by their names. Their encoded lines are not kept,
+     * they are encoded again by <code>encoder</code> whenever the .txt file is overwritten.
+     */
     private final HashMap<String, CS2040CFile> cs2040cFiles;
+    private final FileEncoder encoder;
     private final FileDecoder decoder;
 
+    /** The CRC-32 of the lines of the .txt file, which is everything above its checksum footer. */
+    private CRC32 checksum;
 
-    public SingleFile (File file, String name, FileDecoder decoder) {
+    /** The number of bytes of the .txt file above its checksum footer. */
+    private long bodyLength;
+
+    /**
+     * True if an append failed part way, or the .txt file has no footer and its last line has no line break, so the
+     * .txt file must be replaced before it is appended to again.
+     */
+    private boolean isFooterStale;
+
+    /** True if the .txt file held corrupted lines or a mismatched checksum when it was read. */
+    private boolean isRewriteNeeded;
+
+    public SingleFile (File file, String name, FileEncoder encoder, FileDecoder decoder) {
         this.file = file;
         this.name = name;
         this.ui = new Ui();
+        this.encoder = encoder;
         this.decoder = decoder;
-        this.storedRawData  = new HashMap<>();
         this.cs2040cFiles = new HashMap<>();
+        this.checksum = new CRC32();
+        this.bodyLength = 0;
+        this.isFooterStale = false;
+        this.isRewriteNeeded = false;
     }
+
     //@@author lohjooh
     /**
-     * Reads data from the .txt file and stores it in this object. If the file is corrupted, after reading in the
-     * non-corrupted data, overwrites the data file with the non-corrupted data while purging the corrupted data.
+     * Reads data from the .txt file and stores it in this object. If the file ends with a checksum footer that does
+     * not match the lines above it, the file was not completely written and the user is warned. Corrupted lines are
+     * skipped and moved to a quarantine file next to the .txt file, and reading resumes at the next line. In both
+     * cases the .txt file is not rewritten here, <code>rewriteIfNeeded</code> does it once afterwards. Checking the
+     * footer takes a pass over every byte of the file, on top of the pass that decodes its lines.
+     * A file written before footers were added, whose last line does not end with a line break, is rewritten before
+     * the next line is appended, so that line is not joined to the last one.
      *
-     * @throws FileNotFoundException Thrown when the .txt file does not exist.
+     * @throws FileNotFoundException Thrown when the .txt file does not exist or cannot be read.
      */
-    public void readFile() throws FileNotFoundException {
-        Scanner scanner = new Scanner(file);
-        boolean isFileCorrupted = false;
-        int corruptCount = 0;
-        while (scanner.hasNext()) {
-            String rawData = scanner.nextLine();
+    public synchronized void readFile() throws FileNotFoundException {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            throw new FileNotFoundException(file.getPath());
+        }
+        StartupProfile.countBytes(content.length);
+        int footerStart = findLastLineStart(content);
+        String lastLine = new String(content, footerStart, content.length - footerStart, StandardCharsets.UTF_8)
+                .strip();
+        boolean hasFooter = decoder.isChecksum(lastLine);
+        int lengthAboveFooter = hasFooter ? footerStart : content.length;
+        CRC32 contentChecksum = new CRC32();
+        contentChecksum.update(content, 0, lengthAboveFooter);
+        boolean isChecksumMismatched = hasFooter
+                && !decoder.isMatchingChecksum(lastLine, contentChecksum.getValue(), lengthAboveFooter);
+
+        ArrayList<String> corruptedLines = new ArrayList<>();
+        String lines = new String(content, 0, lengthAboveFooter, StandardCharsets.UTF_8);
+        for (String rawData : (Iterable<String>) lines.lines()::iterator) {
+            if (decoder.isRemoval(rawData)) {
+                String removedName = decoder.decodeRemovedName(rawData);
+                this.cs2040cFiles.remove(removedName);
+                continue;
+            }
             boolean isCorrupted = decoder.decodeString(rawData, name);
             if (isCorrupted) {
-                isFileCorrupted = true;
-                corruptCount += 1;
-                break;
+                corruptedLines.add(rawData);
+                continue;
             }
-            this.storedRawData.put(decoder.decodedName(), rawData);
             this.cs2040cFiles.put(decoder.decodedName(), decoder.processedCS2040CFile());
+            StartupProfile.countRecords(1);
         }
-        scanner.close();
-        if (isFileCorrupted) {
-            try {
-                overwriteFile();
-                ui.printCorruptedFileDiscarded(corruptCount, name);
-            } catch (IOException e) {
-                ui.printFileWriteError();
-            } catch (SecurityException e) {
-                ui.printSecurityDenied();
-            }
+        this.checksum = contentChecksum;
+        this.bodyLength = lengthAboveFooter;
+        this.isFooterStale = !hasFooter && !isEndOfLine(content, lengthAboveFooter);
+        if (isChecksumMismatched) {
+            ui.printChecksumMismatch(file.getName());
+        }
+        if (!corruptedLines.isEmpty()) {
+            quarantine(corruptedLines);
+        }
+        this.isRewriteNeeded = isChecksumMismatched || !corruptedLines.isEmpty();
+    }
+
+    //@@author heejet
+    /**
+     * Appends corrupted lines to the quarantine file, so that the user can still fix them by hand after they are
+     * removed from the .txt file.
+     *
+     * @param corruptedLines The lines of the .txt file that could not be decoded.
+     */
+    private void quarantine(ArrayList<String> corruptedLines) {
+        File quarantineFile = new File(file.getPath() + QUARANTINE_FILE_SUFFIX);
+        try {
+            Files.write(quarantineFile.toPath(), corruptedLines, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+            ui.printCorruptedEntriesQuarantined(corruptedLines.size(), file.getName(), quarantineFile.getName());
+        } catch (IOException | SecurityException e) {
+            ui.printCorruptedFileDiscarded(corruptedLines.size(), name);
+        }
+    }
+
+    /**
+     * Checks if the .txt file still holds corrupted lines or a mismatched checksum from when it was read.
+     *
+     * @return True if <code>rewriteIfNeeded</code> would rewrite the .txt file, false otherwise.
+     */
+    public synchronized boolean isRewriteNeeded() {
+        return isRewriteNeeded;
+    }
+
+    /**
+     * Rewrites the .txt file with only the entries that were read successfully, if it held corrupted lines or a
+     * mismatched checksum when it was read.
+     */
+    public synchronized void rewriteIfNeeded() {
+        if (!isRewriteNeeded) {
+            return;
+        }
+        try {
+            overwriteFile();
+        } catch (IOException e) {
+            ui.printFileWriteError();
+        } catch (SecurityException e) {
+            ui.printSecurityDenied();
         }
     }
 
+    //@@author heejet
+    /**
+     * Finds where the last non-empty line of <code>content</code> starts.
+     *
+     * @param content The bytes of a .txt file.
+     * @return The index of the first byte of the last line, or 0 if there is at most one line.
+     */
+    private static int findLastLineStart(byte[] content) {
+        int end = content.length;
+        while (end > 0 && (content[end - 1] == '\n' || content[end - 1] == '\r')) {
+            end--;
+        }
+        int start = end;
+        while (start > 0 && content[start - 1] != '\n') {
+            start--;
+        }
+        return start;
+    }
+
+    /** Checks if the first <code>length</code> bytes of <code>content</code> are empty or end with a line break. */
+    private static boolean isEndOfLine(byte[] content, int length) {
+        return length == 0 || content[length - 1] == '\n' || content[length - 1] == '\r';
+    }
+
+    /**
+     * Appends a line to the .txt file. The checksum footer is overwritten by the line and written again below it, so
+     * the footer always covers every line of the file.
+     *
+     * @param line The line to append, without a line separator.
+     * @throws IOException Throws an exception if the file write fails.
+     */
+    private void appendLine(String line) throws IOException {
+        if (isFooterStale) {
+            overwriteFile();
+        }
+        byte[] lineBytes = (line + LINE_SEPARATOR).getBytes(StandardCharsets.UTF_8);
+        long lineStart = bodyLength;
+        checksum.update(lineBytes);
+        bodyLength += lineBytes.length;
+        byte[] footerBytes = (encoder.encodeChecksum(checksum.getValue(), bodyLength) + LINE_SEPARATOR)
+                .getBytes(StandardCharsets.UTF_8);
+        FileIoEvent event = FileIoEvent.start("SingleFile.append", file);
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.seek(lineStart);
+            randomAccessFile.write(lineBytes);
+            randomAccessFile.write(footerBytes);
+            randomAccessFile.setLength(randomAccessFile.getFilePointer());
+        } catch (IOException e) {
+            isFooterStale = true;
+            event.finish(0, false);
+            throw e;
+        }
+        event.finish(lineBytes.length + footerBytes.length, true);
+    }
+
     /**
      * Writes a single <code>CS2040CFile</code> encoded as a <code>String</code> to the .txt file.
      * If the file does not exist
@@ -74,51 +238,89 @@ public class SingleFile {
      * @throws IOException Throws an exception if the file write fails.
      * @throws SecurityException Throws an exception if the security manager denies permission.
      */
-    public void writeCS2040CFileToFile(String fileName, String encodedCS2040CFile, CS2040CFile cs2040cFile)
-            throws IOException, SecurityException {
+    public synchronized void writeCS2040CFileToFile(String fileName, String encodedCS2040CFile,
+            CS2040CFile cs2040cFile) throws IOException, SecurityException {
         assert encodedCS2040CFile != null : "Empty string";
-        try {
-            if (!file.exists()) {
-                recreateFile();
-            }
-            FileWriter fileWriter = new FileWriter(file, true);
-            BufferedWriter bufferedWriter = new BufferedWriter(fileWriter);
-            bufferedWriter.write(encodedCS2040CFile);
-            bufferedWriter.newLine();
-            bufferedWriter.close();
-            fileWriter.close();
-            this.storedRawData.put(fileName, encodedCS2040CFile);
-            this.cs2040cFiles.put(fileName, cs2040cFile);
-        } catch (IOException e) {
-            throw new IOException();
-        } catch (SecurityException e) {
-            throw new SecurityException();
+        if (!file.exists()) {
+            recreateFile();
         }
+        appendLine(encodedCS2040CFile);
+        this.cs2040cFiles.put(fileName, cs2040cFile);
     }
 
     /**
-     * Writes all the stored raw data into the .txt file, overwriting all the existing data stored in the .txt file.
+     * Writes all the stored <code>CS2040CFiles</code>, encoded again by the <code>FileEncoder</code>, into the .txt
+     * file, followed by its checksum footer, replacing all the existing data stored in the .txt file. The data is
+     * written and synced to a temporary file first, which is then moved over the .txt file, so the .txt file holds
+     * either the old or the new data if CLIAlgo stops part way.
      *
      * @throws IOException Throws an exception if the file write fails.
      * @throws SecurityException Throws an exception if the security manager denies permission.
      */
-    public void overwriteFile() throws IOException, SecurityException {
-        try {
-            FileWriter fileWriter = new FileWriter(file, false);
-            BufferedWriter bufferedWriter = new BufferedWriter(fileWriter);
-            for (String string : storedRawData.values()) {
-                bufferedWriter.write(string);
-                bufferedWriter.newLine();
+    public synchronized void overwriteFile() throws IOException, SecurityException {
+        File tempFile = new File(file.getPath() + TEMP_FILE_SUFFIX);
+        CRC32 newChecksum = new CRC32();
+        long newBodyLength = 0;
+        long writtenBytes;
+        FileIoEvent event = FileIoEvent.start("SingleFile.overwrite", file);
+        try (FileOutputStream fileOutputStream = new FileOutputStream(tempFile);
+             BufferedOutputStream outputStream = new BufferedOutputStream(fileOutputStream)) {
+            for (Map.Entry<String, CS2040CFile> entry : cs2040cFiles.entrySet()) {
+                String line = encoder.encodeCS2040CFile(entry.getKey(), entry.getValue());
+                byte[] lineBytes = (line + LINE_SEPARATOR).getBytes(StandardCharsets.UTF_8);
+                outputStream.write(lineBytes);
+                newChecksum.update(lineBytes);
+                newBodyLength += lineBytes.length;
             }
-            bufferedWriter.close();
-            fileWriter.close();
+            String footer = encoder.encodeChecksum(newChecksum.getValue(), newBodyLength) + LINE_SEPARATOR;
+            byte[] footerBytes = footer.getBytes(StandardCharsets.UTF_8);
+            outputStream.write(footerBytes);
+            writtenBytes = newBodyLength + footerBytes.length;
+            outputStream.flush();
+            fileOutputStream.getFD().sync();
+        } catch (IOException | SecurityException e) {
+            tempFile.delete();
+            event.finish(0, false);
+            throw e;
+        }
+        try {
+            replace(tempFile, file);
         } catch (IOException e) {
-            throw new IOException();
-        } catch (SecurityException e) {
-            throw new SecurityException();
+            event.finish(0, false);
+            throw e;
         }
+        event.finish(writtenBytes, true);
+        this.checksum = newChecksum;
+        this.bodyLength = newBodyLength;
+        this.isFooterStale = false;
+        this.isRewriteNeeded = false;
     }
 
+    /**
+     * Moves <code>tempFile</code> over <code>target</code> in a single step where the file system allows it, and syncs
+     * the folder so that the move itself survives a crash.
+     *
+     * @param tempFile The completely written file that replaces <code>target</code>.
+     * @param target The data file being replaced.
+     * @throws IOException Throws an exception if the file cannot be moved.
+     */
+    static void replace(File tempFile, File target) throws IOException {
+        Path targetPath = target.toPath();
+        try {
+            Files.move(tempFile.toPath(), targetPath, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile.toPath(), targetPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Path folder = targetPath.toAbsolutePath().getParent();
+        try (FileChannel folderChannel = FileChannel.open(folder, StandardOpenOption.READ)) {
+            folderChannel.force(true);
+        } catch (IOException e) {
+            // Some platforms, such as Windows, cannot open a folder to sync it.
+        }
+    }
+
+    //@@author lohjooh
     /**
      * Deletes a single <code>CS2040CFile</code> and updates the .txt file. If the file does not exist
      * during method call, recreate the file with <code>recreateFile</code>.
@@ -127,28 +329,51 @@ public class SingleFile {
      * @throws IOException Throws an exception if the file write fails.
      * @throws SecurityException Throws an exception if the security manager denies permission.
      */
-    public void deleteEntry(String name) throws IOException,SecurityException {
-        if (!this.storedRawData.containsKey(name)) {
+    public synchronized void deleteEntry(String name) throws IOException,SecurityException {
+        if (!this.cs2040cFiles.containsKey(name)) {
             return;
         }
-        storedRawData.remove(name);
+        CS2040CFile removedCS2040CFile = cs2040cFiles.remove(name);
         try {
             if (!file.exists()) {
                 recreateFile();
             }
             overwriteFile();
         } catch (IOException e) {
+            cs2040cFiles.put(name, removedCS2040CFile);
             throw new IOException();
         } catch (SecurityException e) {
+            cs2040cFiles.put(name, removedCS2040CFile);
             throw new SecurityException();
         }
+    }
+
+    //@@author heejet
+    /**
+     * Removes a single <code>CS2040CFile</code> by appending an encoded removal to the .txt file, leaving the rest of
+     * the file untouched. The removal is dropped from the file the next time the file is overwritten.
+     *
+     * @param name The name of the <code>CS2040CFile</code> being removed.
+     * @param encodedRemoval The removal encoded as a <code>String</code>.
+     * @throws IOException Throws an exception if the file write fails.
+     * @throws SecurityException Throws an exception if the security manager denies permission.
+     */
+    public synchronized void appendRemoval(String name, String encodedRemoval) throws IOException, SecurityException {
+        if (!this.cs2040cFiles.containsKey(name)) {
+            return;
+        }
+        if (!file.exists()) {
+            recreateFile();
+        }
+        appendLine(encodedRemoval);
         cs2040cFiles.remove(name);
     }
 
+    //@@author lohjooh
     /**
      * Recreates the data file with all the entries reset based on the current data stored in this object.
      */
-    public void recreateFile() {
+    public synchronized void recreateFile() {
         try {
             if (file.createNewFile()) {
                 overwriteFile();
@@ -160,15 +385,26 @@ public class SingleFile {
         }
     }
 
-    public Topic convertFileToTopic () {
+    //@@author heejet
+    /**
+     * Gets the data file of this object.
+     *
+     * @return The .txt file that the <code>CS2040CFiles</code> are saved in.
+     */
+    public synchronized File getFile() {
+        return file;
+    }
+
+    //@@author lohjooh
+    public synchronized Topic convertFileToTopic () {
         return new Topic(name, cs2040cFiles);
     }
 
-    public void clearFile() {
-        storedRawData.clear();
+    public synchronized void clearFile() {
+        cs2040cFiles.clear();
     }
 
-    public void setFile(File file) {
+    public synchronized void setFile(File file) {
         this.file = file;
     }
 }
@@ -0,0 +1,83 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.Topic;
+
+import java.util.HashMap;
+
+//@@author heejet
+/**
+ * A <code>Storage</code> saves and loads the <code>CS2040CFiles</code> of every <code>Topic</code> in CLIAlgo. Each
+ * implementation decides how the <code>CS2040CFiles</code> are laid out on disk, while CLIAlgo only relies on the
+ * methods below.
+ */
+public interface Storage {
+    /**
+     * Prepares the storage for use and loads the saved <code>CS2040CFiles</code>, creating any missing files.
+     */
+    void initialize();
+
+    /**
+     * Saves a <code>CS2040CFile</code>, replacing any saved <code>CS2040CFile</code> with the same name.
+     *
+     * @param name The name of the <code>CS2040CFile</code>.
+     * @param cs2040cFile The <code>CS2040CFile</code> being added.
+     * @return true if executed successfully and false if execution failed.
+     */
+    boolean addEntry(String name, CS2040CFile cs2040cFile);
+
+    /**
+     * Deletes a saved <code>CS2040CFile</code>.
+     *
+     * @param cs2040cFileName The name of the <code>CS2040CFile</code> being deleted.
+     * @param topicName The topic of the <code>CS2040CFile</code> being deleted.
+     * @return true if executed successfully and false if execution failed.
+     */
+    boolean deleteEntry(String cs2040cFileName, String topicName);
+
+    /**
+     * Removes a saved <code>CS2040CFile</code> without rewriting the other <code>CS2040CFiles</code> of its topic.
+     *
+     * @param cs2040cFileName The name of the <code>CS2040CFile</code> being removed.
+     * @param topicName The topic of the <code>CS2040CFile</code> being removed.
+     * @return true if executed successfully and false if execution failed.
+     */
+    boolean appendRemoval(String cs2040cFileName, String topicName);
+
+    /**
+     * Deletes every saved <code>CS2040CFile</code> of a topic.
+     *
+     * @param topicName The name of the topic being emptied.
+     */
+    void deleteAllEntry(String topicName);
+
+    /**
+     * Reads every saved <code>CS2040CFile</code>.
+     *
+     * @return The <code>Topics</code> holding the saved <code>CS2040CFiles</code>, keyed by their names.
+     */
+    HashMap<String, Topic> decodeAll();
+
+    /** Starts test mode, in which nothing is saved. */
+    void testMode();
+
+    /** Exits test mode. */
+    void exitTestMode();
+
+    /** Recreates the saved data if it was deleted while CLIAlgo was running. */
+    void recreateAll();
+
+    /**
+     * Gets the <code>Journal</code> of the additions and removals made to the saved <code>CS2040CFiles</code>.
+     *
+     * @return The <code>Journal</code> of this storage.
+     */
+    Journal getJournal();
+
+    /**
+     * Waits for any saving that is still running in the background.
+     *
+     * @throws InterruptedException Thrown if the current thread is interrupted while waiting.
+     */
+    void awaitRewrite() throws InterruptedException;
+}
@@ -0,0 +1,72 @@
+package seedu.clialgo.storage;
+
+import java.util.ArrayList;
+
+//@@author heejet
+/**
+ * The ways CLIAlgo can save its <code>CS2040CFiles</code>, chosen with the <code>--storage</code> launch option.
+ */
+public enum StorageType {
+    /** One .txt file per topic, saved by a <code>FileManager</code>. */
+    FILES("files"),
+
+    /** A single data file for every topic, saved by a <code>ConsolidatedFileManager</code>. */
+    SINGLE_FILE("single-file"),
+
+    /** An embedded key-value store, saved by a <code>KeyValueFileManager</code>. */
+    KEY_VALUE("kv"),
+
+    /** One compressed file per topic, saved by a <code>CompressedFileManager</code>. */
+    COMPRESSED("compressed"),
+
+    /** Memory only, saved by a <code>MemoryStorage</code> and lost when CLIAlgo exits. */
+    MEMORY("memory"),
+
+    /** Nothing saved at all, by a <code>NoOpStorage</code>. */
+    NONE("none");
+
+    private final String optionName;
+
+    StorageType(String optionName) {
+        this.optionName = optionName;
+    }
+
+    /**
+     * Gets the <code>StorageType</code> named by a launch option.
+     *
+     * @param optionName The name given after <code>--storage</code>.
+     * @return The <code>StorageType</code> with that name, or null if there is none.
+     */
+    public static StorageType fromOptionName(String optionName) {
+        for (StorageType storageType : values()) {
+            if (storageType.optionName.equalsIgnoreCase(optionName)) {
+                return storageType;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates the storage of this type.
+     *
+     * @param path The folder that the data is saved in.
+     * @param topicNames The names of all the topics in CLIAlgo.
+     * @return A new, uninitialized storage.
+     */
+    public Storage createStorage(String path, ArrayList<String> topicNames) {
+        switch (this) {
+        case SINGLE_FILE:
+            return new ConsolidatedFileManager(path, topicNames);
+        case KEY_VALUE:
+            return new KeyValueFileManager(path, topicNames);
+        case COMPRESSED:
+            return new CompressedFileManager(path, topicNames);
+        case MEMORY:
+            return new MemoryStorage(topicNames);
+        case NONE:
+            return new NoOpStorage(topicNames);
+        default:
+            return new FileManager(path, topicNames);
+        }
+    }
+}
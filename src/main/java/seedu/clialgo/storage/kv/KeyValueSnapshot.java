@@ -0,0 +1,60 @@
+package seedu.clialgo.storage.kv;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+//@@author heejet
+/**
+ * A <code>KeyValueSnapshot</code> is a read-only view of a <code>KeyValueStore</code> as it was when the snapshot was
+ * taken. It holds a copy of the records in memory and the <code>SortedTables</code> of that moment, which are
+ * immutable, so reading it never waits for the store.
+ */
+public class KeyValueSnapshot implements AutoCloseable {
+    private final TreeMap<String, String> memtable;
+    private final List<SortedTable> tables;
+    private boolean isClosed;
+
+    KeyValueSnapshot(TreeMap<String, String> memtable, List<SortedTable> tables) {
+        this.memtable = memtable;
+        this.tables = tables;
+        this.isClosed = false;
+    }
+
+    /**
+     * Gets the value a key had when the snapshot was taken.
+     *
+     * @param key The key.
+     * @return The value of the key, or null if the key did not exist.
+     * @throws IOException Thrown if the store cannot be read.
+     */
+    public String get(String key) throws IOException {
+        assert !isClosed;
+        return KeyValueStore.get(memtable, tables, key);
+    }
+
+    /**
+     * Gets every key starting with <code>prefix</code> together with the value it had when the snapshot was taken.
+     *
+     * @param prefix The prefix of the keys.
+     * @return The keys and their values in ascending order of key.
+     * @throws IOException Thrown if the store cannot be read.
+     */
+    public SortedMap<String, String> scan(String prefix) throws IOException {
+        assert !isClosed;
+        return KeyValueStore.scan(memtable, tables, prefix);
+    }
+
+    /** Releases the <code>SortedTables</code> read by this snapshot. */
+    @Override
+    public synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        for (SortedTable table : tables) {
+            table.release();
+        }
+    }
+}
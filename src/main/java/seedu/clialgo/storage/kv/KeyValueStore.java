@@ -0,0 +1,311 @@
+package seedu.clialgo.storage.kv;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+//@@author heejet
+/**
+ * A <code>KeyValueStore</code> is an embedded log-structured merge store of <code>String</code> keys and values.
+ * Puts and deletes are appended to a <code>WriteAheadLog</code> and kept in a sorted table in memory. Once that table
+ * is full, it is written to disk as an immutable <code>SortedTable</code>, and once there are too many of those they
+ * are merged into one. Reads look at the table in memory first and then at the <code>SortedTables</code> from newest
+ * to oldest, so newer values hide older ones.
+ *
+ * <p>The folder of a store holds the log, the <code>SortedTables</code> and a manifest listing the
+ * <code>SortedTables</code> from oldest to newest. The manifest is replaced in a single step after every flush and
+ * merge, so a crash never leaves it listing a table that was not completely written.
+ */
+public class KeyValueStore implements AutoCloseable {
+    /** The number of records kept in memory before they are written to a <code>SortedTable</code>. */
+    public static final int DEFAULT_MEMTABLE_LIMIT = 1024;
+
+    static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final String LOG_FILE_NAME = "wal.log";
+    private static final String MANIFEST_FILE_NAME = "MANIFEST";
+    private static final String TABLE_FILE_FORMAT = "table-%06d.sst";
+
+    /** The number of <code>SortedTables</code> allowed before they are merged into one. */
+    private static final int MAX_TABLES = 4;
+
+    private final File directory;
+    private final int memtableLimit;
+
+    /** The records not yet written to a <code>SortedTable</code>, where a null value marks a deleted key. */
+    private TreeMap<String, String> memtable;
+
+    /** The <code>SortedTables</code> of the store, from oldest to newest. */
+    private final ArrayList<SortedTable> tables;
+
+    private final WriteAheadLog log;
+    private int nextTableNumber;
+
+    private KeyValueStore(File directory, int memtableLimit, TreeMap<String, String> memtable,
+            ArrayList<SortedTable> tables, WriteAheadLog log, int nextTableNumber) {
+        this.directory = directory;
+        this.memtableLimit = memtableLimit;
+        this.memtable = memtable;
+        this.tables = tables;
+        this.log = log;
+        this.nextTableNumber = nextTableNumber;
+    }
+
+    /**
+     * Opens the store in <code>directory</code>, creating an empty store if there is none.
+     *
+     * @param directory The folder of the store.
+     * @return The opened store.
+     * @throws IOException Thrown if the store cannot be read.
+     */
+    public static KeyValueStore open(File directory) throws IOException {
+        return open(directory, DEFAULT_MEMTABLE_LIMIT);
+    }
+
+    /**
+     * Opens the store in <code>directory</code>, creating an empty store if there is none.
+     *
+     * @param directory The folder of the store.
+     * @param memtableLimit The number of records kept in memory before they are written to disk.
+     * @return The opened store.
+     * @throws IOException Thrown if the store cannot be read.
+     */
+    public static KeyValueStore open(File directory, int memtableLimit) throws IOException {
+        Files.createDirectories(directory.toPath());
+        ArrayList<SortedTable> tables = new ArrayList<>();
+        int nextTableNumber = 0;
+        File manifest = new File(directory, MANIFEST_FILE_NAME);
+        if (manifest.exists()) {
+            for (String tableName : Files.readAllLines(manifest.toPath(), StandardCharsets.UTF_8)) {
+                if (tableName.isBlank()) {
+                    continue;
+                }
+                tables.add(SortedTable.open(new File(directory, tableName)));
+                nextTableNumber = Math.max(nextTableNumber, parseTableNumber(tableName) + 1);
+            }
+        }
+        TreeMap<String, String> memtable = new TreeMap<>();
+        WriteAheadLog log = WriteAheadLog.openAndReplay(new File(directory, LOG_FILE_NAME), memtable);
+        return new KeyValueStore(directory, memtableLimit, memtable, tables, log, nextTableNumber);
+    }
+
+    private static int parseTableNumber(String tableName) {
+        try {
+            return Integer.parseInt(tableName.replaceAll("\\D", ""));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Sets the value of a key.
+     *
+     * @param key The key.
+     * @param value The new value of the key.
+     * @throws IOException Thrown if the change cannot be saved.
+     */
+    public synchronized void put(String key, String value) throws IOException {
+        assert value != null;
+        log.append(key, value);
+        memtable.put(key, value);
+        flushIfFull();
+    }
+
+    /**
+     * Deletes a key. Deleting a key that does not exist does nothing.
+     *
+     * @param key The key.
+     * @throws IOException Thrown if the change cannot be saved.
+     */
+    public synchronized void delete(String key) throws IOException {
+        log.append(key, null);
+        memtable.put(key, null);
+        flushIfFull();
+    }
+
+    /**
+     * Gets the value of a key.
+     *
+     * @param key The key.
+     * @return The value of the key, or null if the key does not exist.
+     * @throws IOException Thrown if the store cannot be read.
+     */
+    public synchronized String get(String key) throws IOException {
+        return get(memtable, tables, key);
+    }
+
+    /**
+     * Gets every key starting with <code>prefix</code> together with its value.
+     *
+     * @param prefix The prefix of the keys.
+     * @return The keys and their values in ascending order of key.
+     * @throws IOException Thrown if the store cannot be read.
+     */
+    public synchronized SortedMap<String, String> scan(String prefix) throws IOException {
+        return scan(memtable, tables, prefix);
+    }
+
+    /**
+     * Takes a snapshot of the store. Reads from the snapshot are not affected by later changes to the store, and do
+     * not block them. The snapshot must be closed, so that the <code>SortedTables</code> it reads can be deleted once
+     * they are merged.
+     *
+     * @return A snapshot of the current contents of the store.
+     */
+    public synchronized KeyValueSnapshot snapshot() {
+        for (SortedTable table : tables) {
+            table.retain();
+        }
+        return new KeyValueSnapshot(new TreeMap<>(memtable), new ArrayList<>(tables));
+    }
+
+    static String get(TreeMap<String, String> memtable, List<SortedTable> tables, String key) throws IOException {
+        if (memtable.containsKey(key)) {
+            return memtable.get(key);
+        }
+        for (int i = tables.size() - 1; i >= 0; i--) {
+            Map.Entry<String, String> record = tables.get(i).get(key);
+            if (record != null) {
+                return record.getValue();
+            }
+        }
+        return null;
+    }
+
+    static SortedMap<String, String> scan(TreeMap<String, String> memtable, List<SortedTable> tables, String prefix)
+            throws IOException {
+        TreeMap<String, String> records = new TreeMap<>();
+        for (Map.Entry<String, String> record : memtable.tailMap(prefix).entrySet()) {
+            if (!record.getKey().startsWith(prefix)) {
+                break;
+            }
+            records.put(record.getKey(), record.getValue());
+        }
+        for (int i = tables.size() - 1; i >= 0; i--) {
+            tables.get(i).scanInto(prefix, records);
+        }
+        records.values().removeIf(value -> value == null);
+        return records;
+    }
+
+    private void flushIfFull() throws IOException {
+        if (memtable.size() >= memtableLimit) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the records in memory to a new <code>SortedTable</code> and empties the log, merging the
+     * <code>SortedTables</code> if there are too many of them.
+     *
+     * @throws IOException Thrown if the table cannot be written.
+     */
+    public synchronized void flush() throws IOException {
+        if (!memtable.isEmpty()) {
+            tables.add(SortedTable.write(nextTableFile(), memtable.entrySet()));
+            writeManifest();
+            log.reset();
+            memtable = new TreeMap<>();
+        }
+        if (tables.size() > MAX_TABLES) {
+            compact();
+        }
+    }
+
+    /**
+     * Merges every <code>SortedTable</code> into one. Deleted keys are dropped, since no older table is left for them
+     * to hide.
+     *
+     * @throws IOException Thrown if the merged table cannot be written.
+     */
+    private void compact() throws IOException {
+        TreeMap<String, String> records = new TreeMap<>();
+        for (int i = tables.size() - 1; i >= 0; i--) {
+            tables.get(i).readAllInto(records);
+        }
+        records.values().removeIf(value -> value == null);
+        SortedTable mergedTable = SortedTable.write(nextTableFile(), records.entrySet());
+        ArrayList<SortedTable> oldTables = new ArrayList<>(tables);
+        tables.clear();
+        tables.add(mergedTable);
+        writeManifest();
+        for (SortedTable oldTable : oldTables) {
+            oldTable.markObsolete();
+            oldTable.release();
+        }
+    }
+
+    /**
+     * Writes the store again if its folder was deleted while it was open. The open <code>SortedTables</code> can
+     * still be read, so no record is lost.
+     *
+     * @throws IOException Thrown if the store cannot be written.
+     */
+    public synchronized void recreateIfMissing() throws IOException {
+        if (directory.exists()) {
+            return;
+        }
+        Files.createDirectories(directory.toPath());
+        log.reset();
+        for (Map.Entry<String, String> record : memtable.entrySet()) {
+            log.append(record.getKey(), record.getValue());
+        }
+        TreeMap<String, String> records = new TreeMap<>();
+        for (int i = tables.size() - 1; i >= 0; i--) {
+            tables.get(i).readAllInto(records);
+        }
+        records.values().removeIf(value -> value == null);
+        SortedTable table = SortedTable.write(nextTableFile(), records.entrySet());
+        for (SortedTable oldTable : tables) {
+            oldTable.release();
+        }
+        tables.clear();
+        tables.add(table);
+        writeManifest();
+    }
+
+    private File nextTableFile() {
+        return new File(directory, String.format(TABLE_FILE_FORMAT, nextTableNumber++));
+    }
+
+    private void writeManifest() throws IOException {
+        ArrayList<String> tableNames = new ArrayList<>();
+        for (SortedTable table : tables) {
+            tableNames.add(table.getFile().getName());
+        }
+        File manifest = new File(directory, MANIFEST_FILE_NAME);
+        File tempManifest = new File(directory, MANIFEST_FILE_NAME + TEMP_FILE_SUFFIX);
+        Files.write(tempManifest.toPath(), tableNames, StandardCharsets.UTF_8);
+        replace(tempManifest, manifest);
+    }
+
+    /**
+     * Moves <code>tempFile</code> over <code>target</code> in a single step where the file system allows it.
+     */
+    static void replace(File tempFile, File target) throws IOException {
+        try {
+            Files.move(tempFile.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /** Closes the log and every <code>SortedTable</code> that is not held by an open snapshot. */
+    @Override
+    public synchronized void close() throws IOException {
+        log.close();
+        for (SortedTable table : tables) {
+            table.release();
+        }
+        tables.clear();
+    }
+}
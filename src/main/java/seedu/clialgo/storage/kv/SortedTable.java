@@ -0,0 +1,346 @@
+package seedu.clialgo.storage.kv;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Map;
+
+//@@author heejet
+/**
+ * A <code>SortedTable</code> is an immutable file of key-value records sorted by key, followed by a sparse index of
+ * every few keys. A lookup reads the index from memory and then reads records from the file with positioned reads,
+ * starting at the closest indexed key, so only a small part of the file is read. A deleted key is kept as a record
+ * without a value, so that it hides older values of the key in older tables.
+ *
+ * <p>The file holds every record as <code>KEY_LENGTH KEY IS_DELETED [VALUE_LENGTH VALUE]</code>, then the number of
+ * indexed keys and each indexed key with the offset of its record, then the offset of the index and a magic number.
+ */
+class SortedTable {
+    private static final int MAGIC = 0x434c4154;
+    private static final int FOOTER_LENGTH = Long.BYTES + Integer.BYTES;
+
+    /** The number of records between two keys of the sparse index. */
+    private static final int INDEX_INTERVAL = 16;
+
+    private final File file;
+    private final FileChannel channel;
+    private final String[] indexedKeys;
+    private final long[] indexedOffsets;
+    private final long indexOffset;
+
+    /** The number of holders of this table, which is the <code>KeyValueStore</code> and every open snapshot. */
+    private int referenceCount;
+
+    /** True once this table is replaced by a compaction, so that it is deleted when it is no longer held. */
+    private boolean isObsolete;
+
+    private SortedTable(File file, FileChannel channel, String[] indexedKeys, long[] indexedOffsets,
+            long indexOffset) {
+        this.file = file;
+        this.channel = channel;
+        this.indexedKeys = indexedKeys;
+        this.indexedOffsets = indexedOffsets;
+        this.indexOffset = indexOffset;
+        this.referenceCount = 1;
+        this.isObsolete = false;
+    }
+
+    /**
+     * Writes sorted records to a new table. The records are written to a temporary file which is synced and then
+     * renamed, so the table either exists completely or not at all.
+     *
+     * @param file The file of the new table.
+     * @param records The records in ascending order of key, where a null value marks a deleted key.
+     * @return The new table, opened for reading.
+     * @throws IOException Thrown if the table cannot be written.
+     */
+    static SortedTable write(File file, Iterable<Map.Entry<String, String>> records) throws IOException {
+        File tempFile = new File(file.getPath() + KeyValueStore.TEMP_FILE_SUFFIX);
+        ArrayList<String> indexedKeys = new ArrayList<>();
+        ArrayList<Long> indexedOffsets = new ArrayList<>();
+        try (FileOutputStream fileOutputStream = new FileOutputStream(tempFile);
+             DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fileOutputStream))) {
+            int count = 0;
+            for (Map.Entry<String, String> record : records) {
+                if (count % INDEX_INTERVAL == 0) {
+                    indexedKeys.add(record.getKey());
+                    indexedOffsets.add((long) output.size());
+                }
+                writeString(output, record.getKey());
+                output.writeBoolean(record.getValue() == null);
+                if (record.getValue() != null) {
+                    writeString(output, record.getValue());
+                }
+                count++;
+            }
+            long indexOffset = output.size();
+            output.writeInt(indexedKeys.size());
+            for (int i = 0; i < indexedKeys.size(); i++) {
+                writeString(output, indexedKeys.get(i));
+                output.writeLong(indexedOffsets.get(i));
+            }
+            output.writeLong(indexOffset);
+            output.writeInt(MAGIC);
+            output.flush();
+            fileOutputStream.getFD().sync();
+        }
+        KeyValueStore.replace(tempFile, file);
+        return open(file);
+    }
+
+    /**
+     * Opens an existing table and reads its sparse index.
+     *
+     * @param file The file of the table.
+     * @return The opened table.
+     * @throws IOException Thrown if the file cannot be read or is not a complete table.
+     */
+    static SortedTable open(File file) throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < FOOTER_LENGTH) {
+                throw new IOException("Table is too short: " + file);
+            }
+            ByteBuffer footer = ByteBuffer.allocate(FOOTER_LENGTH);
+            readFully(channel, footer, size - FOOTER_LENGTH);
+            footer.flip();
+            long indexOffset = footer.getLong();
+            if (footer.getInt() != MAGIC || indexOffset < 0 || indexOffset > size - FOOTER_LENGTH) {
+                throw new IOException("Table is not complete: " + file);
+            }
+            DataInputStream input = new DataInputStream(new PositionedInputStream(channel, indexOffset));
+            int indexCount = input.readInt();
+            String[] indexedKeys = new String[indexCount];
+            long[] indexedOffsets = new long[indexCount];
+            for (int i = 0; i < indexCount; i++) {
+                indexedKeys[i] = readString(input);
+                indexedOffsets[i] = input.readLong();
+            }
+            return new SortedTable(file, channel, indexedKeys, indexedOffsets, indexOffset);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    File getFile() {
+        return file;
+    }
+
+    /**
+     * Looks up a key.
+     *
+     * @param key The key to look up.
+     * @return The record of the key, whose value is null if the key was deleted, or null if the table does not
+     *     hold the key.
+     * @throws IOException Thrown if the table cannot be read.
+     */
+    Map.Entry<String, String> get(String key) throws IOException {
+        DataInputStream input = openRecordsFrom(key);
+        while (input != null) {
+            Map.Entry<String, String> record = readRecord(input);
+            if (record == null) {
+                return null;
+            }
+            int comparison = record.getKey().compareTo(key);
+            if (comparison == 0) {
+                return record;
+            }
+            if (comparison > 0) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds every record whose key starts with <code>prefix</code> to <code>result</code>, unless <code>result</code>
+     * already holds the key from a newer source.
+     *
+     * @param prefix The prefix of the keys.
+     * @param result The records found so far, where a null value marks a deleted key.
+     * @throws IOException Thrown if the table cannot be read.
+     */
+    void scanInto(String prefix, Map<String, String> result) throws IOException {
+        DataInputStream input = openRecordsFrom(prefix);
+        while (input != null) {
+            Map.Entry<String, String> record = readRecord(input);
+            if (record == null || record.getKey().compareTo(prefix) > 0 && !record.getKey().startsWith(prefix)) {
+                return;
+            }
+            if (record.getKey().startsWith(prefix) && !result.containsKey(record.getKey())) {
+                result.put(record.getKey(), record.getValue());
+            }
+        }
+    }
+
+    /**
+     * Adds every record of this table to <code>result</code>, unless <code>result</code> already holds the key from
+     * a newer source.
+     */
+    void readAllInto(Map<String, String> result) throws IOException {
+        scanInto("", result);
+    }
+
+    /**
+     * Opens a stream of records starting at the indexed key closest before <code>key</code>.
+     *
+     * @return The stream of records, or null if the table is empty.
+     */
+    private DataInputStream openRecordsFrom(String key) {
+        if (indexedKeys.length == 0) {
+            return null;
+        }
+        int low = 0;
+        int high = indexedKeys.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) / 2;
+            if (indexedKeys[middle].compareTo(key) <= 0) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return new DataInputStream(new PositionedInputStream(channel, indexedOffsets[low], indexOffset));
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return The record, or null at the end of the records.
+     */
+    private static Map.Entry<String, String> readRecord(DataInputStream input) throws IOException {
+        String key;
+        try {
+            key = readString(input);
+        } catch (EOFException e) {
+            return null;
+        }
+        boolean isDeleted = input.readBoolean();
+        String value = isDeleted ? null : readString(input);
+        return new AbstractMap.SimpleImmutableEntry<>(key, value);
+    }
+
+    private static void writeString(DataOutputStream output, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+    }
+
+    /** Adds a holder of this table. */
+    synchronized void retain() {
+        referenceCount++;
+    }
+
+    /** Removes a holder of this table, and deletes the table if it is obsolete and no longer held. */
+    synchronized void release() {
+        referenceCount--;
+        deleteIfUnused();
+    }
+
+    /** Marks this table as replaced by a compaction. */
+    synchronized void markObsolete() {
+        isObsolete = true;
+    }
+
+    private void deleteIfUnused() {
+        if (referenceCount > 0) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // The table is no longer read.
+        }
+        if (isObsolete) {
+            file.delete();
+        }
+    }
+
+    /**
+     * An <code>InputStream</code> over a range of a <code>FileChannel</code> which uses positioned reads, so that
+     * several streams can read the same channel at once.
+     */
+    private static class PositionedInputStream extends InputStream {
+        private static final int BUFFER_SIZE = 4096;
+
+        private final FileChannel channel;
+        private final long end;
+        private final ByteBuffer buffer;
+        private long position;
+
+        PositionedInputStream(FileChannel channel, long position) throws IOException {
+            this(channel, position, channel.size());
+        }
+
+        PositionedInputStream(FileChannel channel, long position, long end) {
+            this.channel = channel;
+            this.position = position;
+            this.end = end;
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            this.buffer.flip();
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return buffer.get() & 0xff;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        private boolean fill() throws IOException {
+            if (buffer.hasRemaining()) {
+                return true;
+            }
+            if (position >= end) {
+                return false;
+            }
+            buffer.clear();
+            buffer.limit((int) Math.min(BUFFER_SIZE, end - position));
+            int count = channel.read(buffer, position);
+            buffer.flip();
+            if (count <= 0) {
+                return false;
+            }
+            position += count;
+            return true;
+        }
+    }
+}
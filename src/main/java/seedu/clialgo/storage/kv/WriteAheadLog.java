@@ -0,0 +1,123 @@
+package seedu.clialgo.storage.kv;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+//@@author heejet
+/**
+ * A <code>WriteAheadLog</code> records every put and delete of a <code>KeyValueStore</code> that is not yet in a
+ * <code>SortedTable</code>, so that the records held in memory survive CLIAlgo stopping. Each record carries its own
+ * checksum, so a record cut short by a crash is detected and dropped when the log is replayed.
+ *
+ * <p>Every record is written as <code>CHECKSUM LENGTH IS_DELETED KEY_LENGTH KEY [VALUE_LENGTH VALUE]</code>.
+ */
+class WriteAheadLog {
+    private static final int HEADER_LENGTH = Long.BYTES + Integer.BYTES;
+
+    private final File file;
+    private FileChannel channel;
+
+    private WriteAheadLog(File file, FileChannel channel) {
+        this.file = file;
+        this.channel = channel;
+    }
+
+    /**
+     * Opens the log and replays every complete record into <code>records</code>. An incomplete record at the end of
+     * the log is cut off.
+     *
+     * @param file The file of the log, which is created if it does not exist.
+     * @param records The records held in memory, where a null value marks a deleted key.
+     * @return The opened log, ready to be appended to.
+     * @throws IOException Thrown if the log cannot be read or written.
+     */
+    static WriteAheadLog openAndReplay(File file, Map<String, String> records) throws IOException {
+        byte[] content = file.exists() ? Files.readAllBytes(file.toPath()) : new byte[0];
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        int validLength = 0;
+        while (buffer.remaining() >= HEADER_LENGTH) {
+            long checksum = buffer.getLong();
+            int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                break;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(content, buffer.position(), length);
+            if (crc.getValue() != checksum) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.wrap(content, buffer.position(), length);
+            boolean isDeleted = payload.get() != 0;
+            String key = readString(payload);
+            records.put(key, isDeleted ? null : readString(payload));
+            buffer.position(buffer.position() + length);
+            validLength = buffer.position();
+        }
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.truncate(validLength);
+        return new WriteAheadLog(file, channel);
+    }
+
+    /**
+     * Appends a put or a delete to the log.
+     *
+     * @param key The key that is changed.
+     * @param value The new value of the key, or null if the key is deleted.
+     * @throws IOException Thrown if the log cannot be written.
+     */
+    void append(String key, String value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream payload = new DataOutputStream(bytes);
+        payload.writeBoolean(value == null);
+        writeString(payload, key);
+        if (value != null) {
+            writeString(payload, value);
+        }
+        byte[] payloadBytes = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payloadBytes);
+        ByteBuffer record = ByteBuffer.allocate(HEADER_LENGTH + payloadBytes.length);
+        record.putLong(crc.getValue()).putInt(payloadBytes.length).put(payloadBytes).flip();
+        long position = channel.size();
+        while (record.hasRemaining()) {
+            position += channel.write(record, position);
+        }
+    }
+
+    /**
+     * Empties the log once its records are saved in a <code>SortedTable</code>. The file is reopened, so a log whose
+     * folder was deleted is created again.
+     *
+     * @throws IOException Thrown if the log cannot be recreated.
+     */
+    void reset() throws IOException {
+        channel.close();
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    void close() throws IOException {
+        channel.close();
+    }
+
+    private static void writeString(DataOutputStream output, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
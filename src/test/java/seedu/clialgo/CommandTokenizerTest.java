@@ -0,0 +1,68 @@
+package seedu.clialgo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author heejet
+class CommandTokenizerTest {
+    @Test
+    void constructor_commandWithDescription_expectCommandAndTrimmedDescription() {
+        CommandTokenizer tokens = new CommandTokenizer("add   n/queue t/SORTING  ");
+        assertEquals("add", tokens.getCommand());
+        assertTrue(tokens.hasDescription());
+        assertEquals(6, tokens.getDescriptionStart());
+        assertEquals(23, tokens.getDescriptionEnd());
+        assertEquals("n/queue t/SORTING", tokens.slice(tokens.getDescriptionStart(), tokens.getDescriptionEnd()));
+    }
+
+    @Test
+    void constructor_blankInput_expectNoCommand() {
+        assertNull(new CommandTokenizer(null).getCommand());
+        assertNull(new CommandTokenizer("").getCommand());
+        assertNull(new CommandTokenizer(" list").getCommand());
+        assertFalse(new CommandTokenizer("list   ").hasDescription());
+    }
+
+    /** Expects only the first occurrence of each marker to be recorded, and only if it ends before the limit. */
+    @Test
+    void getMarkerOffset_repeatedMarkers_expectFirstOffset() {
+        CommandTokenizer tokens = new CommandTokenizer("add n/a t/SORTING i/5 t/GRAPH");
+        assertEquals(4, tokens.getMarkerOffset("n/", 30));
+        assertEquals(8, tokens.getMarkerOffset("t/", 30));
+        assertEquals(18, tokens.getMarkerOffset("i/", 30));
+        assertEquals(CommandTokenizer.ABSENT, tokens.getMarkerOffset("i/", 19));
+        assertEquals(CommandTokenizer.ABSENT, tokens.getMarkerOffset("k/", 30));
+    }
+
+    /** Expects markers within the command word to be ignored. */
+    @Test
+    void getMarkerOffset_markerInCommandWord_expectAbsent() {
+        CommandTokenizer tokens = new CommandTokenizer("n/add x");
+        assertEquals(CommandTokenizer.ABSENT, tokens.getMarkerOffset("n/", 7));
+    }
+
+    @Test
+    void slice_whitespaceOnly_expectNull() {
+        CommandTokenizer tokens = new CommandTokenizer("add n/   t/x");
+        assertNull(tokens.slice(6, 9));
+        assertEquals("x", tokens.slice(11, 12));
+    }
+
+    /** Expects the same integers to be accepted as <code>Integer.parseInt</code> accepts. */
+    @Test
+    void parsePositiveInteger_variousInputs_expectParseIntResults() {
+        String input = "x 7 +7 007 -7 0 abc 2147483647 2147483648 99999999999999999999 + 1a";
+        CommandTokenizer tokens = new CommandTokenizer(input);
+        int[] expected = {7, 7, 7, -1, -1, -1, Integer.MAX_VALUE, -1, -1, -1, -1};
+        int start = 2;
+        for (int value : expected) {
+            int end = tokens.nextSpace(start, input.length());
+            assertEquals(value, tokens.parsePositiveInteger(start, end));
+            start = end + 1;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.clialgo;
+
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.file.Code;
+import seedu.clialgo.file.Note;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//@@author heejet
+class JsonUiTest {
+    @Test
+    void printWelcomeMessage_expectMessageRecord() {
+        ByteArrayOutputStream actualOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(actualOutput));
+
+        Ui ui = new JsonUi();
+        ui.printWelcomeMessage();
+
+        String expectedOutput = "{\"record\":\"message\",\"lines\":[\"Hello! Welcome to CLIAlgo Notes!\"]}"
+                + System.lineSeparator();
+        assertEquals(expectedOutput, actualOutput.toString());
+    }
+
+    @Test
+    void printHelpRemove_multipleLines_expectSingleMessageRecord() {
+        ByteArrayOutputStream actualOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(actualOutput));
+
+        Ui ui = new JsonUi();
+        ui.printHelpRemove();
+
+        String expectedOutput = "{\"record\":\"message\",\"lines\":[\"Remove a CS2040CFile using:\",\"\","
+                + "\"    `remove n/NAME`\",\"\",\"NAME: String name of the CS2040CFile file.\"]}"
+                + System.lineSeparator();
+        assertEquals(expectedOutput, actualOutput.toString());
+    }
+
+    @Test
+    void printCS2040CFile_expectEntryRecord() {
+        ByteArrayOutputStream actualOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(actualOutput));
+
+        Ui ui = new JsonUi();
+        ui.printListSuccess();
+        ui.printWithBox("SORTING");
+        ui.printCS2040CFile(1, new Code("bubble sort", "./bubble sort.cpp", "SORTING", 7));
+        ui.printDivider();
+
+        String expectedOutput = "{\"record\":\"message\",\"lines\":[\"Here are all your CS2040CFiles:\"]}"
+                + System.lineSeparator()
+                + "{\"record\":\"entry\",\"serial\":1,\"name\":\"bubble sort\",\"topic\":\"SORTING\","
+                + "\"importance\":7,\"path\":\"./bubble sort.cpp\",\"type\":\"CODE\"}"
+                + System.lineSeparator();
+        assertEquals(expectedOutput, actualOutput.toString());
+    }
+
+    @Test
+    void printAllFilesWithImportance_expectEntryRecordPerFile() {
+        ByteArrayOutputStream actualOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(actualOutput));
+
+        Ui ui = new JsonUi();
+        ArrayList<CS2040CFile> cs2040cFiles = new ArrayList<>(Arrays.asList(
+                new Note("queue", "./queue.txt", "LINKED_LIST", 9),
+                new Note("stack", "./stack.txt", "LINKED_LIST", 2)
+        ));
+        ui.printAllFilesWithImportance(cs2040cFiles, 4);
+
+        String expectedOutput = "{\"record\":\"entry\",\"serial\":4,\"name\":\"queue\",\"topic\":\"LINKED_LIST\","
+                + "\"importance\":9,\"path\":\"./queue.txt\",\"type\":\"NOTE\"}" + System.lineSeparator()
+                + "{\"record\":\"entry\",\"serial\":5,\"name\":\"stack\",\"topic\":\"LINKED_LIST\","
+                + "\"importance\":2,\"path\":\"./stack.txt\",\"type\":\"NOTE\"}" + System.lineSeparator();
+        assertEquals(expectedOutput, actualOutput.toString());
+    }
+
+    @Test
+    void printCS2040CFileCount_expectCountRecord() {
+        ByteArrayOutputStream actualOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(actualOutput));
+
+        Ui ui = new JsonUi();
+        ui.printCS2040CFileCount(3);
+
+        String expectedOutput = "{\"record\":\"count\",\"count\":3}" + System.lineSeparator();
+        assertEquals(expectedOutput, actualOutput.toString());
+    }
+
+    @Test
+    void printCS2040CFile_specialCharacters_expectEscapedString() {
+        ByteArrayOutputStream actualOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(actualOutput));
+
+        Ui ui = new JsonUi();
+        ui.printCS2040CFile(1, new Note("a\"b\\c\u0001", null, "SORTING", 5));
+
+        String expectedOutput = "{\"record\":\"entry\",\"serial\":1,\"name\":\"a\\\"b\\\\c\\u0001\","
+                + "\"topic\":\"SORTING\",\"importance\":5,\"path\":null,\"type\":\"NOTE\"}" + System.lineSeparator();
+        assertEquals(expectedOutput, actualOutput.toString());
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.clialgo;
+
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.storage.StorageType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author heejet
+class LaunchOptionsTest {
+    @Test
+    void parse_noArguments_expectDefaultOptions() {
+        LaunchOptions options = LaunchOptions.parse(new String[0]);
+        assertFalse(options.isJsonMode());
+        assertFalse(options.isServer());
+        assertFalse(options.isClient());
+        assertEquals(StorageType.FILES, options.getStorageType());
+        assertFalse(options.isProfile());
+        assertEquals(LaunchOptions.DEFAULT_PORT, options.getPort());
+    }
+
+    @Test
+    void parse_singleFile_expectSingleFileStore() {
+        assertEquals(StorageType.SINGLE_FILE, LaunchOptions.parse(new String[] {"--single-file"}).getStorageType());
+    }
+
+    @Test
+    void parse_profile_expectProfile() {
+        assertTrue(LaunchOptions.parse(new String[] {"--profile"}).isProfile());
+    }
+
+    @Test
+    void parse_storage_expectStorageType() {
+        assertEquals(StorageType.KEY_VALUE, LaunchOptions.parse(new String[] {"--storage", "kv"}).getStorageType());
+        assertEquals(StorageType.SINGLE_FILE,
+                LaunchOptions.parse(new String[] {"--storage", "single-file"}).getStorageType());
+        assertEquals(StorageType.FILES, LaunchOptions.parse(new String[] {"--storage", "tape"}).getStorageType());
+        assertEquals(StorageType.FILES, LaunchOptions.parse(new String[] {"--storage"}).getStorageType());
+    }
+
+    @Test
+    void parse_serverWithPort_expectServerOptions() {
+        LaunchOptions options = LaunchOptions.parse(new String[] {"--server", "--port", "5050", "--json"});
+        assertTrue(options.isJsonMode());
+        assertTrue(options.isServer());
+        assertFalse(options.isClient());
+        assertEquals(5050, options.getPort());
+    }
+
+    @Test
+    void parse_invalidPort_expectDefaultPort() {
+        assertEquals(LaunchOptions.DEFAULT_PORT, LaunchOptions.parse(new String[] {"--port", "abc"}).getPort());
+        assertEquals(LaunchOptions.DEFAULT_PORT, LaunchOptions.parse(new String[] {"--port", "70000"}).getPort());
+        assertEquals(LaunchOptions.DEFAULT_PORT, LaunchOptions.parse(new String[] {"--port"}).getPort());
+    }
+}
@@ -7,15 +7,23 @@ import seedu.clialgo.command.ExitCommand;
 import seedu.clialgo.command.ExitTestModeCommand;
 import seedu.clialgo.command.ExportCommand;
 import seedu.clialgo.command.FilterCommand;
+import seedu.clialgo.command.FindCommand;
 import seedu.clialgo.command.HelpCommand;
 import seedu.clialgo.command.InvalidCommand;
 import seedu.clialgo.command.InvalidImportanceCommand;
+import seedu.clialgo.command.InvalidQueryCommand;
 import seedu.clialgo.command.InvalidTopicCommand;
 import seedu.clialgo.command.ListCommand;
+import seedu.clialgo.command.Paging;
+import seedu.clialgo.command.PipelineCommand;
+import seedu.clialgo.command.PipelineStage;
 import seedu.clialgo.command.RemoveCommand;
+import seedu.clialgo.command.StatsCommand;
 import seedu.clialgo.command.TestModeCommand;
 import seedu.clialgo.command.TopoCommand;
 import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.logic.query.ImportanceQuery;
+import seedu.clialgo.logic.query.TopicQuery;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -438,4 +446,175 @@ class ParserTest {
             assertTrue(expectedOutput.equals(actualOutput));
         }
     }
+
+    @Test
+    void parse_validPaging_expectPagedCommandObject() {
+        Parser parser = new Parser();
+        TopicManager topics = new TopicManager();
+
+        assertTrue(new ListCommand(new Paging(2, 5)).equals(parser.parse("list p/2 s/5", topics)));
+        assertTrue(new ListCommand(new Paging(1, 5)).equals(parser.parse("list s/5", topics)));
+        assertTrue(new ListCommand(new Paging(3, Paging.DEFAULT_PAGE_SIZE)).equals(parser.parse("list p/3", topics)));
+        assertTrue(new ListCommand(Paging.COUNT).equals(parser.parse("list count", topics)));
+        assertTrue(new TopoCommand("linked list", new Paging(2, 1))
+                .equals(parser.parse("topo n/linked list p/2 s/1", topics)));
+        assertTrue(new TopoCommand("linked list", Paging.COUNT)
+                .equals(parser.parse("topo n/linked list count", topics)));
+        assertTrue(new FilterCommand("topic", null, new Paging(1, 3))
+                .equals(parser.parse("filter k/topic s/3", topics)));
+        assertTrue(new FilterCommand("importance", "SORTING", Paging.COUNT)
+                .equals(parser.parse("filter k/importance t/SORTING count", topics)));
+    }
+
+    @Test
+    void parse_filterImportanceRange_expectFilterCommandObject() {
+        Parser parser = new Parser();
+        TopicManager topics = new TopicManager();
+
+        assertTrue(new FilterCommand("importance", "SORTING", 7, 10, Paging.ALL)
+                .equals(parser.parse("filter k/importance i/7-10 t/SORTING", topics)));
+        assertTrue(new FilterCommand("importance", "SORTING", 7, 10, Paging.ALL)
+                .equals(parser.parse("filter k/importance t/SORTING i/7-10", topics)));
+        assertTrue(new FilterCommand("importance", null, 5, 5, new Paging(2, 3))
+                .equals(parser.parse("filter k/importance i/5 p/2 s/3", topics)));
+        assertFalse(new FilterCommand("importance", null, 5, 5, Paging.ALL)
+                .equals(parser.parse("filter k/importance i/5-6", topics)));
+    }
+
+    @Test
+    void parse_filterType_expectFilterCommandObject() {
+        Parser parser = new Parser();
+        TopicManager topics = new TopicManager();
+
+        assertTrue(new FilterCommand("type", "SORTING", Paging.ALL)
+                .equals(parser.parse("filter k/type t/SORTING", topics)));
+        assertTrue(new FilterCommand("type", null, Paging.COUNT).equals(parser.parse("filter k/type count", topics)));
+        assertTrue(new InvalidCommand().equals(parser.parse("filter k/type i/7-10", topics)));
+    }
+
+    @Test
+    void parse_filterInvalidImportanceRange_expectInvalidCommandObjects() {
+        Parser parser = new Parser();
+        TopicManager topics = new TopicManager();
+
+        assertTrue(parser.parse("filter k/importance i/0-10", topics) instanceof InvalidImportanceCommand);
+        assertTrue(parser.parse("filter k/importance i/8-7", topics) instanceof InvalidImportanceCommand);
+        assertTrue(parser.parse("filter k/importance i/7-", topics) instanceof InvalidImportanceCommand);
+        assertTrue(parser.parse("filter k/importance i/high", topics) instanceof InvalidImportanceCommand);
+        assertTrue(new InvalidCommand().equals(parser.parse("filter k/importance i/", topics)));
+        assertTrue(new InvalidCommand().equals(parser.parse("filter k/topic i/7-10", topics)));
+    }
+
+    @Test
+    void parse_invalidPaging_expectInvalidCommandObject() {
+        Parser parser = new Parser();
+        TopicManager topics = new TopicManager();
+
+        ArrayList<String> inputs = new ArrayList<>(
+                Arrays.asList("list p/0", "list s/-1", "list p/abc", "list count p/2", "list p/99999999999",
+                        "list extra", "topo n/queue p/", "filter k/topic count s/2", "filter p/2")
+        );
+
+        InvalidCommand expectedOutput = new InvalidCommand();
+
+        for (String input : inputs) {
+            Command actualOutput = parser.parse(input, topics);
+            assertTrue(expectedOutput.equals(actualOutput));
+        }
+    }
+
+    @Test
+    void parse_statsInput_expectStatsCommandObject() {
+        Parser parser = new Parser();
+        TopicManager topics = new TopicManager();
+
+        assertTrue(new StatsCommand().equals(parser.parse("stats", topics)));
+        assertTrue(new StatsCommand("metrics.csv").equals(parser.parse("stats f/metrics.csv", topics)));
+        assertFalse(new StatsCommand().equals(parser.parse("stats f/metrics.csv", topics)));
+        assertTrue(new InvalidCommand().equals(parser.parse("stats metrics.csv", topics)));
+        assertTrue(new InvalidCommand().equals(parser.parse("stats f/", topics)));
+    }
+
+    /** Expects descriptions shorter than the marker they need to be rejected instead of throwing. */
+    @Test
+    void parse_descriptionShorterThanMarker_expectInvalidCommandObject() {
+        Parser parser = new Parser();
+        TopicManager topics = new TopicManager();
+
+        ArrayList<String> inputs = new ArrayList<>(
+                Arrays.asList("remove x", "filter x", "topo x", "help x", "stats x", "add x t/SORTING")
+        );
+
+        for (String input : inputs) {
+            assertTrue(new InvalidCommand().equals(parser.parse(input, topics)));
+        }
+    }
+
+    @Test
+    void parse_pipelineInput_expectPipelineCommandObject() {
+        Parser parser = new Parser();
+        TopicManager topics = new TopicManager();
+
+        ArrayList<PipelineStage> stages = new ArrayList<>(
+                Arrays.asList(new FilterCommand("topic", "GRAPH_TRAVERSAL"), new TopoCommand(null),
+                        new ExportCommand())
+        );
+        PipelineCommand expectedOutput = new PipelineCommand(stages);
+        assertTrue(expectedOutput.equals(parser.parse("filter k/topic t/GRAPH_TRAVERSAL | topo | export", topics)));
+        assertTrue(expectedOutput.equals(parser.parse("filter k/topic t/GRAPH_TRAVERSAL  |\ttopo | export", topics)));
+
+        stages = new ArrayList<>(
+                Arrays.asList(new TopoCommand("queue"), new FilterCommand("importance", null, new Paging(2, 5)))
+        );
+        assertTrue(new PipelineCommand(stages).equals(parser.parse("topo n/queue | filter k/importance p/2 s/5",
+                topics)));
+    }
+
+    @Test
+    void parse_pipeInsideName_expectSingleCommand() {
+        Parser parser = new Parser();
+        TopicManager topics = new TopicManager();
+
+        assertTrue(new TopoCommand("a|b").equals(parser.parse("topo n/a|b", topics)));
+        assertTrue(new TopoCommand("a |b").equals(parser.parse("topo n/a |b", topics)));
+        assertTrue(new InvalidTopicCommand("GRAPH_TRAVERSAL|topo").equals(
+                parser.parse("filter k/topic t/GRAPH_TRAVERSAL|topo", topics)));
+    }
+
+    @Test
+    void parse_invalidPipelineInput_expectInvalidCommandObject() {
+        Parser parser = new Parser();
+        TopicManager topics = new TopicManager();
+
+        ArrayList<String> inputs = new ArrayList<>(
+                Arrays.asList("filter k/topic |", "filter k/topic | list", "topo | filter k/topic",
+                        "filter k/topic | export | topo", "filter k/topic p/2 | topo", "filter k/topic | | topo",
+                        "filter k/topic | export now")
+        );
+
+        for (String input : inputs) {
+            assertTrue(new InvalidCommand().equals(parser.parse(input, topics)));
+        }
+        assertTrue(new InvalidTopicCommand("FENWICK_TREE").equals(
+                parser.parse("filter k/topic | filter k/topic t/FENWICK_TREE", topics)));
+    }
+
+    @Test
+    void parse_findInput_expectFindCommandObject() {
+        Parser parser = new Parser();
+        TopicManager topics = new TopicManager();
+
+        assertTrue(new FindCommand(new TopicQuery("SORTING")).equals(parser.parse("find topic=SORTING", topics)));
+        assertTrue(new FindCommand(new ImportanceQuery(7, 10), new Paging(2, 3), false)
+                .equals(parser.parse("find importance=7-10 p/2 s/3", topics)));
+        assertTrue(new FindCommand(new TopicQuery("SORTING"), Paging.ALL, true)
+                .equals(parser.parse("find explain topic=sorting", topics)));
+        assertFalse(new FindCommand(new TopicQuery("SORTING"))
+                .equals(parser.parse("find explain topic=SORTING", topics)));
+
+        assertTrue(new InvalidCommand().equals(parser.parse("find", topics)));
+        assertTrue(new InvalidCommand().equals(parser.parse("find explain", topics)));
+        assertTrue(parser.parse("find topic=SORTING and", topics) instanceof InvalidQueryCommand);
+        assertTrue(parser.parse("find explaintopic=SORTING", topics) instanceof InvalidQueryCommand);
+    }
 }
@@ -6,15 +6,17 @@ import seedu.clialgo.Buffer;
 import seedu.clialgo.Parser;
 import seedu.clialgo.logic.TopicManager;
 import seedu.clialgo.Ui;
+import seedu.clialgo.file.Note;
 import seedu.clialgo.storage.FileManager;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.IOException;
 import java.io.PrintStream;
 import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ExitTestModeCommandTest {
     private static final String PATH = "./testdata";
@@ -73,16 +75,6 @@ public class ExitTestModeCommandTest {
         Command command = parser.parse(input, topicManager);
         command.execute(topicManager, ui, fileManager, buffer);
 
-        String pathToFile = "/test.txt";
-        File test = new File(PATH + pathToFile);
-        try {
-            if (!test.createNewFile()) {
-                System.out.println("ERROR HERE");
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-
         input = "exit-test-mode";
         command = parser.parse(input, topicManager);
         command.execute(topicManager, ui, fileManager, buffer);
@@ -96,9 +88,6 @@ public class ExitTestModeCommandTest {
                     "======================================================\r\n" +
                     "======================================================\r\n" +
                     "Ending test mode.\r\n" +
-                    "======================================================\r\n" +
-                    "======================================================\r\n" +
-                    "Successfully deleted file.\r\n" +
                     "======================================================\r\n";
         } else {
             expectedOutput = "======================================================\n" +
@@ -106,11 +95,38 @@ public class ExitTestModeCommandTest {
                     "======================================================\n" +
                     "======================================================\n" +
                     "Ending test mode.\n" +
-                    "======================================================\n" +
-                    "======================================================\n" +
-                    "Successfully deleted file.\n" +
                     "======================================================\n";
         }
         assertEquals(expectedOutput, outputStream.toString());
     }
+
+    /**
+     * Checks that CS2040CFiles stored before test mode are visible in test mode, and that changes made in test mode
+     * are discarded without touching the data files when test mode ends.
+     */
+    @Test
+    public void testMode_changesInTestMode_expectOnlyDataBeforeTestModeKept() {
+        fileManager = new FileManager(PATH, topicManager.getTopicNames());
+        fileManager.initialize();
+        Note savedNote = new Note("queue", "queue.txt", "LINKED_LIST");
+        fileManager.addEntry("queue", savedNote);
+        topicManager.addCS2040CFile("queue", "LINKED_LIST", savedNote);
+        File dataFile = new File(PATH + "/LINKED_LIST.txt");
+        long dataFileLength = dataFile.length();
+
+        new TestModeCommand().execute(topicManager, ui, fileManager, buffer);
+        assertTrue(topicManager.isRepeatedCS2040CFile("queue"));
+        new RemoveCommand("queue").execute(topicManager, ui, fileManager, buffer);
+        Note testNote = new Note("stack", "stack.txt", "LINKED_LIST");
+        fileManager.addEntry("stack", testNote);
+        topicManager.addCS2040CFile("stack", "LINKED_LIST", testNote);
+        assertFalse(topicManager.isRepeatedCS2040CFile("queue"));
+        assertEquals(dataFileLength, dataFile.length());
+
+        new ExitTestModeCommand().execute(topicManager, ui, fileManager, buffer);
+        assertTrue(topicManager.isRepeatedCS2040CFile("queue"));
+        assertFalse(topicManager.isRepeatedCS2040CFile("stack"));
+        assertEquals(dataFileLength, dataFile.length());
+        FileManager.deleteAll(new File(PATH));
+    }
 }
@@ -235,4 +235,45 @@ class FilterByImportanceCommandTest {
         assertEquals(expectedOutput, actualOutput.toString());
         FileManager.deleteAll(new File(testDataPath));
     }
+
+    @Test
+    void execute_importanceRange_expectPrintOnlyFilesInRange() {
+        TopicManager topicManager = new TopicManager();
+        CS2040CFile cs2040CFile1 = new Code("queue", "queue.cpp", "LINKED_LIST", 10);
+        CS2040CFile cs2040CFile2 = new Note("bubble", "bubble.txt", "SORTING", 5);
+        CS2040CFile cs2040CFile3 = new Note("merge", "merge.txt", "SORTING", 8);
+        topicManager.addCS2040CFile("queue", "LINKED_LIST", cs2040CFile1);
+        topicManager.addCS2040CFile("bubble", "SORTING", cs2040CFile2);
+        topicManager.addCS2040CFile("merge", "SORTING", cs2040CFile3);
+
+        String testDataPath = "./testdata";
+        Ui ui = new Ui();
+        FileManager fileManager = new FileManager(testDataPath, topicManager.getTopicNames());
+        fileManager.initialize();
+        Buffer buffer = Buffer.getInstance();
+
+        ByteArrayOutputStream actualOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(actualOutput));
+
+        new FilterByImportanceCommand("importance", null, 6, 10, Paging.ALL)
+                .execute(topicManager, ui, fileManager, buffer);
+
+        String lineSeparator = System.lineSeparator();
+        String expectedOutput = "======================================================" + lineSeparator +
+                "Here are the filtered CS2040CFiles:" + lineSeparator +
+                "======================================================" + lineSeparator +
+                "1. [CODE] queue [10]" + lineSeparator +
+                "2. [NOTE] merge [8]" + lineSeparator +
+                "======================================================" + lineSeparator;
+
+        assertEquals(expectedOutput, actualOutput.toString());
+        FileManager.deleteAll(new File(testDataPath));
+    }
+
+    @Test
+    void equals_checkUnequalImportanceRangeFilterByImportanceCommand_expectFalse() {
+        FilterByImportanceCommand myObj = new FilterByImportanceCommand("importance", null, 7, 10, Paging.ALL);
+        FilterByImportanceCommand myOtherObj = new FilterByImportanceCommand("importance", null, 1, 10, Paging.ALL);
+        assertFalse(myObj.equals(myOtherObj));
+    }
 }
@@ -0,0 +1,83 @@
+package seedu.clialgo.command;
+
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.Buffer;
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.file.Code;
+import seedu.clialgo.file.Note;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.storage.MemoryStorage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author heejet
+class FilterByTypeCommandTest {
+    private static final String DIVIDER = "======================================================";
+
+    private static String lines(String... lines) {
+        StringBuilder output = new StringBuilder();
+        for (String line : lines) {
+            output.append(line).append(System.lineSeparator());
+        }
+        return output.toString();
+    }
+
+    private static TopicManager createTopicManager() {
+        TopicManager topicManager = new TopicManager();
+        topicManager.addCS2040CFile("bubble", "SORTING", new Note("bubble", "bubble.txt", "SORTING", 3));
+        topicManager.addCS2040CFile("merge", "SORTING", new Code("merge", "merge.cpp", "SORTING", 8));
+        topicManager.addCS2040CFile("queue", "LINKED_LIST", new Note("queue", "queue.txt", "LINKED_LIST", 9));
+        return topicManager;
+    }
+
+    private static String execute(FilterByTypeCommand command, TopicManager topicManager) {
+        ByteArrayOutputStream actualOutput = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(actualOutput));
+        try {
+            command.execute(topicManager, new Ui(), new MemoryStorage(topicManager.getTopicNames()),
+                    Buffer.getInstance());
+        } finally {
+            System.setOut(originalOut);
+        }
+        return actualOutput.toString();
+    }
+
+    @Test
+    void equals_checkEqualFilterByTypeCommand_expectTrue() {
+        assertTrue(new FilterByTypeCommand("type", "SORTING").equals(new FilterByTypeCommand("type", "SORTING")));
+        assertFalse(new FilterByTypeCommand("type", "SORTING").equals(new FilterByTypeCommand("type", null)));
+    }
+
+    @Test
+    void execute_allTopics_expectCodeFilesThenNotes() {
+        TopicManager topicManager = createTopicManager();
+        List<String> notes = topicManager.streamByType(false).map(CS2040CFile::getName).collect(Collectors.toList());
+        String actualOutput = execute(new FilterByTypeCommand("type", null), topicManager);
+        assertEquals(lines(DIVIDER, "Here are the filtered CS2040CFiles:", DIVIDER, "[CODE]", "1. [CODE] merge",
+                "[NOTE]", "1. [NOTE] " + notes.get(0), "2. [NOTE] " + notes.get(1), DIVIDER), actualOutput);
+    }
+
+    @Test
+    void execute_singleTopicSecondPage_expectOnlyNotesOnPage() {
+        String actualOutput = execute(new FilterByTypeCommand("type", "SORTING", new Paging(2, 1)),
+                createTopicManager());
+        assertEquals(lines(DIVIDER, "Here are the filtered CS2040CFiles:", DIVIDER, "[NOTE]", "1. [NOTE] bubble",
+                DIVIDER), actualOutput);
+    }
+
+    @Test
+    void execute_count_expectNumberOfFilesInTopic() {
+        String actualOutput = execute(new FilterByTypeCommand("type", "SORTING", Paging.COUNT),
+                createTopicManager());
+        assertEquals(lines(DIVIDER, "There are 2 CS2040CFiles.", DIVIDER), actualOutput);
+    }
+}
@@ -7,6 +7,8 @@ import seedu.clialgo.Parser;
 import seedu.clialgo.logic.TopicManager;
 import seedu.clialgo.Ui;
 import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.storage.MemoryStorage;
+import seedu.clialgo.storage.Storage;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
@@ -22,12 +24,12 @@ public class FilterCommandTest {
     private Ui ui;
     private TopicManager topicManager;
     private Parser parser;
-    private FileManager fileManager;
+    private Storage storage;
     private Buffer buffer;
 
     /**
      * Runs before each test, initializes  <code>Ui</code>, <code>TopicManager</code>, <code>Parser</code> and
-     * <code>FileManager</code>.
+     * <code>Storage</code>.
      */
     @BeforeEach
     public void setUp() {
@@ -35,8 +37,7 @@ public class FilterCommandTest {
         parser = new Parser();
         topicManager = new TopicManager();
         ui = new Ui();
-        String path = "./testdata";
-        fileManager = new FileManager(path, new ArrayList<>());
+        storage = new MemoryStorage(topicManager.getTopicNames());
         buffer = Buffer.getInstance();
         outputStream.reset();
     }
@@ -46,7 +47,7 @@ public class FilterCommandTest {
     void isEmptyCheck_expectTrue() {
         String input = "filter k/topic";
         Command command = parser.parse(input, topicManager);
-        command.execute(topicManager, ui, fileManager, buffer);
+        command.execute(topicManager, ui, storage, buffer);
 
         input = "filter k/topic t/";
 
@@ -70,7 +71,7 @@ public class FilterCommandTest {
         for (String string : topicManager.getTopicNames()) {
             String newInput = input + string;
             command = parser.parse(newInput, topicManager);
-            command.execute(topicManager, ui, fileManager, buffer);
+            command.execute(topicManager, ui, storage, buffer);
             newExpectedOutput.append(expectedOutput);
         }
         assertEquals(newExpectedOutput.toString(), outputStream.toString());
@@ -105,12 +106,12 @@ public class FilterCommandTest {
 
         if (os.contains("Windows")) {
             expectedOutput = "======================================================\r\n" +
-                    "Invalid keyword! Only `topic` and `importance` are supported keywords.\r\n" +
+                    "Invalid keyword! Only `topic`, `importance` and `type` are supported keywords.\r\n" +
                     "Type `help c/filter for more information.\r\n" +
                     "======================================================\r\n";
         } else {
             expectedOutput = "======================================================\n" +
-                    "Invalid keyword! Only `topic` and `importance` are supported keywords.\n" +
+                    "Invalid keyword! Only `topic`, `importance` and `type` are supported keywords.\n" +
                     "Type `help c/filter for more information.\n" +
                     "======================================================\n";
         }
@@ -37,8 +37,12 @@ class HelpCommandTest {
                     "[remove]: remove CS2040CFile\r\n" +
                     "[list]: displays all CS2040CFiles\r\n" +
                     "[filter]: filters CS2040CFiles by topic\r\n" +
+                    "[find]: finds CS2040CFiles matching a query\r\n" +
                     "[topo]: displays all CS2040CFiles before the selected topic\r\n" +
                     "[export]: places CS2040CFiles sorted by filter/topo in a file\r\n" +
+                    "[undo]: reverts the last add or remove\r\n" +
+                    "[redo]: reapplies the last undone add or remove\r\n" +
+                    "[stats]: shows how long each command took to execute\r\n" +
                     "[exit]: close the application\r\n" +
                     "\r\n" +
                     "For more help on a specific command, type `help c/COMMAND_TYPE`.\r\n" +
@@ -51,8 +55,12 @@ class HelpCommandTest {
                     "[remove]: remove CS2040CFile\n" +
                     "[list]: displays all CS2040CFiles\n" +
                     "[filter]: filters CS2040CFiles by topic\n" +
+                    "[find]: finds CS2040CFiles matching a query\n" +
                     "[topo]: displays all CS2040CFiles before the selected topic\n" +
                     "[export]: places CS2040CFiles sorted by filter/topo in a file\n" +
+                    "[undo]: reverts the last add or remove\n" +
+                    "[redo]: reapplies the last undone add or remove\n" +
+                    "[stats]: shows how long each command took to execute\n" +
                     "[exit]: close the application\n" +
                     "\n" +
                     "For more help on a specific command, type `help c/COMMAND_TYPE`.\n" +
@@ -172,10 +180,14 @@ class HelpCommandTest {
             expectedOutput = "======================================================\r\n" +
                     "Filter by topic/importance and topic name using:\r\n" +
                     "\r\n" +
-                    "    `filter k/KEYWORD [t/TOPIC]`\r\n" +
+                    "    `filter k/KEYWORD [t/TOPIC] [i/LOW-HIGH] [p/PAGE] [s/SIZE]`\r\n" +
+                    "    `filter k/KEYWORD [t/TOPIC] [i/LOW-HIGH] count`\r\n" +
                     "\r\n" +
-                    "KEYWORD: String keyword has to be either `topic` or `importance`.\r\n" +
+                    "KEYWORD: String keyword has to be `topic`, `importance` or `type`.\r\n" +
                     "TOPIC: String topic chosen from list below (optional field).\r\n" +
+                    "LOW-HIGH: int range of importance, e.g. 7-10, only for `importance` (optional field).\r\n" +
+                    "PAGE: int page to display, starting from 1 (optional field).\r\n" +
+                    "SIZE: int number of CS2040CFiles per page (optional field).\r\n" +
                     "\r\n" +
                     "Valid TOPIC's are 'SORTING', 'LINKED_LIST', 'GRAPH_STRUCTURES',\r\n" +
                     "'BINARY_HEAP', 'HASH_TABLE', 'GRAPH_TRAVERSAL', 'BINARY_SEARCH_TREE',\r\n" +
@@ -185,10 +197,14 @@ class HelpCommandTest {
             expectedOutput = "======================================================\n" +
                     "Filter by topic/importance and topic name using:\n" +
                     "\n" +
-                    "    `filter k/KEYWORD [t/TOPIC]`\n" +
+                    "    `filter k/KEYWORD [t/TOPIC] [i/LOW-HIGH] [p/PAGE] [s/SIZE]`\n" +
+                    "    `filter k/KEYWORD [t/TOPIC] [i/LOW-HIGH] count`\n" +
                     "\n" +
-                    "KEYWORD: String keyword has to be either `topic` or `importance`.\n" +
+                    "KEYWORD: String keyword has to be `topic`, `importance` or `type`.\n" +
                     "TOPIC: String topic chosen from list below (optional field).\n" +
+                    "LOW-HIGH: int range of importance, e.g. 7-10, only for `importance` (optional field).\n" +
+                    "PAGE: int page to display, starting from 1 (optional field).\n" +
+                    "SIZE: int number of CS2040CFiles per page (optional field).\n" +
                     "\n" +
                     "Valid TOPIC's are 'SORTING', 'LINKED_LIST', 'GRAPH_STRUCTURES',\n" +
                     "'BINARY_HEAP', 'HASH_TABLE', 'GRAPH_TRAVERSAL', 'BINARY_SEARCH_TREE',\n" +
@@ -220,17 +236,23 @@ class HelpCommandTest {
             expectedOutput = "======================================================\r\n" +
                     "List all stored CS2040CFiles using:\r\n" +
                     "\r\n" +
-                    "    `list`\r\n" +
+                    "    `list [p/PAGE] [s/SIZE]`\r\n" +
+                    "    `list count`\r\n" +
                     "\r\n" +
-                    "Command should only contain one word (i.e. no extensions).\r\n" +
+                    "PAGE: int page to display, starting from 1 (optional field).\r\n" +
+                    "SIZE: int number of CS2040CFiles per page (optional field).\r\n" +
+                    "`count` only displays the number of CS2040CFiles.\r\n" +
                     "======================================================\r\n";
         } else {
             expectedOutput = "======================================================\n" +
                     "List all stored CS2040CFiles using:\n" +
                     "\n" +
-                    "    `list`\n" +
+                    "    `list [p/PAGE] [s/SIZE]`\n" +
+                    "    `list count`\n" +
                     "\n" +
-                    "Command should only contain one word (i.e. no extensions).\n" +
+                    "PAGE: int page to display, starting from 1 (optional field).\n" +
+                    "SIZE: int number of CS2040CFiles per page (optional field).\n" +
+                    "`count` only displays the number of CS2040CFiles.\n" +
                     "======================================================\n";
         }
 
@@ -258,17 +280,23 @@ class HelpCommandTest {
             expectedOutput = "======================================================\r\n" +
                     "Print all files before the user-defined filename using:\r\n" +
                     "\r\n" +
-                    "    `topo n/NAME`\r\n" +
+                    "    `topo n/NAME [p/PAGE] [s/SIZE]`\r\n" +
+                    "    `topo n/NAME count`\r\n" +
                     "\r\n" +
                     "NAME: String name of the CS2040CFile file.\r\n" +
+                    "PAGE: int page to display, starting from 1 (optional field).\r\n" +
+                    "SIZE: int number of CS2040CFiles per page (optional field).\r\n" +
                     "======================================================\r\n";
         } else {
             expectedOutput = "======================================================\n" +
                     "Print all files before the user-defined filename using:\n" +
                     "\n" +
-                    "    `topo n/NAME`\n" +
+                    "    `topo n/NAME [p/PAGE] [s/SIZE]`\n" +
+                    "    `topo n/NAME count`\n" +
                     "\n" +
                     "NAME: String name of the CS2040CFile file.\n" +
+                    "PAGE: int page to display, starting from 1 (optional field).\n" +
+                    "SIZE: int number of CS2040CFiles per page (optional field).\n" +
                     "======================================================\n";
         }
 
@@ -299,6 +327,10 @@ class HelpCommandTest {
                     "    `export`\r\n" +
                     "\r\n" +
                     "Command should only contain one word (i.e. no extensions).\r\n" +
+                    "\r\n" +
+                    "Chain filter and topo into export without printing using:\r\n" +
+                    "\r\n" +
+                    "    `filter k/KEYWORD [t/TOPIC] | topo [n/NAME] | export`\r\n" +
                     "======================================================\r\n";
         } else {
             expectedOutput = "======================================================\n" +
@@ -307,6 +339,10 @@ class HelpCommandTest {
                     "    `export`\n" +
                     "\n" +
                     "Command should only contain one word (i.e. no extensions).\n" +
+                    "\n" +
+                    "Chain filter and topo into export without printing using:\n" +
+                    "\n" +
+                    "    `filter k/KEYWORD [t/TOPIC] | topo [n/NAME] | export`\n" +
                     "======================================================\n";
         }
 
@@ -7,11 +7,11 @@ import seedu.clialgo.file.Note;
 import seedu.clialgo.Parser;
 import seedu.clialgo.logic.TopicManager;
 import seedu.clialgo.Ui;
-import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.storage.MemoryStorage;
+import seedu.clialgo.storage.Storage;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
-import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -20,12 +20,12 @@ public class ListCommandTest {
     private Ui ui;
     private TopicManager topicManager;
     private Parser parser;
-    private FileManager fileManager;
+    private Storage storage;
     private Buffer buffer;
 
     /**
      * Runs before each test, initializes  <code>Ui</code>, <code>TopicManager</code>, <code>Parser</code> and
-     * <code>FileManager</code>.
+     * <code>Storage</code>.
      */
     @BeforeEach
     public void setUp() {
@@ -33,7 +33,7 @@ public class ListCommandTest {
         parser = new Parser();
         topicManager = new TopicManager();
         ui = new Ui();
-        fileManager = new FileManager("./testdata", new ArrayList<>());
+        storage = new MemoryStorage(topicManager.getTopicNames());
         buffer = Buffer.getInstance();
     }
 
@@ -44,7 +44,7 @@ public class ListCommandTest {
     void isEmptyCheck_expectTrue() {
         String input = "list";
         Command command = parser.parse(input, topicManager);
-        command.execute(topicManager, ui, fileManager, buffer);
+        command.execute(topicManager, ui, storage, buffer);
 
         String os = System.getProperty("os.name");
         String expectedOutput;
@@ -73,7 +73,7 @@ public class ListCommandTest {
         Note note = new Note("test", "", "LINKED_LIST");
         topicManager.addCS2040CFile(note.getName(), note.getTopic(), note);
         Command command = parser.parse(input, topicManager);
-        command.execute(topicManager, ui, fileManager, buffer);
+        command.execute(topicManager, ui, storage, buffer);
 
         String os = System.getProperty("os.name");
         String expectedOutput;
@@ -106,7 +106,7 @@ public class ListCommandTest {
         topicManager.addCS2040CFile(note1.getName(), note1.getTopic(), note1);
         topicManager.addCS2040CFile(note2.getName(), note2.getTopic(), note2);
         Command command = parser.parse(input, topicManager);
-        command.execute(topicManager, ui, fileManager, buffer);
+        command.execute(topicManager, ui, storage, buffer);
 
         String os = System.getProperty("os.name");
         String expectedOutput;
@@ -7,11 +7,11 @@ import seedu.clialgo.Parser;
 import seedu.clialgo.logic.TopicManager;
 import seedu.clialgo.Ui;
 import seedu.clialgo.file.Note;
-import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.storage.MemoryStorage;
+import seedu.clialgo.storage.Storage;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
-import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -24,12 +24,12 @@ public class NameNotFoundCommandTest {
     private Ui ui;
     private TopicManager topicManager;
     private Parser parser;
-    private FileManager fileManager;
+    private Storage storage;
     private Buffer buffer;
 
     /**
      * Runs before each test, initializes  <code>Ui</code>, <code>TopicManager</code>, <code>Parser</code> and
-     * <code>FileManager</code>.
+     * <code>Storage</code>.
      */
     @BeforeEach
     public void setUp() {
@@ -37,7 +37,7 @@ public class NameNotFoundCommandTest {
         parser = new Parser();
         topicManager = new TopicManager();
         ui = new Ui();
-        fileManager = new FileManager("./testdata", new ArrayList<>());
+        storage = new MemoryStorage(topicManager.getTopicNames());
         buffer = Buffer.getInstance();
     }
 
@@ -50,7 +50,7 @@ public class NameNotFoundCommandTest {
                 "path", "SORTING"));
         String input = "remove n/nothing";
         Command command = parser.parse(input, topicManager);
-        command.execute(topicManager, ui, fileManager, buffer);
+        command.execute(topicManager, ui, storage, buffer);
 
         String os = System.getProperty("os.name");
         String expectedOutput;
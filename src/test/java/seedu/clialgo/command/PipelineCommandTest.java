@@ -0,0 +1,110 @@
+package seedu.clialgo.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.Buffer;
+import seedu.clialgo.Parser;
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.Note;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.storage.MemoryStorage;
+import seedu.clialgo.storage.Storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author heejet
+/** JUnit test for the <code>PipelineCommand</code> class methods. */
+class PipelineCommandTest {
+    private static final String DIVIDER = "======================================================";
+
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    private Ui ui;
+    private TopicManager topicManager;
+    private Parser parser;
+    private Storage storage;
+    private Buffer buffer;
+
+    /**
+     * Runs before each test, adds three notes to a new <code>TopicManager</code> and initializes <code>Ui</code>,
+     * <code>Parser</code> and <code>Storage</code>.
+     */
+    @BeforeEach
+    public void setUp() {
+        System.setOut(new PrintStream(outputStream));
+        parser = new Parser();
+        topicManager = new TopicManager();
+        ui = new Ui();
+        storage = new MemoryStorage(topicManager.getTopicNames());
+        buffer = Buffer.getInstance();
+        addNote("bubble", "SORTING", 3);
+        addNote("bfs", "GRAPH_TRAVERSAL", 9);
+        addNote("merge", "SORTING", 7);
+        outputStream.reset();
+    }
+
+    private void addNote(String name, String topic, int importance) {
+        topicManager.addCS2040CFile(name, topic, new Note(name, "", topic, importance));
+    }
+
+    private static String lines(String... lines) {
+        return String.join(System.lineSeparator(), lines) + System.lineSeparator();
+    }
+
+    private void execute(String input) {
+        Command command = parser.parse(input, topicManager);
+        assertTrue(command instanceof PipelineCommand);
+        command.execute(topicManager, ui, storage, buffer);
+    }
+
+    /** Expects the CS2040CFiles of a filter to be printed in topological order by a following topo stage. */
+    @Test
+    void execute_filterThenTopo_expectTopoSortOfFilteredFiles() {
+        execute("filter k/importance | topo");
+
+        String expectedOutput = lines(DIVIDER, "Here are the topologically sorted CS2040CFiles:", DIVIDER,
+                "[GRAPH_TRAVERSAL]", "1. [NOTE] bfs", "[SORTING]", "2. [NOTE] merge", "3. [NOTE] bubble", DIVIDER);
+        assertEquals(expectedOutput, outputStream.toString());
+        assertFalse(buffer.isEmpty());
+    }
+
+    /** Expects a later filter stage to narrow down and reorder the CS2040CFiles of a topo stage. */
+    @Test
+    void execute_topoThenFilter_expectFilteredTopoSort() {
+        execute("topo n/bfs | filter k/importance t/SORTING");
+
+        String expectedOutput = lines(DIVIDER, "Here are the filtered CS2040CFiles:", DIVIDER,
+                "1. [NOTE] merge [7]", "2. [NOTE] bubble [3]", DIVIDER);
+        assertEquals(expectedOutput, outputStream.toString());
+    }
+
+    /** Expects a message instead of a listing when no CS2040CFile reaches the last stage. */
+    @Test
+    void execute_noFilesLeft_expectPrintPipelineEmpty() {
+        execute("filter k/topic t/GRAPH_TRAVERSAL | topo n/merge");
+
+        String expectedOutput = lines(DIVIDER, "No CS2040CFiles are left at the end of the pipeline.", DIVIDER);
+        assertEquals(expectedOutput, outputStream.toString());
+    }
+
+    /** Expects the pipeline to stop at a topo stage that names a missing CS2040CFile. */
+    @Test
+    void execute_unknownTopoName_expectPrintFileDoesNotExist() {
+        execute("filter k/topic | topo n/quick");
+
+        String expectedOutput = lines(DIVIDER, "This file does not exist.",
+                "Please add the file into the folder and try again.", DIVIDER);
+        assertEquals(expectedOutput, outputStream.toString());
+    }
+
+    /** Expects a pipeline to be read-only unless it ends in an export. */
+    @Test
+    void isReadOnly_listingStages_expectTrueUnlessExported() {
+        assertTrue(parser.parse("filter k/topic | topo", topicManager).isReadOnly());
+        assertFalse(parser.parse("filter k/topic | topo | export", topicManager).isReadOnly());
+    }
+}
@@ -9,9 +9,6 @@ import seedu.clialgo.storage.FileManager;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.PrintStream;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -172,45 +169,19 @@ class TopoCommandTest {
 
     /**
      * Checks the <code>equals</code> method of the <code>TopoCommand</code> class.
-     * Inputs two equal <code>TopoCommand</code> objects containing a filled hashmap
+     * Inputs two equal <code>TopoCommand</code> objects selecting the same page
      * and expects the method to return true.
      */
     @Test
-    void equals_checkEqualTopoCommandWithFilledHashMap_expectTrue() {
-        String testDataPath = "./testdata";
-        TopicManager topicManager = new TopicManager();
-        Ui ui = new Ui();
-        FileManager fileManager = new FileManager(testDataPath, topicManager.getTopicNames());
-        fileManager.initialize();
-        Buffer buffer = Buffer.getInstance();
-
-        new TestModeCommand().execute(topicManager, ui, fileManager, buffer);
-
-        String actualNoteName = "queue";
-        String actualNoteTopic = "LINKED_LIST";
-        new AddCommand(actualNoteName, actualNoteTopic).execute(topicManager, ui, fileManager, buffer);
-
-        TopoCommand actualTopoCommand = new TopoCommand(actualNoteName);
-
-        actualTopoCommand.execute(topicManager, ui, fileManager, buffer);
-
-        String expectedNoteName = "queue";
-        String expectedNoteTopic = "LINKED_LIST";
-        String expectedPreviousNoteTopic = "SORTING";
-        ArrayList<String> expectedNoteList = new ArrayList<>(List.of("[NOTE] " + expectedNoteName));
-        LinkedHashMap<String, ArrayList<String>> expectedTopoSortedCS2040CFiles = new LinkedHashMap<>() {
-            {
-                put(expectedNoteTopic, expectedNoteList);
-                put(expectedPreviousNoteTopic, new ArrayList<>());
-            }
-        };
-
-        TopoCommand expectedTopoCommand = new TopoCommand(expectedNoteName, expectedTopoSortedCS2040CFiles);
-
+    void equals_checkEqualTopoCommandWithPaging_expectTrue() {
+        String actualName = "dummyName";
+        String expectedName = "dummyName";
+        TopoCommand actualTopoCommand = new TopoCommand(actualName, new Paging(2, 5));
+        TopoCommand expectedTopoCommand = new TopoCommand(expectedName, new Paging(2, 5));
         assertTrue(actualTopoCommand.equals(expectedTopoCommand));
-        FileManager.deleteAll(new File(testDataPath));
     }
 
+
     /**
      * Checks the <code>equals</code> method of the <code>TopoCommand</code> class.
      * Inputs two unequal <code>TopoCommand</code> objects with different name attributes
@@ -227,11 +198,25 @@ class TopoCommandTest {
 
     /**
      * Checks the <code>equals</code> method of the <code>TopoCommand</code> class.
-     * Inputs two unequal <code>TopoCommand</code> objects containing different topics
+     * Inputs two unequal <code>TopoCommand</code> objects selecting different pages
      * and expects the method to return false.
      */
     @Test
-    void equals_checkUnequalTopoCommandDueToDifferentTopic_expectFalse() {
+    void equals_checkUnequalPaging_expectFalse() {
+        String actualName = "dummyName";
+        String expectedName = "dummyName";
+        TopoCommand actualTopoCommand = new TopoCommand(actualName, new Paging(1, 5));
+        TopoCommand expectedTopoCommand = new TopoCommand(expectedName, Paging.COUNT);
+        assertFalse(actualTopoCommand.equals(expectedTopoCommand));
+    }
+
+    /**
+     * Checks the <code>execute</code> method of the <code>TopoCommand</code> class.
+     * Adds CS2040CFiles to two topics and expects only the topics from the topic of the target
+     * CS2040CFile onwards to be printed.
+     */
+    @Test
+    void execute_targetInLaterTopic_expectEarlierTopicsNotPrinted() {
         String testDataPath = "./testdata";
         TopicManager topicManager = new TopicManager();
         Ui ui = new Ui();
@@ -240,39 +225,32 @@ class TopoCommandTest {
         Buffer buffer = Buffer.getInstance();
 
         new TestModeCommand().execute(topicManager, ui, fileManager, buffer);
+        new AddCommand("queue", "LINKED_LIST").execute(topicManager, ui, fileManager, buffer);
+        new AddCommand("bubble sort", "SORTING").execute(topicManager, ui, fileManager, buffer);
 
-        String actualNoteName = "queue";
-        String actualNoteTopic = "SORTING";
-        new AddCommand(actualNoteName, actualNoteTopic).execute(topicManager, ui, fileManager, buffer);
-
-        TopoCommand actualTopoCommand = new TopoCommand(actualNoteName);
-
-        actualTopoCommand.execute(topicManager, ui, fileManager, buffer);
+        ByteArrayOutputStream actualOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(actualOutput));
 
-        String expectedNoteName = "queue";
-        String expectedNoteTopic = "LINKED_LIST";
-        String expectedPreviousNoteTopic = "SORTING";
-        ArrayList<String> expectedNoteList = new ArrayList<>(List.of("[NOTE] " + expectedNoteName));
-        LinkedHashMap<String, ArrayList<String>> expectedTopoSortedCS2040CFiles = new LinkedHashMap<>() {
-            {
-                put(expectedNoteTopic, expectedNoteList);
-                put(expectedPreviousNoteTopic, new ArrayList<>());
-            }
-        };
+        new TopoCommand("bubble sort").execute(topicManager, ui, fileManager, buffer);
 
-        TopoCommand expectedTopoCommand = new TopoCommand(expectedNoteName, expectedTopoSortedCS2040CFiles);
+        String expectedOutput = "======================================================" + System.lineSeparator()
+                + "Here are the topologically sorted CS2040CFiles:" + System.lineSeparator()
+                + "======================================================" + System.lineSeparator()
+                + "[SORTING]" + System.lineSeparator()
+                + "1. [NOTE] bubble sort" + System.lineSeparator()
+                + "======================================================" + System.lineSeparator();
 
-        assertFalse(actualTopoCommand.equals(expectedTopoCommand));
+        assertEquals(expectedOutput, actualOutput.toString());
         FileManager.deleteAll(new File(testDataPath));
     }
 
     /**
-     * Checks the <code>equals</code> method of the <code>TopoCommand</code> class.
-     * Inputs two unequal <code>TopoCommand</code> objects containing different <code>CS2040CFile</code>
-     * and expects the method to return false.
+     * Checks the <code>execute</code> method of the <code>TopoCommand</code> class.
+     * Selects the second page of size one and expects only the second CS2040CFile to be printed,
+     * with its serial number continuing from the first page.
      */
     @Test
-    void equals_checkUnequalTopoCommandDueToDifferentCS2040CFile_expectFalse() {
+    void execute_secondPage_expectOnlySecondPagePrinted() {
         String testDataPath = "./testdata";
         TopicManager topicManager = new TopicManager();
         Ui ui = new Ui();
@@ -281,41 +259,31 @@ class TopoCommandTest {
         Buffer buffer = Buffer.getInstance();
 
         new TestModeCommand().execute(topicManager, ui, fileManager, buffer);
+        new AddCommand("queue", "LINKED_LIST").execute(topicManager, ui, fileManager, buffer);
+        new AddCommand("bubble sort", "SORTING").execute(topicManager, ui, fileManager, buffer);
 
-        String actualNoteName = "queue";
-        String actualNoteTopic = "LINKED_LIST";
-        new AddCommand(actualNoteName, actualNoteTopic).execute(topicManager, ui, fileManager, buffer);
-
-        TopoCommand actualTopoCommand = new TopoCommand(actualNoteName);
-
-        actualTopoCommand.execute(topicManager, ui, fileManager, buffer);
+        ByteArrayOutputStream actualOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(actualOutput));
 
-        String expectedNoteName = "queue";
-        String additionalExpectedNoteName = "linked_list";
-        String expectedNoteTopic = "LINKED_LIST";
-        String expectedPreviousNoteTopic = "SORTING";
-        ArrayList<String> expectedNoteList = new ArrayList<>(List.of("[NOTE] " + expectedNoteName,
-                "[NOTE] " + additionalExpectedNoteName));
-        LinkedHashMap<String, ArrayList<String>> expectedTopoSortedCS2040CFiles = new LinkedHashMap<>() {
-            {
-                put(expectedNoteTopic, expectedNoteList);
-                put(expectedPreviousNoteTopic, new ArrayList<>());
-            }
-        };
+        new TopoCommand("queue", new Paging(2, 1)).execute(topicManager, ui, fileManager, buffer);
 
-        TopoCommand expectedTopoCommand = new TopoCommand(expectedNoteName, expectedTopoSortedCS2040CFiles);
+        String expectedOutput = "======================================================" + System.lineSeparator()
+                + "Here are the topologically sorted CS2040CFiles:" + System.lineSeparator()
+                + "======================================================" + System.lineSeparator()
+                + "[SORTING]" + System.lineSeparator()
+                + "2. [NOTE] bubble sort" + System.lineSeparator()
+                + "======================================================" + System.lineSeparator();
 
-        assertFalse(actualTopoCommand.equals(expectedTopoCommand));
+        assertEquals(expectedOutput, actualOutput.toString());
         FileManager.deleteAll(new File(testDataPath));
     }
 
     /**
-     * Checks the <code>equals</code> method of the <code>TopoCommand</code> class.
-     * Inputs two unequal <code>TopoCommand</code> objects containing unequal number
-     * of <code>CS2040CFile</code> and expects the method to return false.
+     * Checks the <code>execute</code> method of the <code>TopoCommand</code> class.
+     * Uses the count mode and expects only the number of topologically sorted CS2040CFiles to be printed.
      */
     @Test
-    void equals_checkUnequalTopoCommandDueToUnequalNumberOfCS2040CFile_expectFalse() {
+    void execute_countOnly_expectCountPrinted() {
         String testDataPath = "./testdata";
         TopicManager topicManager = new TopicManager();
         Ui ui = new Ui();
@@ -324,32 +292,19 @@ class TopoCommandTest {
         Buffer buffer = Buffer.getInstance();
 
         new TestModeCommand().execute(topicManager, ui, fileManager, buffer);
+        new AddCommand("queue", "LINKED_LIST").execute(topicManager, ui, fileManager, buffer);
+        new AddCommand("bubble sort", "SORTING").execute(topicManager, ui, fileManager, buffer);
 
-        String actualNoteName = "queue";
-        String actualNoteTopic = "LINKED_LIST";
-        new AddCommand(actualNoteName, actualNoteTopic).execute(topicManager, ui, fileManager, buffer);
-
-        String additionalNoteName = "linked_list";
-        new AddCommand(additionalNoteName, actualNoteTopic).execute(topicManager, ui, fileManager, buffer);
-
-        TopoCommand actualTopoCommand = new TopoCommand(actualNoteName);
-
-        actualTopoCommand.execute(topicManager, ui, fileManager, buffer);
+        ByteArrayOutputStream actualOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(actualOutput));
 
-        String expectedNoteName = "queue";
-        String expectedNoteTopic = "LINKED_LIST";
-        String expectedPreviousNoteTopic = "SORTING";
-        ArrayList<String> expectedNoteList = new ArrayList<>(List.of("[NOTE] " + expectedNoteName));
-        LinkedHashMap<String, ArrayList<String>> expectedTopoSortedCS2040CFiles = new LinkedHashMap<>() {
-            {
-                put(expectedNoteTopic, expectedNoteList);
-                put(expectedPreviousNoteTopic, new ArrayList<>());
-            }
-        };
+        new TopoCommand("queue", Paging.COUNT).execute(topicManager, ui, fileManager, buffer);
 
-        TopoCommand expectedTopoCommand = new TopoCommand(expectedNoteName, expectedTopoSortedCS2040CFiles);
+        String expectedOutput = "======================================================" + System.lineSeparator()
+                + "There are 2 CS2040CFiles." + System.lineSeparator()
+                + "======================================================" + System.lineSeparator();
 
-        assertFalse(actualTopoCommand.equals(expectedTopoCommand));
+        assertEquals(expectedOutput, actualOutput.toString());
         FileManager.deleteAll(new File(testDataPath));
     }
 }
@@ -0,0 +1,170 @@
+package seedu.clialgo.command;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.Buffer;
+import seedu.clialgo.Parser;
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.storage.FileManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author heejet
+class UndoCommandTest {
+    private static final String PATH = "./testdata";
+    private static final File QUEUE_NOTE = new File("./queue.txt");
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    private Ui ui;
+    private TopicManager topicManager;
+    private Parser parser;
+    private FileManager fileManager;
+    private Buffer buffer;
+    private boolean isQueueNoteCreated;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        isQueueNoteCreated = QUEUE_NOTE.createNewFile();
+        System.setOut(new PrintStream(outputStream));
+        parser = new Parser();
+        topicManager = new TopicManager();
+        ui = new Ui();
+        fileManager = new FileManager(PATH, topicManager.getTopicNames());
+        fileManager.initialize();
+        buffer = Buffer.getInstance();
+        outputStream.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        FileManager.deleteAll(new File(PATH));
+        if (isQueueNoteCreated) {
+            QUEUE_NOTE.delete();
+        }
+    }
+
+    private void execute(String input) {
+        parser.parse(input, topicManager).execute(topicManager, ui, fileManager, buffer);
+    }
+
+    /**
+     * Checks whether a CS2040CFile is stored in the data files by loading them into a new <code>TopicManager</code>.
+     */
+    private boolean isSaved(String name) {
+        FileManager reloadedFileManager = new FileManager(PATH, topicManager.getTopicNames());
+        reloadedFileManager.initialize();
+        TopicManager reloadedTopicManager = new TopicManager();
+        reloadedTopicManager.initialize(reloadedFileManager.decodeAll());
+        return reloadedTopicManager.isRepeatedCS2040CFile(name);
+    }
+
+    /** Undoes and redoes an addition and expects both the topics and the saved data to follow. */
+    @Test
+    void execute_undoAndRedoAdd_expectAdditionRevertedAndReapplied() {
+        execute("add n/queue t/LINKED_LIST");
+        File dataFile = new File(PATH + "/LINKED_LIST.txt");
+        long lengthAfterAdd = dataFile.length();
+
+        execute("undo");
+        assertFalse(topicManager.isRepeatedCS2040CFile("queue"));
+        assertFalse(isSaved("queue"));
+        assertTrue(dataFile.length() > lengthAfterAdd);
+
+        execute("redo");
+        assertTrue(topicManager.isRepeatedCS2040CFile("queue"));
+        assertTrue(isSaved("queue"));
+    }
+
+    /** Undoes a removal and expects the removed CS2040CFile to be restored with its topic. */
+    @Test
+    void execute_undoRemove_expectCS2040CFileRestored() {
+        execute("add n/queue t/LINKED_LIST");
+        execute("remove n/queue");
+        assertFalse(isSaved("queue"));
+
+        execute("undo");
+        assertTrue(topicManager.getOneTopic("LINKED_LIST").isInsideTopic("queue"));
+        assertTrue(isSaved("queue"));
+
+        execute("undo");
+        assertFalse(topicManager.isRepeatedCS2040CFile("queue"));
+        assertFalse(isSaved("queue"));
+    }
+
+    /** Expects nothing to be undone or redone before any change and after test mode starts. */
+    @Test
+    void execute_noChanges_expectNothingToUndoOrRedo() {
+        execute("undo");
+        execute("redo");
+        assertTrue(outputStream.toString().contains("There is nothing to undo."));
+        assertTrue(outputStream.toString().contains("There is nothing to redo."));
+
+        execute("add n/queue t/LINKED_LIST");
+        execute("start-test-mode");
+        outputStream.reset();
+        execute("undo");
+        assertTrue(outputStream.toString().contains("There is nothing to undo."));
+        assertTrue(topicManager.isRepeatedCS2040CFile("queue"));
+        execute("exit-test-mode");
+    }
+
+    /** Expects a change whose inverse cannot be applied to stay undoable and not to become redoable. */
+    @Test
+    void execute_undoNotApplied_expectChangeStillUndoable() {
+        execute("add n/queue t/LINKED_LIST");
+        topicManager.removeCS2040CFile("queue", "LINKED_LIST");
+
+        execute("undo");
+        outputStream.reset();
+        execute("redo");
+        assertTrue(outputStream.toString().contains("There is nothing to redo."));
+        assertEquals("queue", fileManager.getJournal().peekUndo().getName());
+    }
+
+    /** Expects undo and redo whose change cannot be saved to leave the topics and the journal as they were. */
+    @Test
+    void execute_changeNotSaved_expectTopicsAndJournalUnchanged() {
+        boolean[] isSaveFailing = {false};
+        fileManager = new FileManager(PATH, topicManager.getTopicNames()) {
+            @Override
+            public synchronized boolean addEntry(String name, CS2040CFile cs2040cFile) {
+                return !isSaveFailing[0] && super.addEntry(name, cs2040cFile);
+            }
+
+            @Override
+            public synchronized boolean appendRemoval(String cs2040cFileName, String topicName) {
+                return !isSaveFailing[0] && super.appendRemoval(cs2040cFileName, topicName);
+            }
+        };
+        fileManager.initialize();
+        execute("add n/queue t/LINKED_LIST");
+
+        isSaveFailing[0] = true;
+        execute("undo");
+        assertTrue(topicManager.getOneTopic("LINKED_LIST").isInsideTopic("queue"));
+        assertEquals("queue", fileManager.getJournal().peekUndo().getName());
+
+        isSaveFailing[0] = false;
+        execute("undo");
+        assertFalse(topicManager.isRepeatedCS2040CFile("queue"));
+
+        isSaveFailing[0] = true;
+        execute("redo");
+        assertFalse(topicManager.isRepeatedCS2040CFile("queue"));
+        assertEquals("queue", fileManager.getJournal().peekRedo().getName());
+
+        isSaveFailing[0] = false;
+        execute("redo");
+        assertTrue(topicManager.getOneTopic("LINKED_LIST").isInsideTopic("queue"));
+        assertTrue(isSaved("queue"));
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.clialgo.file;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author heejet
+class StringPoolTest {
+    @Test
+    void canonicalize_equalStrings_expectSameInstance() {
+        String first = new String("SORTING");
+        String second = new String("SORTING");
+        assertSame(StringPool.canonicalize(first), StringPool.canonicalize(second));
+        assertNull(StringPool.canonicalize(null));
+    }
+
+    @Test
+    void constructor_decodedFields_expectTopicsAndDirectoriesShared() {
+        String[] firstFields = "queue@&notes/week1/queue.txt@&LINKED_LIST@&5".split("@&", 4);
+        String[] secondFields = "stack@&notes/week1/stack.cpp@&LINKED_LIST@&7".split("@&", 4);
+        Note queue = new Note(firstFields[0], firstFields[1], firstFields[2], 5);
+        Code stack = new Code(secondFields[0], secondFields[1], secondFields[2], 7);
+
+        assertSame(queue.getTopic(), stack.getTopic());
+        assertEquals("notes/week1/queue.txt", queue.getPath());
+        assertEquals("notes/week1/stack.cpp", stack.getPath());
+    }
+
+    @Test
+    void setPath_pathsWithAndWithoutDirectory_expectSamePathBack() {
+        Note note = new Note("queue", "queue.txt", "LINKED_LIST");
+        assertEquals("queue.txt", note.getPath());
+        note.setPath("notes\\queue.txt");
+        assertEquals("notes\\queue.txt", note.getPath());
+        note.setPath(null);
+        assertNull(note.getPath());
+    }
+
+    @Test
+    void canonicalize_copyOfTopicName_expectTopicNameConstant() {
+        assertSame("MINIMUM_SPANNING_TREE", StringPool.canonicalize(new String("MINIMUM_SPANNING_TREE")));
+    }
+
+    /**
+     * Decodes many entries sharing a few directories, expecting the pool to grow by one string per directory, and
+     * then drops them, expecting the directories to leave the pool.
+     */
+    @Test
+    void constructor_manyEntriesThenDropped_expectOneDirectoryEachAndDirectoriesReleased() {
+        String folder = "notes/" + System.nanoTime() + "/week";
+        int sizeBefore = StringPool.size();
+        ArrayList<Note> notes = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            String[] fields = ("note" + i + "@&" + folder + (i % 4) + "/note" + i + ".txt@&SORTING@&5").split("@&", 4);
+            notes.add(new Note(fields[0], fields[1], fields[2], 5));
+        }
+        assertTrue(StringPool.size() - sizeBefore <= 4);
+        for (Note note : notes) {
+            assertSame("SORTING", note.getTopic());
+        }
+
+        WeakReference<String> directory = new WeakReference<>(StringPool.canonicalize(folder + "0/"));
+        assertSame(directory.get(), StringPool.canonicalize(new String(folder + "0/")));
+        notes = null;
+        for (int i = 0; i < 50 && directory.get() != null; i++) {
+            System.gc();
+        }
+        assertNull(directory.get());
+        String newDirectory = new String(folder + "0/");
+        assertSame(newDirectory, StringPool.canonicalize(newDirectory));
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.clialgo.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author heejet
+class PersistentMapTest {
+    /** Keys that all have the same hash code, so they end below the last level of the trie. */
+    private static final String[] COLLIDING_KEYS = {"AaAa", "AaBB", "BBAa", "BBBB"};
+
+    @Test
+    void plusAndMinus_randomChanges_expectSameEntriesAsHashMap() {
+        Random random = new Random(2040);
+        HashMap<String, Integer> expected = new HashMap<>();
+        PersistentMap<String, Integer> map = PersistentMap.empty();
+        for (int i = 0; i < 20000; i++) {
+            String key = random.nextInt(8) == 0
+                    ? COLLIDING_KEYS[random.nextInt(COLLIDING_KEYS.length)]
+                    : "key" + random.nextInt(5000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.minus(key);
+            } else {
+                expected.put(key, i);
+                map = map.plus(key, i);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        for (String key : expected.keySet()) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+        assertNull(map.get("missing"));
+        assertEquals(expected, PersistentMap.copyOf(expected));
+    }
+
+    @Test
+    void plus_afterCopy_expectOriginalUnchanged() {
+        PersistentMap<String, Integer> original = PersistentMap.empty();
+        for (int i = 0; i < 1000; i++) {
+            original = original.plus("key" + i, i);
+        }
+        PersistentMap<String, Integer> changed = original.plus("key0", -1).minus("key1").plus("extra", 0);
+
+        assertEquals(0, (int) original.get("key0"));
+        assertTrue(original.containsKey("key1"));
+        assertFalse(original.containsKey("extra"));
+        assertEquals(1000, original.size());
+        assertEquals(-1, (int) changed.get("key0"));
+        assertFalse(changed.containsKey("key1"));
+        assertEquals(1000, changed.size());
+        assertSame(original, original.minus("missing"));
+        assertSame(original, original.plus("key5", original.get("key5")));
+    }
+
+    @Test
+    void minus_collidingKeys_expectOtherKeysKept() {
+        PersistentMap<String, Integer> map = PersistentMap.empty();
+        for (int i = 0; i < COLLIDING_KEYS.length; i++) {
+            map = map.plus(COLLIDING_KEYS[i], i);
+        }
+        map = map.minus(COLLIDING_KEYS[0]).minus(COLLIDING_KEYS[2]);
+
+        assertEquals(2, map.size());
+        assertEquals(1, (int) map.get(COLLIDING_KEYS[1]));
+        assertEquals(3, (int) map.get(COLLIDING_KEYS[3]));
+        assertFalse(map.containsKey(COLLIDING_KEYS[0]));
+        assertTrue(map.minus(COLLIDING_KEYS[1]).minus(COLLIDING_KEYS[3]).isEmpty());
+    }
+
+    @Test
+    void spliterator_splitRepeatedly_expectEveryValueOnceInIterationOrder() {
+        HashMap<String, Integer> entries = new HashMap<>();
+        for (int i = 0; i < 50000; i++) {
+            entries.put("key" + i, i);
+        }
+        PersistentMap<String, Integer> map = PersistentMap.copyOf(entries);
+        ArrayList<Integer> iterated = new ArrayList<>(map.values());
+
+        ArrayList<Spliterator<Integer>> parts = new ArrayList<>();
+        parts.add(map.values().spliterator());
+        for (int round = 0; round < 6; round++) {
+            ArrayList<Spliterator<Integer>> splitParts = new ArrayList<>();
+            for (Spliterator<Integer> part : parts) {
+                Spliterator<Integer> prefix = part.trySplit();
+                if (prefix != null) {
+                    splitParts.add(prefix);
+                }
+                splitParts.add(part);
+            }
+            parts = splitParts;
+        }
+        assertTrue(parts.size() > 16);
+
+        ArrayList<Integer> joined = new ArrayList<>();
+        long estimatedSize = 0;
+        for (Spliterator<Integer> part : parts) {
+            estimatedSize += part.estimateSize();
+            part.forEachRemaining(joined::add);
+        }
+        assertEquals(50000, estimatedSize);
+        assertEquals(iterated, joined);
+        assertEquals(50000, new HashSet<>(joined).size());
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.clialgo.logic;
+
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.file.Note;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author heejet
+class TopicManagerConcurrencyTest {
+    private static final int WRITER_COUNT = 4;
+    private static final int READER_COUNT = 4;
+    private static final int FILES_PER_WRITER = 400;
+
+    private static String getName(int writer, int index) {
+        return "writer" + writer + " file" + index;
+    }
+
+    /**
+     * Checks that every <code>Topic</code> returned by the <code>TopicManager</code> only holds CS2040CFiles tagged to
+     * that topic.
+     */
+    private static void checkTopics(TopicManager topicManager) {
+        for (Map.Entry<String, Topic> entry : topicManager.getTopics().entrySet()) {
+            Topic topic = entry.getValue();
+            assertEquals(entry.getKey(), topic.getTopicName());
+            int count = 0;
+            for (CS2040CFile cs2040cFile : topic.getCS2040CFiles()) {
+                assertEquals(topic.getTopicName(), cs2040cFile.getTopic());
+                count++;
+            }
+            assertEquals(topic.size(), count);
+        }
+    }
+
+    /**
+     * Adds and removes CS2040CFiles from several threads while other threads list, filter and topologically sort the
+     * CS2040CFiles. Expects readers to only see consistent topics and the final state to contain exactly the
+     * CS2040CFiles that were not removed.
+     */
+    @Test
+    void addAndRemove_concurrentReadersAndWriters_expectConsistentState() throws InterruptedException {
+        TopicManager topicManager = new TopicManager();
+        ArrayList<String> topicNames = topicManager.getTopicNames();
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ArrayList<Thread> writers = new ArrayList<>();
+        ArrayList<Thread> readers = new ArrayList<>();
+
+        for (int writer = 0; writer < WRITER_COUNT; writer++) {
+            int writerIndex = writer;
+            writers.add(new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < FILES_PER_WRITER; i++) {
+                        String name = getName(writerIndex, i);
+                        String topicName = topicNames.get(i % topicNames.size());
+                        assertTrue(topicManager.addCS2040CFile(name, topicName, new Note(name, name, topicName)));
+                        if (i % 2 == 0) {
+                            assertTrue(topicManager.removeCS2040CFile(name, topicName));
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }));
+        }
+        for (int reader = 0; reader < READER_COUNT; reader++) {
+            readers.add(new Thread(() -> {
+                try {
+                    start.await();
+                    while (isWriting.get()) {
+                        checkTopics(topicManager);
+                        for (CS2040CFile cs2040cFile : topicManager.getAllFilesAsFiles()) {
+                            assertTrue(topicManager.getTopicNames().contains(cs2040cFile.getTopic()));
+                        }
+                        topicManager.getTopicsInTopoOrderFrom(getName(0, 1));
+                        topicManager.getAllCS2040CFiles();
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }));
+        }
+
+        writers.forEach(Thread::start);
+        readers.forEach(Thread::start);
+        start.countDown();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        isWriting.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertNull(failure.get());
+        assertEquals(WRITER_COUNT * FILES_PER_WRITER / 2, topicManager.size());
+        checkTopics(topicManager);
+        for (int writer = 0; writer < WRITER_COUNT; writer++) {
+            for (int i = 0; i < FILES_PER_WRITER; i++) {
+                String name = getName(writer, i);
+                if (i % 2 == 0) {
+                    assertFalse(topicManager.isRepeatedCS2040CFile(name));
+                } else {
+                    assertEquals(topicNames.get(i % topicNames.size()), topicManager.getTopicOfCS2040CFile(name));
+                }
+            }
+        }
+    }
+
+    /**
+     * Keeps a <code>Topic</code> obtained before a CS2040CFile is added and expects it to be unchanged afterwards.
+     */
+    @Test
+    void getOneTopic_addAfterRead_expectEarlierTopicUnchanged() {
+        TopicManager topicManager = new TopicManager();
+        Topic topicBeforeAdd = topicManager.getOneTopic("SORTING");
+
+        topicManager.addCS2040CFile("bubble sort", "SORTING", new Note("bubble sort", "dummy", "SORTING"));
+
+        assertTrue(topicBeforeAdd.isEmpty());
+        assertTrue(topicManager.getOneTopic("SORTING").isInsideTopic("bubble sort"));
+    }
+}
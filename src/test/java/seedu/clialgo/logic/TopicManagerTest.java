@@ -2,10 +2,16 @@ package seedu.clialgo.logic;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import seedu.clialgo.file.CS2040CFile;
@@ -254,8 +260,8 @@ class TopicManagerTest {
         assertEquals(expectedOutcomeForLinkedList, topicManager.getCS2040CFilesByTopicToPrint("LINKED_LIST"));
 
         ArrayList<String> expectedOutcomeForSorting = new ArrayList<>();
-        expectedOutcomeForSorting.add("[NOTE] bubble sort");
         expectedOutcomeForSorting.add("[NOTE] merge sort");
+        expectedOutcomeForSorting.add("[NOTE] bubble sort");
         assertEquals(expectedOutcomeForSorting, topicManager.getCS2040CFilesByTopicToPrint("SORTING"));
     }
 
@@ -340,4 +346,77 @@ class TopicManagerTest {
             assertTrue(fileManagerStub.isFileNamePresent(file.getName()));
         }
     }
+
+    //@@author heejet
+    private TopicManager createTopicManagerWithNotes(int count) {
+        TopicManager topicManager = new TopicManager();
+        ArrayList<String> topicNames = topicManager.getTopicNames();
+        for (int i = 0; i < count; i++) {
+            String topicName = topicNames.get(i % topicNames.size());
+            topicManager.addCS2040CFile("note" + i, topicName, new Note("note" + i, "note" + i + ".txt", topicName));
+        }
+        return topicManager;
+    }
+
+    /** Expects a view of all CS2040CFiles to keep its size and contents after the <code>TopicManager</code> changes. */
+    @Test
+    void getAllFiles_changedAfterwards_expectViewUnchanged() {
+        TopicManager topicManager = createTopicManagerWithNotes(25);
+        Collection<CS2040CFile> view = topicManager.getAllFiles();
+        topicManager.addCS2040CFile("late", "SORTING", new Note("late", "late.txt", "SORTING"));
+        topicManager.removeCS2040CFile("note0", "SORTING");
+
+        assertEquals(25, view.size());
+        Set<String> names = view.stream().map(CS2040CFile::getName).collect(Collectors.toSet());
+        assertTrue(names.contains("note0"));
+        assertFalse(names.contains("late"));
+        assertEquals(25, topicManager.getAllFiles().size());
+    }
+
+    /** Expects a parallel stream and a fully split spliterator to visit every CS2040CFile exactly once. */
+    @Test
+    void streamAllFiles_parallel_expectEveryFileOnce() {
+        TopicManager topicManager = createTopicManagerWithNotes(1000);
+        List<String> names = topicManager.streamAllFiles().parallel().map(CS2040CFile::getName)
+                .sorted().collect(Collectors.toList());
+        assertEquals(1000, names.size());
+        assertEquals(1000, new HashSet<>(names).size());
+
+        Spliterator<CS2040CFile> spliterator = topicManager.getAllFiles().spliterator();
+        assertEquals(1000, spliterator.getExactSizeIfKnown());
+        ArrayList<Spliterator<CS2040CFile>> parts = new ArrayList<>(List.of(spliterator));
+        for (int i = 0; i < parts.size(); i++) {
+            Spliterator<CS2040CFile> prefix = parts.get(i).trySplit();
+            if (prefix != null) {
+                parts.add(prefix);
+                i--;
+            }
+        }
+        HashSet<String> splitNames = new HashSet<>();
+        int[] count = new int[1];
+        for (Spliterator<CS2040CFile> part : parts) {
+            part.forEachRemaining(cs2040cFile -> {
+                splitNames.add(cs2040cFile.getName());
+                count[0]++;
+            });
+        }
+        assertEquals(1000, count[0]);
+        assertEquals(1000, splitNames.size());
+    }
+
+    /** Expects filtering above the parallel threshold to keep the same CS2040CFiles in the same order as a scan. */
+    @Test
+    void filterFiles_aboveParallelThreshold_expectSequentialOrder() {
+        TopicManager topicManager = createTopicManagerWithNotes(3 * ParallelFilter.SEQUENTIAL_THRESHOLD);
+        Predicate<CS2040CFile> isKept = cs2040cFile -> cs2040cFile.getName().endsWith("7");
+
+        List<CS2040CFile> expected = topicManager.streamAllFiles().filter(isKept).collect(Collectors.toList());
+        assertEquals(expected, topicManager.filterFiles(isKept));
+        assertEquals(expected, topicManager.filterByType(false, isKept));
+        assertTrue(topicManager.filterByType(true, isKept).isEmpty());
+
+        Topic sorting = topicManager.getOneTopic("SORTING");
+        assertEquals(sorting.getCS2040CFiles().stream().filter(isKept).collect(Collectors.toList()),
+                sorting.filter(isKept));
+    }
 }
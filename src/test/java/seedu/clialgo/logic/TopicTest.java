@@ -1,11 +1,13 @@
 package seedu.clialgo.logic;
 
 import org.junit.jupiter.api.Test;
+import seedu.clialgo.file.Code;
 import seedu.clialgo.file.Note;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -54,7 +56,7 @@ class TopicTest {
         testNotesHashmap.put(testNoteName, testNote);
 
         Topic testTopic = new Topic(testTopicName);
-        testTopic.addCS2040CFile(testNoteName, testNote);
+        testTopic = testTopic.withCS2040CFile(testNoteName, testNote);
 
         assertEquals(testTopic.getC2040CFiles(), testNotesHashmap);
     }
@@ -73,7 +75,7 @@ class TopicTest {
         String topicName = "LINKED_LIST";
         String path = "dummy";
         Note note = new Note(noteName, path, topicName);
-        topic.getC2040CFiles().put(noteName, note);
+        topic = topic.withCS2040CFile(noteName, note);
         assertFalse(topic.isEmpty());
     }
 
@@ -84,7 +86,7 @@ class TopicTest {
         String topicName = "LINKED_LIST";
         String path = "dummy";
         Note note = new Note(noteName, path, topicName);
-        topic.getC2040CFiles().put(noteName, note);
+        topic = topic.withCS2040CFile(noteName, note);
         assertTrue(topic.isInsideTopic(noteName));
     }
 
@@ -105,8 +107,8 @@ class TopicTest {
         String topicName = "LINKED_LIST";
         Note note1 = new Note(noteName1, path1, topicName);
         Note note2 = new Note(noteName2, path2, topicName);
-        topic.getC2040CFiles().put(noteName1, note1);
-        topic.getC2040CFiles().put(noteName2, note2);
+        topic = topic.withCS2040CFile(noteName1, note1);
+        topic = topic.withCS2040CFile(noteName2, note2);
 
         HashMap<String, Note> expectedOutcome = new HashMap<>();
         expectedOutcome.put(noteName1, note1);
@@ -138,19 +140,19 @@ class TopicTest {
         Note note2 = new Note(noteName2, path2, topicName);
         Note note3 = new Note(noteName3, path3, topicName);
         Note note4 = new Note(noteName4, path4, topicName);
-        topic.getC2040CFiles().put(noteName1, note1);
-        topic.getC2040CFiles().put(noteName2, note2);
-        topic.getC2040CFiles().put(noteName3, note3);
-        topic.getC2040CFiles().put(noteName4, note4);
+        topic = topic.withCS2040CFile(noteName1, note1);
+        topic = topic.withCS2040CFile(noteName2, note2);
+        topic = topic.withCS2040CFile(noteName3, note3);
+        topic = topic.withCS2040CFile(noteName4, note4);
 
         ArrayList<String> expectedOutcome = new ArrayList<>(Arrays.asList("[NOTE] " + noteName2,
-                "[NOTE] " + noteName3, "[NOTE] " + noteName4, "[NOTE] " + noteName1));
+                "[NOTE] " + noteName4, "[NOTE] " + noteName3, "[NOTE] " + noteName1));
 
         assertEquals(expectedOutcome, topic.getAllCS2040CFilesInTopicToPrint());
     }
 
     @Test
-    void removeNote_inputValidNoteName_expectTrue() {
+    void withoutCS2040CFile_inputValidNoteNames_expectNotesRemoved() {
         String topicName = "LINKED_LIST";
         Topic topic = new Topic(topicName);
         String noteName1 = "queue";
@@ -162,12 +164,53 @@ class TopicTest {
         Note note1 = new Note(noteName1, path1, topicName);
         Note note2 = new Note(noteName2, path2, topicName);
         Note note3 = new Note(noteName3, path3, topicName);
-        topic.getC2040CFiles().put(noteName1, note1);
-        topic.getC2040CFiles().put(noteName2, note2);
-        topic.getC2040CFiles().put(noteName3, note3);
-        assertTrue(topic.removeCS2040CFile(noteName1));
-        assertTrue(topic.removeCS2040CFile(noteName2));
-        assertTrue(topic.removeCS2040CFile(noteName3));
+        topic = topic.withCS2040CFile(noteName1, note1);
+        topic = topic.withCS2040CFile(noteName2, note2);
+        topic = topic.withCS2040CFile(noteName3, note3);
+        topic = topic.withoutCS2040CFile(noteName1);
+        assertFalse(topic.isInsideTopic(noteName1));
+        topic = topic.withoutCS2040CFile(noteName2);
+        topic = topic.withoutCS2040CFile(noteName3);
+        assertTrue(topic.isEmpty());
+    }
+    @Test
+    void streamByImportance_filesAddedAndRemoved_expectFilesInRangeByDecreasingImportance() {
+        String topicName = "SORTING";
+        Topic topic = new Topic(topicName);
+        Note bubble = new Note("bubble", "dummy1", topicName, 3);
+        Note merge = new Note("merge", "dummy2", topicName, 9);
+        Note quick = new Note("quick", "dummy3", topicName, 7);
+        Note radix = new Note("radix", "dummy4", topicName, 10);
+        topic = topic.withCS2040CFile("bubble", bubble);
+        topic = topic.withCS2040CFile("merge", merge);
+        topic = topic.withCS2040CFile("quick", quick);
+        topic = topic.withCS2040CFile("radix", radix);
+        topic = topic.withoutCS2040CFile("radix");
+
+        assertEquals(Arrays.asList(merge, quick), topic.streamByImportance(7, 10).collect(Collectors.toList()));
+        assertEquals(2, topic.countByImportance(7, 10));
+        assertEquals(0, topic.countByImportance(4, 6));
+
+        Note replacedMerge = new Note("merge", "dummy2", topicName, 1);
+        topic = topic.withCS2040CFile("merge", replacedMerge);
+        assertEquals(Arrays.asList(quick, bubble, replacedMerge),
+                topic.streamByImportance(1, 10).collect(Collectors.toList()));
+    }
+    @Test
+    void getCS2040CFilesOfType_filesAddedReplacedAndRemoved_expectOnlyFilesOfType() {
+        String topicName = "SORTING";
+        Topic topic = new Topic(topicName);
+        Code merge = new Code("merge", "merge.cpp", topicName, 8);
+        topic = topic.withCS2040CFile("bubble", new Note("bubble", "bubble.txt", topicName, 3));
+        topic = topic.withCS2040CFile("merge", merge);
+        topic = topic.withCS2040CFile("quick", new Note("quick", "quick.txt", topicName, 7));
+        topic = topic.withCS2040CFile("bubble", new Code("bubble", "bubble.cpp", topicName, 3));
+        topic = topic.withoutCS2040CFile("quick");
+
+        assertEquals(2, topic.countOfType(true));
+        assertEquals(0, topic.countOfType(false));
+        assertTrue(topic.getCS2040CFilesOfType(true).contains(merge));
+        assertEquals("[CODE] merge", merge.getLabel());
     }
     //@@author
 }
@@ -0,0 +1,48 @@
+package seedu.clialgo.logic.query;
+
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.exceptions.parser.InvalidQueryException;
+import seedu.clialgo.logic.TopicManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+//@@author heejet
+/** JUnit test for the <code>QueryParser</code> class methods. */
+class QueryParserTest {
+    private final TopicManager topicManager = new TopicManager();
+
+    /** Expects <code>not</code> to bind tighter than <code>and</code>, which binds tighter than <code>or</code>. */
+    @Test
+    void parse_mixedOperators_expectPrecedenceRespected() throws InvalidQueryException {
+        assertEquals("(topic=SORTING or (importance=7-10 and not type=code))",
+                QueryParser.parse("topic=SORTING or importance=7-10 and not type=code", topicManager).toString());
+        assertEquals("((topic=SORTING or importance=7) and not type=code)",
+                QueryParser.parse("(topic=SORTING OR importance=7) AND NOT type=code", topicManager).toString());
+    }
+
+    /** Expects conditions without an operator in between to be combined with <code>and</code>. */
+    @Test
+    void parse_adjacentConditions_expectAndQuery() throws InvalidQueryException {
+        assertEquals("(topic=LINKED_LIST and name=que* and path=*.cpp)",
+                QueryParser.parse("topic=linked_list name=que* path=*.cpp", topicManager).toString());
+        assertEquals("not not type=note", QueryParser.parse("not not (type=NOTE)", topicManager).toString());
+    }
+
+    /** Expects queries that do not follow the query language to be rejected with a reason. */
+    @Test
+    void parse_invalidQuery_expectInvalidQueryException() {
+        ArrayList<String> inputs = new ArrayList<>(
+                Arrays.asList("", "  ", "topic=SORTING and", "(topic=SORTING", "topic=SORTING)", "topic=FENWICK_TREE",
+                        "importance=0", "importance=11", "importance=8-7", "importance=high", "type=video",
+                        "colour=red", "name=", "=SORTING", "sorting", "topic=SORTING or or type=code", "()")
+        );
+
+        for (String input : inputs) {
+            assertThrows(InvalidQueryException.class, () -> QueryParser.parse(input, topicManager));
+        }
+    }
+}
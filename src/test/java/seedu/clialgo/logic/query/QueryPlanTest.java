@@ -0,0 +1,84 @@
+package seedu.clialgo.logic.query;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.exceptions.parser.InvalidQueryException;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.file.Code;
+import seedu.clialgo.file.Note;
+import seedu.clialgo.logic.TopicManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//@@author heejet
+/** JUnit test for the plans of <code>Query</code> objects. */
+class QueryPlanTest {
+    private TopicManager topicManager;
+
+    /** Runs before each test, adds four CS2040CFiles to a new <code>TopicManager</code>. */
+    @BeforeEach
+    public void setUp() {
+        topicManager = new TopicManager();
+        add(new Note("bubble", "bubble.txt", "SORTING", 3));
+        add(new Code("merge", "merge.cpp", "SORTING", 8));
+        add(new Note("queue", "queue.txt", "LINKED_LIST", 9));
+        add(new Note("bfs", "bfs.txt", "GRAPH_TRAVERSAL", 6));
+    }
+
+    private void add(CS2040CFile cs2040cFile) {
+        topicManager.addCS2040CFile(cs2040cFile.getName(), cs2040cFile.getTopic(), cs2040cFile);
+    }
+
+    private List<String> find(String query) throws InvalidQueryException {
+        return QueryParser.parse(query, topicManager).plan(topicManager).stream()
+                .map(CS2040CFile::getName).sorted().collect(Collectors.toList());
+    }
+
+    private List<String> explain(String query) throws InvalidQueryException {
+        return QueryParser.parse(query, topicManager).plan(topicManager).explain();
+    }
+
+    /** Expects every kind of condition to find exactly the CS2040CFiles satisfying it. */
+    @Test
+    void stream_eachCondition_expectMatchingFiles() throws InvalidQueryException {
+        assertEquals(Arrays.asList("bubble", "merge"), find("topic=SORTING"));
+        assertEquals(Arrays.asList("merge", "queue"), find("importance=8-10"));
+        assertEquals(Arrays.asList("merge"), find("type=code"));
+        assertEquals(Arrays.asList("queue"), find("name=QUEUE"));
+        assertEquals(Arrays.asList("bfs", "bubble"), find("name=b*"));
+        assertEquals(Arrays.asList("bfs", "bubble", "queue"), find("path=*.txt"));
+        assertEquals(Arrays.asList("bfs", "queue"), find("not topic=SORTING"));
+        assertEquals(new ArrayList<String>(), find("name=quick"));
+    }
+
+    /** Expects a CS2040CFile found through several indexes of a union to be found only once. */
+    @Test
+    void stream_overlappingUnion_expectNoDuplicates() throws InvalidQueryException {
+        assertEquals(Arrays.asList("bubble", "merge", "queue"), find("topic=SORTING or name=merge or name=queue"));
+    }
+
+    /** Expects the most selective index of an <code>and</code> to be read, with the rest checked as a filter. */
+    @Test
+    void explain_andQuery_expectMostSelectiveIndex() throws InvalidQueryException {
+        assertEquals(Arrays.asList("filter topic=SORTING (at most 1)", "  index lookup name=merge (at most 1)"),
+                explain("topic=SORTING and name=merge"));
+        assertEquals(Arrays.asList("filter importance=1-10 (at most 1)",
+                "  index scan topic=LINKED_LIST (at most 1)"), explain("importance=1-10 topic=LINKED_LIST"));
+    }
+
+    /** Expects an <code>or</code> to use indexes only if every query in it can use one. */
+    @Test
+    void explain_orQuery_expectUnionOrFullScan() throws InvalidQueryException {
+        assertEquals(Arrays.asList("union (at most 3)", "  index scan topic=SORTING (at most 2)",
+                "  index scan topic=LINKED_LIST (at most 1)"), explain("topic=SORTING or topic=LINKED_LIST"));
+        assertEquals(Arrays.asList("union (at most 3)", "  index scan topic=SORTING (at most 2)",
+                "  index scan type=code (at most 1)"), explain("topic=SORTING or type=code"));
+        assertEquals(Arrays.asList("filter (topic=SORTING or path=*.cpp) (at most 4)",
+                "  scan all CS2040CFiles (at most 4)"), explain("topic=SORTING or path=*.cpp"));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.clialgo.profile;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author heejet
+class LatencyHistogramTest {
+    /** Expects every value to fall in a bucket whose highest value is within 1/16 above it. */
+    @Test
+    void getBucket_values_expectBucketWithinOneSixteenth() {
+        long[] values = {0, 1, 15, 16, 17, 31, 32, 1000, 123_456_789L, Long.MAX_VALUE / 3};
+        for (long value : values) {
+            long highestValue = LatencyHistogram.getHighestValue(LatencyHistogram.getBucket(value));
+            assertTrue(highestValue >= value);
+            assertTrue(highestValue - value <= value / 16);
+        }
+    }
+
+    /** Expects buckets to be ordered like the values they hold. */
+    @Test
+    void getBucket_increasingValues_expectIncreasingBuckets() {
+        int previousBucket = -1;
+        for (long value = 0; value < 100_000; value += 7) {
+            int bucket = LatencyHistogram.getBucket(value);
+            assertTrue(bucket >= previousBucket);
+            previousBucket = bucket;
+        }
+    }
+
+    @Test
+    void getPercentile_recordedValues_expectApproximatePercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1000);
+        }
+        assertEquals(1000, histogram.getTotalCount());
+        assertEquals(1_000_000, histogram.getMaxValue());
+        assertEquals(500_500, histogram.getMean());
+        long median = histogram.getPercentile(50);
+        assertTrue(median >= 500_000 && median <= 500_000 + 500_000 / 16);
+        assertEquals(1_000_000, histogram.getPercentile(100));
+    }
+
+    @Test
+    void getPercentile_noValues_expectZero() {
+        assertEquals(0, new LatencyHistogram().getPercentile(99));
+    }
+
+    @Test
+    void copy_laterRecording_expectCopyUnchanged() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(5);
+        LatencyHistogram copy = histogram.copy();
+        histogram.record(10);
+        assertEquals(1, copy.getTotalCount());
+        assertEquals(5, copy.getMaxValue());
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.clialgo.profile;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author heejet
+class MetricsRegistryTest {
+    private static final String DUMP_PATH = "./metrics-test.csv";
+
+    /** Clears what other tests, such as those of the server, recorded in the shared registry. */
+    @BeforeEach
+    void setUp() {
+        MetricsRegistry.getInstance().clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MetricsRegistry.getInstance().clear();
+        MetricsRegistry.getInstance().setDumpFile(null);
+        new File(DUMP_PATH).delete();
+    }
+
+    /** Expects executions to be recorded per name, with the I/O operations counted within them. */
+    @Test
+    void measure_executions_expectStatsPerName() {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        registry.measure("ListCommand", () -> MetricsRegistry.countIoOperations(2));
+        registry.measure("ListCommand", () -> MetricsRegistry.countIoOperations(1));
+        registry.measure("AddCommand", () -> { });
+        MetricsRegistry.countIoOperations(5);
+
+        List<CommandStats> allStats = registry.getAllStats();
+        assertEquals(2, allStats.size());
+        assertEquals("AddCommand", allStats.get(0).getCommandName());
+        assertEquals(1, allStats.get(0).getLatencies().getTotalCount());
+        assertEquals(0, allStats.get(0).getIoOperations());
+        assertEquals("ListCommand", allStats.get(1).getCommandName());
+        assertEquals(2, allStats.get(1).getLatencies().getTotalCount());
+        assertEquals(3, allStats.get(1).getIoOperations());
+    }
+
+    /** Expects an execution that throws to still be recorded. */
+    @Test
+    void measure_throwingExecution_expectRecorded() {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        assertThrows(IllegalStateException.class, () -> registry.measure("FailingCommand", () -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(1, registry.getAllStats().get(0).getLatencies().getTotalCount());
+    }
+
+    @Test
+    void dumpIfRequested_dumpFileSet_expectCsvWritten() throws IOException {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        registry.measure("ListCommand", () -> MetricsRegistry.countIoOperations(1));
+        registry.setDumpFile(new File(DUMP_PATH));
+        registry.dumpIfRequested();
+
+        List<String> lines = Files.readAllLines(new File(DUMP_PATH).toPath(), StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertEquals("command,count,p50_ms,p90_ms,p99_ms,max_ms,mean_allocated_bytes,io_operations", lines.get(0));
+        assertTrue(lines.get(1).startsWith("ListCommand,1,"));
+        assertTrue(lines.get(1).endsWith(",1"));
+    }
+
+    @Test
+    void dumpIfRequested_noDumpFile_expectNothingWritten() throws IOException {
+        MetricsRegistry.getInstance().dumpIfRequested();
+        assertFalse(new File(DUMP_PATH).exists());
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.clialgo.profile;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author heejet
+class StartupProfileTest {
+    @AfterEach
+    void tearDown() {
+        StartupProfile.disable();
+    }
+
+    /** Expects a nested phase to be kept after its parent, with the counts made within it. */
+    @Test
+    void startPhase_nestedPhases_expectDepthAndCounts() {
+        StartupProfile.enable();
+        StartupPhase outer = StartupProfile.startPhase("outer");
+        StartupProfile.countBytes(10);
+        StartupPhase inner = StartupProfile.startPhase("inner");
+        StartupProfile.countRecords(2);
+        StartupProfile.countStatCalls(3);
+        inner.finish();
+        outer.finish();
+        List<StartupPhase> phases = StartupProfile.getPhases();
+        assertEquals(2, phases.size());
+        assertEquals("outer", phases.get(0).getName());
+        assertEquals(0, phases.get(0).getDepth());
+        assertEquals(10, phases.get(0).getBytes());
+        assertEquals(2, phases.get(0).getRecords());
+        assertEquals("inner", phases.get(1).getName());
+        assertEquals(1, phases.get(1).getDepth());
+        assertEquals(0, phases.get(1).getBytes());
+        assertEquals(3, phases.get(1).getStatCalls());
+        assertTrue(phases.get(0).getDurationNanos() >= phases.get(1).getDurationNanos());
+    }
+
+    @Test
+    void startPhase_notEnabled_expectNoPhasesKept() {
+        StartupPhase phase = StartupProfile.startPhase("phase");
+        StartupProfile.countRecords(1);
+        phase.finish();
+        assertTrue(StartupProfile.getPhases().isEmpty());
+    }
+
+    /** Expects phases started once startup is over, such as when a folder is recreated, not to be kept. */
+    @Test
+    void startPhase_afterEndStartup_expectNoPhasesKept() {
+        StartupProfile.enable();
+        StartupProfile.endStartup();
+        StartupProfile.startPhase("FileManager.createFolder").finish();
+        assertTrue(StartupProfile.getPhases().isEmpty());
+    }
+}
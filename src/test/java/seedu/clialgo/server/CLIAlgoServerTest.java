@@ -0,0 +1,108 @@
+package seedu.clialgo.server;
+
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.Parser;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.storage.FileManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//@@author heejet
+class CLIAlgoServerTest {
+    private static final String DIVIDER = "======================================================";
+
+    /**
+     * Sends the given commands to the server as a single client and returns everything the server sent back.
+     */
+    private String sendCommands(ServerSocket serverSocket, String commands) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort())) {
+            OutputStream output = socket.getOutputStream();
+            output.write(commands.getBytes(StandardCharsets.UTF_8));
+            output.flush();
+            socket.shutdownOutput();
+            return new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void serve_commandsFromTwoClients_expectSharedTopicManager() throws IOException, InterruptedException {
+        String testDataPath = "./testdata";
+        TopicManager topicManager = new TopicManager();
+        FileManager fileManager = new FileManager(testDataPath, topicManager.getTopicNames());
+        fileManager.initialize();
+        CLIAlgoServer server = new CLIAlgoServer(topicManager, fileManager, new Parser(), false);
+
+        ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread serverThread = new Thread(() -> server.serve(serverSocket));
+        serverThread.start();
+
+        String firstOutput = sendCommands(serverSocket, "start-test-mode\nadd n/queue t/LINKED_LIST\nexit\nlist\n");
+        String secondOutput = sendCommands(serverSocket, "list count\n");
+
+        serverSocket.close();
+        serverThread.join();
+
+        String newLine = System.lineSeparator();
+        String expectedFirstOutput = DIVIDER + newLine
+                + "Hello! Welcome to CLIAlgo Notes!" + newLine
+                + DIVIDER + newLine
+                + DIVIDER + newLine
+                + "Test mode cannot be started or exited while CLIAlgo is serving commands." + newLine
+                + "It would stop or start saving the changes of every connected client." + newLine
+                + DIVIDER + newLine
+                + DIVIDER + newLine
+                + "Successfully added queue into LINKED_LIST." + newLine
+                + DIVIDER + newLine
+                + DIVIDER + newLine
+                + "Thank you for using CLIAlgo! Study hard!" + newLine
+                + DIVIDER + newLine;
+        String expectedSecondOutput = DIVIDER + newLine
+                + "Hello! Welcome to CLIAlgo Notes!" + newLine
+                + DIVIDER + newLine
+                + DIVIDER + newLine
+                + "There is 1 CS2040CFile." + newLine
+                + DIVIDER + newLine;
+
+        assertEquals(expectedFirstOutput, firstOutput);
+        assertEquals(expectedSecondOutput, secondOutput);
+        FileManager.deleteAll(new File(testDataPath));
+    }
+
+    @Test
+    void serve_filterThenExportFromAnotherClient_expectEmptyBuffer() throws IOException, InterruptedException {
+        String testDataPath = "./testdata";
+        TopicManager topicManager = new TopicManager();
+        FileManager fileManager = new FileManager(testDataPath, topicManager.getTopicNames());
+        fileManager.initialize();
+        CLIAlgoServer server = new CLIAlgoServer(topicManager, fileManager, new Parser(), false);
+
+        ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread serverThread = new Thread(() -> server.serve(serverSocket));
+        serverThread.start();
+
+        sendCommands(serverSocket, "add n/queue t/LINKED_LIST\nfilter k/topic\n");
+        String secondOutput = sendCommands(serverSocket, "export\n");
+
+        serverSocket.close();
+        serverThread.join();
+
+        String newLine = System.lineSeparator();
+        String expectedSecondOutput = DIVIDER + newLine
+                + "Hello! Welcome to CLIAlgo Notes!" + newLine
+                + DIVIDER + newLine
+                + DIVIDER + newLine
+                + "You have no CS2040CFiles in the buffer." + newLine
+                + DIVIDER + newLine;
+
+        assertEquals(expectedSecondOutput, secondOutput);
+        FileManager.deleteAll(new File(testDataPath));
+    }
+}
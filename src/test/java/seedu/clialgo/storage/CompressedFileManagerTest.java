@@ -0,0 +1,149 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.file.Note;
+import seedu.clialgo.logic.Topic;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author heejet
+class CompressedFileManagerTest {
+    private static final String PATH = "./compressedtest";
+    private static final String LONG_FOLDER = "/home/student/modules/cs2040c/lecture-notes/week-05/";
+    private static final ArrayList<String> TOPIC_NAMES = new ArrayList<>(List.of("SORTING", "LINKED_LIST"));
+    private static final String[] NOTE_NAMES = {"zip1", "zip2", "zip3"};
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        System.setOut(new PrintStream(outputStream));
+        for (String name : NOTE_NAMES) {
+            new File("./" + name + ".txt").createNewFile();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String name : NOTE_NAMES) {
+            new File("./" + name + ".txt").delete();
+        }
+        FileManager.deleteAll(new File(PATH));
+    }
+
+    private static CompressedFileManager load() {
+        CompressedFileManager fileManager = new CompressedFileManager(PATH, TOPIC_NAMES);
+        fileManager.initialize();
+        return fileManager;
+    }
+
+    private static Note createNote(String name, String topic) {
+        return new Note(name, LONG_FOLDER + name + ".txt", topic, 5);
+    }
+
+    @Test
+    void initialize_afterAddAndRemove_expectSameEntriesLoaded() {
+        CompressedFileManager fileManager = load();
+        assertTrue(fileManager.addEntry("zip1", createNote("zip1", "SORTING")));
+        assertTrue(fileManager.addEntry("zip2", createNote("zip2", "LINKED_LIST")));
+        assertTrue(fileManager.addEntry("zip3", createNote("zip3", "LINKED_LIST")));
+        assertTrue(fileManager.deleteEntry("zip2", "LINKED_LIST"));
+
+        HashMap<String, Topic> topics = load().decodeAll();
+        assertTrue(topics.get("SORTING").isInsideTopic("zip1"));
+        assertFalse(topics.get("LINKED_LIST").isInsideTopic("zip2"));
+        assertTrue(topics.get("LINKED_LIST").isInsideTopic("zip3"));
+        assertEquals(LONG_FOLDER + "zip3.txt", topics.get("LINKED_LIST").getCS2040CFilesAsArray().get(0).getPath());
+    }
+
+    /** Expects a file of many entries sharing a folder to take far less space than the .txt file would. */
+    @Test
+    void addEntry_manyEntriesSharingFolder_expectSmallerThanTextFile() {
+        CompressedFileManager fileManager = load();
+        FileEncoder encoder = new FileEncoder("&@");
+        long textLength = 0;
+        for (int i = 0; i < 300; i++) {
+            Note note = createNote("zip1", "SORTING");
+            fileManager.addEntry("zip1", note);
+            textLength += encoder.encodeCS2040CFile("zip1", note).length() + 1;
+        }
+        assertTrue(new File(PATH + "/SORTING" + CompressedFileManager.COMPRESSED_FILE_EXTENSION).length()
+                < textLength / 4);
+        assertTrue(load().decodeAll().get("SORTING").isInsideTopic("zip1"));
+    }
+
+    /** Expects a file edited many times to stay smaller than the .txt file of the same entries. */
+    @Test
+    void addEntryAndDeleteEntry_manyEdits_expectSmallerThanTextFile() throws IOException {
+        CompressedFileManager fileManager = load();
+        FileEncoder encoder = new FileEncoder("&@");
+        File file = new File(PATH + "/SORTING" + CompressedFileManager.COMPRESSED_FILE_EXTENSION);
+        try {
+            for (int i = 0; i < 100; i++) {
+                new File("./note" + i + ".txt").createNewFile();
+                fileManager.addEntry("note" + i, createNote("note" + i, "SORTING"));
+            }
+            for (int i = 0; i < 2000; i++) {
+                String name = "note" + (i % 100);
+                if (i % 2 == 0) {
+                    fileManager.deleteEntry(name, "SORTING");
+                } else {
+                    fileManager.addEntry(name, createNote(name, "SORTING"));
+                }
+                long textLength = 0;
+                for (CS2040CFile cs2040cFile : fileManager.decodeAll().get("SORTING").getCS2040CFilesAsArray()) {
+                    textLength += encoder.encodeCS2040CFile(cs2040cFile.getName(), cs2040cFile).length() + 1;
+                }
+                assertTrue(file.length() < textLength / 2);
+            }
+            assertEquals(50, load().decodeAll().get("SORTING").getCS2040CFilesAsArray().size());
+        } finally {
+            for (int i = 0; i < 100; i++) {
+                new File("./note" + i + ".txt").delete();
+            }
+        }
+    }
+
+    /** Cuts the last block short and expects the entries of the earlier blocks to be kept. */
+    @Test
+    void initialize_tornLastBlock_expectEarlierEntriesKept() throws IOException {
+        CompressedFileManager fileManager = load();
+        fileManager.addEntry("zip1", createNote("zip1", "SORTING"));
+        fileManager.addEntry("zip3", createNote("zip3", "SORTING"));
+        File file = new File(PATH + "/SORTING" + CompressedFileManager.COMPRESSED_FILE_EXTENSION);
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(randomAccessFile.length() - 5);
+        }
+
+        HashMap<String, Topic> topics = load().decodeAll();
+        assertTrue(topics.get("SORTING").isInsideTopic("zip1"));
+        assertFalse(topics.get("SORTING").isInsideTopic("zip3"));
+        assertTrue(load().decodeAll().get("SORTING").isInsideTopic("zip1"));
+    }
+
+    @Test
+    void initialize_existingTopicFiles_expectEntriesImported() throws IOException {
+        new File(PATH).mkdirs();
+        FileEncoder encoder = new FileEncoder("&@");
+        Files.write(new File(PATH + "/SORTING.txt").toPath(),
+                List.of(encoder.encodeCS2040CFile("zip1", createNote("zip1", "SORTING"))), StandardCharsets.UTF_8);
+
+        assertTrue(load().decodeAll().get("SORTING").isInsideTopic("zip1"));
+        assertTrue(new File(PATH + "/SORTING" + CompressedFileManager.COMPRESSED_FILE_EXTENSION).exists());
+    }
+}
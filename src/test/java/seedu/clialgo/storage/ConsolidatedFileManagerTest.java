@@ -0,0 +1,164 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.file.Note;
+import seedu.clialgo.logic.Topic;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author heejet
+class ConsolidatedFileManagerTest {
+    private static final String PATH = "./storetest";
+    private static final ArrayList<String> TOPIC_NAMES = new ArrayList<>(List.of("SORTING", "LINKED_LIST"));
+    private static final String[] NOTE_NAMES = {"store1", "store2", "store3"};
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        System.setOut(new PrintStream(outputStream));
+        for (String name : NOTE_NAMES) {
+            new File("./" + name + ".txt").createNewFile();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String name : NOTE_NAMES) {
+            new File("./" + name + ".txt").delete();
+        }
+        FileManager.deleteAll(new File(PATH));
+    }
+
+    private static ConsolidatedFileManager load() {
+        ConsolidatedFileManager fileManager = new ConsolidatedFileManager(PATH, TOPIC_NAMES);
+        fileManager.initialize();
+        return fileManager;
+    }
+
+    private static Note createNote(String name, String topic) {
+        return new Note(name, name + ".txt", topic, 5);
+    }
+
+    /** Adds and removes entries and expects a new <code>ConsolidatedFileManager</code> to load the same entries. */
+    @Test
+    void initialize_afterAddAndRemove_expectSameEntriesLoaded() {
+        ConsolidatedFileManager fileManager = load();
+        assertTrue(fileManager.addEntry("store1", createNote("store1", "SORTING")));
+        assertTrue(fileManager.addEntry("store2", createNote("store2", "LINKED_LIST")));
+        assertTrue(fileManager.addEntry("store3", createNote("store3", "LINKED_LIST")));
+        assertTrue(fileManager.deleteEntry("store2", "LINKED_LIST"));
+
+        HashMap<String, Topic> topics = load().decodeAll();
+        assertTrue(topics.get("SORTING").isInsideTopic("store1"));
+        assertFalse(topics.get("LINKED_LIST").isInsideTopic("store2"));
+        assertTrue(topics.get("LINKED_LIST").isInsideTopic("store3"));
+        assertEquals(1, new File(PATH).list().length);
+    }
+
+    /**
+     * Adds and then removes enough entries for the write-ahead region to be folded into the sections during the last
+     * change of each, and expects the change that caused the compaction to be loaded again too.
+     */
+    @Test
+    void initialize_afterChangesCausingCompaction_expectEveryChangeLoaded() throws IOException {
+        int entryCount = 257;
+        try {
+            ConsolidatedFileManager fileManager = load();
+            for (int i = 0; i < entryCount; i++) {
+                new File("./many" + i + ".txt").createNewFile();
+                assertTrue(fileManager.addEntry("many" + i, createNote("many" + i, "SORTING")));
+            }
+            Topic sorting = load().decodeAll().get("SORTING");
+            assertEquals(entryCount, sorting.getCS2040CFilesAsArray().size());
+            assertTrue(sorting.isInsideTopic("many" + (entryCount - 1)));
+
+            for (int i = 0; i < entryCount; i++) {
+                assertTrue(fileManager.deleteEntry("many" + i, "SORTING"));
+            }
+            assertTrue(load().decodeAll().get("SORTING").isEmpty());
+        } finally {
+            for (int i = 0; i < entryCount; i++) {
+                new File("./many" + i + ".txt").delete();
+            }
+        }
+    }
+
+    /** Empties a topic and expects it to stay empty, both in memory and after loading the data file again. */
+    @Test
+    void deleteAllEntry_thenInitialize_expectTopicStillEmpty() {
+        ConsolidatedFileManager fileManager = load();
+        assertTrue(fileManager.addEntry("store1", createNote("store1", "SORTING")));
+        assertTrue(fileManager.addEntry("store2", createNote("store2", "SORTING")));
+        assertTrue(fileManager.addEntry("store3", createNote("store3", "LINKED_LIST")));
+        fileManager.deleteAllEntry("SORTING");
+
+        assertTrue(fileManager.decodeAll().get("SORTING").isEmpty());
+        HashMap<String, Topic> topics = load().decodeAll();
+        assertTrue(topics.get("SORTING").isEmpty());
+        assertTrue(topics.get("LINKED_LIST").isInsideTopic("store3"));
+    }
+
+    /** Expects a single topic to be read from its section and the changes made after the last compaction. */
+    @Test
+    void readTopic_sectionAndChanges_expectOnlyThatTopic() throws IOException {
+        ConsolidatedFileManager fileManager = load();
+        fileManager.addEntry("store1", createNote("store1", "SORTING"));
+        fileManager.addEntry("store2", createNote("store2", "LINKED_LIST"));
+
+        ConsolidatedFileManager reloadedFileManager = load();
+        reloadedFileManager.addEntry("store3", createNote("store3", "SORTING"));
+        Topic sorting = reloadedFileManager.readTopic("SORTING");
+        assertEquals(2, sorting.size());
+        assertTrue(sorting.isInsideTopic("store1"));
+        assertTrue(sorting.isInsideTopic("store3"));
+        assertEquals(1, reloadedFileManager.readTopic("LINKED_LIST").size());
+    }
+
+    /** Expects the entries saved in one .txt file per topic to be imported into the single data file. */
+    @Test
+    void initialize_topicFilesOnly_expectEntriesImported() {
+        FileManager topicFileManager = new FileManager(PATH, TOPIC_NAMES);
+        topicFileManager.initialize();
+        topicFileManager.addEntry("store1", createNote("store1", "SORTING"));
+
+        load();
+        assertTrue(new File(PATH + "/" + ConsolidatedFileManager.STORE_FILE_NAME).isFile());
+        new File(PATH + "/SORTING.txt").delete();
+        assertTrue(load().decodeAll().get("SORTING").isInsideTopic("store1"));
+    }
+
+    /** Cuts the last change short and expects it to be quarantined while earlier changes are kept. */
+    @Test
+    void initialize_tornLastChange_expectEarlierChangesKept() throws IOException {
+        ConsolidatedFileManager fileManager = load();
+        fileManager.addEntry("store1", createNote("store1", "SORTING"));
+        fileManager.addEntry("store2", createNote("store2", "SORTING"));
+        File storeFile = new File(PATH + "/" + ConsolidatedFileManager.STORE_FILE_NAME);
+        byte[] content = Files.readAllBytes(storeFile.toPath());
+        Files.write(storeFile.toPath(), Arrays.copyOf(content, content.length - 3),
+                StandardOpenOption.TRUNCATE_EXISTING);
+
+        HashMap<String, Topic> topics = load().decodeAll();
+        assertTrue(topics.get("SORTING").isInsideTopic("store1"));
+        assertFalse(topics.get("SORTING").isInsideTopic("store2"));
+        assertTrue(outputStream.toString().contains("clialgo.dat was not completely saved"));
+        assertEquals(1, Files.readAllLines(new File(storeFile.getPath() + ".corrupted").toPath(),
+                StandardCharsets.UTF_8).size());
+    }
+}
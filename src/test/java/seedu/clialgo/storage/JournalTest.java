@@ -0,0 +1,135 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.file.Code;
+import seedu.clialgo.file.Note;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author heejet
+class JournalTest {
+    private static final File SPILL_FILE = new File("./journal-test.txt");
+    private static final String SEPARATOR = "&@";
+    private static final int MAX_ENTRIES_IN_MEMORY = 4;
+
+    @AfterEach
+    void tearDown() {
+        SPILL_FILE.delete();
+    }
+
+    private static JournalEntry createEntry(int index) {
+        String name = "file" + index;
+        if (index % 2 == 0) {
+            return JournalEntry.ofAdd(name, new Note(name, name + ".txt", "SORTING", index % 10));
+        }
+        return JournalEntry.ofRemove(name, new Code(name, name + ".cpp", "GRAPH_STRUCTURES", index % 10));
+    }
+
+    /** Undoes the most recent change as <code>UndoCommand</code> does once its inverse has been applied. */
+    private static JournalEntry undo(Journal journal) {
+        JournalEntry entry = journal.peekUndo();
+        journal.markUndone(entry);
+        return entry;
+    }
+
+    /** Redoes the most recently undone change as <code>RedoCommand</code> does once it has been applied. */
+    private static JournalEntry redo(Journal journal) {
+        JournalEntry entry = journal.peekRedo();
+        journal.markRedone(entry);
+        return entry;
+    }
+
+    /**
+     * Records more entries than fit in memory and expects all of them to be undone in reverse order, with the older
+     * ones read back from the spill file.
+     */
+    @Test
+    void undo_moreEntriesThanMemoryLimit_expectAllUndoneInReverseOrder() {
+        Journal journal = new Journal(SPILL_FILE, SEPARATOR, MAX_ENTRIES_IN_MEMORY);
+        int entryCount = 11;
+        for (int i = 0; i < entryCount; i++) {
+            journal.record(createEntry(i));
+            assertTrue(journal.getEntriesInMemory() <= MAX_ENTRIES_IN_MEMORY);
+        }
+        assertTrue(SPILL_FILE.exists());
+
+        for (int i = entryCount - 1; i >= 0; i--) {
+            JournalEntry entry = undo(journal);
+            JournalEntry expectedEntry = createEntry(i);
+            assertEquals(expectedEntry.getName(), entry.getName());
+            assertEquals(expectedEntry.isAdd(), entry.isAdd());
+            assertEquals(expectedEntry.getCS2040CFile().getPath(), entry.getCS2040CFile().getPath());
+            assertEquals(expectedEntry.getCS2040CFile().getTopic(), entry.getCS2040CFile().getTopic());
+            assertEquals(expectedEntry.getCS2040CFile().getImportance(), entry.getCS2040CFile().getImportance());
+            assertEquals(expectedEntry.getCS2040CFile() instanceof Code, entry.getCS2040CFile() instanceof Code);
+            assertTrue(journal.getEntriesInMemory() <= 2 * MAX_ENTRIES_IN_MEMORY);
+        }
+        assertNull(undo(journal));
+    }
+
+    /** Undoes an entry, records a new one and expects the undone entry to no longer be redoable. */
+    @Test
+    void redo_recordAfterUndo_expectNothingToRedo() {
+        Journal journal = new Journal(SPILL_FILE, SEPARATOR, MAX_ENTRIES_IN_MEMORY);
+        journal.record(createEntry(0));
+        journal.record(createEntry(1));
+
+        assertEquals("file1", undo(journal).getName());
+        assertEquals("file1", redo(journal).getName());
+        assertNull(redo(journal));
+        assertEquals("file1", undo(journal).getName());
+        journal.record(createEntry(2));
+        assertNull(redo(journal));
+        assertEquals("file2", undo(journal).getName());
+        assertEquals("file0", undo(journal).getName());
+    }
+
+    /** Spills entries and expects <code>clear</code> to forget all of them and delete the spill file. */
+    @Test
+    void clear_spilledEntries_expectNothingToUndo() {
+        Journal journal = new Journal(SPILL_FILE, SEPARATOR, MAX_ENTRIES_IN_MEMORY);
+        for (int i = 0; i < 2 * MAX_ENTRIES_IN_MEMORY; i++) {
+            journal.record(createEntry(i));
+        }
+        journal.clear();
+
+        assertFalse(SPILL_FILE.exists());
+        assertNull(undo(journal));
+        assertNull(redo(journal));
+    }
+
+    /** Peeks at a change without marking it undone and expects it to stay undoable and not become redoable. */
+    @Test
+    void peekUndo_notMarkedUndone_expectStillUndoable() {
+        Journal journal = new Journal(SPILL_FILE, SEPARATOR, MAX_ENTRIES_IN_MEMORY);
+        journal.record(createEntry(0));
+
+        assertEquals("file0", journal.peekUndo().getName());
+        assertNull(journal.peekRedo());
+        assertEquals("file0", undo(journal).getName());
+        assertNull(journal.peekUndo());
+    }
+
+    /** Spills more entries than the spill file holds and expects only the newest of them to stay undoable. */
+    @Test
+    void record_moreEntriesThanSpillLimit_expectOldestDropped() {
+        int maxSpilledEntries = 6;
+        Journal journal = new Journal(SPILL_FILE, SEPARATOR, MAX_ENTRIES_IN_MEMORY, maxSpilledEntries);
+        int entryCount = 20;
+        for (int i = 0; i < entryCount; i++) {
+            journal.record(createEntry(i));
+        }
+        int undoneCount = 0;
+        while (undo(journal) != null) {
+            undoneCount++;
+        }
+        assertTrue(undoneCount <= MAX_ENTRIES_IN_MEMORY + maxSpilledEntries);
+        assertTrue(undoneCount >= MAX_ENTRIES_IN_MEMORY + maxSpilledEntries / 2);
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.file.Note;
+import seedu.clialgo.logic.Topic;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author heejet
+class KeyValueFileManagerTest {
+    private static final String PATH = "./kvstoretest";
+    private static final ArrayList<String> TOPIC_NAMES = new ArrayList<>(List.of("SORTING", "LINKED_LIST"));
+    private static final String[] NOTE_NAMES = {"kvnote1", "kvnote2", "kvnote3"};
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    private final ArrayList<KeyValueFileManager> fileManagers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        System.setOut(new PrintStream(outputStream));
+        for (String name : NOTE_NAMES) {
+            new File("./" + name + ".txt").createNewFile();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        fileManagers.forEach(KeyValueFileManager::closeStore);
+        for (String name : NOTE_NAMES) {
+            new File("./" + name + ".txt").delete();
+        }
+        FileManager.deleteAll(new File(PATH + "/" + KeyValueFileManager.STORE_FOLDER_NAME));
+        FileManager.deleteAll(new File(PATH));
+    }
+
+    private KeyValueFileManager load() {
+        KeyValueFileManager fileManager = new KeyValueFileManager(PATH, TOPIC_NAMES);
+        fileManager.initialize();
+        fileManagers.add(fileManager);
+        return fileManager;
+    }
+
+    private static Note createNote(String name, String topic) {
+        return new Note(name, name + ".txt", topic, 5);
+    }
+
+    @Test
+    void initialize_afterAddAndRemove_expectSameEntriesLoaded() {
+        KeyValueFileManager fileManager = load();
+        assertTrue(fileManager.addEntry("kvnote1", createNote("kvnote1", "SORTING")));
+        assertTrue(fileManager.addEntry("kvnote2", createNote("kvnote2", "LINKED_LIST")));
+        assertTrue(fileManager.addEntry("kvnote3", createNote("kvnote3", "LINKED_LIST")));
+        assertTrue(fileManager.appendRemoval("kvnote2", "LINKED_LIST"));
+        fileManager.closeStore();
+
+        HashMap<String, Topic> topics = load().decodeAll();
+        assertTrue(topics.get("SORTING").isInsideTopic("kvnote1"));
+        assertFalse(topics.get("SORTING").isInsideTopic("kvnote3"));
+        assertFalse(topics.get("LINKED_LIST").isInsideTopic("kvnote2"));
+        assertTrue(topics.get("LINKED_LIST").isInsideTopic("kvnote3"));
+    }
+
+    /** Expects the .txt files saved before the key-value store was used to be imported into it. */
+    @Test
+    void initialize_existingTopicFiles_expectEntriesImported() throws IOException {
+        new File(PATH).mkdirs();
+        FileEncoder encoder = new FileEncoder("&@");
+        Files.write(new File(PATH + "/SORTING.txt").toPath(),
+                List.of(encoder.encodeCS2040CFile("kvnote1", createNote("kvnote1", "SORTING"))),
+                StandardCharsets.UTF_8);
+
+        HashMap<String, Topic> topics = load().decodeAll();
+        assertTrue(topics.get("SORTING").isInsideTopic("kvnote1"));
+        assertTrue(new File(PATH + "/SORTING.txt").exists());
+    }
+}
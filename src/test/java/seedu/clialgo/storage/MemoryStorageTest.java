@@ -0,0 +1,46 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.file.Note;
+import seedu.clialgo.logic.Topic;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author heejet
+class MemoryStorageTest {
+    private static final ArrayList<String> TOPIC_NAMES = new ArrayList<>(List.of("SORTING", "LINKED_LIST"));
+
+    @Test
+    void decodeAll_afterAddAndRemove_expectEntriesKeptInMemory() {
+        MemoryStorage storage = new MemoryStorage(TOPIC_NAMES);
+        storage.initialize();
+        assertTrue(storage.addEntry("a", new Note("a", "a.txt", "SORTING", 5)));
+        assertTrue(storage.addEntry("b", new Note("b", "b.txt", "LINKED_LIST", 5)));
+        assertTrue(storage.appendRemoval("b", "LINKED_LIST"));
+
+        HashMap<String, Topic> topics = storage.decodeAll();
+        assertTrue(topics.get("SORTING").isInsideTopic("a"));
+        assertFalse(topics.get("LINKED_LIST").isInsideTopic("b"));
+    }
+
+    @Test
+    void addEntry_testMode_expectNothingKept() {
+        MemoryStorage storage = new MemoryStorage(TOPIC_NAMES);
+        storage.testMode();
+        assertTrue(storage.addEntry("a", new Note("a", "a.txt", "SORTING", 5)));
+        storage.exitTestMode();
+        assertFalse(storage.decodeAll().get("SORTING").isInsideTopic("a"));
+    }
+
+    @Test
+    void decodeAll_noOpStorage_expectEmptyTopics() {
+        NoOpStorage storage = new NoOpStorage(TOPIC_NAMES);
+        assertTrue(storage.addEntry("a", new Note("a", "a.txt", "SORTING", 5)));
+        assertTrue(storage.decodeAll().get("SORTING").isEmpty());
+    }
+}
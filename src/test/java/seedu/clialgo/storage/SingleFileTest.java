@@ -3,17 +3,24 @@ package seedu.clialgo.storage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.clialgo.Ui;
+import seedu.clialgo.file.Note;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SingleFileTest {
     private static final String PATH = "./test";
+    private FileEncoder fileEncoder;
     private FileDecoder fileDecoder;
     private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
@@ -45,6 +52,7 @@ public class SingleFileTest {
     public void setUp() {
         System.setOut(new PrintStream(outputStream));
         String separator = "@&";
+        fileEncoder = new FileEncoder(separator);
         fileDecoder = new FileDecoder(separator);
         deleteAll(new File(PATH));
         outputStream.reset();
@@ -62,7 +70,7 @@ public class SingleFileTest {
             if (!file.createNewFile()) {
                 System.out.println("ERROR 2");
             }
-            SingleFile singleFile = new SingleFile(file, "test", fileDecoder);
+            SingleFile singleFile = new SingleFile(file, "test", fileEncoder, fileDecoder);
             FileWriter fileWriter = new FileWriter(file);
             String corruptedString = "corrupted";
             fileWriter.write(corruptedString);
@@ -78,15 +86,153 @@ public class SingleFileTest {
         if (os.contains("Windows")) {
             expectedOutput = "======================================================\r\n" +
                     "1 corrupted save entry detected in test.txt.\r\n" +
-                    "Note that the corrupted entries are discarded!\r\n" +
+                    "The corrupted entries are moved to test.txt.corrupted.\r\n" +
                     "======================================================\r\n";
         } else {
             expectedOutput = "======================================================\n" +
                     "1 corrupted save entry detected in test.txt.\n" +
-                    "Note that the corrupted entries are discarded!\n" +
+                    "The corrupted entries are moved to test.txt.corrupted.\n" +
                     "======================================================\n";
         }
         assertEquals(expectedOutput, outputStream.toString());
         deleteAll(new File(PATH));
     }
+
+    //@@author heejet
+    /**
+     * Creates a <code>SingleFile</code> for the topic "test" holding two notes, whose own .txt files are created in the
+     * current folder so that they are not discarded as corrupted when read.
+     */
+    private SingleFile createSavedFile(File file) throws IOException {
+        new File(PATH).mkdir();
+        new File("./checksum1.txt").createNewFile();
+        new File("./checksum2.txt").createNewFile();
+        SingleFile singleFile = new SingleFile(file, "test", fileEncoder, fileDecoder);
+        for (String name : new String[] {"checksum1", "checksum2"}) {
+            Note note = new Note(name, name + ".txt", "test", 5);
+            singleFile.writeCS2040CFileToFile(name, fileEncoder.encodeCS2040CFile(name, note), note);
+        }
+        return singleFile;
+    }
+
+    private void deleteNotes() {
+        new File("./checksum1.txt").delete();
+        new File("./checksum2.txt").delete();
+    }
+
+    /**
+     * Overwrites a file and expects the temporary file to be gone and the data to be read back without warnings.
+     */
+    @Test
+    void overwriteFile_thenReadFile_expectEntriesKeptWithoutWarning() throws IOException {
+        File file = new File(PATH + "/test.txt");
+        SingleFile singleFile = createSavedFile(file);
+        singleFile.deleteEntry("checksum1");
+        assertFalse(new File(PATH + "/test.txt.tmp").exists());
+
+        SingleFile readFile = new SingleFile(file, "test", fileEncoder, fileDecoder);
+        readFile.readFile();
+        assertFalse(readFile.convertFileToTopic().isInsideTopic("checksum1"));
+        assertTrue(readFile.convertFileToTopic().isInsideTopic("checksum2"));
+        assertEquals("", outputStream.toString());
+        deleteNotes();
+        deleteAll(new File(PATH));
+    }
+
+    /**
+     * Reads a file holding an appended removal and expects the next overwrite to encode the remaining entry again from
+     * its decoded <code>CS2040CFile</code>, without the removal.
+     */
+    @Test
+    void overwriteFile_afterReadingRemoval_expectRemainingEntryEncodedAgain() throws IOException {
+        File file = new File(PATH + "/test.txt");
+        createSavedFile(file).appendRemoval("checksum1", fileEncoder.encodeRemoval("checksum1"));
+
+        SingleFile readFile = new SingleFile(file, "test", fileEncoder, fileDecoder);
+        readFile.readFile();
+        readFile.overwriteFile();
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertEquals(fileEncoder.encodeCS2040CFile("checksum2", new Note("checksum2", "checksum2.txt", "test", 5)),
+                lines.get(0));
+        assertTrue(fileDecoder.isChecksum(lines.get(1)));
+        deleteNotes();
+        deleteAll(new File(PATH));
+    }
+
+    /**
+     * Changes a line of a saved file without updating its checksum footer and expects a warning when the file is read,
+     * after which the file is saved again with a matching footer.
+     */
+    @Test
+    void readFile_lineChangedAfterSave_expectChecksumMismatchWarning() throws IOException {
+        File file = new File(PATH + "/test.txt");
+        createSavedFile(file);
+        String content = Files.readString(file.toPath(), StandardCharsets.UTF_8);
+        Files.writeString(file.toPath(), content.replaceFirst("@&5", "@&6"), StandardCharsets.UTF_8);
+
+        SingleFile readFile = new SingleFile(file, "test", fileEncoder, fileDecoder);
+        readFile.readFile();
+        assertTrue(outputStream.toString().contains("test.txt was not completely saved"));
+        assertTrue(readFile.convertFileToTopic().isInsideTopic("checksum1"));
+        assertTrue(readFile.convertFileToTopic().isInsideTopic("checksum2"));
+        assertTrue(readFile.isRewriteNeeded());
+
+        readFile.rewriteIfNeeded();
+        outputStream.reset();
+        new SingleFile(file, "test", fileEncoder, fileDecoder).readFile();
+        assertEquals("", outputStream.toString());
+        deleteNotes();
+        deleteAll(new File(PATH));
+    }
+
+    /**
+     * Saves a corrupted line between two valid ones and expects both valid entries to be read, the corrupted line to
+     * be quarantined and the file to be rewritten without it only when <code>rewriteIfNeeded</code> is called.
+     */
+    @Test
+    void readFile_corruptedLineInMiddle_expectLaterEntriesKeptAndLineQuarantined() throws IOException {
+        File file = new File(PATH + "/test.txt");
+        createSavedFile(file);
+        String[] lines = Files.readString(file.toPath(), StandardCharsets.UTF_8).split(System.lineSeparator());
+        Files.writeString(file.toPath(), lines[0] + System.lineSeparator() + "corrupted" + System.lineSeparator()
+                + lines[1] + System.lineSeparator(), StandardCharsets.UTF_8);
+        long corruptedLength = file.length();
+
+        SingleFile readFile = new SingleFile(file, "test", fileEncoder, fileDecoder);
+        readFile.readFile();
+        assertTrue(readFile.convertFileToTopic().isInsideTopic("checksum1"));
+        assertTrue(readFile.convertFileToTopic().isInsideTopic("checksum2"));
+        assertTrue(outputStream.toString().contains("The corrupted entries are moved to test.txt.corrupted."));
+        assertEquals(List.of("corrupted"), Files.readAllLines(new File(PATH + "/test.txt.corrupted").toPath()));
+        assertEquals(corruptedLength, file.length());
+
+        readFile.rewriteIfNeeded();
+        assertFalse(readFile.isRewriteNeeded());
+        assertFalse(Files.readString(file.toPath(), StandardCharsets.UTF_8).contains("corrupted"));
+        deleteNotes();
+        deleteAll(new File(PATH));
+    }
+
+    @Test
+    void writeCS2040CFileToFile_legacyFileWithoutLastLineBreak_expectBothEntriesReadBack() throws IOException {
+        File file = new File(PATH + "/test.txt");
+        createSavedFile(file);
+        String firstLine = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8).get(0);
+        Files.writeString(file.toPath(), firstLine, StandardCharsets.UTF_8);
+
+        SingleFile legacyFile = new SingleFile(file, "test", fileEncoder, fileDecoder);
+        legacyFile.readFile();
+        Note note = new Note("checksum2", "checksum2.txt", "test", 5);
+        legacyFile.writeCS2040CFileToFile("checksum2", fileEncoder.encodeCS2040CFile("checksum2", note), note);
+
+        SingleFile readFile = new SingleFile(file, "test", fileEncoder, fileDecoder);
+        readFile.readFile();
+        assertTrue(readFile.convertFileToTopic().isInsideTopic("checksum1"));
+        assertTrue(readFile.convertFileToTopic().isInsideTopic("checksum2"));
+        assertFalse(readFile.isRewriteNeeded());
+        assertEquals("", outputStream.toString());
+        deleteNotes();
+        deleteAll(new File(PATH));
+    }
 }
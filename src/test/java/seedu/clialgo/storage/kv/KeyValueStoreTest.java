@@ -0,0 +1,115 @@
+package seedu.clialgo.storage.kv;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.List;
+import java.util.SortedMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+//@@author heejet
+class KeyValueStoreTest {
+    private static final File FOLDER = new File("./kvtest");
+
+    @AfterEach
+    void tearDown() {
+        File[] files = FOLDER.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        FOLDER.delete();
+    }
+
+    @Test
+    void get_afterPutAndDelete_expectLatestValues() throws IOException {
+        try (KeyValueStore store = KeyValueStore.open(FOLDER)) {
+            store.put("a", "1");
+            store.put("b", "2");
+            store.put("a", "3");
+            store.delete("b");
+            assertEquals("3", store.get("a"));
+            assertNull(store.get("b"));
+            assertNull(store.get("c"));
+        }
+    }
+
+    /** Expects a prefix scan to only return keys with the prefix, in order, across memory and tables. */
+    @Test
+    void scan_acrossTables_expectSortedKeysWithPrefix() throws IOException {
+        try (KeyValueStore store = KeyValueStore.open(FOLDER, 4)) {
+            for (int i = 0; i < 40; i++) {
+                store.put(String.format("SORTING&@%02d", i), "sort" + i);
+                store.put(String.format("TREE&@%02d", i), "tree" + i);
+            }
+            store.delete("SORTING&@05");
+            store.put("SORTING&@07", "changed");
+            SortedMap<String, String> records = store.scan("SORTING&@");
+            assertEquals(39, records.size());
+            assertEquals("SORTING&@00", records.firstKey());
+            assertEquals("SORTING&@39", records.lastKey());
+            assertEquals("changed", records.get("SORTING&@07"));
+            assertNull(records.get("SORTING&@05"));
+        }
+    }
+
+    /** Expects a snapshot to keep returning the values it saw, even after the tables it reads are merged. */
+    @Test
+    void snapshot_laterChangesAndCompaction_expectOldValues() throws IOException {
+        try (KeyValueStore store = KeyValueStore.open(FOLDER, 2)) {
+            store.put("k1", "old");
+            store.put("k2", "old");
+            try (KeyValueSnapshot snapshot = store.snapshot()) {
+                for (int i = 0; i < 20; i++) {
+                    store.put("k1", "new" + i);
+                    store.delete("k2");
+                }
+                assertEquals("old", snapshot.get("k1"));
+                assertEquals(List.of("k1", "k2"), List.copyOf(snapshot.scan("k").keySet()));
+            }
+            assertEquals("new19", store.get("k1"));
+            assertNull(store.get("k2"));
+        }
+    }
+
+    @Test
+    void open_afterReopen_expectRecordsFromTablesAndLog() throws IOException {
+        try (KeyValueStore store = KeyValueStore.open(FOLDER, 3)) {
+            for (int i = 0; i < 10; i++) {
+                store.put("key" + i, "value" + i);
+            }
+            store.delete("key4");
+        }
+        try (KeyValueStore store = KeyValueStore.open(FOLDER, 3)) {
+            assertEquals(9, store.scan("key").size());
+            assertEquals("value9", store.get("key9"));
+            assertNull(store.get("key4"));
+        }
+    }
+
+    /** Cuts the log in the middle of its last record and expects the earlier records to be kept. */
+    @Test
+    void open_tornLog_expectCompleteRecordsKept() throws IOException {
+        try (KeyValueStore store = KeyValueStore.open(FOLDER)) {
+            store.put("first", "1");
+            store.put("second", "2");
+        }
+        try (RandomAccessFile log = new RandomAccessFile(new File(FOLDER, "wal.log"), "rw")) {
+            log.setLength(log.length() - 3);
+        }
+        try (KeyValueStore store = KeyValueStore.open(FOLDER)) {
+            assertEquals("1", store.get("first"));
+            assertNull(store.get("second"));
+            store.put("third", "3");
+        }
+        try (KeyValueStore store = KeyValueStore.open(FOLDER)) {
+            assertEquals("3", store.get("third"));
+        }
+    }
+}